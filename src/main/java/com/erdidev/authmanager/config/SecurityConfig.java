@@ -65,6 +65,7 @@ public class SecurityConfig {
         "/api/v1/attachments/**",          // Task attachments
         "/api/v1/schedules/**",            // Schedules
         "/api/v1/reminders/**",            // Reminders 
+        "/api/v1/notifications/**",        // Notification stream
         "/api/v1/time-entries/**"          // Time tracking
     };
 
@@ -1,5 +1,6 @@
 package com.erdidev.authmanager.model;
 
+import com.erdidev.common.config.SecondLevelCacheConfig;
 import com.erdidev.taskmanager.model.BaseEntity;
 import com.fasterxml.jackson.annotation.JsonIdentityInfo;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
@@ -7,6 +8,8 @@ import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -31,6 +34,8 @@ public class User extends BaseEntity {
     @Column(name = "full_name")
     private String fullName;
     
+    // Checked on every login; the roles themselves come from their own region
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_ROLES)
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(
         name = "user_roles",
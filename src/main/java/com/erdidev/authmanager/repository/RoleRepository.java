@@ -2,12 +2,16 @@ package com.erdidev.authmanager.repository;
 
 import com.erdidev.authmanager.model.Role;
 import com.erdidev.authmanager.model.RoleType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long> {
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(RoleType name);
 } 
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.erdidev.common.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Keeps each value next to a generation counter. Callers put the variable part of the
+ * key in a hash tag, so the value and its counter share a cluster slot and the scripts
+ * stay atomic.
+ */
+@Component
+public class RedisRemoteCacheStore implements RemoteCacheStore {
+    private static final String GENERATION_SUFFIX = ":gen";
+
+    private static final RedisScript<Long> WRITE_IF_GENERATION = new DefaultRedisScript<>("""
+        if (redis.call('GET', KEYS[2]) or '0') == ARGV[1] then
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+        end
+        return 0
+        """, Long.class);
+
+    private static final RedisScript<Long> INVALIDATE = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1])
+        local generation = redis.call('INCR', KEYS[2])
+        redis.call('PEXPIRE', KEYS[2], ARGV[1])
+        return generation
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisRemoteCacheStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Entry read(String key) {
+        List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, key + GENERATION_SUFFIX));
+        if (values == null) {
+            return null;
+        }
+        return new Entry(values.get(0), values.get(1) != null ? values.get(1) : "0");
+    }
+
+    @Override
+    public boolean writeIfGeneration(String key, String value, String generation, Duration ttl) {
+        Long written = redisTemplate.execute(WRITE_IF_GENERATION, List.of(key, key + GENERATION_SUFFIX),
+            generation, value, String.valueOf(ttl.toMillis()));
+        return Long.valueOf(1).equals(written);
+    }
+
+    @Override
+    public void invalidate(String key, Duration generationTtl) {
+        redisTemplate.execute(INVALIDATE, List.of(key, key + GENERATION_SUFFIX),
+            String.valueOf(generationTtl.toMillis()));
+    }
+}
@@ -0,0 +1,20 @@
+package com.erdidev.common.cache;
+
+import java.time.Duration;
+
+/**
+ * Shared tier of a {@link TwoLevelCache}. Every key carries a generation that moves on
+ * each invalidation; a value loaded before an invalidation is only written back while
+ * the generation it was read under is still current.
+ */
+public interface RemoteCacheStore {
+
+    record Entry(String value, String generation) {
+    }
+
+    Entry read(String key);
+
+    boolean writeIfGeneration(String key, String value, String generation, Duration ttl);
+
+    void invalidate(String key, Duration generationTtl);
+}
@@ -0,0 +1,51 @@
+package com.erdidev.common.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads hit and miss counts of the second-level cache regions from Hibernate's
+ * statistics. Lists nothing when the cache or statistics are switched off.
+ */
+@Component
+public class SecondLevelCacheMonitor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheMonitor(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public List<SecondLevelCacheStats> getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return List.of();
+        }
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(region -> toStats(region, statistics.getCacheRegionStatistics(region)))
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private static SecondLevelCacheStats toStats(String region, CacheRegionStatistics statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        long hits = statistics.getHitCount();
+        long misses = statistics.getMissCount();
+        long lookups = hits + misses;
+        return new SecondLevelCacheStats(
+            region,
+            hits,
+            misses,
+            statistics.getPutCount(),
+            lookups == 0 ? 0 : (double) hits / lookups);
+    }
+}
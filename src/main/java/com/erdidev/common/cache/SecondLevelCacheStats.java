@@ -0,0 +1,12 @@
+package com.erdidev.common.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Hibernate second-level cache statistics for one region on this node")
+public record SecondLevelCacheStats(
+    @Schema(description = "Region name", example = "projects") String region,
+    @Schema(description = "Lookups answered from the region") long hits,
+    @Schema(description = "Lookups that went to the database") long misses,
+    @Schema(description = "Entries written to the region") long puts,
+    @Schema(description = "Share of lookups answered from the region") double hitRate
+) {}
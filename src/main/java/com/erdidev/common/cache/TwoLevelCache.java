@@ -0,0 +1,192 @@
+package com.erdidev.common.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache keyed by entity id: a bounded in-memory tier per node in front of
+ * a shared Redis tier, with the database behind both. Writers call {@link #invalidate}
+ * after their transaction commits, and the invalidation is broadcast so other nodes
+ * drop their in-memory copy too, along with anything node-local the loader reads
+ * through. A read that started before an invalidation never stores what it loaded.
+ * The in-memory TTL bounds staleness should a broadcast be lost. Cached values are
+ * shared between callers and must not be modified.
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+    private final String name;
+    private final Class<V> type;
+    private final TwoLevelCacheSettings settings;
+    private final Cache<Long, V> local;
+    private final RemoteCacheStore remote;
+    private final ObjectMapper mapper;
+    private final LongConsumer invalidationPublisher;
+    private final LongConsumer remoteInvalidationListener;
+    // Moves on every local eviction; a load only fills the local tier if it did not move meanwhile
+    private final AtomicLong localGeneration = new AtomicLong();
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+    private final LongAdder remoteFailures = new LongAdder();
+
+    TwoLevelCache(String name, Class<V> type, TwoLevelCacheSettings settings, RemoteCacheStore remote,
+                  ObjectMapper mapper, LongConsumer invalidationPublisher, LongConsumer remoteInvalidationListener) {
+        this.name = name;
+        this.type = type;
+        this.settings = settings;
+        this.remote = remote;
+        this.mapper = mapper;
+        this.invalidationPublisher = invalidationPublisher;
+        this.remoteInvalidationListener = remoteInvalidationListener;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(settings.localMaximumSize())
+            .expireAfterWrite(settings.localTtl())
+            .recordStats()
+            .build();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(Long id, Supplier<V> loader) {
+        if (!settings.enabled()) {
+            return loader.get();
+        }
+        V cached = local.getIfPresent(id);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        long stamp = localGeneration.get();
+        String key = key(id);
+        RemoteCacheStore.Entry entry = readRemote(key);
+        if (entry != null && entry.value() != null) {
+            V value = deserialize(entry.value());
+            if (value != null) {
+                remoteHits.increment();
+                putLocal(id, value, stamp);
+                return value;
+            }
+        }
+
+        misses.increment();
+        V value = loader.get();
+        // Without a generation from the read, a write could resurrect an invalidated value
+        if (entry != null && value != null) {
+            writeRemote(key, value, entry.generation());
+        }
+        putLocal(id, value, stamp);
+        return value;
+    }
+
+    /**
+     * Drops the entry everywhere. Redis goes first, so a local read racing with this
+     * call cannot refill memory from the old shared value.
+     */
+    public void invalidate(Long id) {
+        if (!settings.enabled()) {
+            return;
+        }
+        invalidations.increment();
+        try {
+            remote.invalidate(key(id), settings.remoteTtl().multipliedBy(2));
+        } catch (RuntimeException e) {
+            remoteFailures.increment();
+            log.warn("Failed to invalidate {} {} in Redis: {}", name, id, e.getMessage());
+        }
+        evictLocal(id);
+        try {
+            invalidationPublisher.accept(id);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast invalidation of {} {}: {}", name, id, e.getMessage());
+        }
+    }
+
+    void onRemoteInvalidation(Long id) {
+        remoteInvalidations.increment();
+        // Before memory, so a read that misses memory cannot reload from what the listener drops
+        try {
+            remoteInvalidationListener.accept(id);
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply remote invalidation of {} {}: {}", name, id, e.getMessage());
+        }
+        evictLocal(id);
+    }
+
+    public TwoLevelCacheStats getStats() {
+        long local = localHits.sum();
+        long shared = remoteHits.sum();
+        long missed = misses.sum();
+        long reads = local + shared + missed;
+        return new TwoLevelCacheStats(
+            name,
+            local,
+            shared,
+            missed,
+            reads == 0 ? 0 : (double) (local + shared) / reads,
+            this.local.estimatedSize(),
+            this.local.stats().evictionCount(),
+            invalidations.sum(),
+            remoteInvalidations.sum(),
+            remoteFailures.sum());
+    }
+
+    private void evictLocal(Long id) {
+        localGeneration.incrementAndGet();
+        local.invalidate(id);
+    }
+
+    private void putLocal(Long id, V value, long stamp) {
+        if (value == null) {
+            return;
+        }
+        // Checked under the entry's lock, so an eviction cannot slip in between check and put
+        local.asMap().compute(id, (key, current) -> localGeneration.get() == stamp ? value : current);
+    }
+
+    private RemoteCacheStore.Entry readRemote(String key) {
+        try {
+            return remote.read(key);
+        } catch (RuntimeException e) {
+            remoteFailures.increment();
+            log.debug("Failed to read {} from Redis: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(String key, V value, String generation) {
+        try {
+            remote.writeIfGeneration(key, mapper.writeValueAsString(value), generation, settings.remoteTtl());
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize {} for caching", key, e);
+        } catch (RuntimeException e) {
+            remoteFailures.increment();
+            log.debug("Failed to write {} to Redis: {}", key, e.getMessage());
+        }
+    }
+
+    private V deserialize(String json) {
+        try {
+            return mapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unreadable cached {}", name, e);
+            return null;
+        }
+    }
+
+    private String key(Long id) {
+        return "taskmanager:cache:" + name + ":{" + id + "}";
+    }
+}
@@ -0,0 +1,123 @@
+package com.erdidev.common.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Creates the read caches and carries their invalidations between nodes over a Redis
+ * channel. Messages are "node|cache|id"; a node ignores its own.
+ */
+@Slf4j
+@Component
+public class TwoLevelCacheManager implements MessageListener {
+    private static final String SEPARATOR = "|";
+
+    private final Map<String, TwoLevelCache<?>> caches = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RemoteCacheStore remoteStore;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final TwoLevelCacheSettings settings;
+    private final String channel;
+    // Cached DTOs hide server-set fields like id from clients; the cache needs them all
+    private final ObjectMapper mapper = JsonMapper.builder()
+        .addModule(new JavaTimeModule())
+        .disable(MapperFeature.USE_ANNOTATIONS)
+        .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+        .build();
+
+    public TwoLevelCacheManager(RemoteCacheStore remoteStore,
+                                StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${taskmanager.cache.enabled:true}") boolean enabled,
+                                @Value("${taskmanager.cache.local.maximum-size:10000}") long localMaximumSize,
+                                @Value("${taskmanager.cache.local.ttl:PT5M}") Duration localTtl,
+                                @Value("${taskmanager.cache.remote.ttl:PT30M}") Duration remoteTtl,
+                                @Value("${taskmanager.cache.invalidation-channel:taskmanager:cache:invalidations}") String channel) {
+        this.remoteStore = remoteStore;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.settings = new TwoLevelCacheSettings(enabled, localMaximumSize, localTtl, remoteTtl);
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!settings.enabled()) {
+            log.info("Read caches disabled, reads go to the database");
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    @PreDestroy
+    public void stop() {
+        listenerContainer.removeMessageListener(this);
+    }
+
+    public <V> TwoLevelCache<V> create(String name, Class<V> type) {
+        return create(name, type, id -> { });
+    }
+
+    /**
+     * Creates a cache that also hands every invalidation broadcast by another node to
+     * the given listener, for node-local state its loader reads through.
+     */
+    public <V> TwoLevelCache<V> create(String name, Class<V> type, LongConsumer remoteInvalidationListener) {
+        TwoLevelCache<V> cache = new TwoLevelCache<>(name, type, settings, remoteStore, mapper,
+            id -> redisTemplate.convertAndSend(channel, String.join(SEPARATOR, nodeId, name, String.valueOf(id))),
+            remoteInvalidationListener);
+        if (caches.putIfAbsent(name, cache) != null) {
+            throw new IllegalStateException("Read cache " + name + " already exists");
+        }
+        return cache;
+    }
+
+    public List<TwoLevelCacheStats> getStats() {
+        return caches.values().stream()
+            .map(TwoLevelCache::getStats)
+            .sorted(Comparator.comparing(TwoLevelCacheStats::name))
+            .toList();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        TwoLevelCache<?> cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        try {
+            cache.onRemoteInvalidation(Long.valueOf(parts[2]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache invalidation on channel {}", channel);
+        }
+    }
+}
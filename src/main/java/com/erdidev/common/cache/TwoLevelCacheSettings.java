@@ -0,0 +1,6 @@
+package com.erdidev.common.cache;
+
+import java.time.Duration;
+
+record TwoLevelCacheSettings(boolean enabled, long localMaximumSize, Duration localTtl, Duration remoteTtl) {
+}
@@ -0,0 +1,17 @@
+package com.erdidev.common.cache;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Read cache statistics for this node")
+public record TwoLevelCacheStats(
+    @Schema(description = "Cache name", example = "task") String name,
+    @Schema(description = "Reads answered from this node's memory") long localHits,
+    @Schema(description = "Reads answered from Redis") long remoteHits,
+    @Schema(description = "Reads that went to the database") long misses,
+    @Schema(description = "Share of reads answered by either tier") double hitRate,
+    @Schema(description = "Entries held in this node's memory") long localSize,
+    @Schema(description = "Entries dropped from memory for size or age") long localEvictions,
+    @Schema(description = "Writes on this node that invalidated an entry") long invalidations,
+    @Schema(description = "Invalidations received from other nodes") long remoteInvalidations,
+    @Schema(description = "Redis calls that failed and fell back to the database") long remoteFailures
+) {}
@@ -0,0 +1,38 @@
+package com.erdidev.common.cluster;
+
+import com.erdidev.common.exception.StaleLeaderException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Rejects writes from a leader whose lease has already passed to another node, e.g.
+ * after a long GC pause. The highest fencing token seen per job is recorded in the
+ * same transaction as the job's writes; an older token updates nothing and the
+ * transaction is rolled back.
+ */
+@Component
+@RequiredArgsConstructor
+public class FencingTokenGuard {
+    private static final String RECORD_TOKEN = """
+        INSERT INTO job_fencing_tokens (job_name, token, updated_at)
+        VALUES (?, ?, CURRENT_TIMESTAMP)
+        ON CONFLICT (job_name) DO UPDATE
+            SET token = EXCLUDED.token, updated_at = EXCLUDED.updated_at
+            WHERE job_fencing_tokens.token <= EXCLUDED.token
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void verify() {
+        LeaderContext.current().ifPresent(lease -> {
+            int updated = jdbcTemplate.update(RECORD_TOKEN, lease.name(), lease.fencingToken());
+            if (updated == 0) {
+                throw new StaleLeaderException(lease.name(), lease.fencingToken());
+            }
+        });
+    }
+}
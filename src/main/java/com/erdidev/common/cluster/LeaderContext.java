@@ -0,0 +1,25 @@
+package com.erdidev.common.cluster;
+
+import java.util.Optional;
+
+/**
+ * The lease under which the current thread is running a {@link LeaderOnly} method.
+ */
+public final class LeaderContext {
+    private static final ThreadLocal<Lease> CURRENT = new ThreadLocal<>();
+
+    private LeaderContext() {
+    }
+
+    public static Optional<Lease> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    static void bind(Lease lease) {
+        CURRENT.set(lease);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,129 @@
+package com.erdidev.common.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps this node's leases for every leadership name it has asked about. Leases are
+ * short and renewed in the background, so a crashed leader is replaced within one
+ * lease TTL. A node only trusts its lease until the locally tracked expiry, which is
+ * reached before Redis expires the key; a node that cannot renew steps down before
+ * anyone else can take over. Nodes started with taskmanager.jobs.enabled=false (web
+ * nodes next to a dedicated scheduler worker) never stand for leadership.
+ */
+@Slf4j
+@Service
+public class LeaderElectionService {
+    private final LockRegistry lockRegistry;
+    private final Set<String> candidacies = ConcurrentHashMap.newKeySet();
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private ScheduledExecutorService renewalExecutor;
+
+    @Value("${taskmanager.jobs.enabled:true}")
+    private boolean jobsEnabled;
+
+    @Value("${taskmanager.cluster.leader-election.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskmanager.cluster.leader-election.lease-ttl:5000}")
+    private long leaseTtl;
+
+    @Value("${taskmanager.cluster.leader-election.renew-interval:1500}")
+    private long renewInterval;
+
+    public LeaderElectionService(LockRegistry lockRegistry) {
+        this.lockRegistry = lockRegistry;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!jobsEnabled) {
+            log.info("Jobs disabled, this node never runs leader-only jobs");
+            return;
+        }
+        if (!enabled) {
+            log.info("Leader election disabled, this node runs every leader-only job");
+            return;
+        }
+        renewalExecutor = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("leader-election").daemon().factory());
+        renewalExecutor.scheduleAtFixedRate(this::maintainLeadership, renewInterval, renewInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (renewalExecutor != null) {
+            renewalExecutor.shutdownNow();
+        }
+        // Hand leadership over right away instead of making the others wait out the TTL
+        leases.values().forEach(lease -> {
+            try {
+                lockRegistry.release(lease);
+            } catch (Exception e) {
+                log.warn("Failed to release leadership of {}", lease.name(), e);
+            }
+        });
+        leases.clear();
+    }
+
+    public boolean isLeader(String name) {
+        if (!jobsEnabled) {
+            return false;
+        }
+        if (!enabled) {
+            return true;
+        }
+        if (candidacies.add(name)) {
+            maintain(name);
+        }
+        Lease lease = leases.get(name);
+        return lease != null && lease.isValid();
+    }
+
+    public Optional<Lease> getLease(String name) {
+        return Optional.ofNullable(leases.get(name)).filter(Lease::isValid);
+    }
+
+    void maintainLeadership() {
+        candidacies.forEach(this::maintain);
+    }
+
+    private void maintain(String name) {
+        Duration ttl = Duration.ofMillis(leaseTtl);
+        Lease lease = leases.get(name);
+        try {
+            if (lease == null) {
+                lockRegistry.tryAcquire(name, ttl).ifPresent(acquired -> {
+                    leases.put(name, acquired);
+                    log.info("Acquired leadership of {} (fencing token {})", name, acquired.fencingToken());
+                });
+                return;
+            }
+            long renewedAt = System.nanoTime();
+            if (lockRegistry.renew(lease, ttl)) {
+                leases.put(name, lease.renewed(renewedAt + ttl.toNanos()));
+            } else {
+                leases.remove(name);
+                log.warn("Lost leadership of {}", name);
+            }
+        } catch (Exception e) {
+            log.warn("Leader election for {} failed: {}", name, e.getMessage());
+            if (lease != null && !lease.isValid()) {
+                leases.remove(name);
+                log.warn("Stepped down as leader of {} after lease expired", name);
+            }
+        }
+    }
+}
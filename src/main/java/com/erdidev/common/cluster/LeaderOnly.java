@@ -0,0 +1,22 @@
+package com.erdidev.common.cluster;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated method only on the node currently holding leadership for the
+ * given name; on every other node the call is skipped. Meant for {@code @Scheduled}
+ * jobs that must not run N times when several replicas are deployed.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface LeaderOnly {
+    /**
+     * Leadership name. Defaults to the declaring class and method name.
+     */
+    String value() default "";
+}
@@ -0,0 +1,49 @@
+package com.erdidev.common.cluster;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Skips {@link LeaderOnly} methods on nodes that are not the leader. Runs ahead of the
+ * transaction interceptor so a follower never opens a transaction for a skipped job.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class LeaderOnlyAspect {
+    private final LeaderElectionService leaderElectionService;
+
+    @Around("@annotation(com.erdidev.common.cluster.LeaderOnly)")
+    public Object runOnLeader(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LeaderOnly leaderOnly = method.getAnnotation(LeaderOnly.class);
+        String name = leaderOnly.value().isEmpty()
+            ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+            : leaderOnly.value();
+
+        if (!leaderElectionService.isLeader(name)) {
+            log.trace("Skipping {}, this node is not the leader", name);
+            return null;
+        }
+
+        Optional<Lease> lease = leaderElectionService.getLease(name);
+        lease.ifPresent(LeaderContext::bind);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            LeaderContext.clear();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.erdidev.common.cluster;
+
+/**
+ * A held lock. The fencing token grows with every acquisition of the same lock, so a
+ * resource can reject work from a holder whose lease has since passed to another node.
+ */
+public record Lease(String name, String owner, long fencingToken, long validUntilNanos) {
+
+    public boolean isValid() {
+        return System.nanoTime() < validUntilNanos;
+    }
+
+    Lease renewed(long validUntilNanos) {
+        return new Lease(name, owner, fencingToken, validUntilNanos);
+    }
+}
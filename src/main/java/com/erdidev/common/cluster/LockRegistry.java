@@ -0,0 +1,12 @@
+package com.erdidev.common.cluster;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface LockRegistry {
+    Optional<Lease> tryAcquire(String name, Duration ttl);
+
+    boolean renew(Lease lease, Duration ttl);
+
+    void release(Lease lease);
+}
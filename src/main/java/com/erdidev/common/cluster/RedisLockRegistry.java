@@ -0,0 +1,75 @@
+package com.erdidev.common.cluster;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Lease-based locks in Redis. A lock is a key holding the owner id with a TTL; the
+ * fencing token comes from a per-lock counter incremented atomically on acquisition.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLockRegistry implements LockRegistry {
+    private static final String KEY_PREFIX = "taskmanager:lock:";
+
+    private static final RedisScript<Long> ACQUIRE = new DefaultRedisScript<>(
+        "if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then " +
+        "  return redis.call('INCR', KEYS[2]) " +
+        "end " +
+        "return -1", Long.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+        "end " +
+        "return 0", Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+        "  return redis.call('DEL', KEYS[1]) " +
+        "end " +
+        "return 0", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Duration ttl) {
+        String owner = UUID.randomUUID().toString();
+        long requestedAt = System.nanoTime();
+        Long token = redisTemplate.execute(ACQUIRE,
+            List.of(lockKey(name), fenceKey(name)), owner, String.valueOf(ttl.toMillis()));
+        if (token == null || token < 0) {
+            return Optional.empty();
+        }
+        // Measured from before the request so the local view expires no later than Redis
+        return Optional.of(new Lease(name, owner, token, requestedAt + ttl.toNanos()));
+    }
+
+    @Override
+    public boolean renew(Lease lease, Duration ttl) {
+        Long renewed = redisTemplate.execute(RENEW,
+            List.of(lockKey(lease.name())), lease.owner(), String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1;
+    }
+
+    @Override
+    public void release(Lease lease) {
+        redisTemplate.execute(RELEASE, List.of(lockKey(lease.name())), lease.owner());
+    }
+
+    private String lockKey(String name) {
+        return KEY_PREFIX + name;
+    }
+
+    private String fenceKey(String name) {
+        return KEY_PREFIX + name + ":fence";
+    }
+}
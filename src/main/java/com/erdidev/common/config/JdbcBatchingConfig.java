@@ -0,0 +1,48 @@
+package com.erdidev.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sends inserts and updates in JDBC batches. Ids come from sequences in blocks of 50,
+ * so Hibernate knows them before inserting and can group statements per table; the
+ * pooled-lo optimizer uses a fetched value as the low end of its block, which keeps
+ * rows inserted by plain SQL, through the column default, clear of Hibernate's ids.
+ */
+@Configuration
+public class JdbcBatchingConfig {
+
+    @Value("${taskmanager.jdbc.batch-size:50}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+            properties.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        };
+    }
+
+    /**
+     * Lets the Postgres driver fold a batch of inserts into multi-row statements.
+     */
+    @Bean
+    public static BeanPostProcessor rewriteBatchedInserts() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
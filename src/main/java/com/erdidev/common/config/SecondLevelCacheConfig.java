@@ -0,0 +1,96 @@
+package com.erdidev.common.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for entities that are read on most writes but rarely
+ * change. Every region is created here with a size bound, and Hibernate refuses to
+ * start if an entity asks for a region that is missing, so nothing grows unbounded.
+ * Regions are per node; READ_WRITE keeps them consistent with this node's own writes.
+ * Project and category writes on other nodes arrive with the read-cache invalidations,
+ * which evict them here too; the TTL only covers a lost broadcast, and roles.
+ */
+@Slf4j
+@Configuration
+public class SecondLevelCacheConfig {
+    public static final String PROJECTS = "projects";
+    public static final String CATEGORIES = "categories";
+    public static final String ROLES = "roles";
+    public static final String USER_ROLES = "user-roles";
+
+    private static final String[] ENTITY_REGIONS = {PROJECTS, CATEGORIES, ROLES, USER_ROLES};
+    // Must outlive every cached query result, so it is never expired or evicted
+    private static final long TIMESTAMPS_MAXIMUM_SIZE = 10_000;
+
+    @Value("${taskmanager.second-level-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskmanager.second-level-cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${taskmanager.second-level-cache.ttl:PT1H}")
+    private Duration ttl;
+
+    @Bean
+    public CacheManager secondLevelCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // A manager of its own, so two application contexts in one JVM never share regions
+        CacheManager cacheManager = provider.getCacheManager(
+            URI.create("taskmanager-" + UUID.randomUUID()), getClass().getClassLoader());
+        for (String region : ENTITY_REGIONS) {
+            cacheManager.createCache(region, regionConfiguration(maximumSize, ttl));
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+            regionConfiguration(maximumSize, ttl));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+            regionConfiguration(TIMESTAMPS_MAXIMUM_SIZE, null));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            if (!enabled) {
+                log.info("Second-level cache disabled");
+                properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        if (ttl != null) {
+            configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        }
+        // Hibernate caches immutable disassembled state, so copying it on every access buys nothing
+        configuration.setStoreByValue(false);
+        return configuration;
+    }
+}
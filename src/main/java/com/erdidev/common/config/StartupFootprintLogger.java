@@ -0,0 +1,35 @@
+package com.erdidev.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+
+/**
+ * Logs how long startup took and how much heap the node holds once ready, so the
+ * combined, web-only and scheduler-worker deployments can be compared on real hosts.
+ */
+@Slf4j
+@Component
+public class StartupFootprintLogger {
+
+    @Value("${taskmanager.jobs.enabled:true}")
+    private boolean jobsEnabled;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        String mode = event.getSpringApplication().getWebApplicationType().name().toLowerCase()
+            + (jobsEnabled ? "+jobs" : "");
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        log.info("Ready in {} ms as {}: {} beans, heap used {} MB, committed {} MB",
+            event.getTimeTaken().toMillis(),
+            mode,
+            event.getApplicationContext().getBeanDefinitionCount(),
+            heap.getUsed() / (1024 * 1024),
+            heap.getCommitted() / (1024 * 1024));
+    }
+}
@@ -0,0 +1,24 @@
+package com.erdidev.common.config;
+
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+/**
+ * Leaves controllers and controller advice out of a component scan. Used by the
+ * headless scheduler worker, which serves no HTTP traffic.
+ */
+public class WebLayerExcludeFilter implements TypeFilter {
+
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        AnnotationMetadata metadata = metadataReader.getAnnotationMetadata();
+        return metadata.hasAnnotation(Controller.class.getName())
+            || metadata.hasMetaAnnotation(Controller.class.getName())
+            || metadata.hasAnnotation(ControllerAdvice.class.getName())
+            || metadata.hasMetaAnnotation(ControllerAdvice.class.getName());
+    }
+}
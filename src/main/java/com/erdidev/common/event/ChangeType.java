@@ -0,0 +1,7 @@
+package com.erdidev.common.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,7 @@
+package com.erdidev.common.exception;
+
+public class StaleLeaderException extends RuntimeException {
+    public StaleLeaderException(String jobName, long fencingToken) {
+        super("Leadership of " + jobName + " has moved on, fencing token " + fencingToken + " is stale");
+    }
+}
@@ -0,0 +1,108 @@
+package com.erdidev.common.web;
+
+import com.erdidev.taskmanager.dto.BaseDto;
+import com.erdidev.taskmanager.model.BaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for entity resources. ETags are weak: for a single entity they are
+ * derived from its id and modification time, for a listing from the number of matching
+ * rows, their latest modification time and the page asked for. Inserts, updates and
+ * deletes within a listing's filter all move one of the two. A matching If-None-Match
+ * is answered with 304 after a version-only query, before anything is loaded, mapped
+ * or serialized. DTOs carry only their entity's own columns, so the modification time
+ * covers everything a response contains.
+ */
+@Component
+public class ConditionalGet {
+    private final EntityVersionProbe versionProbe;
+
+    public ConditionalGet(EntityVersionProbe versionProbe) {
+        this.versionProbe = versionProbe;
+    }
+
+    public <D extends BaseDto> ResponseEntity<D> entity(WebRequest request, Class<? extends BaseEntity> type,
+                                                        Long id, Supplier<D> loader) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            Optional<String> current = versionProbe.lastModified(type, id).map(version -> entityTag(id, version));
+            if (current.isPresent() && matches(ifNoneMatch, current.get())) {
+                return notModified(current.get());
+            }
+        }
+        D dto = loader.get();
+        // Tagged from what is sent, which may be a cached copy older than the probe saw
+        LocalDateTime version = dto.getUpdatedAt() != null ? dto.getUpdatedAt() : dto.getCreatedAt();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (version != null) {
+            response.eTag(entityTag(dto.getId(), version));
+        }
+        return response.body(dto);
+    }
+
+    /**
+     * The version is read before the listing is loaded, so a write in between leaves
+     * the response tagged older than its body and only costs the client a refetch.
+     */
+    public <T extends BaseEntity, R> ResponseEntity<R> collection(WebRequest request, Class<T> type,
+                                                                  Specification<T> filter, Pageable pageable,
+                                                                  Supplier<R> loader) {
+        EntityVersionProbe.CollectionVersion version = versionProbe.collectionVersion(type, filter);
+        String etag = collectionTag(type, version, pageable);
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(loader.get());
+    }
+
+    static String entityTag(Long id, LocalDateTime version) {
+        return "W/\"" + Long.toString(id, 36) + "-" + Long.toString(micros(version), 36) + "\"";
+    }
+
+    static String collectionTag(Class<?> type, EntityVersionProbe.CollectionVersion version, Pageable pageable) {
+        long lastModified = version.lastModified() != null ? micros(version.lastModified()) : 0;
+        int variant = Objects.hash(type.getName(), pageable.isPaged() ? pageable.toString() : "unpaged");
+        return "W/\"" + Long.toString(version.count(), 36) + "-" + Long.toString(lastModified, 36)
+            + "-" + Integer.toHexString(variant) + "\"";
+    }
+
+    /**
+     * Weak comparison, as If-None-Match requires.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        String opaque = opaque(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaque(trimmed).equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    // The database keeps microseconds; a copy held in memory may carry more
+    private static long micros(LocalDateTime version) {
+        return version.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + version.getNano() / 1_000;
+    }
+
+    private static <R> ResponseEntity<R> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+}
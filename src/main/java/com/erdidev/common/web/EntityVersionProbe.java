@@ -0,0 +1,64 @@
+package com.erdidev.common.web;
+
+import com.erdidev.taskmanager.model.BaseEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Version-only queries: they select modification times and counts, never entities, so
+ * nothing is hydrated. Rows written outside Hibernate may lack updatedAt, in which case
+ * createdAt stands in.
+ */
+@Component
+@Transactional(readOnly = true)
+class EntityVersionProbe {
+    private final EntityManager entityManager;
+
+    EntityVersionProbe(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    Optional<LocalDateTime> lastModified(Class<? extends BaseEntity> type, Long id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<LocalDateTime> query = cb.createQuery(LocalDateTime.class);
+        Root<? extends BaseEntity> root = query.from(type);
+        query.select(lastModified(cb, root)).where(cb.equal(root.get("id"), id));
+        List<LocalDateTime> versions = entityManager.createQuery(query).getResultList();
+        return versions.isEmpty() ? Optional.empty() : Optional.ofNullable(versions.get(0));
+    }
+
+    <T extends BaseEntity> CollectionVersion collectionVersion(Class<T> type, Specification<T> filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(type);
+        query.multiselect(cb.count(root), cb.greatest(lastModified(cb, root)));
+        if (filter != null) {
+            Predicate predicate = filter.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        Tuple version = entityManager.createQuery(query).getSingleResult();
+        return new CollectionVersion(version.get(0, Long.class), version.get(1, LocalDateTime.class));
+    }
+
+    private static Expression<LocalDateTime> lastModified(CriteriaBuilder cb, From<?, ?> root) {
+        return cb.coalesce(root.<LocalDateTime>get("updatedAt"), root.<LocalDateTime>get("createdAt"));
+    }
+
+    record CollectionVersion(long count, LocalDateTime lastModified) {
+    }
+}
@@ -1,18 +1,90 @@
 package com.erdidev.scheduler.config;
 
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.messaging.simp.stomp.StompReactorNettyCodec;
+import org.springframework.messaging.tcp.reactor.ReactorNettyTcpClient;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.TcpClient;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    // When enabled, subscriptions live in an external STOMP broker (RabbitMQ, Artemis, ...)
+    // instead of node memory, so a message sent on any node reaches clients on every node.
+    @Value("${taskmanager.websocket.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    @Value("${taskmanager.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${taskmanager.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${taskmanager.websocket.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${taskmanager.websocket.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${taskmanager.websocket.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${taskmanager.websocket.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${taskmanager.websocket.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    @Value("${taskmanager.websocket.relay.system-heartbeat-send-interval:10000}")
+    private long systemHeartbeatSendInterval;
+
+    @Value("${taskmanager.websocket.relay.system-heartbeat-receive-interval:10000}")
+    private long systemHeartbeatReceiveInterval;
+
+    @Value("${taskmanager.websocket.relay.pool.max-connections:1000}")
+    private int poolMaxConnections;
+
+    @Value("${taskmanager.websocket.relay.pool.pending-acquire-timeout:5000}")
+    private long poolPendingAcquireTimeout;
+
+    @Value("${taskmanager.websocket.relay.pool.max-idle-time:60000}")
+    private long poolMaxIdleTime;
+
+    private ConnectionProvider relayConnectionProvider;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic");
+        if (relayEnabled) {
+            log.info("Using STOMP broker relay at {}:{}", relayHost, relayPort);
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic")
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(clientLogin)
+                .setClientPasscode(clientPasscode)
+                .setSystemLogin(systemLogin)
+                .setSystemPasscode(systemPasscode)
+                .setSystemHeartbeatSendInterval(systemHeartbeatSendInterval)
+                .setSystemHeartbeatReceiveInterval(systemHeartbeatReceiveInterval)
+                .setTcpClient(createRelayTcpClient());
+            if (StringUtils.hasText(relayVirtualHost)) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+        } else {
+            config.enableSimpleBroker("/topic");
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
@@ -22,4 +94,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
             .setAllowedOriginPatterns("http://localhost:8081")
             .withSockJS();
     }
-} 
\ No newline at end of file
+
+    @PreDestroy
+    public void disposeRelayConnections() {
+        if (relayConnectionProvider != null) {
+            relayConnectionProvider.dispose();
+        }
+    }
+
+    // The relay opens one broker connection per client session plus a shared system
+    // connection; a bounded pool caps how many a node may hold open at once.
+    private ReactorNettyTcpClient<byte[]> createRelayTcpClient() {
+        relayConnectionProvider = ConnectionProvider.builder("stomp-broker-relay")
+            .maxConnections(poolMaxConnections)
+            .pendingAcquireTimeout(Duration.ofMillis(poolPendingAcquireTimeout))
+            .maxIdleTime(Duration.ofMillis(poolMaxIdleTime))
+            .build();
+        TcpClient tcpClient = TcpClient.create(relayConnectionProvider)
+            .host(relayHost)
+            .port(relayPort);
+        return new ReactorNettyTcpClient<>(tcpClient, new StompReactorNettyCodec());
+    }
+}
@@ -0,0 +1,29 @@
+package com.erdidev.scheduler.controller;
+
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.scheduler.dto.AgendaDto;
+import com.erdidev.scheduler.service.agenda.AgendaService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/agenda")
+@RequiredArgsConstructor
+@Tag(name = "Agenda", description = "Daily agenda APIs")
+public class AgendaController {
+    private final AgendaService agendaService;
+
+    @GetMapping
+    @Operation(
+        summary = "Get today's agenda for the current user",
+        description = "Today's schedules, open tasks due today or earlier, pending reminders and the running timer"
+    )
+    public ResponseEntity<AgendaDto> getAgenda() {
+        return ResponseEntity.ok(agendaService.getAgenda(SecurityUtils.getCurrentUserId()));
+    }
+}
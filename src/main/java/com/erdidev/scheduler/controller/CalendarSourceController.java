@@ -0,0 +1,52 @@
+package com.erdidev.scheduler.controller;
+
+import com.erdidev.scheduler.dto.CalendarSourceDto;
+import com.erdidev.scheduler.dto.CalendarSyncResult;
+import com.erdidev.scheduler.service.calendar.CalendarSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/calendar-sources")
+@RequiredArgsConstructor
+@Tag(name = "Calendar Source", description = "External calendar sync APIs")
+public class CalendarSourceController {
+    private final CalendarSyncService calendarSyncService;
+
+    @PostMapping
+    @Operation(summary = "Register an external calendar")
+    public ResponseEntity<CalendarSourceDto> createSource(@Valid @RequestBody CalendarSourceDto sourceDto) {
+        return ResponseEntity.ok(calendarSyncService.createSource(sourceDto));
+    }
+
+    @GetMapping
+    @Operation(summary = "Get the current user's calendars")
+    public ResponseEntity<List<CalendarSourceDto>> getSources() {
+        return ResponseEntity.ok(calendarSyncService.getSources());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get a calendar by ID")
+    public ResponseEntity<CalendarSourceDto> getSource(@PathVariable Long id) {
+        return ResponseEntity.ok(calendarSyncService.getSource(id));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Remove a calendar and its imported schedules")
+    public ResponseEntity<Void> deleteSource(@PathVariable Long id) {
+        calendarSyncService.deleteSource(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{id}/sync")
+    @Operation(summary = "Sync a calendar now")
+    public ResponseEntity<CalendarSyncResult> syncSource(@PathVariable Long id) {
+        return ResponseEntity.ok(calendarSyncService.sync(id));
+    }
+}
@@ -0,0 +1,43 @@
+package com.erdidev.scheduler.controller;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+import com.erdidev.scheduler.service.notification.NotificationBus;
+import com.erdidev.scheduler.service.notification.SseEmitterRegistry;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notification", description = "Notification delivery APIs")
+public class NotificationController {
+    private final SseEmitterRegistry sseEmitterRegistry;
+    private final NotificationBus notificationBus;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream notifications as Server-Sent Events",
+        description = "Streams the same notifications that are published to /topic/notifications. " +
+            "Reconnecting clients may send Last-Event-ID to receive the events they missed."
+    )
+    public SseEmitter streamNotifications(
+            @Parameter(description = "Id of the last event received before reconnecting")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return sseEmitterRegistry.subscribe(lastEventId);
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get notification delivery statistics for this node")
+    public ResponseEntity<NotificationBusStats> getStats() {
+        return ResponseEntity.ok(notificationBus.getStats());
+    }
+}
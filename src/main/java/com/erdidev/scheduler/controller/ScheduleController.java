@@ -1,8 +1,11 @@
 package com.erdidev.scheduler.controller;
 
+import com.erdidev.common.web.ConditionalGet;
 import com.erdidev.scheduler.dto.RecurrencePatternDto;
 import com.erdidev.scheduler.dto.ScheduleDto;
 import com.erdidev.scheduler.enums.ScheduleStatus;
+import com.erdidev.scheduler.model.Schedule;
+import com.erdidev.scheduler.repository.ScheduleSpecifications;
 import com.erdidev.scheduler.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -13,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -24,6 +28,7 @@ import java.util.List;
 @Tag(name = "Schedule", description = "Schedule management APIs")
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final ConditionalGet conditionalGet;
 
     @PostMapping
     @Operation(summary = "Create a new schedule")
@@ -50,20 +55,22 @@ public class ScheduleController {
 
     @GetMapping("/{id}")
     @Operation(summary = "Get a schedule by ID")
-    public ResponseEntity<ScheduleDto> getSchedule(@PathVariable Long id) {
-        return ResponseEntity.ok(scheduleService.getSchedule(id));
+    public ResponseEntity<ScheduleDto> getSchedule(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.entity(request, Schedule.class, id, () -> scheduleService.getSchedule(id));
     }
 
     @GetMapping
     @Operation(summary = "Get all schedules (paginated)")
-    public ResponseEntity<Page<ScheduleDto>> getSchedules(Pageable pageable) {
-        return ResponseEntity.ok(scheduleService.getSchedules(pageable));
+    public ResponseEntity<Page<ScheduleDto>> getSchedules(Pageable pageable, WebRequest request) {
+        return conditionalGet.collection(request, Schedule.class, null, pageable,
+            () -> scheduleService.getSchedules(pageable));
     }
 
     @GetMapping("/tasks/{taskId}")
     @Operation(summary = "Get schedules for a specific task")
-    public ResponseEntity<List<ScheduleDto>> getSchedulesByTaskId(@PathVariable Long taskId) {
-        return ResponseEntity.ok(scheduleService.getSchedulesByTaskId(taskId));
+    public ResponseEntity<List<ScheduleDto>> getSchedulesByTaskId(@PathVariable Long taskId, WebRequest request) {
+        return conditionalGet.collection(request, Schedule.class, ScheduleSpecifications.forTask(taskId),
+            Pageable.unpaged(), () -> scheduleService.getSchedulesByTaskId(taskId));
     }
 
     @GetMapping("/pending")
@@ -0,0 +1,16 @@
+package com.erdidev.scheduler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Everything the home page shows for one user and day")
+public record AgendaDto(
+    @Schema(description = "Agenda day") LocalDate date,
+    @Schema(description = "Schedules starting today") List<AgendaItem> schedules,
+    @Schema(description = "Open tasks due today or overdue") List<AgendaItem> dueTasks,
+    @Schema(description = "Pending reminders for today") List<AgendaItem> reminders,
+    @Schema(description = "Running time entry, if any") AgendaTimer runningTimer
+) {}
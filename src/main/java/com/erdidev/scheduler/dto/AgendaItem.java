@@ -0,0 +1,14 @@
+package com.erdidev.scheduler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A schedule, task or reminder on the agenda")
+public record AgendaItem(
+    @Schema(description = "Schedule, task or reminder ID", example = "1") Long id,
+    @Schema(description = "Task the item belongs to", example = "1") Long taskId,
+    @Schema(description = "Display title") String title,
+    @Schema(description = "Scheduled, due or reminder time") LocalDateTime time,
+    @Schema(description = "Status of the item", example = "PENDING") String status
+) {}
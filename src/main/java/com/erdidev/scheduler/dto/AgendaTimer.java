@@ -0,0 +1,12 @@
+package com.erdidev.scheduler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "The user's running time entry")
+public record AgendaTimer(
+    @Schema(description = "Time entry ID", example = "1") Long timeEntryId,
+    @Schema(description = "Tracked task ID", example = "1") Long taskId,
+    @Schema(description = "When tracking started") LocalDateTime startTime
+) {}
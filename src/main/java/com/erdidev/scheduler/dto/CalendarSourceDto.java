@@ -0,0 +1,46 @@
+package com.erdidev.scheduler.dto;
+
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.taskmanager.dto.BaseDto;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@Schema(description = "External calendar mirrored into schedules")
+public class CalendarSourceDto extends BaseDto {
+
+    @Schema(example = "Team calendar", description = "Display name")
+    @NotBlank(message = "Name is required")
+    private String name;
+
+    @Schema(example = "ICAL", description = "Calendar provider")
+    @NotNull(message = "Provider is required")
+    private CalendarProvider provider;
+
+    @Schema(example = "https://calendar.example.com/team.ics", description = "Feed or calendar URL")
+    @NotBlank(message = "URL is required")
+    private String url;
+
+    @Schema(example = "1", description = "Task the imported schedules are attached to")
+    @NotNull(message = "Task ID is required")
+    private Long taskId;
+
+    @Schema(example = "true", description = "Whether the source is polled")
+    private Boolean enabled;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime lastSyncedAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime nextSyncAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String lastError;
+}
@@ -0,0 +1,14 @@
+package com.erdidev.scheduler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Outcome of one calendar sync")
+public record CalendarSyncResult(
+    @Schema(description = "Calendar source ID", example = "1") Long sourceId,
+    @Schema(description = "Schedules inserted or updated") int upserted,
+    @Schema(description = "Schedules deleted") int deleted,
+    @Schema(description = "The provider reported no changes") boolean notModified,
+    @Schema(description = "When the source will be polled next") LocalDateTime nextSyncAt
+) {}
@@ -0,0 +1,17 @@
+package com.erdidev.scheduler.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Notification delivery statistics for this node")
+public record NotificationBusStats(
+    @Schema(description = "Bus mode", example = "redis") String mode,
+    @Schema(description = "Notifications published from this node") long published,
+    @Schema(description = "Notifications received from the bus") long received,
+    @Schema(description = "Notifications handed to local STOMP and SSE clients") long delivered,
+    @Schema(description = "Notifications dropped because local delivery fell behind") long dropped,
+    @Schema(description = "Publish rate over the last minute") double publishedPerSecond,
+    @Schema(description = "Local delivery rate over the last minute") double deliveredPerSecond,
+    @Schema(description = "Notifications waiting for local delivery") int pendingDeliveries,
+    @Schema(description = "Open SSE connections on this node") int sseSubscribers,
+    @Schema(description = "SSE events dropped for slow clients") long sseDropped
+) {}
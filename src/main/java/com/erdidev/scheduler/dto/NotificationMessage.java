@@ -1,16 +1,44 @@
 package com.erdidev.scheduler.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 @Data
 public class NotificationMessage {
+    public static final String REMINDER = "REMINDER";
+    public static final String OVERDUE = "OVERDUE";
+
+    // Assigned by the notification bus when the message is published, the same on every node
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long id;
     private final String content;
     private final LocalDateTime timestamp;
-    private final String type = "REMINDER";
+    private final String type;
 
     public NotificationMessage(String content) {
+        this(REMINDER, content);
+    }
+
+    public NotificationMessage(String type, String content) {
+        this(null, content, LocalDateTime.now(), type);
+    }
+
+    // Used when a notification is relayed between nodes so the original id and timestamp are kept
+    @JsonCreator
+    public NotificationMessage(@JsonProperty("id") Long id,
+                               @JsonProperty("content") String content,
+                               @JsonProperty("timestamp") LocalDateTime timestamp,
+                               @JsonProperty("type") String type) {
+        this.id = id;
         this.content = content;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp != null ? timestamp : LocalDateTime.now();
+        this.type = type != null ? type : REMINDER;
+    }
+
+    public NotificationMessage withId(long id) {
+        return new NotificationMessage(id, content, timestamp, type);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,9 @@
+package com.erdidev.scheduler.event;
+
+import com.erdidev.common.event.ChangeType;
+
+/**
+ * {@code ownerId} and {@code assigneeId} are those of the reminder's task.
+ */
+public record ReminderChangedEvent(Long reminderId, ChangeType changeType, Long ownerId, Long assigneeId) {
+}
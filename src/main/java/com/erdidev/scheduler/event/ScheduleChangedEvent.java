@@ -0,0 +1,11 @@
+package com.erdidev.scheduler.event;
+
+import com.erdidev.common.event.ChangeType;
+
+/**
+ * {@code ownerId} and {@code assigneeId} are those of the schedule's task.
+ * {@code scheduleId} is null when a bulk write, such as a calendar sync, changed several
+ * schedules of the task at once.
+ */
+public record ScheduleChangedEvent(Long scheduleId, ChangeType changeType, Long ownerId, Long assigneeId) {
+}
@@ -0,0 +1,7 @@
+package com.erdidev.scheduler.exception;
+
+public class CalendarSourceNotFoundException extends RuntimeException {
+    public CalendarSourceNotFoundException(Long id) {
+        super("Calendar source not found with id: " + id);
+    }
+}
@@ -0,0 +1,11 @@
+package com.erdidev.scheduler.exception;
+
+public class CalendarSyncException extends RuntimeException {
+    public CalendarSyncException(String message) {
+        super(message);
+    }
+
+    public CalendarSyncException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
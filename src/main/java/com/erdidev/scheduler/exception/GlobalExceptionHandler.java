@@ -0,0 +1,34 @@
+package com.erdidev.scheduler.exception;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@RestControllerAdvice(basePackages = "com.erdidev.scheduler")
+@Component("schedulerExceptionHandler")
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(CalendarSourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleCalendarSourceNotFoundException(CalendarSourceNotFoundException ex) {
+        log.error("Calendar source not found", ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(CalendarSyncException.class)
+    public ResponseEntity<ErrorResponse> handleCalendarSyncException(CalendarSyncException ex) {
+        log.error("Calendar sync failed", ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.BAD_GATEWAY.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.BAD_GATEWAY);
+    }
+
+    record ErrorResponse(int status, String message, LocalDateTime timestamp) {}
+}
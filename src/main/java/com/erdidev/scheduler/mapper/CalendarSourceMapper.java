@@ -0,0 +1,22 @@
+package com.erdidev.scheduler.mapper;
+
+import com.erdidev.scheduler.dto.CalendarSourceDto;
+import com.erdidev.scheduler.model.CalendarSource;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CalendarSourceMapper {
+
+    @Mapping(target = "ownerId", ignore = true)
+    @Mapping(target = "syncToken", ignore = true)
+    @Mapping(target = "etag", ignore = true)
+    @Mapping(target = "lastSyncedAt", ignore = true)
+    @Mapping(target = "nextSyncAt", ignore = true)
+    @Mapping(target = "lastError", ignore = true)
+    @Mapping(target = "enabled", defaultValue = "true")
+    CalendarSource toEntity(CalendarSourceDto dto);
+
+    CalendarSourceDto toDto(CalendarSource entity);
+}
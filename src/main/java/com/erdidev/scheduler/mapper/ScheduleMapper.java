@@ -2,6 +2,7 @@ package com.erdidev.scheduler.mapper;
 
 import com.erdidev.scheduler.dto.ScheduleDto;
 import com.erdidev.scheduler.model.Schedule;
+import com.erdidev.scheduler.repository.ScheduleRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -16,6 +17,8 @@ public interface ScheduleMapper {
     @Mapping(source = "task.id", target = "taskId")
     ScheduleDto toDto(Schedule schedule);
 
+    ScheduleDto toDto(ScheduleRow row);
+
     @Mapping(target = "task", ignore = true)
     void updateEntity(ScheduleDto scheduleDto, @MappingTarget Schedule schedule);
 } 
\ No newline at end of file
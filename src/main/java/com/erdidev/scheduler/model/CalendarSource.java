@@ -0,0 +1,58 @@
+package com.erdidev.scheduler.model;
+
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.taskmanager.model.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * An external calendar whose events are mirrored as schedules of one task. The sync
+ * token and ETag are whatever the provider hands back to ask for changes since the
+ * last sync.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "calendar_sources")
+public class CalendarSource extends BaseEntity {
+    @Column(nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CalendarProvider provider;
+
+    @Column(nullable = false, length = 2048)
+    private String url;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(nullable = false)
+    private boolean enabled = true;
+
+    @Column(length = 1024)
+    private String syncToken;
+
+    @Column
+    private String etag;
+
+    @Column
+    private LocalDateTime lastSyncedAt;
+
+    @Column
+    private LocalDateTime nextSyncAt;
+
+    // Consecutive syncs without changes, drives the polling back-off
+    @Column(nullable = false)
+    private int idleSyncs;
+
+    @Column(length = 1024)
+    private String lastError;
+}
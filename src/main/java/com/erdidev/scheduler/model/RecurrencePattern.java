@@ -1,6 +1,7 @@
 package com.erdidev.scheduler.model;
 
 import com.erdidev.scheduler.enums.RecurrenceType;
+import com.erdidev.scheduler.model.converter.DayOfWeekSetConverter;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
@@ -20,7 +21,8 @@ public class RecurrencePattern {
     @Column
     private Integer interval;
     
-    @ElementCollection
+    @Convert(converter = DayOfWeekSetConverter.class)
+    @Column
     private Set<DayOfWeek> daysOfWeek;
     
     @Column
@@ -2,6 +2,7 @@ package com.erdidev.scheduler.model;
 
 import com.erdidev.scheduler.enums.NotificationChannel;
 import com.erdidev.scheduler.enums.ReminderStatus;
+import com.erdidev.scheduler.model.converter.NotificationChannelSetConverter;
 import com.erdidev.taskmanager.model.BaseEntity;
 import com.erdidev.taskmanager.model.Task;
 import jakarta.persistence.*;
@@ -9,16 +10,13 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Set;
 
 @Entity
 @Getter
 @Setter
 public class Reminder extends BaseEntity {
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
     private Task task;
@@ -37,12 +35,9 @@ public class Reminder extends BaseEntity {
     @Column(nullable = false)
     private ReminderStatus status = ReminderStatus.PENDING;
 
-    @ElementCollection
-    @CollectionTable(
-        name = "reminder_notification_channels",
-        joinColumns = @JoinColumn(name = "reminder_id")
-    )
-    private Set<ReminderNotificationChannel> notificationChannels;
+    @Convert(converter = NotificationChannelSetConverter.class)
+    @Column(nullable = false)
+    private Set<NotificationChannel> notificationChannels;
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
@@ -57,10 +52,7 @@ public class Reminder extends BaseEntity {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         if (notificationChannels == null || notificationChannels.isEmpty()) {
-            ReminderNotificationChannel channel = new ReminderNotificationChannel();
-            channel.setNotificationChannel(NotificationChannel.WEBSOCKET);
-            channel.setChannelType(NotificationChannel.WEBSOCKET);
-            notificationChannels = Set.of(channel);
+            notificationChannels = EnumSet.of(NotificationChannel.WEBSOCKET);
         }
     }
 
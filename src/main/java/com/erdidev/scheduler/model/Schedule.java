@@ -38,4 +38,14 @@ public class Schedule extends BaseEntity {
     
     @Column(nullable = false)
     private LocalDateTime endTime;
+
+    // Set for schedules mirrored from a calendar source
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    @Column(name = "external_id")
+    private String externalId;
+
+    @Column(name = "external_version")
+    private String externalVersion;
 } 
\ No newline at end of file
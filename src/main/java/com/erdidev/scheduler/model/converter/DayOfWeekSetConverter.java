@@ -0,0 +1,15 @@
+package com.erdidev.scheduler.model.converter;
+
+import jakarta.persistence.Converter;
+
+import java.time.DayOfWeek;
+
+/**
+ * Monday is bit 0, Sunday is bit 6.
+ */
+@Converter
+public class DayOfWeekSetConverter extends EnumSetBitmaskConverter<DayOfWeek> {
+    public DayOfWeekSetConverter() {
+        super(DayOfWeek.class);
+    }
+}
@@ -0,0 +1,48 @@
+package com.erdidev.scheduler.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Stores a set of enum constants as an integer column, one bit per constant at its
+ * ordinal. Constants may only ever be appended to the enum; reordering or removing one
+ * changes the meaning of every stored value.
+ */
+public abstract class EnumSetBitmaskConverter<E extends Enum<E>> implements AttributeConverter<Set<E>, Integer> {
+    private final Class<E> enumType;
+
+    protected EnumSetBitmaskConverter(Class<E> enumType) {
+        if (enumType.getEnumConstants().length > Integer.SIZE) {
+            throw new IllegalArgumentException(enumType.getSimpleName() + " has too many constants for an int bitmask");
+        }
+        this.enumType = enumType;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Set<E> values) {
+        if (values == null) {
+            return null;
+        }
+        int mask = 0;
+        for (E value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    @Override
+    public Set<E> convertToEntityAttribute(Integer mask) {
+        if (mask == null) {
+            return null;
+        }
+        EnumSet<E> values = EnumSet.noneOf(enumType);
+        for (E constant : enumType.getEnumConstants()) {
+            if ((mask & (1 << constant.ordinal())) != 0) {
+                values.add(constant);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,11 @@
+package com.erdidev.scheduler.model.converter;
+
+import com.erdidev.scheduler.enums.NotificationChannel;
+import jakarta.persistence.Converter;
+
+@Converter
+public class NotificationChannelSetConverter extends EnumSetBitmaskConverter<NotificationChannel> {
+    public NotificationChannelSetConverter() {
+        super(NotificationChannel.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.erdidev.scheduler.repository;
+
+import com.erdidev.scheduler.service.calendar.CalendarEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes mirrored calendar events straight to the schedule table in JDBC batches. An
+ * upsert keyed on (source_id, external_id) needs no prior read of the row, and a
+ * moved event goes back to PENDING.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CalendarScheduleWriter {
+    private static final String SELECT_VERSIONS =
+        "SELECT external_id, external_version FROM schedule WHERE source_id = ?";
+
+    private static final String UPSERT = """
+        INSERT INTO schedule (task_id, source_id, external_id, external_version, title, description,
+                              scheduled_time, start_time, end_time, time_zone, status, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+        ON CONFLICT (source_id, external_id) DO UPDATE SET
+            external_version = EXCLUDED.external_version,
+            title = EXCLUDED.title,
+            description = EXCLUDED.description,
+            status = CASE WHEN schedule.scheduled_time <> EXCLUDED.scheduled_time
+                          THEN 'PENDING' ELSE schedule.status END,
+            scheduled_time = EXCLUDED.scheduled_time,
+            start_time = EXCLUDED.start_time,
+            end_time = EXCLUDED.end_time,
+            time_zone = EXCLUDED.time_zone,
+            updated_at = CURRENT_TIMESTAMP
+        """;
+
+    private static final String DELETE_REMINDERS =
+        "DELETE FROM reminder WHERE schedule_id IN (SELECT id FROM schedule WHERE source_id = ? AND external_id = ?)";
+
+    private static final String DELETE = "DELETE FROM schedule WHERE source_id = ? AND external_id = ?";
+
+    private static final String DELETE_SOURCE_REMINDERS =
+        "DELETE FROM reminder WHERE schedule_id IN (SELECT id FROM schedule WHERE source_id = ?)";
+
+    private static final String DELETE_SOURCE = "DELETE FROM schedule WHERE source_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, String> findVersions(Long sourceId) {
+        Map<String, String> versions = new HashMap<>();
+        jdbcTemplate.query(SELECT_VERSIONS,
+            rs -> { versions.put(rs.getString(1), rs.getString(2)); }, sourceId);
+        return versions;
+    }
+
+    public int upsert(Long sourceId, Long taskId, List<CalendarEvent> events, int batchSize) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(UPSERT, events, batchSize, (ps, event) -> {
+            ps.setLong(1, taskId);
+            ps.setLong(2, sourceId);
+            ps.setString(3, event.externalId());
+            ps.setString(4, event.version());
+            ps.setString(5, event.title());
+            ps.setString(6, event.description());
+            ps.setTimestamp(7, Timestamp.valueOf(event.start()));
+            ps.setTimestamp(8, Timestamp.valueOf(event.start()));
+            ps.setTimestamp(9, Timestamp.valueOf(event.end()));
+            ps.setString(10, event.timeZone());
+        });
+        return events.size();
+    }
+
+    public int delete(Long sourceId, List<String> externalIds, int batchSize) {
+        if (externalIds.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(DELETE_REMINDERS, externalIds, batchSize, (ps, externalId) -> {
+            ps.setLong(1, sourceId);
+            ps.setString(2, externalId);
+        });
+        jdbcTemplate.batchUpdate(DELETE, externalIds, batchSize, (ps, externalId) -> {
+            ps.setLong(1, sourceId);
+            ps.setString(2, externalId);
+        });
+        return externalIds.size();
+    }
+
+    public int deleteAll(Long sourceId) {
+        jdbcTemplate.update(DELETE_SOURCE_REMINDERS, sourceId);
+        return jdbcTemplate.update(DELETE_SOURCE, sourceId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.erdidev.scheduler.repository;
+
+import com.erdidev.scheduler.model.CalendarSource;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface CalendarSourceRepository extends JpaRepository<CalendarSource, Long> {
+    List<CalendarSource> findByOwnerId(Long ownerId);
+
+    @Query("SELECT c.id FROM CalendarSource c WHERE c.enabled = true " +
+           "AND (c.nextSyncAt IS NULL OR c.nextSyncAt <= :now) ORDER BY c.nextSyncAt")
+    List<Long> findDueSourceIds(@Param("now") LocalDateTime now);
+}
@@ -3,6 +3,8 @@ package com.erdidev.scheduler.repository;
 import com.erdidev.scheduler.model.Reminder;
 import com.erdidev.scheduler.enums.ReminderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -14,4 +16,13 @@ public interface ReminderRepository extends JpaRepository<Reminder, Long> {
     List<Reminder> findByStatusAndReminderTimeBefore(ReminderStatus status, LocalDateTime time);
     List<Reminder> findByStatusAndReminderTimeBetween(ReminderStatus status, 
             LocalDateTime startTime, LocalDateTime endTime);
+
+    @Query("SELECT r FROM Reminder r JOIN FETCH r.task t " +
+           "WHERE (t.ownerId = :userId OR t.assigneeId = :userId) " +
+           "AND r.status = :status AND r.reminderTime >= :start AND r.reminderTime < :end " +
+           "ORDER BY r.reminderTime")
+    List<Reminder> findForAgenda(@Param("userId") Long userId,
+                                 @Param("status") ReminderStatus status,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end);
 } 
\ No newline at end of file
@@ -2,16 +2,43 @@ package com.erdidev.scheduler.repository;
 
 import com.erdidev.scheduler.enums.ScheduleStatus;
 import com.erdidev.scheduler.model.Schedule;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
-    List<Schedule> findByTaskId(Long taskId);
+    String SELECT_ROWS = "SELECT new com.erdidev.scheduler.repository.ScheduleRow(s.id, s.task.id, s.scheduledTime, " +
+           "s.startTime, s.endTime, s.status, s.timeZone, s.title, s.description, s.createdAt, s.updatedAt) " +
+           "FROM Schedule s";
+
     List<Schedule> findByStatusAndScheduledTimeBefore(ScheduleStatus status, LocalDateTime time);
     List<Schedule> findByStatusAndScheduledTimeBetween(ScheduleStatus status, 
             LocalDateTime startTime, LocalDateTime endTime);
+
+    @Query("SELECT s FROM Schedule s JOIN FETCH s.task t " +
+           "WHERE (t.ownerId = :userId OR t.assigneeId = :userId) " +
+           "AND s.status IN :statuses AND s.scheduledTime >= :start AND s.scheduledTime < :end " +
+           "ORDER BY s.scheduledTime")
+    List<Schedule> findForAgenda(@Param("userId") Long userId,
+                                 @Param("statuses") Collection<ScheduleStatus> statuses,
+                                 @Param("start") LocalDateTime start,
+                                 @Param("end") LocalDateTime end);
+
+    @Query(value = SELECT_ROWS, countQuery = "SELECT count(s) FROM Schedule s")
+    Page<ScheduleRow> findRows(Pageable pageable);
+
+    @Query(SELECT_ROWS + " WHERE s.task.id = :taskId")
+    List<ScheduleRow> findRowsByTaskId(@Param("taskId") Long taskId);
+
+    @Query(SELECT_ROWS + " WHERE s.status = :status AND s.scheduledTime < :time")
+    List<ScheduleRow> findRowsByStatusAndScheduledTimeBefore(@Param("status") ScheduleStatus status,
+                                                             @Param("time") LocalDateTime time);
 } 
\ No newline at end of file
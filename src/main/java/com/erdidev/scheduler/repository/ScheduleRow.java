@@ -0,0 +1,14 @@
+package com.erdidev.scheduler.repository;
+
+import com.erdidev.scheduler.enums.ScheduleStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The schedule columns a listing shows, selected without hydrating the entity. The
+ * task is read from its foreign key column without a join.
+ */
+public record ScheduleRow(Long id, Long taskId, LocalDateTime scheduledTime, LocalDateTime startTime,
+                          LocalDateTime endTime, ScheduleStatus status, String timeZone, String title,
+                          String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,17 @@
+package com.erdidev.scheduler.repository;
+
+import com.erdidev.scheduler.model.Schedule;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filters for the schedule listings.
+ */
+public final class ScheduleSpecifications {
+
+    private ScheduleSpecifications() {
+    }
+
+    public static Specification<Schedule> forTask(Long taskId) {
+        return (root, query, cb) -> cb.equal(root.get("task").get("id"), taskId);
+    }
+}
@@ -1,6 +1,8 @@
 package com.erdidev.scheduler.service;
 
+import com.erdidev.common.event.ChangeType;
 import com.erdidev.scheduler.dto.ReminderDto;
+import com.erdidev.scheduler.event.ReminderChangedEvent;
 import com.erdidev.scheduler.mapper.ReminderMapper;
 import com.erdidev.scheduler.model.Reminder;
 import com.erdidev.scheduler.exception.ReminderNotFoundException;
@@ -11,6 +13,7 @@ import com.erdidev.taskmanager.repository.TaskRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,11 +21,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.EnumSet;
 
 import com.erdidev.scheduler.service.notification.NotificationStrategy;
-import com.erdidev.scheduler.model.ReminderNotificationChannel;
 import com.erdidev.scheduler.model.Schedule;
 import com.erdidev.scheduler.repository.ScheduleRepository;
 import com.erdidev.scheduler.exception.NotificationDeliveryException;
@@ -38,6 +39,7 @@ public class ReminderService {
     private final ReminderMapper reminderMapper;
     private final NotificationStrategy notificationStrategy;
     private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReminderDto createReminder(ReminderDto reminderDto) {
@@ -90,17 +92,9 @@ public class ReminderService {
         
         Reminder reminder = reminderMapper.toEntity(reminderDto);
         
-        // Convert NotificationChannel to ReminderNotificationChannel
-        Set<ReminderNotificationChannel> channels = reminderDto.getNotificationChannels().stream()
-            .map(channel -> {
-                ReminderNotificationChannel notificationChannel = new ReminderNotificationChannel();
-                notificationChannel.setNotificationChannel(channel);
-                notificationChannel.setChannelType(channel);
-                return notificationChannel;
-            })
-            .collect(Collectors.toSet());
-        
-        reminder.setNotificationChannels(channels);
+        if (reminderDto.getNotificationChannels() != null && !reminderDto.getNotificationChannels().isEmpty()) {
+            reminder.setNotificationChannels(EnumSet.copyOf(reminderDto.getNotificationChannels()));
+        }
         reminder.setType(reminderDto.getType());
         reminder.setStatus(ReminderStatus.PENDING);
         
@@ -113,6 +107,7 @@ public class ReminderService {
         }
         
         Reminder savedReminder = reminderRepository.save(reminder);
+        publishReminderChanged(savedReminder, ChangeType.CREATED);
         
         log.info("Created reminder {} for schedule {} at time {}", 
             savedReminder.getId(), 
@@ -132,6 +127,7 @@ public class ReminderService {
         existingReminder.setReminderTime(reminderDto.getReminderTime().toLocalDateTime());
         
         Reminder updatedReminder = reminderRepository.save(existingReminder);
+        publishReminderChanged(updatedReminder, ChangeType.UPDATED);
         return reminderMapper.toDto(updatedReminder);
     }
 
@@ -160,6 +156,7 @@ public class ReminderService {
             
             // Update reminder status
             reminderRepository.save(reminder);
+            publishReminderChanged(reminder, ChangeType.UPDATED);
             
             log.info("Successfully processed reminder: {}", id);
         } catch (Exception e) {
@@ -167,4 +164,10 @@ public class ReminderService {
             throw new NotificationDeliveryException("Failed to process reminder: " + id, e);
         }
     }
-} 
\ No newline at end of file
+
+    private void publishReminderChanged(Reminder reminder, ChangeType changeType) {
+        Task task = reminder.getTask();
+        eventPublisher.publishEvent(new ReminderChangedEvent(reminder.getId(), changeType,
+            task != null ? task.getOwnerId() : null, task != null ? task.getAssigneeId() : null));
+    }
+}
@@ -1,5 +1,8 @@
 package com.erdidev.scheduler.service;
 
+import com.erdidev.common.cluster.FencingTokenGuard;
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.common.event.ChangeType;
 import com.erdidev.scheduler.dto.RecurrencePatternDto;
 import com.erdidev.scheduler.dto.ReminderDto;
 import com.erdidev.scheduler.dto.ScheduleDto;
@@ -7,17 +10,22 @@ import com.erdidev.scheduler.enums.NotificationChannel;
 import com.erdidev.scheduler.enums.RecurrenceType;
 import com.erdidev.scheduler.enums.ReminderStatus;
 import com.erdidev.scheduler.enums.ScheduleStatus;
+import com.erdidev.scheduler.event.ScheduleChangedEvent;
 import com.erdidev.scheduler.model.Schedule;
 import com.erdidev.scheduler.repository.ScheduleRepository;
 import com.erdidev.scheduler.exception.ScheduleNotFoundException;
 import com.erdidev.scheduler.mapper.ScheduleMapper;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
 import com.erdidev.taskmanager.model.Task;
 import com.erdidev.taskmanager.model.TaskStatus;
 import com.erdidev.taskmanager.repository.TaskRepository;
 import com.erdidev.taskmanager.service.TaskService;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -42,6 +50,9 @@ public class ScheduleService {
     private final ScheduleMapper scheduleMapper;
     private final ReminderService reminderService;
     private final TaskService taskService;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final FencingTokenGuard fencingTokenGuard;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ScheduleDto createSchedule(ScheduleDto scheduleDto) {
@@ -72,6 +83,7 @@ public class ScheduleService {
         
         // Save schedule first to get an ID
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        publishScheduleChanged(savedSchedule, ChangeType.CREATED);
         
         // Create default reminder if requested
         if (Boolean.TRUE.equals(scheduleDto.getCreateDefaultReminder())) {
@@ -113,20 +125,20 @@ public class ScheduleService {
 
     @Transactional(readOnly = true)
     public Page<ScheduleDto> getSchedules(Pageable pageable) {
-        return scheduleRepository.findAll(pageable)
+        return scheduleRepository.findRows(pageable)
                 .map(scheduleMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleDto> getSchedulesByTaskId(Long taskId) {
-        return scheduleRepository.findByTaskId(taskId).stream()
+        return scheduleRepository.findRowsByTaskId(taskId).stream()
                 .map(scheduleMapper::toDto)
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public List<ScheduleDto> getPendingSchedules() {
-        return scheduleRepository.findByStatusAndScheduledTimeBefore(
+        return scheduleRepository.findRowsByStatusAndScheduledTimeBefore(
                 ScheduleStatus.PENDING, 
                 LocalDateTime.now()
             ).stream()
@@ -148,6 +160,7 @@ public class ScheduleService {
         existingSchedule.setDescription(scheduleDto.getDescription());
         
         Schedule updatedSchedule = scheduleRepository.save(existingSchedule);
+        publishScheduleChanged(updatedSchedule, ChangeType.UPDATED);
         return scheduleMapper.toDto(updatedSchedule);
     }
 
@@ -158,6 +171,7 @@ public class ScheduleService {
                 .orElseThrow(() -> new ScheduleNotFoundException(id));
         
         scheduleRepository.deleteById(id);
+        publishScheduleChanged(schedule, ChangeType.DELETED);
     }
 
     @Transactional
@@ -169,6 +183,7 @@ public class ScheduleService {
         
         schedule.setStatus(status);
         Schedule updatedSchedule = scheduleRepository.save(schedule);
+        publishScheduleChanged(updatedSchedule, ChangeType.UPDATED);
         return scheduleMapper.toDto(updatedSchedule);
     }
 
@@ -217,6 +232,7 @@ public class ScheduleService {
         schedule.setStatus(ScheduleStatus.PENDING);
         
         Schedule savedSchedule = scheduleRepository.save(schedule);
+        publishScheduleChanged(savedSchedule, ChangeType.UPDATED);
         return scheduleMapper.toDto(savedSchedule);
     }
 
@@ -268,8 +284,10 @@ public class ScheduleService {
     }
 
     @Scheduled(fixedRate = 60000) // Every minute
+    @LeaderOnly("schedule-processor")
     @Transactional
     public void processSchedules() {
+        fencingTokenGuard.verify();
         LocalDateTime now = LocalDateTime.now();
         List<Schedule> dueSchedules = scheduleRepository
             .findByStatusAndScheduledTimeBefore(ScheduleStatus.PENDING, now);
@@ -279,13 +297,18 @@ public class ScheduleService {
                 // Update task status when schedule time arrives
                 Task task = schedule.getTask();
                 if (task.getStatus() == TaskStatus.SCHEDULED) {
+                    TaskCountKey countedAs = TaskCountKey.of(task);
                     task.setStatus(TaskStatus.IN_PROGRESS);
                     taskRepository.save(task);
+                    projectTaskCounters.moved(countedAs, TaskCountKey.of(task));
+                    eventPublisher.publishEvent(new TaskChangedEvent(
+                        task.getId(), ChangeType.UPDATED, task.getOwnerId(), task.getAssigneeId()));
                 }
 
                 // Mark schedule as completed
                 schedule.setStatus(ScheduleStatus.COMPLETED);
                 scheduleRepository.save(schedule);
+                publishScheduleChanged(schedule, ChangeType.UPDATED);
 
                 log.info("Processed schedule {} for task {}", 
                     schedule.getId(), task.getId());
@@ -294,4 +317,10 @@ public class ScheduleService {
             }
         }
     }
-} 
\ No newline at end of file
+
+    private void publishScheduleChanged(Schedule schedule, ChangeType changeType) {
+        Task task = schedule.getTask();
+        eventPublisher.publishEvent(new ScheduleChangedEvent(schedule.getId(), changeType,
+            task != null ? task.getOwnerId() : null, task != null ? task.getAssigneeId() : null));
+    }
+}
@@ -0,0 +1,115 @@
+package com.erdidev.scheduler.service.agenda;
+
+import com.erdidev.scheduler.dto.AgendaDto;
+import com.erdidev.scheduler.dto.AgendaItem;
+import com.erdidev.scheduler.dto.AgendaTimer;
+import com.erdidev.scheduler.enums.ReminderStatus;
+import com.erdidev.scheduler.enums.ScheduleStatus;
+import com.erdidev.scheduler.repository.ReminderRepository;
+import com.erdidev.scheduler.repository.ScheduleRepository;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.timetracker.model.TimeEntryStatus;
+import com.erdidev.timetracker.repository.TimeEntryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads one agenda section per query straight from the owning repositories.
+ */
+@Component
+@RequiredArgsConstructor
+class AgendaBuilder {
+    private static final Set<ScheduleStatus> AGENDA_SCHEDULE_STATUSES =
+        EnumSet.of(ScheduleStatus.PENDING, ScheduleStatus.IN_PROGRESS);
+
+    private final ScheduleRepository scheduleRepository;
+    private final ReminderRepository reminderRepository;
+    private final TaskRepository taskRepository;
+    private final TimeEntryRepository timeEntryRepository;
+
+    @Transactional(readOnly = true)
+    public AgendaDto build(Long userId, LocalDate date) {
+        return new AgendaDto(date,
+            buildSchedules(userId, date),
+            buildDueTasks(userId, date),
+            buildReminders(userId, date),
+            buildRunningTimer(userId));
+    }
+
+    // Called from after-commit listeners, where the writer's transaction is finished but still bound
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public Map<AgendaSection, Object> buildSections(Long userId, LocalDate date, Set<AgendaSection> sections) {
+        Map<AgendaSection, Object> values = new EnumMap<>(AgendaSection.class);
+        for (AgendaSection section : sections) {
+            values.put(section, switch (section) {
+                case SCHEDULES -> buildSchedules(userId, date);
+                case DUE_TASKS -> buildDueTasks(userId, date);
+                case REMINDERS -> buildReminders(userId, date);
+                case RUNNING_TIMER -> buildRunningTimer(userId);
+            });
+        }
+        return values;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findAgendaUserIds() {
+        return taskRepository.findUserIdsWithOpenTasks(TaskStatus.DONE);
+    }
+
+    private List<AgendaItem> buildSchedules(Long userId, LocalDate date) {
+        return scheduleRepository.findForAgenda(userId, AGENDA_SCHEDULE_STATUSES, startOf(date), startOf(date.plusDays(1)))
+            .stream()
+            .map(schedule -> new AgendaItem(
+                schedule.getId(),
+                schedule.getTask().getId(),
+                schedule.getTitle() != null ? schedule.getTitle() : schedule.getTask().getTitle(),
+                schedule.getScheduledTime(),
+                schedule.getStatus().name()))
+            .toList();
+    }
+
+    private List<AgendaItem> buildDueTasks(Long userId, LocalDate date) {
+        return taskRepository.findOpenTasksDueBefore(userId, TaskStatus.DONE, startOf(date.plusDays(1)))
+            .stream()
+            .map(task -> new AgendaItem(
+                task.getId(),
+                task.getId(),
+                task.getTitle(),
+                task.getDueDate(),
+                task.getStatus().name()))
+            .toList();
+    }
+
+    private List<AgendaItem> buildReminders(Long userId, LocalDate date) {
+        return reminderRepository.findForAgenda(userId, ReminderStatus.PENDING, startOf(date), startOf(date.plusDays(1)))
+            .stream()
+            .map(reminder -> new AgendaItem(
+                reminder.getId(),
+                reminder.getTask().getId(),
+                reminder.getMessage(),
+                reminder.getReminderTime(),
+                reminder.getStatus().name()))
+            .toList();
+    }
+
+    private AgendaTimer buildRunningTimer(Long userId) {
+        return timeEntryRepository.findFirstByUserIdAndStatusOrderByStartTimeDesc(userId, TimeEntryStatus.RUNNING)
+            .map(entry -> new AgendaTimer(entry.getId(), entry.getTask().getId(), entry.getStartTime()))
+            .orElse(null);
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay();
+    }
+}
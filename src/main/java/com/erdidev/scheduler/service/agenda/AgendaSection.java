@@ -0,0 +1,11 @@
+package com.erdidev.scheduler.service.agenda;
+
+/**
+ * The independently refreshed parts of an agenda snapshot.
+ */
+enum AgendaSection {
+    SCHEDULES,
+    DUE_TASKS,
+    REMINDERS,
+    RUNNING_TIMER
+}
@@ -0,0 +1,105 @@
+package com.erdidev.scheduler.service.agenda;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.scheduler.dto.AgendaDto;
+import com.erdidev.scheduler.event.ReminderChangedEvent;
+import com.erdidev.scheduler.event.ScheduleChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.timetracker.event.TimeEntryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Serves each user's daily agenda, covering the tasks the user owns or is assigned to,
+ * from a precomputed snapshot. Snapshots are rebuilt
+ * for every active user overnight, built on first read otherwise, and after each
+ * committed write only the sections that write can affect are recomputed. Users
+ * without a snapshot are skipped on writes; their next read builds one.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AgendaService {
+    private static final Set<AgendaSection> TASK_SECTIONS =
+        EnumSet.of(AgendaSection.SCHEDULES, AgendaSection.DUE_TASKS, AgendaSection.REMINDERS);
+
+    private final AgendaBuilder agendaBuilder;
+    private final AgendaSnapshotStore snapshotStore;
+
+    public AgendaDto getAgenda(Long userId) {
+        LocalDate today = LocalDate.now();
+        return snapshotStore.find(userId, today).orElseGet(() -> {
+            AgendaDto agenda = agendaBuilder.build(userId, today);
+            snapshotStore.save(userId, agenda);
+            return agenda;
+        });
+    }
+
+    @Scheduled(cron = "${taskmanager.agenda.rebuild-cron:0 0 2 * * *}")
+    @LeaderOnly("agenda-rebuild")
+    public void rebuildAgendas() {
+        LocalDate today = LocalDate.now();
+        List<Long> userIds = agendaBuilder.findAgendaUserIds();
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                snapshotStore.save(userId, agendaBuilder.build(userId, today));
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to rebuild agenda for user {}", userId, e);
+            }
+        }
+        log.info("Rebuilt {} agenda snapshots for {} ({} failed)", userIds.size() - failed, today, failed);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        // Title changes show up in the schedule and reminder sections too; a reassigned
+        // task also leaves the agenda of its previous owner or assignee
+        refresh(TASK_SECTIONS, event.ownerId(), event.assigneeId(), event.previousOwnerId(),
+            event.previousAssigneeId());
+    }
+
+    @TransactionalEventListener
+    public void onScheduleChanged(ScheduleChangedEvent event) {
+        refresh(EnumSet.of(AgendaSection.SCHEDULES), event.ownerId(), event.assigneeId());
+    }
+
+    @TransactionalEventListener
+    public void onReminderChanged(ReminderChangedEvent event) {
+        refresh(EnumSet.of(AgendaSection.REMINDERS), event.ownerId(), event.assigneeId());
+    }
+
+    @TransactionalEventListener
+    public void onTimeEntryChanged(TimeEntryChangedEvent event) {
+        refresh(EnumSet.of(AgendaSection.RUNNING_TIMER), event.userId());
+    }
+
+    private void refresh(Set<AgendaSection> sections, Long... userIds) {
+        LocalDate today = LocalDate.now();
+        Stream.of(userIds).filter(Objects::nonNull).distinct().forEach(userId -> {
+            try {
+                if (snapshotStore.exists(userId, today)) {
+                    snapshotStore.saveSections(userId, today, agendaBuilder.buildSections(userId, today, sections));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to refresh agenda of user {}, dropping snapshot", userId, e);
+                try {
+                    snapshotStore.evict(userId, today);
+                } catch (Exception evictFailure) {
+                    log.warn("Failed to drop agenda snapshot of user {}", userId, evictFailure);
+                }
+            }
+        });
+    }
+}
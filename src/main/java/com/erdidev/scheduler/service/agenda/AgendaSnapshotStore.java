@@ -0,0 +1,105 @@
+package com.erdidev.scheduler.service.agenda;
+
+import com.erdidev.scheduler.dto.AgendaDto;
+import com.erdidev.scheduler.dto.AgendaItem;
+import com.erdidev.scheduler.dto.AgendaTimer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps one Redis hash per user and day with a field per {@link AgendaSection}, so a
+ * write only rewrites the sections it affects and a read is a single HGETALL. Values
+ * are plain JSON without type metadata.
+ */
+@Slf4j
+@Component
+class AgendaSnapshotStore {
+    private static final String KEY_PREFIX = "taskmanager:agenda:";
+    private static final TypeReference<List<AgendaItem>> ITEMS = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Value("${taskmanager.agenda.snapshot-ttl:PT36H}")
+    private Duration snapshotTtl;
+
+    AgendaSnapshotStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public Optional<AgendaDto> find(Long userId, LocalDate date) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(key(userId, date));
+        if (fields.size() < AgendaSection.values().length) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AgendaDto(date,
+                mapper.readValue((String) fields.get(AgendaSection.SCHEDULES.name()), ITEMS),
+                mapper.readValue((String) fields.get(AgendaSection.DUE_TASKS.name()), ITEMS),
+                mapper.readValue((String) fields.get(AgendaSection.REMINDERS.name()), ITEMS),
+                mapper.readValue((String) fields.get(AgendaSection.RUNNING_TIMER.name()), AgendaTimer.class)));
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable agenda snapshot for user {}", userId, e);
+            evict(userId, date);
+            return Optional.empty();
+        }
+    }
+
+    public void save(Long userId, AgendaDto agenda) {
+        Map<AgendaSection, Object> sections = new EnumMap<>(AgendaSection.class);
+        sections.put(AgendaSection.SCHEDULES, agenda.schedules());
+        sections.put(AgendaSection.DUE_TASKS, agenda.dueTasks());
+        sections.put(AgendaSection.REMINDERS, agenda.reminders());
+        sections.put(AgendaSection.RUNNING_TIMER, agenda.runningTimer());
+        write(userId, agenda.date(), sections);
+    }
+
+    public boolean exists(Long userId, LocalDate date) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key(userId, date)));
+    }
+
+    public void saveSections(Long userId, LocalDate date, Map<AgendaSection, Object> sections) {
+        write(userId, date, sections);
+    }
+
+    public void evict(Long userId, LocalDate date) {
+        redisTemplate.delete(key(userId, date));
+    }
+
+    private void write(Long userId, LocalDate date, Map<AgendaSection, Object> sections) {
+        Map<String, String> fields = new HashMap<>();
+        try {
+            for (Map.Entry<AgendaSection, Object> section : sections.entrySet()) {
+                fields.put(section.getKey().name(), mapper.writeValueAsString(section.getValue()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize agenda for user " + userId, e);
+        }
+        String key = key(userId, date);
+        redisTemplate.opsForHash().putAll(key, fields);
+        redisTemplate.expire(key, snapshotTtl);
+    }
+
+    private static String key(Long userId, LocalDate date) {
+        return KEY_PREFIX + userId + ":" + date;
+    }
+}
@@ -0,0 +1,94 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.scheduler.dto.CalendarSyncResult;
+import com.erdidev.scheduler.event.ScheduleChangedEvent;
+import com.erdidev.scheduler.exception.CalendarSourceNotFoundException;
+import com.erdidev.scheduler.model.CalendarSource;
+import com.erdidev.scheduler.repository.CalendarScheduleWriter;
+import com.erdidev.scheduler.repository.CalendarSourceRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Applies one fetched change set to the mirrored schedules and records the new sync
+ * position in the same transaction, so a failed write re-fetches the same changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class CalendarChangeApplier {
+    private static final int MAX_BACKOFF_STEPS = 16;
+
+    private final CalendarSourceRepository sourceRepository;
+    private final CalendarScheduleWriter scheduleWriter;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${taskmanager.calendar.sync.batch-size:500}")
+    private int batchSize;
+
+    @Value("${taskmanager.calendar.sync.min-interval:PT1M}")
+    private Duration minInterval;
+
+    @Value("${taskmanager.calendar.sync.max-interval:PT1H}")
+    private Duration maxInterval;
+
+    @Transactional
+    public CalendarSyncResult apply(Long sourceId, CalendarChangeSet changes) {
+        CalendarSource source = sourceRepository.findById(sourceId)
+            .orElseThrow(() -> new CalendarSourceNotFoundException(sourceId));
+
+        boolean notModified = !changes.snapshot() && changes.events().isEmpty() && changes.deletedIds().isEmpty();
+        int upserted = 0;
+        int deleted = 0;
+        if (!notModified) {
+            Map<String, String> storedVersions = scheduleWriter.findVersions(sourceId);
+            CalendarSyncPlan plan = CalendarSyncPlan.of(storedVersions, changes);
+            upserted = scheduleWriter.upsert(sourceId, source.getTaskId(), plan.upserts(), batchSize);
+            deleted = scheduleWriter.delete(sourceId, plan.deletes(), batchSize);
+        }
+
+        boolean changed = upserted + deleted > 0;
+        LocalDateTime now = LocalDateTime.now();
+        source.setSyncToken(changes.syncToken());
+        source.setEtag(changes.etag());
+        source.setLastSyncedAt(now);
+        source.setLastError(null);
+        source.setIdleSyncs(changed ? 0 : source.getIdleSyncs() + 1);
+        source.setNextSyncAt(now.plus(pollInterval(source.getIdleSyncs())));
+        sourceRepository.save(source);
+
+        if (changed) {
+            taskRepository.findById(source.getTaskId()).ifPresent(task -> eventPublisher.publishEvent(
+                new ScheduleChangedEvent(null, ChangeType.UPDATED, task.getOwnerId(), task.getAssigneeId())));
+        }
+        log.debug("Synced calendar source {}: {} upserted, {} deleted", sourceId, upserted, deleted);
+        return new CalendarSyncResult(sourceId, upserted, deleted, notModified, source.getNextSyncAt());
+    }
+
+    @Transactional
+    public void recordFailure(Long sourceId, String message) {
+        sourceRepository.findById(sourceId).ifPresent(source -> {
+            source.setLastError(message != null && message.length() > 1024 ? message.substring(0, 1024) : message);
+            source.setIdleSyncs(source.getIdleSyncs() + 1);
+            source.setNextSyncAt(LocalDateTime.now().plus(pollInterval(source.getIdleSyncs())));
+            sourceRepository.save(source);
+        });
+    }
+
+    // Doubles with every idle or failed sync, from min-interval up to max-interval
+    Duration pollInterval(int idleSyncs) {
+        Duration interval = minInterval.multipliedBy(1L << Math.min(idleSyncs, MAX_BACKOFF_STEPS));
+        return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+    }
+}
@@ -0,0 +1,24 @@
+package com.erdidev.scheduler.service.calendar;
+
+import java.util.List;
+
+/**
+ * What a provider returned for one sync.
+ *
+ * @param events      changed events, or every event when {@code snapshot} is set
+ * @param deletedIds  events the provider reported as removed
+ * @param snapshot    the events are the whole calendar, so anything missing was deleted
+ * @param syncToken   token to present on the next sync
+ * @param etag        entity tag to present on the next sync
+ */
+public record CalendarChangeSet(
+    List<CalendarEvent> events,
+    List<String> deletedIds,
+    boolean snapshot,
+    String syncToken,
+    String etag
+) {
+    public static CalendarChangeSet notModified(String syncToken, String etag) {
+        return new CalendarChangeSet(List.of(), List.of(), false, syncToken, etag);
+    }
+}
@@ -0,0 +1,17 @@
+package com.erdidev.scheduler.service.calendar;
+
+import java.time.LocalDateTime;
+
+/**
+ * One event as reported by a provider. {@code version} changes whenever the event does,
+ * so an unchanged event can be skipped without comparing its fields.
+ */
+public record CalendarEvent(
+    String externalId,
+    String version,
+    String title,
+    String description,
+    LocalDateTime start,
+    LocalDateTime end,
+    String timeZone
+) {}
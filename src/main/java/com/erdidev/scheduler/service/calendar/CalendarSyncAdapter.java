@@ -0,0 +1,15 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.scheduler.model.CalendarSource;
+
+/**
+ * Fetches what changed in one provider's calendar since the source's stored sync
+ * token or ETag. Delta APIs return only changes; feeds without one return a snapshot
+ * and the engine works out the differences.
+ */
+public interface CalendarSyncAdapter {
+    CalendarProvider getProvider();
+
+    CalendarChangeSet fetchChanges(CalendarSource source);
+}
@@ -0,0 +1,49 @@
+package com.erdidev.scheduler.service.calendar;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The writes one sync needs: events that are new or whose version changed, and stored
+ * events that are gone. Unchanged events produce no write.
+ */
+record CalendarSyncPlan(List<CalendarEvent> upserts, List<String> deletes) {
+
+    static CalendarSyncPlan of(Map<String, String> storedVersions, CalendarChangeSet changes) {
+        // Recurrence overrides repeat the master's UID; the first one wins
+        Map<String, CalendarEvent> events = new LinkedHashMap<>();
+        for (CalendarEvent event : changes.events()) {
+            events.putIfAbsent(event.externalId(), event);
+        }
+
+        List<CalendarEvent> upserts = new ArrayList<>();
+        for (CalendarEvent event : events.values()) {
+            if (!event.version().equals(storedVersions.get(event.externalId()))) {
+                upserts.add(event);
+            }
+        }
+
+        Set<String> deletes = new HashSet<>();
+        for (String deletedId : changes.deletedIds()) {
+            if (storedVersions.containsKey(deletedId) && !events.containsKey(deletedId)) {
+                deletes.add(deletedId);
+            }
+        }
+        if (changes.snapshot()) {
+            for (String storedId : storedVersions.keySet()) {
+                if (!events.containsKey(storedId)) {
+                    deletes.add(storedId);
+                }
+            }
+        }
+        return new CalendarSyncPlan(upserts, List.copyOf(deletes));
+    }
+
+    boolean isEmpty() {
+        return upserts.isEmpty() && deletes.isEmpty();
+    }
+}
@@ -0,0 +1,123 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.scheduler.dto.CalendarSourceDto;
+import com.erdidev.scheduler.dto.CalendarSyncResult;
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.scheduler.exception.CalendarSourceNotFoundException;
+import com.erdidev.scheduler.exception.CalendarSyncException;
+import com.erdidev.scheduler.mapper.CalendarSourceMapper;
+import com.erdidev.scheduler.model.CalendarSource;
+import com.erdidev.scheduler.repository.CalendarScheduleWriter;
+import com.erdidev.scheduler.repository.CalendarSourceRepository;
+import com.erdidev.taskmanager.exception.TaskNotFoundException;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mirrors external calendars into schedules. Fetching happens outside any transaction;
+ * only the resulting writes run in one. Sources are polled on their own schedule, which
+ * backs off while a calendar stays unchanged.
+ */
+@Slf4j
+@Service
+public class CalendarSyncService {
+    private final CalendarSourceRepository sourceRepository;
+    private final CalendarSourceMapper sourceMapper;
+    private final CalendarScheduleWriter scheduleWriter;
+    private final CalendarChangeApplier changeApplier;
+    private final TaskRepository taskRepository;
+    private final Map<CalendarProvider, CalendarSyncAdapter> adapters = new EnumMap<>(CalendarProvider.class);
+
+    public CalendarSyncService(CalendarSourceRepository sourceRepository,
+                               CalendarSourceMapper sourceMapper,
+                               CalendarScheduleWriter scheduleWriter,
+                               CalendarChangeApplier changeApplier,
+                               TaskRepository taskRepository,
+                               List<CalendarSyncAdapter> adapters) {
+        this.sourceRepository = sourceRepository;
+        this.sourceMapper = sourceMapper;
+        this.scheduleWriter = scheduleWriter;
+        this.changeApplier = changeApplier;
+        this.taskRepository = taskRepository;
+        adapters.forEach(adapter -> this.adapters.put(adapter.getProvider(), adapter));
+    }
+
+    @Transactional
+    public CalendarSourceDto createSource(CalendarSourceDto sourceDto) {
+        if (!adapters.containsKey(sourceDto.getProvider())) {
+            throw new IllegalArgumentException("Calendar provider " + sourceDto.getProvider() + " is not supported yet");
+        }
+        if (!taskRepository.existsById(sourceDto.getTaskId())) {
+            throw new TaskNotFoundException(sourceDto.getTaskId());
+        }
+        CalendarSource source = sourceMapper.toEntity(sourceDto);
+        source.setOwnerId(SecurityUtils.getCurrentUserId());
+        return sourceMapper.toDto(sourceRepository.save(source));
+    }
+
+    @Transactional(readOnly = true)
+    public List<CalendarSourceDto> getSources() {
+        return sourceRepository.findByOwnerId(SecurityUtils.getCurrentUserId()).stream()
+            .map(sourceMapper::toDto)
+            .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public CalendarSourceDto getSource(Long id) {
+        return sourceRepository.findById(id)
+            .map(sourceMapper::toDto)
+            .orElseThrow(() -> new CalendarSourceNotFoundException(id));
+    }
+
+    @Transactional
+    public void deleteSource(Long id) {
+        CalendarSource source = sourceRepository.findById(id)
+            .orElseThrow(() -> new CalendarSourceNotFoundException(id));
+        scheduleWriter.deleteAll(id);
+        sourceRepository.delete(source);
+    }
+
+    public CalendarSyncResult sync(Long sourceId) {
+        CalendarSource source = sourceRepository.findById(sourceId)
+            .orElseThrow(() -> new CalendarSourceNotFoundException(sourceId));
+        CalendarSyncAdapter adapter = adapters.get(source.getProvider());
+        if (adapter == null) {
+            throw new CalendarSyncException("No sync adapter for provider " + source.getProvider());
+        }
+
+        CalendarChangeSet changes;
+        try {
+            changes = adapter.fetchChanges(source);
+        } catch (CalendarSyncException e) {
+            changeApplier.recordFailure(sourceId, e.getMessage());
+            throw e;
+        }
+        return changeApplier.apply(sourceId, changes);
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.calendar.sync.poll-interval:30000}")
+    @LeaderOnly("calendar-sync")
+    public void syncDueSources() {
+        for (Long sourceId : sourceRepository.findDueSourceIds(LocalDateTime.now())) {
+            try {
+                CalendarSyncResult result = sync(sourceId);
+                if (!result.notModified()) {
+                    log.info("Calendar source {} synced: {} upserted, {} deleted",
+                        sourceId, result.upserted(), result.deleted());
+                }
+            } catch (Exception e) {
+                log.warn("Calendar source {} sync failed: {}", sourceId, e.getMessage());
+            }
+        }
+    }
+}
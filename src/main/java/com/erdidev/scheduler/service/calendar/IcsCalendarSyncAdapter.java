@@ -0,0 +1,106 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.scheduler.exception.CalendarSyncException;
+import com.erdidev.scheduler.model.CalendarSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Polls an iCalendar feed over HTTP. Feeds have no delta API, so each sync is a
+ * conditional GET on the stored ETag and Last-Modified; an unchanged feed costs one
+ * 304 and nothing else, a changed one is parsed as a snapshot.
+ */
+@Slf4j
+@Component
+public class IcsCalendarSyncAdapter implements CalendarSyncAdapter {
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    public IcsCalendarSyncAdapter(@Value("${taskmanager.calendar.sync.connect-timeout:PT10S}") Duration connectTimeout,
+                                  @Value("${taskmanager.calendar.sync.request-timeout:PT60S}") Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+        this.requestTimeout = requestTimeout;
+    }
+
+    @Override
+    public CalendarProvider getProvider() {
+        return CalendarProvider.ICAL;
+    }
+
+    @Override
+    public CalendarChangeSet fetchChanges(CalendarSource source) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(toHttpUri(source.getUrl()))
+            .timeout(requestTimeout)
+            .header("Accept", "text/calendar")
+            .GET();
+        if (source.getEtag() != null) {
+            request.header("If-None-Match", source.getEtag());
+        }
+        // For ICS sources the sync token holds the feed's Last-Modified header
+        if (source.getSyncToken() != null) {
+            request.header("If-Modified-Since", source.getSyncToken());
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new CalendarSyncException("Failed to fetch calendar " + source.getUrl(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CalendarSyncException("Interrupted while fetching calendar " + source.getUrl(), e);
+        }
+
+        if (response.statusCode() == 304) {
+            closeQuietly(response.body());
+            return CalendarChangeSet.notModified(source.getSyncToken(), source.getEtag());
+        }
+        if (response.statusCode() != 200) {
+            closeQuietly(response.body());
+            throw new CalendarSyncException("Calendar " + source.getUrl() + " returned HTTP " + response.statusCode());
+        }
+
+        List<CalendarEvent> events = new ArrayList<>();
+        List<String> cancelled = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            new IcsParser(ZoneId.systemDefault()).parse(reader, events::add, cancelled::add);
+        } catch (IOException | RuntimeException e) {
+            throw new CalendarSyncException("Failed to read calendar " + source.getUrl(), e);
+        }
+
+        return new CalendarChangeSet(events, cancelled, true,
+            response.headers().firstValue("Last-Modified").orElse(null),
+            response.headers().firstValue("ETag").orElse(null));
+    }
+
+    private static URI toHttpUri(String url) {
+        return URI.create(url.startsWith("webcal://") ? "https://" + url.substring("webcal://".length()) : url);
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException e) {
+            log.debug("Failed to close calendar response", e);
+        }
+    }
+}
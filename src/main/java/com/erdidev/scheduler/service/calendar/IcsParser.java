@@ -0,0 +1,174 @@
+package com.erdidev.scheduler.service.calendar;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.function.Consumer;
+
+/**
+ * Streams VEVENTs out of an iCalendar (RFC 5545) body. Only what a schedule needs is
+ * read. Each event's version is a digest of its unfolded lines, so any edit to the
+ * event changes it. Recurrence rules are not expanded; a recurring event becomes one
+ * schedule at its first occurrence.
+ */
+class IcsParser {
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ZoneId systemZone;
+
+    IcsParser(ZoneId systemZone) {
+        this.systemZone = systemZone;
+    }
+
+    /**
+     * @param events    receives each live event
+     * @param cancelled receives the UID of each event with STATUS:CANCELLED
+     */
+    void parse(BufferedReader reader, Consumer<CalendarEvent> events, Consumer<String> cancelled) throws IOException {
+        EventBuilder current = null;
+        String pending = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            // Folded lines continue with a single space or tab
+            if (!line.isEmpty() && (line.charAt(0) == ' ' || line.charAt(0) == '\t')) {
+                pending = pending == null ? line.substring(1) : pending + line.substring(1);
+                continue;
+            }
+            if (pending != null) {
+                current = handle(pending, current, events, cancelled);
+            }
+            pending = line;
+        }
+        if (pending != null) {
+            handle(pending, current, events, cancelled);
+        }
+    }
+
+    private EventBuilder handle(String line, EventBuilder current, Consumer<CalendarEvent> events,
+                                Consumer<String> cancelled) {
+        if (line.equals("BEGIN:VEVENT")) {
+            return new EventBuilder();
+        }
+        if (current == null) {
+            return null;
+        }
+        if (line.equals("END:VEVENT")) {
+            if (current.uid != null && current.start != null) {
+                if (current.cancelled) {
+                    cancelled.accept(current.uid);
+                } else {
+                    events.accept(current.build());
+                }
+            }
+            return null;
+        }
+        current.digest(line);
+
+        int colon = line.indexOf(':');
+        if (colon < 0) {
+            return current;
+        }
+        String nameAndParams = line.substring(0, colon);
+        String value = line.substring(colon + 1);
+        int semicolon = nameAndParams.indexOf(';');
+        String name = semicolon < 0 ? nameAndParams : nameAndParams.substring(0, semicolon);
+        String params = semicolon < 0 ? "" : nameAndParams.substring(semicolon + 1);
+
+        switch (name) {
+            case "UID" -> current.uid = value;
+            case "SUMMARY" -> current.summary = unescape(value);
+            case "DESCRIPTION" -> current.description = unescape(value);
+            case "STATUS" -> current.cancelled = "CANCELLED".equalsIgnoreCase(value);
+            case "DTSTART" -> {
+                current.timeZone = param(params, "TZID");
+                current.allDay = value.length() == 8;
+                current.start = toLocal(value, current.timeZone);
+            }
+            case "DTEND" -> current.end = toLocal(value, param(params, "TZID"));
+            default -> { }
+        }
+        return current;
+    }
+
+    private LocalDateTime toLocal(String value, String tzid) {
+        if (value.length() == 8) {
+            return LocalDate.parse(value, DATE).atStartOfDay();
+        }
+        boolean utc = value.endsWith("Z");
+        LocalDateTime dateTime = LocalDateTime.parse(utc ? value.substring(0, value.length() - 1) : value, DATE_TIME);
+        if (utc) {
+            return dateTime.atOffset(ZoneOffset.UTC).atZoneSameInstant(systemZone).toLocalDateTime();
+        }
+        if (tzid != null) {
+            return dateTime.atZone(ZoneId.of(tzid)).withZoneSameInstant(systemZone).toLocalDateTime();
+        }
+        return dateTime;
+    }
+
+    private static String param(String params, String name) {
+        for (String param : params.split(";")) {
+            if (param.startsWith(name + "=")) {
+                return param.substring(name.length() + 1).replace("\"", "");
+            }
+        }
+        return null;
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder text = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                text.append(next == 'n' || next == 'N' ? '\n' : next);
+            } else {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    private static final class EventBuilder {
+        private final MessageDigest digest;
+        private String uid;
+        private String summary;
+        private String description;
+        private String timeZone;
+        private LocalDateTime start;
+        private LocalDateTime end;
+        private boolean allDay;
+        private boolean cancelled;
+
+        private EventBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void digest(String line) {
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+
+        private CalendarEvent build() {
+            LocalDateTime eventEnd = end != null ? end : allDay ? start.plusDays(1) : start.plusHours(1);
+            String version = HexFormat.of().formatHex(digest.digest(), 0, 16);
+            return new CalendarEvent(uid, version, summary != null ? summary : "(no title)",
+                description, start, eventEnd, timeZone);
+        }
+    }
+}
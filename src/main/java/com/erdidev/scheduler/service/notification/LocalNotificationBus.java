@@ -0,0 +1,32 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+import com.erdidev.scheduler.dto.NotificationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "taskmanager.notifications.bus", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationBus implements NotificationBus {
+    private final LocalNotificationDelivery localDelivery;
+    private final NotificationBusMetrics metrics = new NotificationBusMetrics();
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Synchronized so that messages reach the SSE replay buffer in id order
+    @Override
+    public synchronized void publish(NotificationMessage message) {
+        metrics.recordPublished();
+        metrics.recordReceived();
+        localDelivery.deliver(message.withId(sequence.incrementAndGet()));
+        metrics.recordDelivered();
+    }
+
+    @Override
+    public NotificationBusStats getStats() {
+        return metrics.snapshot("local", 0, localDelivery);
+    }
+}
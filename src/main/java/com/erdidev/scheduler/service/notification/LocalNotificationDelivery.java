@@ -0,0 +1,28 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LocalNotificationDelivery {
+    public static final String NOTIFICATION_DESTINATION = "/topic/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SseEmitterRegistry sseEmitterRegistry;
+
+    public void deliver(NotificationMessage notification) {
+        messagingTemplate.convertAndSend(NOTIFICATION_DESTINATION, notification);
+        sseEmitterRegistry.broadcast(notification);
+    }
+
+    public int getSseSubscriberCount() {
+        return sseEmitterRegistry.getSubscriberCount();
+    }
+
+    public long getSseDroppedEventCount() {
+        return sseEmitterRegistry.getDroppedEventCount();
+    }
+}
@@ -0,0 +1,14 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+import com.erdidev.scheduler.dto.NotificationMessage;
+
+/**
+ * Carries a notification to the clients connected to every node. Selected with
+ * taskmanager.notifications.bus (local or redis).
+ */
+public interface NotificationBus {
+    void publish(NotificationMessage message);
+
+    NotificationBusStats getStats();
+}
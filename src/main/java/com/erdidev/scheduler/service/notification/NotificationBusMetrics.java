@@ -0,0 +1,81 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-node notification counters with one-minute sliding rates.
+ */
+class NotificationBusMetrics {
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final RateWindow publishRate = new RateWindow();
+    private final RateWindow deliveryRate = new RateWindow();
+
+    void recordPublished() {
+        published.increment();
+        publishRate.record();
+    }
+
+    void recordReceived() {
+        received.increment();
+    }
+
+    void recordDelivered() {
+        delivered.increment();
+        deliveryRate.record();
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    long getDropped() {
+        return dropped.sum();
+    }
+
+    NotificationBusStats snapshot(String mode, int pendingDeliveries, LocalNotificationDelivery localDelivery) {
+        return new NotificationBusStats(
+            mode,
+            published.sum(),
+            received.sum(),
+            delivered.sum(),
+            dropped.sum(),
+            publishRate.perSecond(),
+            deliveryRate.perSecond(),
+            pendingDeliveries,
+            localDelivery.getSseSubscriberCount(),
+            localDelivery.getSseDroppedEventCount());
+    }
+
+    private static final class RateWindow {
+        private static final int WINDOW_SECONDS = 60;
+
+        private final long[] seconds = new long[WINDOW_SECONDS];
+        private final long[] counts = new long[WINDOW_SECONDS];
+
+        synchronized void record() {
+            long second = System.currentTimeMillis() / 1000;
+            int slot = (int) (second % WINDOW_SECONDS);
+            if (seconds[slot] != second) {
+                seconds[slot] = second;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized double perSecond() {
+            long now = System.currentTimeMillis() / 1000;
+            long total = 0;
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                if (now - seconds[i] < WINDOW_SECONDS) {
+                    total += counts[i];
+                }
+            }
+            return (double) total / WINDOW_SECONDS;
+        }
+    }
+}
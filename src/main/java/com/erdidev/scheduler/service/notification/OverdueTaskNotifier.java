@@ -0,0 +1,33 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import com.erdidev.taskmanager.event.TaskOverdueEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Pushes one notification per task the overdue detector flags. A failed push is logged
+ * and not retried, so it never holds up the rest of the batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueTaskNotifier {
+    private static final DateTimeFormatter DUE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final NotificationBus notificationBus;
+
+    @EventListener
+    public void onTaskOverdue(TaskOverdueEvent event) {
+        try {
+            notificationBus.publish(new NotificationMessage(NotificationMessage.OVERDUE,
+                String.format("⚠️ OVERDUE: %s\n📅 Due: %s", event.title(), event.dueDate().format(DUE_FORMAT))));
+        } catch (Exception e) {
+            log.error("Failed to push overdue notification for task {}", event.taskId(), e);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+import com.erdidev.scheduler.dto.NotificationMessage;
+import com.erdidev.scheduler.exception.NotificationDeliveryException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Publishes each notification once to a Redis channel. Every node, including the
+ * publisher, receives it from the channel and delivers it to its own STOMP and SSE
+ * clients. Received notifications wait in a bounded buffer; when local delivery falls
+ * behind, the oldest pending notification is dropped. A node without clients (the
+ * scheduler worker) can publish without subscribing.
+ * <p>
+ * Each notification gets its id from a Redis counter in the same script that publishes
+ * it, so ids follow channel order and mean the same on every node; an SSE client can
+ * resume with its Last-Event-ID on whichever node it reconnects to.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "taskmanager.notifications.bus", havingValue = "redis")
+public class RedisNotificationBus implements NotificationBus, MessageListener {
+    private static final String SEQUENCE_SUFFIX = ":seq";
+
+    // The payload is serialized without an id; the script splices the new one in front
+    private static final RedisScript<Long> PUBLISH_WITH_ID = new DefaultRedisScript<>("""
+        local id = redis.call('INCR', KEYS[1])
+        redis.call('PUBLISH', ARGV[1], '{"id":' .. id .. ',' .. string.sub(ARGV[2], 2))
+        return id
+        """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LocalNotificationDelivery localDelivery;
+    private final Jackson2JsonRedisSerializer<NotificationMessage> serializer;
+    private final NotificationBusMetrics metrics = new NotificationBusMetrics();
+    private final String channel;
+    private final BlockingQueue<NotificationMessage> pending;
+    private final boolean subscribe;
+    private Thread deliveryThread;
+
+    public RedisNotificationBus(RedisTemplate<String, Object> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                LocalNotificationDelivery localDelivery,
+                                @Value("${taskmanager.notifications.redis.channel:taskmanager:notifications}") String channel,
+                                @Value("${taskmanager.notifications.redis.buffer-size:10000}") int bufferSize,
+                                @Value("${taskmanager.notifications.redis.subscribe:true}") boolean subscribe) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.localDelivery = localDelivery;
+        this.channel = channel;
+        this.pending = new LinkedBlockingQueue<>(bufferSize);
+        this.subscribe = subscribe;
+
+        // Plain JSON without the type metadata the shared template adds to every value
+        ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.serializer = new Jackson2JsonRedisSerializer<>(mapper, NotificationMessage.class);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!subscribe) {
+            log.info("Redis notification bus publishing to channel {} without subscribing", channel);
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        deliveryThread = Thread.ofVirtual().name("notification-bus-delivery").start(this::deliverLoop);
+        log.info("Redis notification bus subscribed to channel {}", channel);
+    }
+
+    @PreDestroy
+    public void stop() {
+        listenerContainer.removeMessageListener(this);
+        if (deliveryThread != null) {
+            deliveryThread.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(NotificationMessage message) {
+        byte[] channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] payload = serializer.serialize(message);
+        try {
+            redisTemplate.execute(PUBLISH_WITH_ID, RedisSerializer.byteArray(),
+                new GenericToStringSerializer<>(Long.class), List.of(channel + SEQUENCE_SUFFIX),
+                channelBytes, payload);
+            metrics.recordPublished();
+        } catch (Exception e) {
+            throw new NotificationDeliveryException("Failed to publish notification to Redis", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        NotificationMessage notification;
+        try {
+            notification = serializer.deserialize(message.getBody());
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable notification on channel {}", channel, e);
+            return;
+        }
+        metrics.recordReceived();
+        enqueue(notification);
+    }
+
+    @Override
+    public NotificationBusStats getStats() {
+        return metrics.snapshot("redis", pending.size(), localDelivery);
+    }
+
+    void enqueue(NotificationMessage notification) {
+        while (!pending.offer(notification)) {
+            if (pending.poll() != null) {
+                metrics.recordDropped();
+            }
+        }
+    }
+
+    boolean deliverNext() throws InterruptedException {
+        NotificationMessage notification = pending.take();
+        try {
+            localDelivery.deliver(notification);
+            metrics.recordDelivered();
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to deliver notification locally", e);
+            return false;
+        }
+    }
+
+    private void deliverLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                deliverNext();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
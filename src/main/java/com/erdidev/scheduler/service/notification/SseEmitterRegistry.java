@@ -0,0 +1,179 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks the Server-Sent Events connections open on this node. Idle connections hold
+ * no thread; writes run on virtual threads, one drain at a time per subscriber, and a
+ * small replay buffer lets reconnecting clients resume from their Last-Event-ID.
+ * Event ids are the ones the notification bus assigned, so they are the same on every
+ * node and a client may reconnect to a different node than before.
+ * A client that stops reading loses its oldest queued events rather than growing
+ * the heap.
+ */
+@Slf4j
+@Component
+public class SseEmitterRegistry {
+    private static final String EVENT_NAME = "notification";
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<BufferedEvent> replayBuffer = new ArrayDeque<>();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Object lock = new Object();
+    private final LongAdder droppedEvents = new LongAdder();
+
+    @Value("${taskmanager.notifications.sse.timeout:1800000}")
+    private long emitterTimeout;
+
+    @Value("${taskmanager.notifications.sse.replay-buffer-size:256}")
+    private int replayBufferSize;
+
+    @Value("${taskmanager.notifications.sse.max-queued-events:1000}")
+    private int maxQueuedEvents;
+
+    public SseEmitter subscribe(Long lastSeenEventId) {
+        SseEmitter emitter = createEmitter();
+        Subscriber subscriber = new Subscriber(emitter, maxQueuedEvents);
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        synchronized (lock) {
+            if (lastSeenEventId != null) {
+                for (BufferedEvent event : replayBuffer) {
+                    if (event.id() > lastSeenEventId) {
+                        enqueue(subscriber, event);
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        log.debug("SSE subscriber registered (resume from {}), {} open", lastSeenEventId, subscribers.size());
+
+        scheduleDrain(subscriber);
+        return emitter;
+    }
+
+    public void broadcast(NotificationMessage message) {
+        Objects.requireNonNull(message.getId(), "Notification has not been published through the bus");
+        synchronized (lock) {
+            BufferedEvent event = new BufferedEvent(message.getId(), message);
+            replayBuffer.addLast(event);
+            while (replayBuffer.size() > replayBufferSize) {
+                replayBuffer.removeFirst();
+            }
+            subscribers.forEach(subscriber -> enqueue(subscriber, event));
+        }
+        subscribers.forEach(this::scheduleDrain);
+    }
+
+    @Scheduled(fixedRateString = "${taskmanager.notifications.sse.heartbeat-interval:15000}")
+    public void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.isEmpty()) {
+                subscriber.queue.offer(BufferedEvent.HEARTBEAT);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEvents.sum();
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeout);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        deliveryExecutor.shutdownNow();
+    }
+
+    private void enqueue(Subscriber subscriber, BufferedEvent event) {
+        while (!subscriber.queue.offer(event)) {
+            if (subscriber.queue.poll() != null) {
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            deliveryExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            BufferedEvent event;
+            while ((event = subscriber.queue.poll()) != null) {
+                if (event == BufferedEvent.HEARTBEAT) {
+                    subscriber.emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(String.valueOf(event.id()))
+                            .name(EVENT_NAME)
+                            .data(event.message()));
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping SSE subscriber after failed write: {}", e.getMessage());
+            remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // An event may have been queued after the last poll but before the flag was cleared
+        scheduleDrain(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            log.debug("SSE subscriber removed, {} open", subscribers.size());
+        }
+    }
+
+    record BufferedEvent(long id, NotificationMessage message) {
+        static final BufferedEvent HEARTBEAT = new BufferedEvent(-1, null);
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<BufferedEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+}
@@ -4,7 +4,6 @@ import com.erdidev.scheduler.dto.NotificationMessage;
 import com.erdidev.scheduler.exception.NotificationDeliveryException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -13,7 +12,7 @@ import java.time.format.DateTimeFormatter;
 @Service
 @RequiredArgsConstructor
 public class WebSocketNotificationStrategy implements NotificationStrategy {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationBus notificationBus;
 
     @Override
     public void sendNotification(String message) {
@@ -27,7 +26,7 @@ public class WebSocketNotificationStrategy implements NotificationStrategy {
                 )
             );
             
-            messagingTemplate.convertAndSend("/topic/notifications", notification);
+            notificationBus.publish(notification);
             log.info("Successfully sent WebSocket notification");
             
         } catch (Exception e) {
@@ -0,0 +1,46 @@
+package com.erdidev.taskmanager.config;
+
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.cache.TwoLevelCacheManager;
+import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Project;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Projects and categories also sit in this node's Hibernate second-level cache, which
+ * only sees this node's writes. An invalidation from another node drops them there as
+ * well, together with cached queries, which may list a changed category.
+ */
+@Configuration
+public class ReadCacheConfig {
+
+    @Bean
+    public TwoLevelCache<TaskDto> taskCache(TwoLevelCacheManager cacheManager) {
+        return cacheManager.create("task", TaskDto.class);
+    }
+
+    @Bean
+    public TwoLevelCache<ProjectDto> projectCache(TwoLevelCacheManager cacheManager,
+                                                  EntityManagerFactory entityManagerFactory) {
+        Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        return cacheManager.create("project", ProjectDto.class,
+            id -> secondLevelCache.evictEntityData(Project.class, id));
+    }
+
+    @Bean
+    public TwoLevelCache<CategoryDto> categoryCache(TwoLevelCacheManager cacheManager,
+                                                    EntityManagerFactory entityManagerFactory) {
+        Cache secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        return cacheManager.create("category", CategoryDto.class, id -> {
+            secondLevelCache.evictEntityData(Category.class, id);
+            secondLevelCache.evictDefaultQueryRegion();
+        });
+    }
+}
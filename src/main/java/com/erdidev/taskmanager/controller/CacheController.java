@@ -0,0 +1,36 @@
+package com.erdidev.taskmanager.controller;
+
+import com.erdidev.common.cache.SecondLevelCacheMonitor;
+import com.erdidev.common.cache.SecondLevelCacheStats;
+import com.erdidev.common.cache.TwoLevelCacheManager;
+import com.erdidev.common.cache.TwoLevelCacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/cache")
+@RequiredArgsConstructor
+@Tag(name = "Read Cache", description = "Task, project and category read cache APIs")
+public class CacheController {
+    private final TwoLevelCacheManager cacheManager;
+    private final SecondLevelCacheMonitor secondLevelCacheMonitor;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get read cache hit rates for this node")
+    public ResponseEntity<List<TwoLevelCacheStats>> getStats() {
+        return ResponseEntity.ok(cacheManager.getStats());
+    }
+
+    @GetMapping("/entity-stats")
+    @Operation(summary = "Get Hibernate second-level cache hit rates for this node")
+    public ResponseEntity<List<SecondLevelCacheStats>> getEntityStats() {
+        return ResponseEntity.ok(secondLevelCacheMonitor.getStats());
+    }
+}
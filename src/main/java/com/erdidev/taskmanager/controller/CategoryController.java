@@ -1,6 +1,9 @@
 package com.erdidev.taskmanager.controller;
 
+import com.erdidev.common.web.ConditionalGet;
 import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.repository.CategorySpecifications;
 import com.erdidev.taskmanager.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +18,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,6 +28,7 @@ import java.util.List;
 @Tag(name = "Category Management", description = "APIs for managing categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
     @Operation(
@@ -42,7 +47,8 @@ public class CategoryController {
                 description = "Sort field and direction (e.g., createdAt,desc or name,asc)",
                 example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest request) {
         
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -51,15 +57,17 @@ public class CategoryController {
         Direction direction = Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
         
-        return ResponseEntity.ok(categoryService.getCategoriesByProject(projectId, pageable));
+        return conditionalGet.collection(request, Category.class, CategorySpecifications.inProject(projectId), pageable,
+            () -> categoryService.getCategoriesByProject(projectId, pageable));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get a category by ID")
     public ResponseEntity<CategoryDto> getCategory(
             @PathVariable Long projectId,
-            @PathVariable Long id) {
-        return ResponseEntity.ok(categoryService.getCategory(id));
+            @PathVariable Long id,
+            WebRequest request) {
+        return conditionalGet.entity(request, Category.class, id, () -> categoryService.getCategory(id));
     }
 
     @PostMapping
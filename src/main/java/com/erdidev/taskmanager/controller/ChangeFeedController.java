@@ -0,0 +1,37 @@
+package com.erdidev.taskmanager.controller;
+
+import com.erdidev.taskmanager.dto.ChangeFeedDto;
+import com.erdidev.taskmanager.service.changes.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+@RequiredArgsConstructor
+@Tag(name = "Changes", description = "APIs for incremental sync of tasks, projects and categories")
+public class ChangeFeedController {
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    @Operation(
+        summary = "Get changes since a cursor",
+        description = "Returns the tasks, projects and categories created, updated or deleted after the cursor, "
+            + "each once with its current state, or as a tombstone once deleted. Without since, returns only the "
+            + "current cursor: take it before a full load, then keep passing the returned cursor. Responds with "
+            + "410 Gone when the cursor is older than the kept history."
+    )
+    public ResponseEntity<ChangeFeedDto> getChanges(
+            @Parameter(description = "Cursor returned by the previous call")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of log entries to read, up to " + ChangeFeedService.MAX_LIMIT)
+            @RequestParam(defaultValue = "" + ChangeFeedService.DEFAULT_LIMIT) int limit) {
+        return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+    }
+}
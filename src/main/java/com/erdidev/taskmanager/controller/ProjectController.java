@@ -5,11 +5,25 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import com.erdidev.common.web.ConditionalGet;
+import com.erdidev.taskmanager.dto.ProjectDeletionJobDto;
 import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.ProjectScheduleDto;
+import com.erdidev.taskmanager.dto.ProjectStatsDto;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.service.ProjectDeletionService;
 import com.erdidev.taskmanager.service.ProjectService;
+import com.erdidev.taskmanager.service.dependency.TaskDependencyService;
+import com.erdidev.taskmanager.service.export.TaskExportFormat;
+import com.erdidev.taskmanager.service.export.TaskExportService;
 import org.springframework.data.domain.Page;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -25,6 +39,10 @@ import java.util.List;
 @Tag(name = "Project Management", description = "APIs for managing projects")
 public class ProjectController {
     private final ProjectService projectService;
+    private final ConditionalGet conditionalGet;
+    private final TaskExportService taskExportService;
+    private final ProjectDeletionService projectDeletionService;
+    private final TaskDependencyService taskDependencyService;
 
     @GetMapping
     @Operation(
@@ -42,7 +60,8 @@ public class ProjectController {
                 description = "Sort field and direction (e.g., createdAt,desc or name,asc)",
                 example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest request) {
         
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -51,13 +70,55 @@ public class ProjectController {
         Direction direction = Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
         
-        return ResponseEntity.ok(projectService.getProjects(pageable));
+        return conditionalGet.collection(request, Project.class, null, pageable,
+            () -> projectService.getProjects(pageable));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get a project by ID")
-    public ResponseEntity<ProjectDto> getProject(@PathVariable Long id) {
-        return ResponseEntity.ok(projectService.getProject(id));
+    public ResponseEntity<ProjectDto> getProject(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.entity(request, Project.class, id, () -> projectService.getProject(id));
+    }
+
+    @GetMapping("/{id}/stats")
+    @Operation(
+        summary = "Get task counts of a project",
+        description = "Counts by status and priority, read from counters maintained on every task write"
+    )
+    public ResponseEntity<ProjectStatsDto> getProjectStats(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.getProjectStats(id));
+    }
+
+    @GetMapping("/{id}/schedule")
+    @Operation(
+        summary = "Get the critical path and earliest starts of a project",
+        description = "The critical path is the longest chain of dependent tasks, in the order they have to be "
+            + "done. Earliest starts count the tasks that must be done first and are listed for tasks with "
+            + "dependencies only; every other task can start right away."
+    )
+    public ResponseEntity<ProjectScheduleDto> getProjectSchedule(@PathVariable Long id) {
+        return ResponseEntity.ok(taskDependencyService.getSchedule(id));
+    }
+
+    @GetMapping("/{id}/tasks/export")
+    @Operation(
+        summary = "Export all tasks of a project",
+        description = "Streams every task as CSV or newline-delimited JSON, ordered by id"
+    )
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @PathVariable Long id,
+            @Parameter(description = "csv or ndjson")
+            @RequestParam(defaultValue = "csv") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.parse(format);
+        // Resolve the project first: once streaming starts the status can no longer become 404
+        projectService.getProject(id);
+        ContentDisposition disposition = ContentDisposition.attachment()
+            .filename("project-" + id + "-tasks." + exportFormat.extension())
+            .build();
+        return ResponseEntity.ok()
+            .contentType(exportFormat.mediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+            .body(out -> taskExportService.export(id, exportFormat, out));
     }
 
     @PostMapping
@@ -82,10 +143,24 @@ public class ProjectController {
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Delete a project")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
-        return ResponseEntity.noContent().build();
+    @Operation(
+        summary = "Delete a project",
+        description = "Queues the deletion of the project with all of its tasks, categories and attachments "
+            + "and returns the job at once; follow it at the Location header"
+    )
+    public ResponseEntity<ProjectDeletionJobDto> deleteProject(@PathVariable Long id) {
+        ProjectDeletionJobDto job = projectService.deleteProject(id);
+        return ResponseEntity
+            .accepted()
+            .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/v1/projects/deletions/{jobId}").buildAndExpand(job.id()).toUri())
+            .body(job);
+    }
+
+    @GetMapping("/deletions/{jobId}")
+    @Operation(summary = "Get the progress of a project deletion")
+    public ResponseEntity<ProjectDeletionJobDto> getProjectDeletion(@PathVariable Long jobId) {
+        return ResponseEntity.ok(projectDeletionService.getJob(jobId));
     }
 
     @GetMapping("/search")
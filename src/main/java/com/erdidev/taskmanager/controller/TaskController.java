@@ -1,14 +1,25 @@
 package com.erdidev.taskmanager.controller;
 
+import com.erdidev.common.web.ConditionalGet;
+import com.erdidev.taskmanager.dto.CursorPage;
+import com.erdidev.taskmanager.dto.CursorRequest;
+import com.erdidev.taskmanager.dto.TaskBatchResult;
+import com.erdidev.taskmanager.dto.TaskBatchUpdateItem;
+import com.erdidev.taskmanager.dto.TaskBulkPatchRequest;
+import com.erdidev.taskmanager.dto.TaskBulkPatchResult;
 import com.erdidev.taskmanager.dto.TaskDto;
 import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Task;
 import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.TaskSpecifications;
+import com.erdidev.taskmanager.service.TaskBatchService;
 import com.erdidev.taskmanager.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -17,15 +28,27 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
 @Tag(name = "Task Management", description = "APIs for managing tasks")
 public class TaskController {
+    private static final String CURSOR_DESCRIPTION = "Keyset pagination: pass an empty cursor for the first slice, "
+            + "then the returned nextCursor until it is null. Deep slices cost the same as the first. "
+            + "Sort options: createdAt, title, status, priority, dueDate";
+    private static final String OVERDUE_CURSOR_DESCRIPTION = CURSOR_DESCRIPTION + ". Defaults to dueDate,asc";
+    private static final String BATCH_DESCRIPTION = "Entries are validated one by one and written in chunks, "
+            + "each chunk in its own transaction. Results come back per entry, in request order";
+
     private final TaskService taskService;
+    private final TaskBatchService taskBatchService;
+    private final ConditionalGet conditionalGet;
 
     @GetMapping
     @Operation(
@@ -43,7 +66,8 @@ public class TaskController {
                 description = "Sort field and direction (e.g., createdAt,desc or title,asc)",
                 example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest request) {
         
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -52,7 +76,8 @@ public class TaskController {
         Direction direction = Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
         
-        return ResponseEntity.ok(taskService.getTasks(pageable));
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.all(), pageable,
+            () -> taskService.getTasks(pageable));
     }
 
     @GetMapping("/project/{projectId}")
@@ -72,7 +97,8 @@ public class TaskController {
                 description = "Sort field and direction (e.g., createdAt,desc or title,asc)",
                 example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest request) {
         
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -81,7 +107,8 @@ public class TaskController {
         Direction direction = Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
         
-        return ResponseEntity.ok(taskService.getTasksByProject(projectId, pageable));
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.inProject(projectId), pageable,
+            () -> taskService.getTasksByProject(projectId, pageable));
     }
 
     @GetMapping("/category/{categoryId}")
@@ -101,7 +128,8 @@ public class TaskController {
                 description = "Sort field and direction (e.g., createdAt,desc or title,asc)",
                 example = "createdAt,desc"
             )
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            WebRequest request) {
         
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -110,42 +138,112 @@ public class TaskController {
         Direction direction = Direction.fromString(sortDirection);
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
         
-        return ResponseEntity.ok(taskService.getTasksByCategory(categoryId, pageable));
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.inCategory(categoryId), pageable,
+            () -> taskService.getTasksByCategory(categoryId, pageable));
     }
 
     @GetMapping("/status/{status}")
     @Operation(summary = "Get tasks by status")
     public ResponseEntity<Page<TaskDto>> getTasksByStatus(
             @PathVariable TaskStatus status,
-            Pageable pageable) {
-        return ResponseEntity.ok(taskService.getTasksByStatus(status, pageable));
+            Pageable pageable,
+            WebRequest request) {
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.hasStatus(status), pageable,
+            () -> taskService.getTasksByStatus(status, pageable));
     }
 
     @GetMapping("/priority/{priority}")
     @Operation(summary = "Get tasks by priority")
     public ResponseEntity<Page<TaskDto>> getTasksByPriority(
             @PathVariable Priority priority,
-            Pageable pageable) {
-        return ResponseEntity.ok(taskService.getTasksByPriority(priority, pageable));
+            Pageable pageable,
+            WebRequest request) {
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.hasPriority(priority), pageable,
+            () -> taskService.getTasksByPriority(priority, pageable));
     }
 
     @GetMapping("/overdue")
     @Operation(summary = "Get overdue tasks")
-    public ResponseEntity<Page<TaskDto>> getOverdueTasks(Pageable pageable) {
-        return ResponseEntity.ok(taskService.getOverdueTasks(pageable));
+    public ResponseEntity<Page<TaskDto>> getOverdueTasks(Pageable pageable, WebRequest request) {
+        return conditionalGet.collection(request, Task.class, TaskSpecifications.overdue(LocalDateTime.now()), pageable,
+            () -> taskService.getOverdueTasks(pageable));
+    }
+
+    @GetMapping(params = "cursor")
+    @Operation(
+        summary = "Get all tasks with cursor pagination",
+        description = CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasks(@Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollTasks(page));
+    }
+
+    @GetMapping(value = "/project/{projectId}", params = "cursor")
+    @Operation(
+        summary = "Get tasks by project with cursor pagination",
+        description = CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasksByProject(
+            @PathVariable Long projectId,
+            @Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollTasksByProject(projectId, page));
+    }
+
+    @GetMapping(value = "/category/{categoryId}", params = "cursor")
+    @Operation(
+        summary = "Get tasks by category with cursor pagination",
+        description = CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasksByCategory(
+            @PathVariable Long categoryId,
+            @Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollTasksByCategory(categoryId, page));
+    }
+
+    @GetMapping(value = "/status/{status}", params = "cursor")
+    @Operation(
+        summary = "Get tasks by status with cursor pagination",
+        description = CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasksByStatus(
+            @PathVariable TaskStatus status,
+            @Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollTasksByStatus(status, page));
+    }
+
+    @GetMapping(value = "/priority/{priority}", params = "cursor")
+    @Operation(
+        summary = "Get tasks by priority with cursor pagination",
+        description = CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollTasksByPriority(
+            @PathVariable Priority priority,
+            @Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollTasksByPriority(priority, page));
+    }
+
+    @GetMapping(value = "/overdue", params = "cursor")
+    @Operation(
+        summary = "Get overdue tasks with cursor pagination",
+        description = OVERDUE_CURSOR_DESCRIPTION
+    )
+    public ResponseEntity<CursorPage<TaskDto>> scrollOverdueTasks(@Valid @ParameterObject CursorRequest page) {
+        return ResponseEntity.ok(taskService.scrollOverdueTasks(page));
     }
 
     @GetMapping("/search")
-    @Operation(summary = "Search tasks by title")
-    public ResponseEntity<List<TaskDto>> searchTasks(
-            @Parameter(description = "Search query") @RequestParam String query) {
-        return ResponseEntity.ok(taskService.searchTasks(query));
+    @Operation(summary = "Search tasks",
+            description = "Matches title, description, project and category names; best matches first")
+    public ResponseEntity<Page<TaskDto>> searchTasks(
+            @Parameter(description = "Search query") @RequestParam String query,
+            Pageable pageable) {
+        return ResponseEntity.ok(taskService.searchTasks(query, pageable));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get a task by ID")
-    public ResponseEntity<TaskDto> getTask(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.getTask(id));
+    public ResponseEntity<TaskDto> getTask(@PathVariable Long id, WebRequest request) {
+        return conditionalGet.entity(request, Task.class, id, () -> taskService.getTask(id));
     }
 
     @PostMapping
@@ -168,4 +266,32 @@ public class TaskController {
         taskService.deleteTask(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PatchMapping("/bulk")
+    @Operation(summary = "Change status or priority of all matching tasks",
+            description = "Filter criteria (ids, projectId, categoryId, status) are combined with AND and at least "
+                    + "one is required. Runs as a single update; tasks that already have the new values are not counted")
+    public ResponseEntity<TaskBulkPatchResult> patchTasks(@RequestBody TaskBulkPatchRequest request) {
+        return ResponseEntity.ok(taskService.patchTasks(request));
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create many tasks", description = BATCH_DESCRIPTION)
+    public ResponseEntity<TaskBatchResult> createTasks(@RequestBody List<TaskDto> tasks) {
+        return ResponseEntity.ok(taskBatchService.createTasks(tasks));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update many tasks", description = BATCH_DESCRIPTION)
+    public ResponseEntity<TaskBatchResult> updateTasks(@RequestBody List<TaskBatchUpdateItem> items) {
+        return ResponseEntity.ok(taskBatchService.updateTasks(items));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete many tasks",
+            description = BATCH_DESCRIPTION + ". Attachments, schedules, reminders, time entries, watchers "
+                    + "and calendar sources of the tasks are deleted with them")
+    public ResponseEntity<TaskBatchResult> deleteTasks(@RequestBody List<Long> taskIds) {
+        return ResponseEntity.ok(taskBatchService.deleteTasks(taskIds));
+    }
 } 
\ No newline at end of file
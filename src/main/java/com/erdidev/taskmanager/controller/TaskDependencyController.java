@@ -0,0 +1,40 @@
+package com.erdidev.taskmanager.controller;
+
+import com.erdidev.taskmanager.dto.TaskDependenciesDto;
+import com.erdidev.taskmanager.service.dependency.TaskDependencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/tasks/{taskId}/dependencies")
+@RequiredArgsConstructor
+@Tag(name = "Task Dependencies", description = "APIs for managing which tasks block which")
+public class TaskDependencyController {
+    private final TaskDependencyService dependencyService;
+
+    @GetMapping
+    @Operation(summary = "Get the tasks a task depends on and the tasks depending on it")
+    public ResponseEntity<TaskDependenciesDto> getDependencies(@PathVariable Long taskId) {
+        return ResponseEntity.ok(dependencyService.getDependencies(taskId));
+    }
+
+    @PutMapping("/{dependsOnId}")
+    @Operation(
+        summary = "Mark a task as blocked by another task",
+        description = "Both tasks must belong to the same project. Responds with 409 Conflict when the "
+            + "dependency would close a cycle; adding an existing dependency changes nothing."
+    )
+    public ResponseEntity<TaskDependenciesDto> addDependency(@PathVariable Long taskId, @PathVariable Long dependsOnId) {
+        return ResponseEntity.ok(dependencyService.addDependency(taskId, dependsOnId));
+    }
+
+    @DeleteMapping("/{dependsOnId}")
+    @Operation(summary = "Remove a dependency between two tasks")
+    public ResponseEntity<TaskDependenciesDto> removeDependency(@PathVariable Long taskId,
+                                                                @PathVariable Long dependsOnId) {
+        return ResponseEntity.ok(dependencyService.removeDependency(taskId, dependsOnId));
+    }
+}
@@ -0,0 +1,74 @@
+package com.erdidev.taskmanager.controller;
+
+import com.erdidev.taskmanager.dto.TaskImportErrorDto;
+import com.erdidev.taskmanager.dto.TaskImportJobDto;
+import com.erdidev.taskmanager.service.imports.TaskImportFormat;
+import com.erdidev.taskmanager.service.imports.TaskImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tasks/imports")
+@RequiredArgsConstructor
+@Tag(name = "Task Import", description = "APIs for importing tasks in the background")
+public class TaskImportController {
+    private final TaskImportService importService;
+
+    @PostMapping(consumes = {TaskImportFormat.CSV_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+        summary = "Start a task import",
+        description = "Send a CSV file with a header line, or one JSON object per line. Recognized fields: "
+            + "title, description, status, priority, dueDate, project or projectId, category or categoryId, "
+            + "assigneeId. Projects and categories given by name are created when missing. Returns the "
+            + "queued job; follow its progress at the Location header."
+    )
+    public ResponseEntity<TaskImportJobDto> startImport(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) throws IOException {
+        TaskImportJobDto job = importService.submit(TaskImportFormat.of(contentType), body);
+        return ResponseEntity
+            .accepted()
+            .location(ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}").buildAndExpand(job.id()).toUri())
+            .body(job);
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(summary = "Get the progress of a task import")
+    public ResponseEntity<TaskImportJobDto> getImport(@PathVariable Long jobId) {
+        return ResponseEntity.ok(importService.getJob(jobId));
+    }
+
+    @PostMapping("/{jobId}/cancel")
+    @Operation(
+        summary = "Cancel a task import",
+        description = "The job stops after its current chunk; tasks imported before that are kept"
+    )
+    public ResponseEntity<TaskImportJobDto> cancelImport(@PathVariable Long jobId) {
+        return ResponseEntity.ok(importService.cancel(jobId));
+    }
+
+    @GetMapping("/{jobId}/errors")
+    @Operation(
+        summary = "Get the records a task import rejected",
+        description = "Ordered by line; pass the last line received as afterLine to get the next page"
+    )
+    public ResponseEntity<List<TaskImportErrorDto>> getImportErrors(
+            @PathVariable Long jobId,
+            @Parameter(description = "Return errors after this line")
+            @RequestParam(defaultValue = "0") long afterLine,
+            @Parameter(description = "Maximum number of errors, at most 1000")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(importService.getErrors(jobId, afterLine, limit));
+    }
+}
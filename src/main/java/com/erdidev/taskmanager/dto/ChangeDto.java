@@ -0,0 +1,19 @@
+package com.erdidev.taskmanager.dto;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * The latest change of one entity. A deleted entity comes as a tombstone without a body;
+ * otherwise the body is its current state, which may already include later writes.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChangeDto(
+    ChangeEntityType type,
+    Long id,
+    ChangeType change,
+    long sequence,
+    BaseDto entity
+) {
+}
@@ -0,0 +1,14 @@
+package com.erdidev.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Changes after the requested cursor. Pass cursor as since on the next call; hasMore
+ * means the limit cut the slice short and the next call returns more right away.
+ */
+public record ChangeFeedDto(
+    List<ChangeDto> changes,
+    String cursor,
+    boolean hasMore
+) {
+}
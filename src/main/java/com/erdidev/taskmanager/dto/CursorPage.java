@@ -0,0 +1,16 @@
+package com.erdidev.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. nextCursor is null on the last slice and
+ * totalElements is only present when the caller asked for a count.
+ */
+public record CursorPage<T>(
+    List<T> content,
+    String nextCursor,
+    @JsonInclude(JsonInclude.Include.NON_NULL) Long totalElements
+) {
+}
@@ -0,0 +1,44 @@
+package com.erdidev.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.web.bind.annotation.BindParam;
+
+/**
+ * Keyset pagination parameters, bound from the query string of every cursor listing.
+ * An empty cursor asks for the first slice; without a sort each listing uses its own
+ * natural order.
+ */
+public record CursorRequest(
+        @Parameter(description = "Cursor from the previous slice; empty for the first slice", required = true)
+        @NotNull
+        String cursor,
+
+        @Parameter(description = "Slice size (1-100)", schema = @Schema(type = "integer", defaultValue = "20"))
+        @Min(1) @Max(CursorRequest.MAX_LIMIT)
+        Integer limit,
+
+        @Parameter(description = "Sort field and direction; createdAt,desc unless the listing says otherwise",
+                example = "createdAt,desc")
+        String sort,
+
+        @Parameter(name = "count", description = "Also count all matching tasks",
+                schema = @Schema(type = "boolean", defaultValue = "false"))
+        @BindParam("count")
+        Boolean includeTotal) {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    public CursorRequest {
+        if (limit == null) {
+            limit = DEFAULT_LIMIT;
+        }
+        if (includeTotal == null) {
+            includeTotal = false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.erdidev.taskmanager.dto;
+
+import com.erdidev.taskmanager.model.ProjectDeletionStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a background project deletion.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProjectDeletionJobDto(
+    Long id,
+    Long projectId,
+    ProjectDeletionStatus status,
+    long deletedTasks,
+    String message,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,16 @@
+package com.erdidev.taskmanager.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The critical path of a project, its longest chain of dependent tasks in the order
+ * they have to be done, and the earliest start of every task with dependencies,
+ * counted in tasks. Tasks missing from earliestStarts can start right away.
+ */
+public record ProjectScheduleDto(
+    Long projectId,
+    List<Long> criticalPath,
+    Map<Long, Integer> earliestStarts
+) {
+}
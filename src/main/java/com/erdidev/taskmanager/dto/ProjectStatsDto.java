@@ -0,0 +1,19 @@
+package com.erdidev.taskmanager.dto;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+
+import java.util.Map;
+
+/**
+ * Task counts of one project. Every status and priority is present, with zero when no
+ * task has it; tasks without a priority are counted in withoutPriority.
+ */
+public record ProjectStatsDto(
+    Long projectId,
+    long totalTasks,
+    Map<TaskStatus, Long> byStatus,
+    Map<Priority, Long> byPriority,
+    long withoutPriority
+) {
+}
@@ -0,0 +1,31 @@
+package com.erdidev.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Outcome of one entry of a batch request. index is the entry's position in the
+ * request; task is only present when the entry was created or updated.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskBatchItemResult(int index, Long taskId, Outcome outcome, String error, TaskDto task) {
+
+    public enum Outcome {
+        CREATED, UPDATED, DELETED, NOT_FOUND, INVALID, FAILED;
+
+        public boolean succeeded() {
+            return this == CREATED || this == UPDATED || this == DELETED;
+        }
+    }
+
+    public static TaskBatchItemResult succeeded(int index, Outcome outcome, TaskDto task) {
+        return new TaskBatchItemResult(index, task.getId(), outcome, null, task);
+    }
+
+    public static TaskBatchItemResult deleted(int index, Long taskId) {
+        return new TaskBatchItemResult(index, taskId, Outcome.DELETED, null, null);
+    }
+
+    public static TaskBatchItemResult failed(int index, Long taskId, Outcome outcome, String error) {
+        return new TaskBatchItemResult(index, taskId, outcome, error, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.erdidev.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Per-entry results of a batch request, in request order.
+ */
+public record TaskBatchResult(int succeeded, int failed, List<TaskBatchItemResult> items) {
+
+    public static TaskBatchResult of(List<TaskBatchItemResult> items) {
+        int succeeded = (int) items.stream().filter(item -> item.outcome().succeeded()).count();
+        return new TaskBatchResult(succeeded, items.size() - succeeded, items);
+    }
+}
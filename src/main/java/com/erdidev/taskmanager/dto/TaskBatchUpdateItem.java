@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.dto;
+
+/**
+ * One entry of a batch update: the id of the task to change and its new state.
+ */
+public record TaskBatchUpdateItem(Long id, TaskDto task) {
+}
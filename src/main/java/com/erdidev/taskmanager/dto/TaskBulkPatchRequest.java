@@ -0,0 +1,28 @@
+package com.erdidev.taskmanager.dto;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+
+import java.util.List;
+
+/**
+ * Changes the same fields on every task matching the filter. Filter criteria are
+ * combined with AND and at least one is required; patch fields left null keep their
+ * current value.
+ */
+public record TaskBulkPatchRequest(Filter filter, Patch patch) {
+
+    public record Filter(List<Long> ids, Long projectId, Long categoryId, TaskStatus status) {
+
+        public boolean isEmpty() {
+            return ids == null && projectId == null && categoryId == null && status == null;
+        }
+    }
+
+    public record Patch(TaskStatus status, Priority priority) {
+
+        public boolean isEmpty() {
+            return status == null && priority == null;
+        }
+    }
+}
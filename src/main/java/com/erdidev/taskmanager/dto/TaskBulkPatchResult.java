@@ -0,0 +1,10 @@
+package com.erdidev.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * Tasks a bulk patch changed. Matching tasks that already had the patched values are
+ * not counted.
+ */
+public record TaskBulkPatchResult(int updated, List<Long> taskIds) {
+}
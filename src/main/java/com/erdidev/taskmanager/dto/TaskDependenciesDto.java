@@ -0,0 +1,15 @@
+package com.erdidev.taskmanager.dto;
+
+import java.util.List;
+
+/**
+ * The tasks a task waits for and the tasks waiting for it. earliestStart counts the
+ * tasks on the longest chain that has to be done before this one can start.
+ */
+public record TaskDependenciesDto(
+    Long taskId,
+    List<Long> dependsOn,
+    List<Long> dependents,
+    int earliestStart
+) {
+}
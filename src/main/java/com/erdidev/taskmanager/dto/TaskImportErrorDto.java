@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.dto;
+
+/**
+ * An input record that was not imported, identified by the line it starts on.
+ */
+public record TaskImportErrorDto(long line, String message) {
+}
@@ -0,0 +1,25 @@
+package com.erdidev.taskmanager.dto;
+
+import com.erdidev.taskmanager.model.TaskImportStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of a background task import. processed counts input records read so far,
+ * each of which ends up either imported or failed.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TaskImportJobDto(
+    Long id,
+    TaskImportStatus status,
+    String format,
+    long processed,
+    long imported,
+    long failed,
+    String message,
+    LocalDateTime createdAt,
+    LocalDateTime startedAt,
+    LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.erdidev.taskmanager.event;
+
+import com.erdidev.common.event.ChangeType;
+
+/**
+ * Published by {@code CategoryService} inside the writing transaction.
+ */
+public record CategoryChangedEvent(Long categoryId, ChangeType changeType) {
+}
@@ -0,0 +1,9 @@
+package com.erdidev.taskmanager.event;
+
+import com.erdidev.common.event.ChangeType;
+
+/**
+ * Published by {@code ProjectService} inside the writing transaction.
+ */
+public record ProjectChangedEvent(Long projectId, ChangeType changeType) {
+}
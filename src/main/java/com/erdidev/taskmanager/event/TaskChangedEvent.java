@@ -0,0 +1,17 @@
+package com.erdidev.taskmanager.event;
+
+import com.erdidev.common.event.ChangeType;
+
+/**
+ * Published by {@code TaskService} inside the writing transaction; listeners that touch
+ * other stores should use {@code @TransactionalEventListener} so they only see commits.
+ * The previous owner and assignee differ from the current ones only when an update
+ * handed the task to someone else.
+ */
+public record TaskChangedEvent(Long taskId, ChangeType changeType, Long ownerId, Long assigneeId,
+                               Long previousOwnerId, Long previousAssigneeId) {
+
+    public TaskChangedEvent(Long taskId, ChangeType changeType, Long ownerId, Long assigneeId) {
+        this(taskId, changeType, ownerId, assigneeId, ownerId, assigneeId);
+    }
+}
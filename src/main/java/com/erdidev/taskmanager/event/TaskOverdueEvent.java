@@ -0,0 +1,10 @@
+package com.erdidev.taskmanager.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by the overdue detector once per task that passed its due date, after the
+ * task has been flagged.
+ */
+public record TaskOverdueEvent(Long taskId, String title, LocalDateTime dueDate, Long ownerId, Long assigneeId) {
+}
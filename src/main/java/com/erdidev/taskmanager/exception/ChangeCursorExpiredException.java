@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.exception;
+
+public class ChangeCursorExpiredException extends RuntimeException {
+    public ChangeCursorExpiredException(long cursor) {
+        super("Changes after " + cursor + " are no longer kept; reload and start again from a fresh cursor");
+    }
+}
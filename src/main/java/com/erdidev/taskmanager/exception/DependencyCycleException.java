@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.exception;
+
+public class DependencyCycleException extends RuntimeException {
+    public DependencyCycleException(Long taskId, Long dependsOnId) {
+        super("Task " + dependsOnId + " already depends on task " + taskId + "; the dependency would close a cycle");
+    }
+}
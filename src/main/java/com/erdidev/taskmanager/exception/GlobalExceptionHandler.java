@@ -70,6 +70,38 @@ public class GlobalExceptionHandler {
                 HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(TaskImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleTaskImportJobNotFoundException(TaskImportJobNotFoundException ex) {
+        log.error("Import job not found", ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ProjectDeletionJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleProjectDeletionJobNotFoundException(ProjectDeletionJobNotFoundException ex) {
+        log.error("Project deletion job not found", ex);
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ChangeCursorExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeCursorExpiredException(ChangeCursorExpiredException ex) {
+        log.warn("Change cursor expired: {}", ex.getMessage());
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.GONE.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(DependencyCycleException.class)
+    public ResponseEntity<ErrorResponse> handleDependencyCycleException(DependencyCycleException ex) {
+        log.warn("Dependency rejected: {}", ex.getMessage());
+        return new ResponseEntity<>(
+                new ErrorResponse(HttpStatus.CONFLICT.value(), ex.getMessage(), LocalDateTime.now()),
+                HttpStatus.CONFLICT);
+    }
+
     private void validateSortParams(String field, String direction, Set<String> validFields) {
         if (!validFields.contains(field.toLowerCase())) {
             throw new IllegalArgumentException(
@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
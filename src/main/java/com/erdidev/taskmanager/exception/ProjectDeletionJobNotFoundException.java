@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.exception;
+
+public class ProjectDeletionJobNotFoundException extends RuntimeException {
+    public ProjectDeletionJobNotFoundException(Long id) {
+        super("Project deletion job not found with id: " + id);
+    }
+}
@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.exception;
+
+public class TaskImportJobNotFoundException extends RuntimeException {
+    public TaskImportJobNotFoundException(Long id) {
+        super("Import job not found with id: " + id);
+    }
+}
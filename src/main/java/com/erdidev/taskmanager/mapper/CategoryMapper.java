@@ -2,6 +2,7 @@ package com.erdidev.taskmanager.mapper;
 
 import com.erdidev.taskmanager.dto.CategoryDto;
 import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.repository.CategoryRow;
 import org.mapstruct.*;
 
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
@@ -16,6 +17,8 @@ public interface CategoryMapper {
     @Mapping(source = "project.id", target = "projectId")
     CategoryDto toDto(Category category);
 
+    CategoryDto toDto(CategoryRow row);
+
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "tasks", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
@@ -2,6 +2,7 @@ package com.erdidev.taskmanager.mapper;
 
 import com.erdidev.taskmanager.dto.ProjectDto;
 import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.repository.ProjectRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,6 +16,8 @@ public interface ProjectMapper {
 
     ProjectDto toDto(Project project);
 
+    ProjectDto toDto(ProjectRow row);
+
     @Mapping(target = "categories", ignore = true)
     @Mapping(target = "tasks", ignore = true)
     void updateEntity(ProjectDto projectDto, @MappingTarget Project project);
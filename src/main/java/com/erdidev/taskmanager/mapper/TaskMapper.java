@@ -2,6 +2,7 @@ package com.erdidev.taskmanager.mapper;
 
 import com.erdidev.taskmanager.dto.TaskDto;
 import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.repository.TaskRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -20,9 +21,14 @@ public interface TaskMapper {
     @Mapping(source = "category.id", target = "categoryId")
     TaskDto toDto(Task task);
 
+    TaskDto toDto(TaskRow row);
+
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "category", ignore = true)
     @Mapping(target = "attachments", ignore = true)
     @Mapping(target = "creatorId", ignore = true)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     void updateEntity(TaskDto taskDto, @MappingTarget Task task);
 } 
\ No newline at end of file
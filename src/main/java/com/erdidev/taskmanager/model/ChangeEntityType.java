@@ -0,0 +1,7 @@
+package com.erdidev.taskmanager.model;
+
+public enum ChangeEntityType {
+    TASK,
+    PROJECT,
+    CATEGORY
+}
@@ -1,8 +1,12 @@
 package com.erdidev.taskmanager.model;
 
+import com.erdidev.common.config.SecondLevelCacheConfig;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.util.HashSet;
 import java.util.Set;
 
@@ -10,6 +14,8 @@ import java.util.Set;
 @Setter
 @Entity
 @Table(name = "projects")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PROJECTS)
 public class Project extends BaseEntity {
     
     @Column(nullable = false)
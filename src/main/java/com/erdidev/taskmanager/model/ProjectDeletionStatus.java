@@ -0,0 +1,8 @@
+package com.erdidev.taskmanager.model;
+
+public enum ProjectDeletionStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
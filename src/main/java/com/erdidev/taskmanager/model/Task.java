@@ -25,6 +25,10 @@ public class Task extends BaseEntity {
     private Priority priority = Priority.MEDIUM;
     
     private LocalDateTime dueDate;
+
+    // Maintained by the overdue detector only
+    @Column(name = "overdue_since", insertable = false, updatable = false)
+    private LocalDateTime overdueSince;
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id", nullable = false)
@@ -0,0 +1,14 @@
+package com.erdidev.taskmanager.model;
+
+public enum TaskImportStatus {
+    QUEUED,
+    RUNNING,
+    CANCELLING,
+    CANCELLED,
+    COMPLETED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == CANCELLED || this == COMPLETED || this == FAILED;
+    }
+}
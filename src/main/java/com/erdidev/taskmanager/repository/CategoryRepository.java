@@ -1,17 +1,46 @@
 package com.erdidev.taskmanager.repository;
 
 import com.erdidev.taskmanager.model.Category;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    String SELECT_ROWS = "SELECT new com.erdidev.taskmanager.repository.CategoryRow(c.id, c.name, c.description, " +
+           "c.project.id, c.createdAt, c.updatedAt) FROM Category c";
+
     boolean existsByName(String name);
+
+    // Kept on entities: the query and entity caches answer these without a statement
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Category> findByProjectId(Long projectId);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Page<Category> findByProjectId(Long projectId, Pageable pageable);
+
     List<Category> findByNameContainingIgnoreCase(String name);
-} 
\ No newline at end of file
+
+    @Query(value = SELECT_ROWS, countQuery = "SELECT count(c) FROM Category c")
+    Page<CategoryRow> findRows(Pageable pageable);
+
+    @Query(SELECT_ROWS)
+    List<CategoryRow> findAllRows();
+
+    // Read past the second-level cache, which another node's write may have left stale
+    @Query(SELECT_ROWS + " WHERE c.id = :id")
+    Optional<CategoryRow> findRowById(@Param("id") Long id);
+
+    @Query("SELECT c.id FROM Category c WHERE c.updatedAt > :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
@@ -0,0 +1,10 @@
+package com.erdidev.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The category columns a listing shows, selected without hydrating the entity.
+ */
+public record CategoryRow(Long id, String name, String description, Long projectId,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
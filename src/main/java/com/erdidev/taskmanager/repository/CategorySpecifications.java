@@ -0,0 +1,17 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.model.Category;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Filters for the category listings.
+ */
+public final class CategorySpecifications {
+
+    private CategorySpecifications() {
+    }
+
+    public static Specification<Category> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+
+/**
+ * One row of the change log. The sequence is null until the entry has been appended.
+ */
+public record ChangeLogEntry(Long sequence, ChangeEntityType entityType, Long entityId, ChangeType changeType) {
+
+    public static ChangeLogEntry of(ChangeEntityType entityType, Long entityId, ChangeType changeType) {
+        return new ChangeLogEntry(null, entityType, entityId, changeType);
+    }
+}
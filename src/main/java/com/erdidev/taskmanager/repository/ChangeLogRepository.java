@@ -0,0 +1,102 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The change log behind the change feed: one row per task, project or category write,
+ * numbered by a sequence that only ever grows. Appending takes a transaction-scoped
+ * advisory lock first, so sequence numbers are handed out in commit order and a reader
+ * that sees a number has already seen every lower one.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChangeLogRepository {
+    /** Arbitrary advisory lock key, shared by every writer of the change log. */
+    private static final long APPEND_LOCK = 0x6368616e67656cL;
+
+    private static final String LOCK_APPEND = "SELECT pg_advisory_xact_lock(?)";
+
+    private static final String INSERT_ENTRY =
+        "INSERT INTO change_log (entity_type, entity_id, change_type, changed_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final String SELECT_AFTER = """
+        SELECT seq, entity_type, entity_id, change_type FROM change_log
+        WHERE seq > ? ORDER BY seq LIMIT ?
+        """;
+
+    private static final String SELECT_HEAD = """
+        SELECT greatest(coalesce((SELECT max(seq) FROM change_log), 0), purged_through)
+        FROM change_log_horizon WHERE id = 1
+        """;
+
+    private static final String SELECT_PURGED_THROUGH = "SELECT purged_through FROM change_log_horizon WHERE id = 1";
+
+    private static final String RAISE_HORIZON = """
+        UPDATE change_log_horizon
+        SET purged_through = greatest(purged_through, coalesce((SELECT max(seq) FROM change_log WHERE changed_at < ?), 0))
+        WHERE id = 1
+        """;
+
+    private static final String DELETE_THROUGH_HORIZON =
+        "DELETE FROM change_log WHERE seq <= (SELECT purged_through FROM change_log_horizon WHERE id = 1)";
+
+    private static final RowMapper<ChangeLogEntry> ENTRY_MAPPER = (rs, rowNum) -> new ChangeLogEntry(
+        rs.getLong("seq"),
+        ChangeEntityType.valueOf(rs.getString("entity_type")),
+        rs.getLong("entity_id"),
+        ChangeType.valueOf(rs.getString("change_type")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends the entries in order. The lock is held until the surrounding transaction
+     * ends, so callers should append as the last statement before commit.
+     */
+    @Transactional
+    public void append(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.query(LOCK_APPEND, rs -> {}, APPEND_LOCK);
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.entityType().name());
+            ps.setLong(2, entry.entityId());
+            ps.setString(3, entry.changeType().name());
+        });
+    }
+
+    public List<ChangeLogEntry> findAfter(long sequence, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, ENTRY_MAPPER, sequence, limit);
+    }
+
+    /**
+     * The newest sequence number handed out, or the purge horizon on an empty log.
+     */
+    public long head() {
+        return jdbcTemplate.queryForObject(SELECT_HEAD, Long.class);
+    }
+
+    public long purgedThrough() {
+        return jdbcTemplate.queryForObject(SELECT_PURGED_THROUGH, Long.class);
+    }
+
+    /**
+     * Deletes the entries written before the cutoff and remembers the highest sequence
+     * deleted, so cursors that still point below it can be told to resync.
+     */
+    @Transactional
+    public int purgeBefore(LocalDateTime cutoff) {
+        jdbcTemplate.update(RAISE_HORIZON, Timestamp.valueOf(cutoff));
+        return jdbcTemplate.update(DELETE_THROUGH_HORIZON);
+    }
+}
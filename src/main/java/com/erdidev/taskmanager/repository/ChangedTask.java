@@ -0,0 +1,26 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * A task row touched by a set-based statement, with the owner and assignee that its
+ * change event is addressed to. Status and priority are the values the row had before
+ * the statement ran.
+ */
+public record ChangedTask(Long id, Long ownerId, Long assigneeId, Long projectId, TaskStatus status, Priority priority) {
+
+    static final RowMapper<ChangedTask> ROW_MAPPER = (rs, rowNum) -> new ChangedTask(
+        rs.getLong("id"),
+        rs.getLong("owner_id"),
+        rs.getObject("assignee_id", Long.class),
+        rs.getLong("project_id"),
+        TaskStatus.valueOf(rs.getString("status")),
+        rs.getString("priority") != null ? Priority.valueOf(rs.getString("priority")) : null);
+
+    public TaskCountKey countKey() {
+        return new TaskCountKey(projectId, status, priority);
+    }
+}
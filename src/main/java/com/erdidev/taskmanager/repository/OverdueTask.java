@@ -0,0 +1,19 @@
+package com.erdidev.taskmanager.repository;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+
+/**
+ * A task the overdue detector has just flagged, with the owner and assignee its
+ * notification is about.
+ */
+public record OverdueTask(Long id, String title, LocalDateTime dueDate, Long ownerId, Long assigneeId) {
+
+    static final RowMapper<OverdueTask> ROW_MAPPER = (rs, rowNum) -> new OverdueTask(
+        rs.getLong("id"),
+        rs.getString("title"),
+        rs.getTimestamp("due_date").toLocalDateTime(),
+        rs.getLong("owner_id"),
+        rs.getObject("assignee_id", Long.class));
+}
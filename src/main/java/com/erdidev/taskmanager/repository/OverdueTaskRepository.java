@@ -0,0 +1,53 @@
+package com.erdidev.taskmanager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Maintains tasks.overdue_since for the overdue detector. Both statements run through
+ * partial indexes: open tasks not yet flagged, and the flagged set itself.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OverdueTaskRepository {
+    private static final String CLEAR_RESOLVED = """
+        UPDATE tasks SET overdue_since = NULL
+        WHERE overdue_since IS NOT NULL AND (status = 'DONE' OR due_date IS NULL OR due_date >= ?)
+        """;
+
+    // Skips rows a writer holds, so the detector never waits on a user's transaction
+    private static final String FLAG_NEWLY_OVERDUE = """
+        UPDATE tasks SET overdue_since = ?
+        WHERE id IN (
+            SELECT id FROM tasks
+            WHERE status <> 'DONE' AND overdue_since IS NULL AND due_date < ?
+            ORDER BY due_date
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED)
+        RETURNING id, title, due_date, owner_id, assignee_id
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Unflags tasks that were completed, lost their due date or were postponed, so they
+     * are announced again should they fall overdue once more.
+     */
+    public int clearResolved(LocalDateTime now) {
+        return jdbcTemplate.update(CLEAR_RESOLVED, Timestamp.valueOf(now));
+    }
+
+    /**
+     * Flags up to limit open tasks that passed their due date, earliest first, in one
+     * statement, and returns them.
+     */
+    public List<OverdueTask> flagNewlyOverdue(LocalDateTime now, int limit) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.query(FLAG_NEWLY_OVERDUE, OverdueTask.ROW_MAPPER, timestamp, timestamp, limit);
+    }
+}
@@ -0,0 +1,72 @@
+package com.erdidev.taskmanager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * The project end of a set-based project deletion. Tasks are removed beforehand in
+ * chunks through {@link TaskCascadeRepository}; what is left is a handful of rows.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectCascadeRepository {
+    private static final String SELECT_TASK_IDS = "SELECT id FROM tasks WHERE project_id = ? LIMIT ?";
+
+    private static final String LOCK_PROJECT = "SELECT id FROM projects WHERE id = ? FOR UPDATE";
+
+    // Tasks of other projects may still point at one of this project's categories
+    private static final String DETACH_CATEGORIES = """
+        UPDATE tasks SET category_id = NULL, updated_at = CURRENT_TIMESTAMP
+        WHERE category_id IN (SELECT id FROM categories WHERE project_id = ?)
+        RETURNING id, owner_id, assignee_id, project_id, status, priority
+        """;
+
+    private static final String DELETE_MEMBERS = "DELETE FROM project_members WHERE project_id = ?";
+
+    private static final String DELETE_CATEGORIES = "DELETE FROM categories WHERE project_id = ? RETURNING id";
+
+    // project_task_counts goes with it through its cascading foreign key
+    private static final String DELETE_PROJECT = "DELETE FROM projects WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findTaskIds(Long projectId, int limit) {
+        return jdbcTemplate.queryForList(SELECT_TASK_IDS, Long.class, projectId, limit);
+    }
+
+    /**
+     * Locks the project row until the end of the transaction. Inserting a task takes a
+     * key-share lock on its project, so no task can be added to it from here on.
+     *
+     * @return false if the project does not exist
+     */
+    public boolean lockProject(Long projectId) {
+        return !jdbcTemplate.queryForList(LOCK_PROJECT, Long.class, projectId).isEmpty();
+    }
+
+    /**
+     * Clears the category of tasks in other projects that use one of this project's
+     * categories. Must run in the transaction that deletes the project.
+     *
+     * @return the detached tasks
+     */
+    public List<ChangedTask> detachCategories(Long projectId) {
+        return jdbcTemplate.query(DETACH_CATEGORIES, ChangedTask.ROW_MAPPER, projectId);
+    }
+
+    /**
+     * Deletes the project with its categories and memberships. Must run inside a
+     * transaction, after all of its tasks are gone and its categories are detached.
+     *
+     * @return the ids of the deleted categories
+     */
+    public List<Long> deleteProject(Long projectId) {
+        jdbcTemplate.update(DELETE_MEMBERS, projectId);
+        List<Long> categoryIds = jdbcTemplate.queryForList(DELETE_CATEGORIES, Long.class, projectId);
+        jdbcTemplate.update(DELETE_PROJECT, projectId);
+        return categoryIds;
+    }
+}
@@ -0,0 +1,80 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.dto.ProjectDeletionJobDto;
+import com.erdidev.taskmanager.model.ProjectDeletionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectDeletionJobRepository {
+    private static final String INSERT_JOB = """
+        INSERT INTO project_deletion_jobs (project_id, owner_id, status, created_at)
+        VALUES (?, ?, 'QUEUED', CURRENT_TIMESTAMP) RETURNING id
+        """;
+
+    private static final String START_JOB =
+        "UPDATE project_deletion_jobs SET status = 'RUNNING', started_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String RECORD_PROGRESS =
+        "UPDATE project_deletion_jobs SET deleted_tasks = deleted_tasks + ? WHERE id = ?";
+
+    private static final String FINISH_JOB = """
+        UPDATE project_deletion_jobs SET status = ?, message = ?, finished_at = CURRENT_TIMESTAMP
+        WHERE id = ? AND status NOT IN ('COMPLETED', 'FAILED')
+        """;
+
+    private static final String SELECT_JOB = """
+        SELECT id, project_id, status, deleted_tasks, message, created_at, started_at, finished_at
+        FROM project_deletion_jobs WHERE id = ? AND owner_id = ?
+        """;
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private static final RowMapper<ProjectDeletionJobDto> JOB_MAPPER = (rs, rowNum) -> new ProjectDeletionJobDto(
+        rs.getLong("id"),
+        rs.getLong("project_id"),
+        ProjectDeletionStatus.valueOf(rs.getString("status")),
+        rs.getLong("deleted_tasks"),
+        rs.getString("message"),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        toLocalDateTime(rs.getTimestamp("started_at")),
+        toLocalDateTime(rs.getTimestamp("finished_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long createJob(Long projectId, Long ownerId) {
+        return jdbcTemplate.queryForObject(INSERT_JOB, Long.class, projectId, ownerId);
+    }
+
+    public void startJob(long jobId) {
+        jdbcTemplate.update(START_JOB, jobId);
+    }
+
+    public void recordProgress(long jobId, long deletedTasks) {
+        jdbcTemplate.update(RECORD_PROGRESS, deletedTasks, jobId);
+    }
+
+    /**
+     * Moves an unfinished job to its final status; a job that already finished keeps its own.
+     */
+    public void finishJob(long jobId, ProjectDeletionStatus status, String message) {
+        jdbcTemplate.update(FINISH_JOB, status.name(),
+            message != null && message.length() > MAX_MESSAGE_LENGTH ? message.substring(0, MAX_MESSAGE_LENGTH) : message,
+            jobId);
+    }
+
+    public Optional<ProjectDeletionJobDto> findJob(long jobId, Long ownerId) {
+        return jdbcTemplate.query(SELECT_JOB, JOB_MAPPER, jobId, ownerId).stream().findFirst();
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -4,13 +4,30 @@ import com.erdidev.taskmanager.model.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    String SELECT_ROWS = "SELECT new com.erdidev.taskmanager.repository.ProjectRow(p.id, p.name, p.description, " +
+           "p.createdAt, p.updatedAt) FROM Project p";
+
     boolean existsByName(String name);
     List<Project> findByNameContainingIgnoreCase(String name);
     Page<Project> findByNameContainingIgnoreCase(String name, Pageable pageable);
-} 
\ No newline at end of file
+
+    @Query(value = SELECT_ROWS, countQuery = "SELECT count(p) FROM Project p")
+    Page<ProjectRow> findRows(Pageable pageable);
+
+    // Read past the second-level cache, which another node's write may have left stale
+    @Query(SELECT_ROWS + " WHERE p.id = :id")
+    Optional<ProjectRow> findRowById(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Project p WHERE p.updatedAt > :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+}
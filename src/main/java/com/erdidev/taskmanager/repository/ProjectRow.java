@@ -0,0 +1,9 @@
+package com.erdidev.taskmanager.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The project columns a listing shows, selected without hydrating the entity.
+ */
+public record ProjectRow(Long id, String name, String description, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,131 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Task counts per (project, status, priority), kept in project_task_counts so a
+ * project's dashboard reads a handful of rows however many tasks it has. The key
+ * columns are NOT NULL, so tasks without a priority are stored under NO_PRIORITY.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectTaskCountRepository {
+    private static final String NO_PRIORITY = "NONE";
+
+    private static final String INCREMENT = """
+        INSERT INTO project_task_counts (project_id, status, priority, task_count)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (project_id, status, priority)
+        DO UPDATE SET task_count = project_task_counts.task_count + EXCLUDED.task_count
+        """;
+
+    private static final String SET = """
+        INSERT INTO project_task_counts (project_id, status, priority, task_count)
+        VALUES (?, ?, ?, ?)
+        ON CONFLICT (project_id, status, priority) DO UPDATE SET task_count = EXCLUDED.task_count
+        """;
+
+    private static final String SELECT_BY_PROJECT =
+        "SELECT status, priority, task_count FROM project_task_counts WHERE project_id = ? AND task_count <> 0";
+
+    private static final String LOCK_BY_PROJECT =
+        "SELECT status, priority, task_count FROM project_task_counts WHERE project_id = ? FOR UPDATE";
+
+    private static final String COUNT_TASKS = """
+        SELECT status, coalesce(priority, 'NONE') AS priority, count(*) AS task_count
+        FROM tasks WHERE project_id = ? GROUP BY status, coalesce(priority, 'NONE')
+        """;
+
+    private static final String SELECT_PROJECT_IDS = "SELECT id FROM projects ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds each delta to its counter, creating counters on first use. Counters are
+     * locked in a fixed order so concurrent transactions cannot deadlock on them.
+     */
+    public void applyDeltas(Map<TaskCountKey, Long> deltas) {
+        List<Map.Entry<TaskCountKey, Long>> changes = deltas.entrySet().stream()
+            .filter(delta -> delta.getValue() != 0)
+            .sorted(Map.Entry.comparingByKey(TaskCountKey.LOCK_ORDER))
+            .toList();
+        if (changes.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INCREMENT, changes, changes.size(), (ps, delta) -> {
+            ps.setLong(1, delta.getKey().projectId());
+            ps.setString(2, delta.getKey().status().name());
+            ps.setString(3, priorityColumn(delta.getKey().priority()));
+            ps.setLong(4, delta.getValue());
+        });
+    }
+
+    public Map<TaskCountKey, Long> findByProjectId(Long projectId) {
+        Map<TaskCountKey, Long> counts = new HashMap<>();
+        jdbcTemplate.query(SELECT_BY_PROJECT,
+            rs -> { counts.put(key(projectId, rs), rs.getLong("task_count")); }, projectId);
+        return counts;
+    }
+
+    public List<Long> findProjectIds() {
+        return jdbcTemplate.queryForList(SELECT_PROJECT_IDS, Long.class);
+    }
+
+    /**
+     * Recounts one project's tasks and overwrites the counters that drifted. The
+     * project's counters are locked first: a transaction that already applied its
+     * increments commits before the recount reads the tasks, and one that has not
+     * applies them on top of the corrected value.
+     *
+     * @return the number of counters that were corrected
+     */
+    @Transactional
+    public int reconcile(Long projectId) {
+        Map<TaskCountKey, Long> stored = new HashMap<>();
+        jdbcTemplate.query(LOCK_BY_PROJECT,
+            rs -> { stored.put(key(projectId, rs), rs.getLong("task_count")); }, projectId);
+        Map<TaskCountKey, Long> actual = new HashMap<>();
+        jdbcTemplate.query(COUNT_TASKS,
+            rs -> { actual.put(key(projectId, rs), rs.getLong("task_count")); }, projectId);
+
+        Set<TaskCountKey> keys = new HashSet<>(stored.keySet());
+        keys.addAll(actual.keySet());
+        List<TaskCountKey> drifted = keys.stream()
+            .filter(key -> stored.getOrDefault(key, 0L).longValue() != actual.getOrDefault(key, 0L).longValue())
+            .sorted(TaskCountKey.LOCK_ORDER)
+            .toList();
+        if (!drifted.isEmpty()) {
+            jdbcTemplate.batchUpdate(SET, drifted, drifted.size(), (ps, key) -> {
+                ps.setLong(1, key.projectId());
+                ps.setString(2, key.status().name());
+                ps.setString(3, priorityColumn(key.priority()));
+                ps.setLong(4, actual.getOrDefault(key, 0L));
+            });
+        }
+        return drifted.size();
+    }
+
+    private static TaskCountKey key(Long projectId, ResultSet rs) throws SQLException {
+        String priority = rs.getString("priority");
+        return new TaskCountKey(projectId, TaskStatus.valueOf(rs.getString("status")),
+            NO_PRIORITY.equals(priority) ? null : Priority.valueOf(priority));
+    }
+
+    private static String priorityColumn(Priority priority) {
+        return priority != null ? priority.name() : NO_PRIORITY;
+    }
+}
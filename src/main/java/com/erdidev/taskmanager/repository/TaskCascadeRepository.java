@@ -0,0 +1,67 @@
+package com.erdidev.taskmanager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Deletes tasks together with every row that references them, one statement per table
+ * for the whole id set instead of loading and removing each task and child entity.
+ * Mirrored calendar schedules carry their source's task_id, so removing a task's
+ * schedules before its calendar sources leaves no schedule pointing at a deleted source.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCascadeRepository {
+    private static final List<String> DELETE_CHILDREN = List.of(
+        "DELETE FROM reminder WHERE task_id = ANY (?)",
+        "DELETE FROM reminder WHERE schedule_id IN (SELECT id FROM schedule WHERE task_id = ANY (?))",
+        "DELETE FROM schedule WHERE task_id = ANY (?)",
+        "DELETE FROM time_entries WHERE task_id = ANY (?)",
+        "DELETE FROM task_watchers WHERE task_id = ANY (?)",
+        "DELETE FROM calendar_sources WHERE task_id = ANY (?)",
+        "DELETE FROM task_attachments WHERE task_id = ANY (?)");
+
+    private static final String DELETE_TASKS =
+        "DELETE FROM tasks WHERE id = ANY (?) RETURNING id, owner_id, assignee_id, project_id, status, priority";
+
+    private static final String SELECT_STORED_FILES =
+        "SELECT content FROM task_attachments WHERE task_id = ANY (?) AND type = 'FILE' AND content IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Must run inside a transaction. Ids that match no task are ignored.
+     *
+     * @return the tasks that were deleted
+     */
+    public List<ChangedTask> deleteTasks(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = taskIds.toArray(Long[]::new);
+        for (String statement : DELETE_CHILDREN) {
+            jdbcTemplate.update(statement, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)));
+        }
+        return jdbcTemplate.query(DELETE_TASKS,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+            ChangedTask.ROW_MAPPER);
+    }
+
+    /**
+     * @return the upload-directory names of the tasks' file attachments, to remove once their rows are gone
+     */
+    public List<String> findStoredFiles(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return List.of();
+        }
+        Long[] ids = taskIds.toArray(Long[]::new);
+        return jdbcTemplate.query(SELECT_STORED_FILES,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids)),
+            (rs, rowNum) -> new String(rs.getBytes("content"), StandardCharsets.UTF_8));
+    }
+}
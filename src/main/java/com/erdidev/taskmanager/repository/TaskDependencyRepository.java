@@ -0,0 +1,123 @@
+package com.erdidev.taskmanager.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dependency edges between the tasks of a project, and the per-project version that
+ * every edge change bumps. Writers lock the tasks involved first, then the edges, then
+ * the version row; the version row also serializes edge changes within a project, so
+ * a cycle check never races another insert.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskDependencyRepository {
+    // Rows the driver pulls per round trip when loading a project's edges
+    private static final int EDGE_FETCH_SIZE = 10_000;
+
+    private static final String LOCK_TASKS =
+        "SELECT id, project_id FROM tasks WHERE id = ANY(?) ORDER BY id FOR SHARE";
+
+    private static final String SELECT_PROJECT_ID = "SELECT project_id FROM tasks WHERE id = ?";
+
+    private static final String BUMP_VERSION = """
+        INSERT INTO task_dependency_versions (project_id, version) VALUES (?, 1)
+        ON CONFLICT (project_id) DO UPDATE SET version = task_dependency_versions.version + 1
+        RETURNING version
+        """;
+
+    private static final String SELECT_VERSION =
+        "SELECT coalesce((SELECT version FROM task_dependency_versions WHERE project_id = ?), 0)";
+
+    private static final String INSERT_EDGE = """
+        INSERT INTO task_dependencies (task_id, depends_on_id, project_id, created_at)
+        VALUES (?, ?, ?, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING
+        """;
+
+    private static final String DELETE_EDGE = "DELETE FROM task_dependencies WHERE task_id = ? AND depends_on_id = ?";
+
+    private static final String SELECT_EDGES =
+        "SELECT depends_on_id, task_id FROM task_dependencies WHERE project_id = ?";
+
+    private static final String DROP_DANGLING_EDGES = """
+        WITH dropped AS (
+            DELETE FROM task_dependencies d
+            WHERE (d.task_id = ANY(?) OR d.depends_on_id = ANY(?))
+              AND (NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = d.task_id AND t.project_id = d.project_id)
+                OR NOT EXISTS (SELECT 1 FROM tasks t WHERE t.id = d.depends_on_id AND t.project_id = d.project_id))
+            RETURNING d.project_id)
+        UPDATE task_dependency_versions SET version = version + 1
+        WHERE project_id IN (SELECT project_id FROM dropped)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Share-locks the tasks so they can be neither deleted nor moved to another project
+     * until the transaction ends, and returns each one's project.
+     */
+    public Map<Long, Long> lockTasks(Long... taskIds) {
+        Map<Long, Long> projectIds = new HashMap<>();
+        jdbcTemplate.query(LOCK_TASKS,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds)),
+            rs -> { projectIds.put(rs.getLong("id"), rs.getLong("project_id")); });
+        return projectIds;
+    }
+
+    public Long findProjectId(Long taskId) {
+        return jdbcTemplate.query(SELECT_PROJECT_ID, (rs, rowNum) -> rs.getLong(1), taskId)
+            .stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Locks the project's version row until the transaction ends and returns the new version.
+     */
+    public long bumpVersion(Long projectId) {
+        return jdbcTemplate.queryForObject(BUMP_VERSION, Long.class, projectId);
+    }
+
+    public long findVersion(Long projectId) {
+        return jdbcTemplate.queryForObject(SELECT_VERSION, Long.class, projectId);
+    }
+
+    public boolean insert(Long projectId, Long taskId, Long dependsOnId) {
+        return jdbcTemplate.update(INSERT_EDGE, taskId, dependsOnId, projectId) > 0;
+    }
+
+    public boolean delete(Long taskId, Long dependsOnId) {
+        return jdbcTemplate.update(DELETE_EDGE, taskId, dependsOnId) > 0;
+    }
+
+    /**
+     * Streams a project's edges, each as (blocking task, blocked task).
+     */
+    public void forEachEdge(Long projectId, EdgeConsumer consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement statement = con.prepareStatement(SELECT_EDGES);
+            statement.setFetchSize(EDGE_FETCH_SIZE);
+            statement.setLong(1, projectId);
+            return statement;
+        }, rs -> { consumer.accept(rs.getLong(1), rs.getLong(2)); });
+    }
+
+    /**
+     * Drops the edges of the given tasks that no longer connect two tasks of the edge's
+     * project, because a task was deleted or moved, and bumps those projects' versions.
+     */
+    public int dropDanglingEdges(Long[] taskIds) {
+        return jdbcTemplate.update(DROP_DANGLING_EDGES, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", taskIds));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", taskIds));
+        });
+    }
+
+    @FunctionalInterface
+    public interface EdgeConsumer {
+        void accept(long dependsOnId, long taskId);
+    }
+}
@@ -0,0 +1,181 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.dto.TaskImportErrorDto;
+import com.erdidev.taskmanager.dto.TaskImportJobDto;
+import com.erdidev.taskmanager.model.TaskImportStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Import job state, the records each job rejected, and the project and category
+ * names an import resolves against.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskImportRepository {
+    private static final String INSERT_JOB = """
+        INSERT INTO task_import_jobs (owner_id, format, status, created_at)
+        VALUES (?, ?, 'QUEUED', CURRENT_TIMESTAMP) RETURNING id
+        """;
+
+    private static final String START_JOB =
+        "UPDATE task_import_jobs SET status = 'RUNNING', started_at = CURRENT_TIMESTAMP WHERE id = ? AND status = 'QUEUED'";
+
+    private static final String RECORD_PROGRESS = """
+        UPDATE task_import_jobs SET processed = processed + ?, imported = imported + ?, failed = failed + ?
+        WHERE id = ? RETURNING status
+        """;
+
+    private static final String INSERT_ERROR =
+        "INSERT INTO task_import_errors (job_id, line_number, message) VALUES (?, ?, ?) ON CONFLICT DO NOTHING";
+
+    private static final String FINISH_JOB = """
+        UPDATE task_import_jobs SET status = ?, message = ?, finished_at = CURRENT_TIMESTAMP
+        WHERE id = ? AND status NOT IN ('COMPLETED', 'CANCELLED', 'FAILED')
+        """;
+
+    private static final String REQUEST_CANCEL = """
+        UPDATE task_import_jobs SET status = 'CANCELLING'
+        WHERE id = ? AND owner_id = ? AND status IN ('QUEUED', 'RUNNING')
+        """;
+
+    private static final String SELECT_JOB = """
+        SELECT id, status, format, processed, imported, failed, message, created_at, started_at, finished_at
+        FROM task_import_jobs WHERE id = ? AND owner_id = ?
+        """;
+
+    private static final String SELECT_ERRORS = """
+        SELECT line_number, message FROM task_import_errors
+        WHERE job_id = ? AND line_number > ? ORDER BY line_number LIMIT ?
+        """;
+
+    private static final String DELETE_FINISHED = "DELETE FROM task_import_jobs WHERE finished_at < ?";
+
+    // lower(btrim(name)) matches nameKey and the expression index on projects
+    private static final String SELECT_PROJECTS_BY_NAME =
+        "SELECT id, name FROM projects WHERE lower(btrim(name)) = ANY(?) ORDER BY id";
+
+    private static final String SELECT_PROJECT_CATEGORIES =
+        "SELECT id, name FROM categories WHERE project_id = ? ORDER BY id";
+
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+
+    private static final RowMapper<TaskImportJobDto> JOB_MAPPER = (rs, rowNum) -> new TaskImportJobDto(
+        rs.getLong("id"),
+        TaskImportStatus.valueOf(rs.getString("status")),
+        rs.getString("format"),
+        rs.getLong("processed"),
+        rs.getLong("imported"),
+        rs.getLong("failed"),
+        rs.getString("message"),
+        toLocalDateTime(rs.getTimestamp("created_at")),
+        toLocalDateTime(rs.getTimestamp("started_at")),
+        toLocalDateTime(rs.getTimestamp("finished_at")));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long createJob(Long ownerId, String format) {
+        return jdbcTemplate.queryForObject(INSERT_JOB, Long.class, ownerId, format);
+    }
+
+    /**
+     * @return false if the job is no longer queued, i.e. it was cancelled before it started
+     */
+    public boolean startJob(long jobId) {
+        return jdbcTemplate.update(START_JOB, jobId) == 1;
+    }
+
+    /**
+     * Adds one chunk's counts and rejected records to the job.
+     *
+     * @return the job's status, so the caller sees a cancel request
+     */
+    @Transactional
+    public TaskImportStatus recordProgress(long jobId, long processed, long imported,
+                                           List<TaskImportErrorDto> errors) {
+        if (!errors.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ERROR, errors, errors.size(), (ps, error) -> {
+                ps.setLong(1, jobId);
+                ps.setLong(2, error.line());
+                ps.setString(3, truncate(error.message()));
+            });
+        }
+        return TaskImportStatus.valueOf(jdbcTemplate.queryForObject(RECORD_PROGRESS, String.class,
+            processed, imported, processed - imported, jobId));
+    }
+
+    /**
+     * Moves an unfinished job to its final status; a job that already finished keeps its own.
+     */
+    public void finishJob(long jobId, TaskImportStatus status, String message) {
+        jdbcTemplate.update(FINISH_JOB, status.name(), message != null ? truncate(message) : null, jobId);
+    }
+
+    public boolean requestCancel(long jobId, Long ownerId) {
+        return jdbcTemplate.update(REQUEST_CANCEL, jobId, ownerId) == 1;
+    }
+
+    public Optional<TaskImportJobDto> findJob(long jobId, Long ownerId) {
+        return jdbcTemplate.query(SELECT_JOB, JOB_MAPPER, jobId, ownerId).stream().findFirst();
+    }
+
+    public List<TaskImportErrorDto> findErrors(long jobId, long afterLine, int limit) {
+        return jdbcTemplate.query(SELECT_ERRORS,
+            (rs, rowNum) -> new TaskImportErrorDto(rs.getLong("line_number"), rs.getString("message")),
+            jobId, afterLine, limit);
+    }
+
+    public int deleteFinishedBefore(LocalDateTime cutoff) {
+        return jdbcTemplate.update(DELETE_FINISHED, Timestamp.valueOf(cutoff));
+    }
+
+    /**
+     * Ids of the projects with the given name keys, by name key. Where names repeat, the
+     * oldest project wins; names without a project are left out.
+     */
+    public Map<String, Long> findProjectIdsByName(Collection<String> nameKeys) {
+        Map<String, Long> projects = new HashMap<>();
+        if (nameKeys.isEmpty()) {
+            return projects;
+        }
+        String[] keys = nameKeys.toArray(String[]::new);
+        jdbcTemplate.query(SELECT_PROJECTS_BY_NAME,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", keys)),
+            rs -> { projects.putIfAbsent(nameKey(rs.getString("name")), rs.getLong("id")); });
+        return projects;
+    }
+
+    /**
+     * Category ids of one project by name key. Where names repeat, the oldest category wins.
+     */
+    public Map<String, Long> findCategoryIdsByName(Long projectId) {
+        Map<String, Long> categories = new HashMap<>();
+        jdbcTemplate.query(SELECT_PROJECT_CATEGORIES,
+            rs -> { categories.putIfAbsent(nameKey(rs.getString("name")), rs.getLong("id")); }, projectId);
+        return categories;
+    }
+
+    public static String nameKey(String name) {
+        return name.strip().toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_MESSAGE_LENGTH ? message : message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
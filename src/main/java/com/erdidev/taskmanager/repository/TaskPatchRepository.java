@@ -0,0 +1,80 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.dto.TaskBulkPatchRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a bulk patch as one UPDATE over every matching task. Rows that already hold
+ * the patched values are left alone, so only real changes are returned and announced.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskPatchRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return the tasks that changed, with their status and priority from before the patch
+     */
+    public List<ChangedTask> patch(TaskBulkPatchRequest.Filter filter, TaskBulkPatchRequest.Patch patch) {
+        List<String> assignments = new ArrayList<>();
+        List<String> differences = new ArrayList<>();
+        List<Object> assignmentArgs = new ArrayList<>();
+        List<Object> differenceArgs = new ArrayList<>();
+        if (patch.status() != null) {
+            assignments.add("status = ?");
+            differences.add("status IS DISTINCT FROM ?");
+            assignmentArgs.add(patch.status().name());
+            differenceArgs.add(patch.status().name());
+        }
+        if (patch.priority() != null) {
+            assignments.add("priority = ?");
+            differences.add("priority IS DISTINCT FROM ?");
+            assignmentArgs.add(patch.priority().name());
+            differenceArgs.add(patch.priority().name());
+        }
+
+        List<String> conditions = new ArrayList<>();
+        List<Object> conditionArgs = new ArrayList<>();
+        if (filter.ids() != null) {
+            conditions.add("id = ANY (?)");
+            conditionArgs.add(filter.ids().toArray(Long[]::new));
+        }
+        if (filter.projectId() != null) {
+            conditions.add("project_id = ?");
+            conditionArgs.add(filter.projectId());
+        }
+        if (filter.categoryId() != null) {
+            conditions.add("category_id = ?");
+            conditionArgs.add(filter.categoryId());
+        }
+        if (filter.status() != null) {
+            conditions.add("status = ?");
+            conditionArgs.add(filter.status().name());
+        }
+        conditions.add("(" + String.join(" OR ", differences) + ")");
+
+        // The locked pre-image gives the old status and priority for the project counters
+        String sql = "WITH matched AS (SELECT id, status, priority FROM tasks WHERE "
+            + String.join(" AND ", conditions) + " FOR UPDATE)"
+            + " UPDATE tasks t SET " + String.join(", ", assignments) + ", updated_at = CURRENT_TIMESTAMP"
+            + " FROM matched WHERE t.id = matched.id"
+            + " RETURNING t.id, t.owner_id, t.assignee_id, t.project_id, matched.status, matched.priority";
+        List<Object> args = new ArrayList<>(conditionArgs);
+        args.addAll(differenceArgs);
+        args.addAll(assignmentArgs);
+        return jdbcTemplate.query(sql, ps -> {
+            for (int i = 0; i < args.size(); i++) {
+                if (args.get(i) instanceof Long[] ids) {
+                    ps.setArray(i + 1, ps.getConnection().createArrayOf("bigint", ids));
+                } else {
+                    ps.setObject(i + 1, args.get(i));
+                }
+            }
+        }, ChangedTask.ROW_MAPPER);
+    }
+}
@@ -3,27 +3,118 @@ package com.erdidev.taskmanager.repository;
 import com.erdidev.taskmanager.model.Task;
 import com.erdidev.taskmanager.model.TaskStatus;
 import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.service.search.TaskSearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    Page<Task> findByProjectId(Long projectId, Pageable pageable);
-    Page<Task> findByCategoryId(Long categoryId, Pageable pageable);
-    Page<Task> findByStatus(TaskStatus status, Pageable pageable);
-    List<Task> findByTitleContainingIgnoreCase(String title);
-    Page<Task> findByPriority(Priority priority, Pageable pageable);
-
-    @Query("SELECT t FROM Task t WHERE t.dueDate < :date")
-    Page<Task> findOverdueTasks(@Param("date") LocalDateTime date, Pageable pageable);
-
-    @Query("SELECT t FROM Task t WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Task> searchTasks(@Param("query") String query, Pageable pageable);
-} 
\ No newline at end of file
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+    // Rows the driver pulls per round trip when streaming; Postgres only uses a cursor inside a transaction
+    String STREAM_FETCH_SIZE = "1000";
+
+    String SELECT_ROWS = "SELECT new com.erdidev.taskmanager.repository.TaskRow(t.id, t.title, t.description, " +
+           "t.status, t.priority, t.dueDate, t.category.id, t.project.id, t.ownerId, t.assigneeId, " +
+           "t.createdAt, t.updatedAt) FROM Task t";
+    String COUNT_ROWS = "SELECT count(t) FROM Task t";
+    String SEARCH_CONDITION = " WHERE LOWER(t.title) LIKE LOWER(CONCAT('%', :query, '%')) " +
+           "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :query, '%'))";
+    // The detector's set, rechecked so tasks done or postponed since its last run drop out at once
+    String OVERDUE_CONDITION = " WHERE t.overdueSince IS NOT NULL " +
+           "AND t.status <> com.erdidev.taskmanager.model.TaskStatus.DONE AND t.dueDate < :date";
+
+    @Query(value = SELECT_ROWS, countQuery = COUNT_ROWS)
+    Page<TaskRow> findRows(Pageable pageable);
+
+    @Query(value = SELECT_ROWS + " WHERE t.project.id = :projectId",
+           countQuery = COUNT_ROWS + " WHERE t.project.id = :projectId")
+    Page<TaskRow> findRowsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(value = SELECT_ROWS + " WHERE t.category.id = :categoryId",
+           countQuery = COUNT_ROWS + " WHERE t.category.id = :categoryId")
+    Page<TaskRow> findRowsByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SELECT_ROWS + " WHERE t.status = :status", countQuery = COUNT_ROWS + " WHERE t.status = :status")
+    Page<TaskRow> findRowsByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    @Query(value = SELECT_ROWS + " WHERE t.priority = :priority",
+           countQuery = COUNT_ROWS + " WHERE t.priority = :priority")
+    Page<TaskRow> findRowsByPriority(@Param("priority") Priority priority, Pageable pageable);
+
+    @Query(value = SELECT_ROWS + OVERDUE_CONDITION, countQuery = COUNT_ROWS + OVERDUE_CONDITION)
+    Page<TaskRow> findOverdueRows(@Param("date") LocalDateTime date, Pageable pageable);
+
+    @Query(value = SELECT_ROWS + SEARCH_CONDITION, countQuery = COUNT_ROWS + SEARCH_CONDITION)
+    Page<TaskRow> searchRows(@Param("query") String query, Pageable pageable);
+
+    @Query(SELECT_ROWS + " WHERE t.id IN :ids")
+    List<TaskRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t FROM Task t WHERE (t.ownerId = :userId OR t.assigneeId = :userId) " +
+           "AND t.status <> :closedStatus AND t.dueDate < :before ORDER BY t.dueDate")
+    List<Task> findOpenTasksDueBefore(@Param("userId") Long userId,
+                                      @Param("closedStatus") TaskStatus closedStatus,
+                                      @Param("before") LocalDateTime before);
+
+    @Query("SELECT t.ownerId FROM Task t WHERE t.status <> :closedStatus " +
+           "UNION SELECT t.assigneeId FROM Task t WHERE t.status <> :closedStatus AND t.assigneeId IS NOT NULL")
+    List<Long> findUserIdsWithOpenTasks(@Param("closedStatus") TaskStatus closedStatus);
+
+    @Query("SELECT new com.erdidev.taskmanager.service.search.TaskSearchDocument(" +
+           "t.id, t.title, t.description, p.name, c.name, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.project p LEFT JOIN t.category c WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchDocument> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.erdidev.taskmanager.service.search.TaskSearchDocument(" +
+           "t.id, t.title, t.description, p.name, c.name, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.project p LEFT JOIN t.category c WHERE t.id IN :ids")
+    List<TaskSearchDocument> findSearchDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.erdidev.taskmanager.service.search.TaskSearchDocument(" +
+           "t.id, t.title, t.description, p.name, c.name, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.project p LEFT JOIN t.category c " +
+           "WHERE t.project.id = :projectId AND t.id > :afterId ORDER BY t.id")
+    List<TaskSearchDocument> findSearchDocumentsByProjectIdAfter(@Param("projectId") Long projectId,
+                                                                 @Param("afterId") Long afterId,
+                                                                 Pageable pageable);
+
+    @Query("SELECT new com.erdidev.taskmanager.service.search.TaskSearchDocument(" +
+           "t.id, t.title, t.description, p.name, c.name, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.project p LEFT JOIN t.category c " +
+           "WHERE t.category.id = :categoryId AND t.id > :afterId ORDER BY t.id")
+    List<TaskSearchDocument> findSearchDocumentsByCategoryIdAfter(@Param("categoryId") Long categoryId,
+                                                                  @Param("afterId") Long afterId,
+                                                                  Pageable pageable);
+
+    @Query("SELECT new com.erdidev.taskmanager.service.search.TaskSearchDocument(" +
+           "t.id, t.title, t.description, p.name, c.name, t.updatedAt) " +
+           "FROM Task t LEFT JOIN t.project p LEFT JOIN t.category c " +
+           "WHERE t.updatedAt > :since OR (t.updatedAt = :since AND t.id > :afterId) ORDER BY t.updatedAt, t.id")
+    List<TaskSearchDocument> findSearchDocumentsUpdatedSince(@Param("since") LocalDateTime since,
+                                                             @Param("afterId") Long afterId,
+                                                             Pageable pageable);
+
+    /**
+     * Forward-only cursor over a project's tasks in id order. Close the stream, call it
+     * inside a transaction, and detach each task once used to keep memory flat.
+     */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    Stream<Task> streamByProjectId(@Param("projectId") Long projectId);
+}
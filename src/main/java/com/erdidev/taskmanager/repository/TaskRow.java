@@ -0,0 +1,16 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The task columns a listing shows, selected straight into a record so no entity is
+ * hydrated or tracked by the persistence context. Project and category are read from
+ * the foreign key columns without a join.
+ */
+public record TaskRow(Long id, String title, String description, TaskStatus status, Priority priority,
+                      LocalDateTime dueDate, Long categoryId, Long projectId, Long ownerId, Long assigneeId,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
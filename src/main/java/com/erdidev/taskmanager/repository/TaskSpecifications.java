@@ -0,0 +1,47 @@
+package com.erdidev.taskmanager.repository;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filters for the task listings, shared by the offset and keyset variants.
+ */
+public final class TaskSpecifications {
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    public static Specification<Task> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+    }
+
+    public static Specification<Task> inCategory(Long categoryId) {
+        return (root, query, cb) -> cb.equal(root.get("category").get("id"), categoryId);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Tasks the overdue detector has flagged that are still open and past due at {@code now}.
+     */
+    public static Specification<Task> overdue(LocalDateTime now) {
+        return (root, query, cb) -> cb.and(
+            cb.isNotNull(root.get("overdueSince")),
+            cb.notEqual(root.get("status"), TaskStatus.DONE),
+            cb.lessThan(root.get("dueDate"), now));
+    }
+}
@@ -1,6 +1,9 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
 import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
 import com.erdidev.taskmanager.exception.CategoryNotFoundException;
 import com.erdidev.taskmanager.exception.ProjectNotFoundException;
 import com.erdidev.taskmanager.mapper.CategoryMapper;
@@ -11,6 +14,7 @@ import com.erdidev.taskmanager.repository.ProjectRepository;
 import com.erdidev.common.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -26,10 +30,12 @@ public class CategoryService {
     private final CategoryRepository categoryRepository;
     private final ProjectRepository projectRepository;
     private final CategoryMapper categoryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TwoLevelCache<CategoryDto> categoryCache;
 
     @Transactional(readOnly = true)
     public Page<CategoryDto> getCategories(Pageable pageable) {
-        return categoryRepository.findAll(pageable).map(categoryMapper::toDto);
+        return categoryRepository.findRows(pageable).map(categoryMapper::toDto);
     }
 
     @Transactional(readOnly = true)
@@ -52,7 +58,7 @@ public class CategoryService {
 
     @Transactional(readOnly = true)
     public List<CategoryDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
+        return categoryRepository.findAllRows().stream()
                 .map(categoryMapper::toDto)
                 .collect(Collectors.toList());
     }
@@ -60,9 +66,9 @@ public class CategoryService {
     @Transactional(readOnly = true)
     public CategoryDto getCategory(Long id) {
         log.debug("Fetching category with id: {}", id);
-        return categoryRepository.findById(id)
+        return categoryCache.get(id, () -> categoryRepository.findRowById(id)
                 .map(categoryMapper::toDto)
-                .orElseThrow(() -> new CategoryNotFoundException(id));
+                .orElseThrow(() -> new CategoryNotFoundException(id)));
     }
 
     @Transactional
@@ -75,7 +81,9 @@ public class CategoryService {
         category.setProject(project);
         category.setOwnerId(SecurityUtils.getCurrentUserId());
         
-        return categoryMapper.toDto(categoryRepository.save(category));
+        Category savedCategory = categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(savedCategory.getId(), ChangeType.CREATED));
+        return categoryMapper.toDto(savedCategory);
     }
 
     @Transactional
@@ -88,6 +96,7 @@ public class CategoryService {
         existingCategory.setDescription(categoryDto.getDescription());
         
         Category updatedCategory = categoryRepository.save(existingCategory);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, ChangeType.UPDATED));
         return categoryMapper.toDto(updatedCategory);
     }
 
@@ -98,5 +107,6 @@ public class CategoryService {
             throw new CategoryNotFoundException(id);
         }
         categoryRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id, ChangeType.DELETED));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.repository.ChangedTask;
+import com.erdidev.taskmanager.repository.ProjectCascadeRepository;
+import com.erdidev.taskmanager.repository.TaskCascadeRepository;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deletes a project in short transactions: one per chunk of tasks, then a last one
+ * that locks the project, sweeps tasks added in the meantime and removes the rest.
+ */
+@Component
+@RequiredArgsConstructor
+class ProjectDeletionChunkWriter {
+    private final ProjectCascadeRepository projectCascadeRepository;
+    private final TaskCascadeRepository taskCascadeRepository;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param tasks        the number of tasks deleted
+     * @param storedFiles  attachment files to remove from disk once the transaction committed
+     * @param categoryIds  the project's deleted categories, only set by the final step
+     */
+    record Deleted(int tasks, List<String> storedFiles, List<Long> categoryIds) {
+    }
+
+    @Transactional
+    public Deleted deleteTasks(Long projectId, int limit) {
+        List<Long> taskIds = projectCascadeRepository.findTaskIds(projectId, limit);
+        List<String> storedFiles = taskCascadeRepository.findStoredFiles(taskIds);
+        List<ChangedTask> deleted = taskCascadeRepository.deleteTasks(taskIds);
+        deleted.forEach(task -> {
+            projectTaskCounters.removed(task.countKey());
+            publishTaskChanged(task, ChangeType.DELETED);
+        });
+        return new Deleted(deleted.size(), storedFiles, List.of());
+    }
+
+    @Transactional
+    public Deleted deleteProject(Long projectId, int limit) {
+        if (!projectCascadeRepository.lockProject(projectId)) {
+            return new Deleted(0, List.of(), List.of());
+        }
+        int tasks = 0;
+        List<String> storedFiles = new ArrayList<>();
+        List<Long> taskIds;
+        // The counters go with the project, so these tasks are not subtracted from them
+        while (!(taskIds = projectCascadeRepository.findTaskIds(projectId, limit)).isEmpty()) {
+            storedFiles.addAll(taskCascadeRepository.findStoredFiles(taskIds));
+            List<ChangedTask> deleted = taskCascadeRepository.deleteTasks(taskIds);
+            deleted.forEach(task -> publishTaskChanged(task, ChangeType.DELETED));
+            tasks += deleted.size();
+        }
+        projectCascadeRepository.detachCategories(projectId)
+            .forEach(task -> publishTaskChanged(task, ChangeType.UPDATED));
+        List<Long> categoryIds = projectCascadeRepository.deleteProject(projectId);
+        categoryIds.forEach(categoryId ->
+            eventPublisher.publishEvent(new CategoryChangedEvent(categoryId, ChangeType.DELETED)));
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, ChangeType.DELETED));
+        return new Deleted(tasks, storedFiles, categoryIds);
+    }
+
+    private void publishTaskChanged(ChangedTask task, ChangeType changeType) {
+        eventPublisher.publishEvent(
+            new TaskChangedEvent(task.id(), changeType, task.ownerId(), task.assigneeId()));
+    }
+}
@@ -0,0 +1,128 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.taskmanager.dto.ProjectDeletionJobDto;
+import com.erdidev.taskmanager.exception.ProjectDeletionJobNotFoundException;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.ProjectDeletionStatus;
+import com.erdidev.taskmanager.repository.ProjectDeletionJobRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Deletes projects in the background, set-based and in dependency order: tasks with
+ * their schedules, reminders, time entries, watchers, calendar sources and attachments
+ * go in chunks of a configurable size, each in its own short transaction, followed by
+ * the categories, memberships and the project itself. Attachment files are removed
+ * from disk after each chunk commits. A failed job can be retried by deleting the
+ * project again; it continues with whatever is left.
+ */
+@Slf4j
+@Service
+public class ProjectDeletionService {
+    private final ProjectDeletionJobRepository jobRepository;
+    private final ProjectDeletionChunkWriter chunkWriter;
+    private final TaskAttachmentService attachmentService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+
+    @Value("${taskmanager.project-deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${taskmanager.project-deletion.concurrency:1}")
+    private int concurrency;
+
+    public ProjectDeletionService(ProjectDeletionJobRepository jobRepository, ProjectDeletionChunkWriter chunkWriter,
+                                  TaskAttachmentService attachmentService, EntityManagerFactory entityManagerFactory) {
+        this.jobRepository = jobRepository;
+        this.chunkWriter = chunkWriter;
+        this.attachmentService = attachmentService;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(concurrency,
+            Thread.ofPlatform().name("project-deletion-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        localJobs.forEach(jobId ->
+            jobRepository.finishJob(jobId, ProjectDeletionStatus.FAILED, "Interrupted by shutdown"));
+    }
+
+    /**
+     * Queues the deletion and returns at once. Must not be called inside a transaction:
+     * the worker has to see the job row.
+     */
+    public ProjectDeletionJobDto submit(Long projectId) {
+        long jobId = jobRepository.createJob(projectId, SecurityUtils.getCurrentUserId());
+        localJobs.add(jobId);
+        executor.execute(() -> {
+            try {
+                run(jobId, projectId);
+            } finally {
+                localJobs.remove(jobId);
+            }
+        });
+        log.info("Queued deletion of project {} as job {}", projectId, jobId);
+        return getJob(jobId);
+    }
+
+    public ProjectDeletionJobDto getJob(Long jobId) {
+        return jobRepository.findJob(jobId, SecurityUtils.getCurrentUserId())
+            .orElseThrow(() -> new ProjectDeletionJobNotFoundException(jobId));
+    }
+
+    void run(long jobId, Long projectId) {
+        jobRepository.startJob(jobId);
+        try {
+            ProjectDeletionChunkWriter.Deleted chunk;
+            do {
+                if (Thread.currentThread().isInterrupted()) {
+                    jobRepository.finishJob(jobId, ProjectDeletionStatus.FAILED, "Interrupted by shutdown");
+                    return;
+                }
+                chunk = chunkWriter.deleteTasks(projectId, chunkSize);
+                afterCommit(jobId, chunk);
+            } while (chunk.tasks() > 0);
+
+            ProjectDeletionChunkWriter.Deleted rest = chunkWriter.deleteProject(projectId, chunkSize);
+            afterCommit(jobId, rest);
+            // The rows went without Hibernate, so this node's second-level cache has to be
+            // told; other nodes evict theirs on the read-cache invalidations of the events
+            Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+            cache.evictEntityData(Project.class, projectId);
+            rest.categoryIds().forEach(categoryId -> cache.evictEntityData(Category.class, categoryId));
+            cache.evictDefaultQueryRegion();
+
+            jobRepository.finishJob(jobId, ProjectDeletionStatus.COMPLETED, null);
+            log.info("Deleted project {} (job {})", projectId, jobId);
+        } catch (RuntimeException ex) {
+            log.error("Deletion of project {} failed (job {})", projectId, jobId, ex);
+            jobRepository.finishJob(jobId, ProjectDeletionStatus.FAILED, ex.getMessage());
+        }
+    }
+
+    private void afterCommit(long jobId, ProjectDeletionChunkWriter.Deleted deleted) {
+        attachmentService.deleteStoredFiles(deleted.storedFiles());
+        if (deleted.tasks() > 0) {
+            jobRepository.recordProgress(jobId, deleted.tasks());
+        }
+    }
+}
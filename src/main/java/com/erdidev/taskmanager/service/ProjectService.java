@@ -1,19 +1,31 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.ProjectDeletionJobDto;
 import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.ProjectStatsDto;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
 import com.erdidev.taskmanager.exception.ProjectNotFoundException;
 import com.erdidev.taskmanager.mapper.ProjectMapper;
+import com.erdidev.taskmanager.model.Priority;
 import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.TaskStatus;
 import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
 import com.erdidev.common.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,21 +33,57 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectService {
     private final ProjectRepository projectRepository;
+    private final ProjectTaskCountRepository taskCountRepository;
     private final ProjectMapper projectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TwoLevelCache<ProjectDto> projectCache;
+    private final ProjectDeletionService projectDeletionService;
 
     @Transactional(readOnly = true)
     public Page<ProjectDto> getProjects(Pageable pageable) {
         log.debug("Fetching projects page: {}", pageable);
-        return projectRepository.findAll(pageable)
+        return projectRepository.findRows(pageable)
                 .map(projectMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public ProjectDto getProject(Long id) {
         log.debug("Fetching project with id: {}", id);
-        return projectRepository.findById(id)
+        return projectCache.get(id, () -> projectRepository.findRowById(id)
                 .map(projectMapper::toDto)
-                .orElseThrow(() -> new ProjectNotFoundException(id));
+                .orElseThrow(() -> new ProjectNotFoundException(id)));
+    }
+
+    /**
+     * Read from the maintained counters, so the cost does not grow with the project.
+     */
+    @Transactional(readOnly = true)
+    public ProjectStatsDto getProjectStats(Long id) {
+        log.debug("Fetching task counts for project: {}", id);
+        if (projectRepository.findById(id).isEmpty()) {
+            throw new ProjectNotFoundException(id);
+        }
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, 0L);
+        }
+        long total = 0;
+        long withoutPriority = 0;
+        for (Map.Entry<TaskCountKey, Long> count : taskCountRepository.findByProjectId(id).entrySet()) {
+            TaskCountKey key = count.getKey();
+            total += count.getValue();
+            byStatus.merge(key.status(), count.getValue(), Long::sum);
+            if (key.priority() != null) {
+                byPriority.merge(key.priority(), count.getValue(), Long::sum);
+            } else {
+                withoutPriority += count.getValue();
+            }
+        }
+        return new ProjectStatsDto(id, total, byStatus, byPriority, withoutPriority);
     }
 
     @Transactional
@@ -44,6 +92,7 @@ public class ProjectService {
         Project project = projectMapper.toEntity(projectDto);
         project.setOwnerId(SecurityUtils.getCurrentUserId());
         Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId(), ChangeType.CREATED));
         return projectMapper.toDto(savedProject);
     }
 
@@ -57,16 +106,20 @@ public class ProjectService {
         existingProject.setDescription(projectDto.getDescription());
         
         Project updatedProject = projectRepository.save(existingProject);
+        eventPublisher.publishEvent(new ProjectChangedEvent(id, ChangeType.UPDATED));
         return projectMapper.toDto(updatedProject);
     }
 
-    @Transactional
-    public void deleteProject(Long id) {
+    /**
+     * Queues the deletion of the project and everything in it. Not transactional on
+     * purpose: the deletion job runs elsewhere and must see its job row at once.
+     */
+    public ProjectDeletionJobDto deleteProject(Long id) {
         log.debug("Deleting project with id: {}", id);
         if (!projectRepository.existsById(id)) {
             throw new ProjectNotFoundException(id);
         }
-        projectRepository.deleteById(id);
+        return projectDeletionService.submit(id);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,39 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops cached reads once a write has committed; evicting earlier would let a
+ * concurrent read cache the row as it was before the commit.
+ */
+@Component
+@RequiredArgsConstructor
+class ReadCacheInvalidator {
+    private final TwoLevelCache<TaskDto> taskCache;
+    private final TwoLevelCache<ProjectDto> projectCache;
+    private final TwoLevelCache<CategoryDto> categoryCache;
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskCache.invalidate(event.taskId());
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        projectCache.invalidate(event.projectId());
+    }
+
+    @TransactionalEventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        categoryCache.invalidate(event.categoryId());
+    }
+}
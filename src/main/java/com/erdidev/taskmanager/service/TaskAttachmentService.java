@@ -104,6 +104,26 @@ public class TaskAttachmentService {
         attachmentRepository.deleteByTaskId(taskId);
     }
 
+    /**
+     * Removes uploaded files whose attachment rows are already gone. Names that would
+     * resolve outside the upload directory are skipped, and failures only logged.
+     */
+    public void deleteStoredFiles(Collection<String> storedFileNames) {
+        Path root = Paths.get(uploadDir).normalize();
+        for (String storedFileName : storedFileNames) {
+            Path file = root.resolve(storedFileName).normalize();
+            if (!file.startsWith(root)) {
+                log.warn("Skipping stored file outside the upload directory: {}", storedFileName);
+                continue;
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                log.warn("Could not delete stored file {}", file, ex);
+            }
+        }
+    }
+
     @Transactional
     public TaskAttachmentDto createAttachment(TaskAttachmentDto attachmentDto, MultipartFile file) {
         validateAttachment(attachmentDto, file);
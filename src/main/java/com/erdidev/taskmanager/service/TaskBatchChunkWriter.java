@@ -0,0 +1,176 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult.Outcome;
+import com.erdidev.taskmanager.dto.TaskBatchUpdateItem;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.exception.CategoryNotFoundException;
+import com.erdidev.taskmanager.exception.ProjectNotFoundException;
+import com.erdidev.taskmanager.exception.TaskNotFoundException;
+import com.erdidev.taskmanager.mapper.TaskMapper;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ChangedTask;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskCascadeRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one chunk of a batch request in its own transaction. Referenced projects,
+ * categories and existing tasks are read with one IN query each per chunk; an entry
+ * whose reference is missing is reported and skipped without failing the others.
+ */
+@Component
+@RequiredArgsConstructor
+class TaskBatchChunkWriter {
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CategoryRepository categoryRepository;
+    private final TaskCascadeRepository cascadeRepository;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public List<TaskBatchItemResult> create(Map<Integer, TaskDto> items) {
+        References references = resolve(items.values());
+        Long currentUserId = SecurityUtils.getCurrentUserId();
+        List<TaskBatchItemResult> results = new ArrayList<>(items.size());
+        Map<Integer, Task> created = new LinkedHashMap<>();
+        items.forEach((index, taskDto) -> {
+            String missing = references.missing(taskDto);
+            if (missing != null) {
+                results.add(TaskBatchItemResult.failed(index, null, Outcome.NOT_FOUND, missing));
+                return;
+            }
+            Task task = taskMapper.toEntity(taskDto);
+            task.setOwnerId(currentUserId);
+            task.setCreatorId(currentUserId);
+            task.setStatus(taskDto.getStatus() != null ? taskDto.getStatus() : TaskStatus.TODO);
+            task.setPriority(taskDto.getPriority() != null ? taskDto.getPriority() : Priority.MEDIUM);
+            references.assign(taskDto, task);
+            created.put(index, task);
+        });
+
+        // Ids come from the sequence, so the inserts leave as JDBC batches on flush
+        taskRepository.saveAll(created.values());
+        taskRepository.flush();
+        created.forEach((index, task) -> {
+            projectTaskCounters.added(task);
+            publishTaskChanged(task.getId(), ChangeType.CREATED, task.getOwnerId(), task.getAssigneeId());
+            results.add(TaskBatchItemResult.succeeded(index, Outcome.CREATED, taskMapper.toDto(task)));
+        });
+        return results;
+    }
+
+    @Transactional
+    public List<TaskBatchItemResult> update(Map<Integer, TaskBatchUpdateItem> items) {
+        Map<Long, Task> existing = byId(
+            taskRepository.findAllById(ids(items.values(), TaskBatchUpdateItem::id)), Task::getId);
+        References references = resolve(items.values().stream().map(TaskBatchUpdateItem::task).toList());
+        List<TaskBatchItemResult> results = new ArrayList<>(items.size());
+        Map<Integer, Task> updated = new LinkedHashMap<>();
+        items.forEach((index, item) -> {
+            Task task = existing.get(item.id());
+            String missing = task == null
+                ? new TaskNotFoundException(item.id()).getMessage()
+                : references.missing(item.task());
+            if (missing != null) {
+                results.add(TaskBatchItemResult.failed(index, item.id(), Outcome.NOT_FOUND, missing));
+                return;
+            }
+            TaskCountKey countedAs = TaskCountKey.of(task);
+            taskMapper.updateEntity(item.task(), task);
+            references.assign(item.task(), task);
+            projectTaskCounters.moved(countedAs, TaskCountKey.of(task));
+            updated.put(index, task);
+        });
+
+        taskRepository.flush();
+        Set.copyOf(updated.values()).forEach(task ->
+            publishTaskChanged(task.getId(), ChangeType.UPDATED, task.getOwnerId(), task.getAssigneeId()));
+        updated.forEach((index, task) ->
+            results.add(TaskBatchItemResult.succeeded(index, Outcome.UPDATED, taskMapper.toDto(task))));
+        return results;
+    }
+
+    @Transactional
+    public List<TaskBatchItemResult> delete(Map<Integer, Long> items) {
+        Map<Long, ChangedTask> deleted = byId(cascadeRepository.deleteTasks(Set.copyOf(items.values())), ChangedTask::id);
+        deleted.values().forEach(task -> {
+            projectTaskCounters.removed(task.countKey());
+            publishTaskChanged(task.id(), ChangeType.DELETED, task.ownerId(), task.assigneeId());
+        });
+        List<TaskBatchItemResult> results = new ArrayList<>(items.size());
+        items.forEach((index, taskId) -> results.add(deleted.containsKey(taskId)
+            ? TaskBatchItemResult.deleted(index, taskId)
+            : TaskBatchItemResult.failed(index, taskId, Outcome.NOT_FOUND,
+                new TaskNotFoundException(taskId).getMessage())));
+        return results;
+    }
+
+    private References resolve(Collection<TaskDto> tasks) {
+        Set<Long> projectIds = ids(tasks, TaskDto::getProjectId);
+        Set<Long> categoryIds = ids(tasks, TaskDto::getCategoryId);
+        return new References(
+            projectIds.isEmpty() ? Map.of() : byId(projectRepository.findAllById(projectIds), Project::getId),
+            categoryIds.isEmpty() ? Map.of() : byId(categoryRepository.findAllById(categoryIds), Category::getId));
+    }
+
+    private void publishTaskChanged(Long taskId, ChangeType changeType, Long ownerId, Long assigneeId) {
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId, changeType, ownerId, assigneeId));
+    }
+
+    private static <T> Set<Long> ids(Collection<T> items, Function<T, Long> id) {
+        return items.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, T> byId(Collection<T> rows, Function<T, Long> id) {
+        return rows.stream().collect(Collectors.toMap(id, Function.identity(), (first, second) -> first));
+    }
+
+    private record References(Map<Long, Project> projects, Map<Long, Category> categories) {
+
+        String missing(TaskDto taskDto) {
+            if (taskDto.getProjectId() != null && !projects.containsKey(taskDto.getProjectId())) {
+                return new ProjectNotFoundException(taskDto.getProjectId()).getMessage();
+            }
+            if (taskDto.getCategoryId() != null && !categories.containsKey(taskDto.getCategoryId())) {
+                return new CategoryNotFoundException(taskDto.getCategoryId()).getMessage();
+            }
+            return null;
+        }
+
+        void assign(TaskDto taskDto, Task task) {
+            if (taskDto.getProjectId() != null) {
+                task.setProject(projects.get(taskDto.getProjectId()));
+            }
+            if (taskDto.getCategoryId() != null) {
+                task.setCategory(categories.get(taskDto.getCategoryId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.taskmanager.dto.TaskBatchItemResult;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult.Outcome;
+import com.erdidev.taskmanager.dto.TaskBatchResult;
+import com.erdidev.taskmanager.dto.TaskBatchUpdateItem;
+import com.erdidev.taskmanager.dto.TaskDto;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates, updates and deletes many tasks in one request. Entries are validated one by
+ * one, then written in chunks of a configurable size, each chunk in its own transaction:
+ * a chunk that fails to write rolls back and reports all of its entries as FAILED,
+ * while earlier chunks stay committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskBatchService {
+    private static final String CHUNK_FAILED = "Could not be written; no entry of its chunk was saved";
+
+    private final TaskBatchChunkWriter chunkWriter;
+    private final Validator validator;
+
+    @Value("${taskmanager.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${taskmanager.batch.max-items:10000}")
+    private int maxItems;
+
+    public TaskBatchResult createTasks(List<TaskDto> tasks) {
+        log.debug("Creating {} tasks in batch", tasks.size());
+        requireWithinLimit(tasks);
+        List<TaskBatchItemResult> results = new ArrayList<>(tasks.size());
+        Map<Integer, TaskDto> valid = new LinkedHashMap<>();
+        for (int index = 0; index < tasks.size(); index++) {
+            TaskDto taskDto = tasks.get(index);
+            String error = taskDto == null ? "Task is required"
+                : taskDto.getProjectId() == null ? "Project is required"
+                : violations(taskDto);
+            if (error != null) {
+                results.add(TaskBatchItemResult.failed(index, null, Outcome.INVALID, error));
+            } else {
+                valid.put(index, taskDto);
+            }
+        }
+        results.addAll(inChunks(valid, chunkWriter::create, taskDto -> null));
+        return sorted(results);
+    }
+
+    public TaskBatchResult updateTasks(List<TaskBatchUpdateItem> items) {
+        log.debug("Updating {} tasks in batch", items.size());
+        requireWithinLimit(items);
+        List<TaskBatchItemResult> results = new ArrayList<>(items.size());
+        Map<Integer, TaskBatchUpdateItem> valid = new LinkedHashMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            TaskBatchUpdateItem item = items.get(index);
+            String error = item == null || item.id() == null ? "Task id is required"
+                : item.task() == null ? "Task is required"
+                : violations(item.task());
+            if (error != null) {
+                results.add(TaskBatchItemResult.failed(index, item != null ? item.id() : null, Outcome.INVALID, error));
+            } else {
+                valid.put(index, item);
+            }
+        }
+        results.addAll(inChunks(valid, chunkWriter::update, TaskBatchUpdateItem::id));
+        return sorted(results);
+    }
+
+    public TaskBatchResult deleteTasks(List<Long> taskIds) {
+        log.debug("Deleting {} tasks in batch", taskIds.size());
+        requireWithinLimit(taskIds);
+        List<TaskBatchItemResult> results = new ArrayList<>(taskIds.size());
+        Map<Integer, Long> valid = new LinkedHashMap<>();
+        for (int index = 0; index < taskIds.size(); index++) {
+            if (taskIds.get(index) == null) {
+                results.add(TaskBatchItemResult.failed(index, null, Outcome.INVALID, "Task id is required"));
+            } else {
+                valid.put(index, taskIds.get(index));
+            }
+        }
+        results.addAll(inChunks(valid, chunkWriter::delete, Function.identity()));
+        return sorted(results);
+    }
+
+    private <T> List<TaskBatchItemResult> inChunks(Map<Integer, T> items,
+                                                   Function<Map<Integer, T>, List<TaskBatchItemResult>> writer,
+                                                   Function<T, Long> taskId) {
+        List<TaskBatchItemResult> results = new ArrayList<>(items.size());
+        Map<Integer, T> chunk = new LinkedHashMap<>();
+        for (Map.Entry<Integer, T> item : items.entrySet()) {
+            chunk.put(item.getKey(), item.getValue());
+            if (chunk.size() == chunkSize) {
+                results.addAll(write(chunk, writer, taskId));
+                chunk = new LinkedHashMap<>();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(write(chunk, writer, taskId));
+        }
+        return results;
+    }
+
+    private <T> List<TaskBatchItemResult> write(Map<Integer, T> chunk,
+                                                Function<Map<Integer, T>, List<TaskBatchItemResult>> writer,
+                                                Function<T, Long> taskId) {
+        try {
+            return writer.apply(chunk);
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Task batch chunk of {} entries rolled back", chunk.size(), e);
+            return chunk.entrySet().stream()
+                .map(item -> TaskBatchItemResult.failed(
+                    item.getKey(), taskId.apply(item.getValue()), Outcome.FAILED, CHUNK_FAILED))
+                .toList();
+        }
+    }
+
+    private String violations(TaskDto taskDto) {
+        Set<ConstraintViolation<TaskDto>> violations = validator.validate(taskDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    private void requireWithinLimit(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("A batch can hold at most " + maxItems + " tasks");
+        }
+    }
+
+    private static TaskBatchResult sorted(List<TaskBatchItemResult> results) {
+        results.sort(Comparator.comparingInt(TaskBatchItemResult::index));
+        return TaskBatchResult.of(results);
+    }
+}
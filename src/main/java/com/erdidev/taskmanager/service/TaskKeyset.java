@@ -0,0 +1,166 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.taskmanager.exception.InvalidCursorException;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Keyset ordering for task listings: one sort property with the id as tiebreaker. The
+ * cursor is the sort value and id of the last row served, so the next slice starts
+ * with a range condition instead of skipping rows. Nullable properties follow the
+ * Postgres default of sorting nulls as the largest value.
+ */
+final class TaskKeyset {
+    private static final String SEPARATOR = "|";
+
+    enum Key {
+        CREATED_AT("createdAt", false, Task::getCreatedAt, LocalDateTime::parse),
+        TITLE("title", false, Task::getTitle, Function.identity()),
+        STATUS("status", false, Task::getStatus, TaskStatus::valueOf),
+        PRIORITY("priority", true, Task::getPriority, Priority::valueOf),
+        DUE_DATE("dueDate", true, Task::getDueDate, LocalDateTime::parse);
+
+        private final String property;
+        private final boolean nullable;
+        private final Function<Task, Object> reader;
+        private final Function<String, Object> parser;
+
+        @SuppressWarnings("unchecked")
+        <T> Key(String property, boolean nullable, Function<Task, T> reader, Function<String, ?> parser) {
+            this.property = property;
+            this.nullable = nullable;
+            this.reader = (Function<Task, Object>) reader;
+            this.parser = (Function<String, Object>) parser;
+        }
+
+        static Key of(String property) {
+            for (Key key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            throw new IllegalArgumentException("Tasks cannot be sorted by " + property);
+        }
+    }
+
+    private final Key key;
+    private final Sort.Direction direction;
+
+    private TaskKeyset(Key key, Sort.Direction direction) {
+        this.key = key;
+        this.direction = direction;
+    }
+
+    /**
+     * Parses a sort parameter in the "property,direction" form the offset listings use,
+     * descending when no direction is given.
+     */
+    static TaskKeyset parse(String sort) {
+        String[] parts = sort.split(",");
+        Sort.Direction direction = parts.length > 1
+                ? Sort.Direction.fromString(parts[1].trim())
+                : Sort.Direction.DESC;
+        return new TaskKeyset(Key.of(parts[0].trim()), direction);
+    }
+
+    /**
+     * Rejects offset listing sorts outside the properties the task indexes cover.
+     */
+    static void requireSortable(Sort sort) {
+        sort.forEach(order -> Key.of(order.getProperty()));
+    }
+
+    Sort sort() {
+        return Sort.by(direction, key.property).and(Sort.by(direction, "id"));
+    }
+
+    String encode(Task last) {
+        Object value = key.reader.apply(last);
+        StringBuilder cursor = new StringBuilder()
+                .append(key.property).append(SEPARATOR)
+                .append(direction).append(SEPARATOR)
+                .append(last.getId());
+        if (value != null) {
+            cursor.append(SEPARATOR).append(value instanceof Enum<?> constant ? constant.name() : value);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows that sort after the cursor position, or every row for an empty cursor.
+     */
+    Specification<Task> after(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return (root, query, cb) -> cb.conjunction();
+        }
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+                    .split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (parts.length < 3) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (!key.property.equals(parts[0]) || !direction.name().equals(parts[1].toUpperCase(Locale.ROOT))) {
+            throw new InvalidCursorException("Cursor was issued for a different sort order");
+        }
+        Long id;
+        Object value;
+        try {
+            id = Long.valueOf(parts[2]);
+            value = parts.length == 4 ? key.parser.apply(parts[3]) : null;
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        if (value == null && !key.nullable) {
+            throw new InvalidCursorException("Malformed cursor");
+        }
+        return (root, query, cb) -> direction.isAscending()
+                ? ascendingAfter(cb, root.get(key.property), root.get("id"), value, id)
+                : descendingAfter(cb, root.get(key.property), root.get("id"), value, id);
+    }
+
+    // Ascending puts nulls last: after a value come larger values, then nulls
+    private Predicate ascendingAfter(CriteriaBuilder cb, Path<Comparable<Object>> field, Path<Long> idPath,
+                                     Object value, Long id) {
+        if (value == null) {
+            return cb.and(cb.isNull(field), cb.greaterThan(idPath, id));
+        }
+        Predicate larger = cb.and(
+                cb.greaterThanOrEqualTo(field, comparable(value)),
+                cb.or(cb.greaterThan(field, comparable(value)), cb.greaterThan(idPath, id)));
+        return key.nullable ? cb.or(larger, cb.isNull(field)) : larger;
+    }
+
+    // Descending puts nulls first: after them come all values, largest first
+    private Predicate descendingAfter(CriteriaBuilder cb, Path<Comparable<Object>> field, Path<Long> idPath,
+                                      Object value, Long id) {
+        if (value == null) {
+            return cb.or(cb.and(cb.isNull(field), cb.lessThan(idPath, id)), cb.isNotNull(field));
+        }
+        return cb.and(
+                cb.lessThanOrEqualTo(field, comparable(value)),
+                cb.or(cb.lessThan(field, comparable(value)), cb.lessThan(idPath, id)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> comparable(Object value) {
+        return (Comparable<Object>) value;
+    }
+}
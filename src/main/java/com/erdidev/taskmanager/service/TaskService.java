@@ -1,81 +1,144 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.CursorPage;
+import com.erdidev.taskmanager.dto.CursorRequest;
+import com.erdidev.taskmanager.dto.TaskBulkPatchRequest;
+import com.erdidev.taskmanager.dto.TaskBulkPatchResult;
 import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
 import com.erdidev.taskmanager.exception.CategoryNotFoundException;
 import com.erdidev.taskmanager.exception.ProjectNotFoundException;
 import com.erdidev.taskmanager.exception.TaskNotFoundException;
 import com.erdidev.taskmanager.mapper.TaskMapper;
 import com.erdidev.taskmanager.model.*;
 import com.erdidev.taskmanager.repository.*;
+import com.erdidev.taskmanager.service.search.TaskSearchHits;
+import com.erdidev.taskmanager.service.search.TaskSearchIndex;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
 import com.erdidev.common.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TaskService {
+    private static final String DEFAULT_CURSOR_SORT = "createdAt,desc";
+    private static final String OVERDUE_CURSOR_SORT = "dueDate,asc";
+
     private final TaskRepository taskRepository;
     private final CategoryRepository categoryRepository;
     private final ProjectRepository projectRepository;
     private final TaskAttachmentRepository attachmentRepository;
+    private final TaskPatchRepository taskPatchRepository;
     private final TaskMapper taskMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskSearchIndex taskSearchIndex;
+    private final ProjectTaskCounters projectTaskCounters;
+    private final TwoLevelCache<TaskDto> taskCache;
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getTasks(Pageable pageable) {
+        TaskKeyset.requireSortable(pageable.getSort());
         log.debug("Fetching tasks page: {}", pageable);
-        return taskRepository.findAll(pageable)
+        return taskRepository.findRows(pageable)
                 .map(taskMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getTasksByProject(Long projectId, Pageable pageable) {
+        TaskKeyset.requireSortable(pageable.getSort());
         log.debug("Fetching tasks for project: {}", projectId);
-        return taskRepository.findByProjectId(projectId, pageable)
+        return taskRepository.findRowsByProjectId(projectId, pageable)
                 .map(taskMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getTasksByCategory(Long categoryId, Pageable pageable) {
+        TaskKeyset.requireSortable(pageable.getSort());
         log.debug("Fetching tasks for category: {}", categoryId);
-        return taskRepository.findByCategoryId(categoryId, pageable)
+        return taskRepository.findRowsByCategoryId(categoryId, pageable)
                 .map(taskMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getTasksByStatus(TaskStatus status, Pageable pageable) {
+        TaskKeyset.requireSortable(pageable.getSort());
         log.debug("Fetching tasks with status: {}", status);
-        return taskRepository.findByStatus(status, pageable)
+        return taskRepository.findRowsByStatus(status, pageable)
                 .map(taskMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getTasksByPriority(Priority priority, Pageable pageable) {
-        Page<Task> tasks = taskRepository.findByPriority(priority, pageable);
-        return tasks.map(taskMapper::toDto);
+        TaskKeyset.requireSortable(pageable.getSort());
+        return taskRepository.findRowsByPriority(priority, pageable)
+                .map(taskMapper::toDto);
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> getOverdueTasks(Pageable pageable) {
+        TaskKeyset.requireSortable(pageable.getSort());
         log.debug("Fetching overdue tasks");
-        return taskRepository.findOverdueTasks(LocalDateTime.now(), pageable)
+        return taskRepository.findOverdueRows(LocalDateTime.now(), pageable)
                 .map(taskMapper::toDto);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollTasks(CursorRequest request) {
+        return scroll(TaskSpecifications.all(), request, DEFAULT_CURSOR_SORT);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollTasksByProject(Long projectId, CursorRequest request) {
+        return scroll(TaskSpecifications.inProject(projectId), request, DEFAULT_CURSOR_SORT);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollTasksByCategory(Long categoryId, CursorRequest request) {
+        return scroll(TaskSpecifications.inCategory(categoryId), request, DEFAULT_CURSOR_SORT);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollTasksByStatus(TaskStatus status, CursorRequest request) {
+        return scroll(TaskSpecifications.hasStatus(status), request, DEFAULT_CURSOR_SORT);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollTasksByPriority(Priority priority, CursorRequest request) {
+        return scroll(TaskSpecifications.hasPriority(priority), request, DEFAULT_CURSOR_SORT);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> scrollOverdueTasks(CursorRequest request) {
+        return scroll(TaskSpecifications.overdue(LocalDateTime.now()), request, OVERDUE_CURSOR_SORT);
+    }
+
     @Transactional(readOnly = true)
     public TaskDto getTask(Long id) {
         log.debug("Fetching task with id: {}", id);
-        return taskRepository.findById(id)
+        return taskCache.get(id, () -> taskRepository.findById(id)
                 .map(taskMapper::toDto)
-                .orElseThrow(() -> new TaskNotFoundException(id));
+                .orElseThrow(() -> new TaskNotFoundException(id)));
     }
 
     @Transactional
@@ -110,7 +173,10 @@ public class TaskService {
             task.setProject(project);
         }
         
-        return taskMapper.toDto(taskRepository.save(task));
+        Task savedTask = taskRepository.save(task);
+        projectTaskCounters.added(savedTask);
+        publishTaskChanged(savedTask, ChangeType.CREATED);
+        return taskMapper.toDto(savedTask);
     }
 
     @Transactional
@@ -118,6 +184,9 @@ public class TaskService {
         log.debug("Updating task with id: {}", id);
         Task existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        TaskCountKey countedAs = TaskCountKey.of(existingTask);
+        Long previousOwnerId = existingTask.getOwnerId();
+        Long previousAssigneeId = existingTask.getAssigneeId();
         
         taskMapper.updateEntity(taskDto, existingTask);
         
@@ -136,31 +205,92 @@ public class TaskService {
         }
         
         Task updatedTask = taskRepository.save(existingTask);
+        projectTaskCounters.moved(countedAs, TaskCountKey.of(updatedTask));
+        eventPublisher.publishEvent(new TaskChangedEvent(updatedTask.getId(), ChangeType.UPDATED,
+                updatedTask.getOwnerId(), updatedTask.getAssigneeId(), previousOwnerId, previousAssigneeId));
         return taskMapper.toDto(updatedTask);
     }
 
     @Transactional
     public void deleteTask(Long id) {
         log.debug("Deleting task with id: {}", id);
-        if (!taskRepository.existsById(id)) {
-            throw new TaskNotFoundException(id);
-        }
+        Task task = taskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
         // Delete associated attachments first
         attachmentRepository.deleteByTaskId(id);
         taskRepository.deleteById(id);
+        projectTaskCounters.removed(TaskCountKey.of(task));
+        publishTaskChanged(task, ChangeType.DELETED);
     }
 
-    @Transactional(readOnly = true)
-    public List<TaskDto> searchTasks(String query) {
-        log.debug("Searching tasks with query: {}", query);
-        return taskRepository.findByTitleContainingIgnoreCase(query).stream()
-                .map(taskMapper::toDto)
-                .collect(Collectors.toList());
+    /**
+     * One UPDATE for all matching tasks instead of a load, map and save per task. Events
+     * go out only for rows that actually changed, which also evicts them from the caches.
+     */
+    @Transactional
+    public TaskBulkPatchResult patchTasks(TaskBulkPatchRequest request) {
+        log.debug("Bulk patching tasks: {}", request);
+        if (request.filter() == null || request.filter().isEmpty()) {
+            throw new IllegalArgumentException("A bulk patch needs at least one filter criterion");
+        }
+        if (request.patch() == null || request.patch().isEmpty()) {
+            throw new IllegalArgumentException("A bulk patch needs at least one field to change");
+        }
+        TaskBulkPatchRequest.Patch patch = request.patch();
+        List<ChangedTask> changed = taskPatchRepository.patch(request.filter(), patch);
+        changed.forEach(task -> {
+            projectTaskCounters.moved(task.countKey(), new TaskCountKey(task.projectId(),
+                    patch.status() != null ? patch.status() : task.status(),
+                    patch.priority() != null ? patch.priority() : task.priority()));
+            eventPublisher.publishEvent(
+                    new TaskChangedEvent(task.id(), ChangeType.UPDATED, task.ownerId(), task.assigneeId()));
+        });
+        return new TaskBulkPatchResult(changed.size(), changed.stream().map(ChangedTask::id).toList());
     }
 
     @Transactional(readOnly = true)
     public Page<TaskDto> searchTasks(String query, Pageable pageable) {
-        return taskRepository.searchTasks(query, pageable)
+        log.debug("Searching tasks with query: {}", query);
+        if (taskSearchIndex.isReady()) {
+            try {
+                TaskSearchHits hits = taskSearchIndex.search(query, pageable);
+                Map<Long, TaskRow> tasks = taskRepository.findRowsByIdIn(hits.taskIds()).stream()
+                        .collect(Collectors.toMap(TaskRow::id, Function.identity()));
+                // Keep the index ranking; ids deleted on another node are simply skipped
+                List<TaskDto> content = hits.taskIds().stream()
+                        .map(tasks::get)
+                        .filter(Objects::nonNull)
+                        .map(taskMapper::toDto)
+                        .toList();
+                return new PageImpl<>(content, pageable, hits.totalHits());
+            } catch (UncheckedIOException e) {
+                log.warn("Task search index failed, searching the database instead", e);
+            }
+        }
+        return taskRepository.searchRows(query, pageable)
                 .map(taskMapper::toDto);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Reads one row past the limit to learn whether another slice exists, so no count
+     * query runs unless the caller asks for the total.
+     */
+    private CursorPage<TaskDto> scroll(Specification<Task> filter, CursorRequest request, String defaultSort) {
+        log.debug("Scrolling tasks: {}", request);
+        int limit = request.limit();
+        TaskKeyset keyset = TaskKeyset.parse(StringUtils.hasText(request.sort()) ? request.sort() : defaultSort);
+        List<Task> rows = taskRepository.findBy(filter.and(keyset.after(request.cursor())),
+                query -> query.sortBy(keyset.sort()).limit(limit + 1).all());
+
+        boolean hasMore = rows.size() > limit;
+        List<Task> slice = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = hasMore ? keyset.encode(slice.getLast()) : null;
+        Long total = request.includeTotal() ? taskRepository.count(filter) : null;
+        return new CursorPage<>(slice.stream().map(taskMapper::toDto).toList(), nextCursor, total);
+    }
+
+    private void publishTaskChanged(Task task, ChangeType changeType) {
+        eventPublisher.publishEvent(
+                new TaskChangedEvent(task.getId(), changeType, task.getOwnerId(), task.getAssigneeId()));
+    }
+}
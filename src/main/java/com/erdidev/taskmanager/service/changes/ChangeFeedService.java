@@ -0,0 +1,150 @@
+package com.erdidev.taskmanager.service.changes;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.BaseDto;
+import com.erdidev.taskmanager.dto.ChangeDto;
+import com.erdidev.taskmanager.dto.ChangeFeedDto;
+import com.erdidev.taskmanager.exception.ChangeCursorExpiredException;
+import com.erdidev.taskmanager.exception.InvalidCursorException;
+import com.erdidev.taskmanager.mapper.CategoryMapper;
+import com.erdidev.taskmanager.mapper.ProjectMapper;
+import com.erdidev.taskmanager.mapper.TaskMapper;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ChangeLogEntry;
+import com.erdidev.taskmanager.repository.ChangeLogRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the change feed: what was created, updated or deleted since a client's
+ * cursor, one entry per entity carrying its current state, or a tombstone once it
+ * is gone. A client that is up to date gets an empty slice without loading any entity.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 1000;
+
+    private final ChangeLogRepository changeLogRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CategoryRepository categoryRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectMapper projectMapper;
+    private final CategoryMapper categoryMapper;
+
+    /**
+     * Without a cursor only the current one is returned; clients take it before their
+     * initial full load so no write can slip between the load and the first sync.
+     */
+    @Transactional(readOnly = true)
+    public ChangeFeedDto getChanges(String since, int limit) {
+        if (since == null || since.isBlank()) {
+            return new ChangeFeedDto(List.of(), String.valueOf(changeLogRepository.head()), false);
+        }
+        long cursor = parseCursor(since);
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        List<ChangeLogEntry> entries = changeLogRepository.findAfter(cursor, size + 1);
+        if (entries.isEmpty()) {
+            checkCursor(cursor);
+            return new ChangeFeedDto(List.of(), since, false);
+        }
+        if (entries.get(0).sequence() != cursor + 1) {
+            // Either the entries right after the cursor were purged, or some simply never
+            // committed; only the horizon tells the two apart
+            checkCursor(cursor);
+        }
+
+        boolean hasMore = entries.size() > size;
+        List<ChangeLogEntry> slice = hasMore ? entries.subList(0, size) : entries;
+        return new ChangeFeedDto(resolve(latestPerEntity(slice)),
+            String.valueOf(slice.get(slice.size() - 1).sequence()), hasMore);
+    }
+
+    private void checkCursor(long cursor) {
+        if (cursor < changeLogRepository.purgedThrough()) {
+            throw new ChangeCursorExpiredException(cursor);
+        }
+        if (cursor > changeLogRepository.head()) {
+            throw new InvalidCursorException("Unknown change cursor: " + cursor);
+        }
+    }
+
+    private static long parseCursor(String since) {
+        try {
+            long cursor = Long.parseLong(since);
+            if (cursor < 0) {
+                throw new InvalidCursorException("Malformed change cursor");
+            }
+            return cursor;
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Malformed change cursor");
+        }
+    }
+
+    /**
+     * Keeps only the newest entry of each entity, in the order of those newest entries.
+     */
+    private static Collection<ChangeLogEntry> latestPerEntity(List<ChangeLogEntry> entries) {
+        Map<EntityKey, ChangeLogEntry> latest = new LinkedHashMap<>();
+        for (ChangeLogEntry entry : entries) {
+            EntityKey key = new EntityKey(entry.entityType(), entry.entityId());
+            latest.remove(key);
+            latest.put(key, entry);
+        }
+        return latest.values();
+    }
+
+    private List<ChangeDto> resolve(Collection<ChangeLogEntry> entries) {
+        Map<ChangeEntityType, List<Long>> liveIds = new EnumMap<>(ChangeEntityType.class);
+        for (ChangeLogEntry entry : entries) {
+            if (entry.changeType() != ChangeType.DELETED) {
+                liveIds.computeIfAbsent(entry.entityType(), type -> new ArrayList<>()).add(entry.entityId());
+            }
+        }
+        Map<EntityKey, BaseDto> current = new HashMap<>();
+        load(ChangeEntityType.TASK, liveIds, ids -> taskRepository.findRowsByIdIn(ids).stream()
+            .map(taskMapper::toDto).toList(), current);
+        load(ChangeEntityType.PROJECT, liveIds, ids -> projectRepository.findAllById(ids).stream()
+            .map(projectMapper::toDto).toList(), current);
+        load(ChangeEntityType.CATEGORY, liveIds, ids -> categoryRepository.findAllById(ids).stream()
+            .map(categoryMapper::toDto).toList(), current);
+
+        List<ChangeDto> changes = new ArrayList<>(entries.size());
+        for (ChangeLogEntry entry : entries) {
+            BaseDto entity = current.get(new EntityKey(entry.entityType(), entry.entityId()));
+            // Deleted after this entry was written; the delete shows up in a later slice as well
+            ChangeType change = entity == null ? ChangeType.DELETED : entry.changeType();
+            changes.add(new ChangeDto(entry.entityType(), entry.entityId(), change, entry.sequence(), entity));
+        }
+        return changes;
+    }
+
+    private static void load(ChangeEntityType type, Map<ChangeEntityType, List<Long>> liveIds,
+                             Function<List<Long>, List<? extends BaseDto>> loader, Map<EntityKey, BaseDto> current) {
+        List<Long> ids = liveIds.get(type);
+        if (ids == null) {
+            return;
+        }
+        current.putAll(loader.apply(ids).stream()
+            .collect(Collectors.toMap(dto -> new EntityKey(type, dto.getId()), Function.identity())));
+    }
+
+    private record EntityKey(ChangeEntityType type, Long id) {}
+}
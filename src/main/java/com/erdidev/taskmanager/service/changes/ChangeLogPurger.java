@@ -0,0 +1,33 @@
+package com.erdidev.taskmanager.service.changes;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.taskmanager.repository.ChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Drops change log entries past their retention. Clients whose cursor points into the
+ * dropped range get 410 Gone and have to reload.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChangeLogPurger {
+    private final ChangeLogRepository changeLogRepository;
+
+    @Value("${taskmanager.changes.retention:P30D}")
+    private Duration retention;
+
+    @Scheduled(cron = "${taskmanager.changes.purge-cron:0 15 4 * * *}")
+    @LeaderOnly("change-log-purge")
+    public void purge() {
+        int purged = changeLogRepository.purgeBefore(LocalDateTime.now().minus(retention));
+        log.info("Purged {} change log entries older than {}", purged, retention);
+    }
+}
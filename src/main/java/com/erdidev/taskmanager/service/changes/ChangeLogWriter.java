@@ -0,0 +1,86 @@
+package com.erdidev.taskmanager.service.changes;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import com.erdidev.taskmanager.repository.ChangeLogEntry;
+import com.erdidev.taskmanager.repository.ChangeLogRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every task, project and category write in the change log, in the same
+ * transaction as the write. Entries are collected for the whole transaction and
+ * appended just before it commits, after the pending entity changes and counter
+ * updates, so the append lock is only held for the commit itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogWriter {
+    private final ChangeLogRepository changeLogRepository;
+    private final EntityManager entityManager;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        record(ChangeEntityType.TASK, event.taskId(), event.changeType());
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        record(ChangeEntityType.PROJECT, event.projectId(), event.changeType());
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        record(ChangeEntityType.CATEGORY, event.categoryId(), event.changeType());
+    }
+
+    private void record(ChangeEntityType entityType, Long entityId, ChangeType changeType) {
+        if (entityId == null) {
+            return;
+        }
+        ChangeLogEntry entry = ChangeLogEntry.of(entityType, entityId, changeType);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changeLogRepository.append(List.of(entry));
+            return;
+        }
+        PendingEntries pending = (PendingEntries) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEntries();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.entries.add(entry);
+    }
+
+    private final class PendingEntries implements TransactionSynchronization {
+        private final List<ChangeLogEntry> entries = new ArrayList<>();
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Take the row locks of the write before the append lock, never the other way round
+            entityManager.flush();
+            changeLogRepository.append(entries);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLogWriter.this);
+        }
+    }
+}
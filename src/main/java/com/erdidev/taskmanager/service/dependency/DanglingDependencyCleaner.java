@@ -0,0 +1,66 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.repository.TaskDependencyRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Drops the dependencies of tasks that were deleted or moved to another project, in
+ * the transaction that deleted or moved them. The tasks are collected for the whole
+ * transaction and checked with one statement just before it commits.
+ */
+@Component
+@RequiredArgsConstructor
+public class DanglingDependencyCleaner {
+    private final TaskDependencyRepository dependencyRepository;
+    private final EntityManager entityManager;
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.changeType() == ChangeType.CREATED || event.taskId() == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dependencyRepository.dropDanglingEdges(new Long[] {event.taskId()});
+            return;
+        }
+        PendingTasks pending = (PendingTasks) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingTasks();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.taskIds.add(event.taskId());
+    }
+
+    private final class PendingTasks implements TransactionSynchronization {
+        private final Set<Long> taskIds = new LinkedHashSet<>();
+
+        @Override
+        public int getOrder() {
+            // Ahead of the change log, which takes its commit-order lock last
+            return 0;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // The deletes and moves have to reach the database before they can be checked
+            entityManager.flush();
+            dependencyRepository.dropDanglingEdges(taskIds.toArray(Long[]::new));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(DanglingDependencyCleaner.this);
+        }
+    }
+}
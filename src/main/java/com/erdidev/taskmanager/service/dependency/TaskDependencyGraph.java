@@ -0,0 +1,486 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import java.util.Arrays;
+
+/**
+ * The dependency graph of one project, held in primitive arrays: tasks are numbered
+ * densely in the order they first appear, and each node keeps its predecessors and
+ * successors as int arrays. Only tasks with at least one dependency are nodes; every
+ * other task starts at 0 and has no place on the critical path.
+ *
+ * <p>A topological order is kept at all times and repaired incrementally on each
+ * insert (Pearce and Kelly): an edge that already agrees with the order costs nothing,
+ * and otherwise only the nodes between its two ends are searched and reordered, which
+ * is also where a cycle would have to close. The schedule is derived from the order in
+ * one pass and kept until the next change.
+ *
+ * <p>All methods synchronize on the graph; a project's graph is shared by its readers.
+ */
+final class TaskDependencyGraph {
+
+    enum Insert { ADDED, EXISTS, CYCLE }
+
+    private static final int INITIAL_NODES = 16;
+    private static final int INITIAL_DEGREE = 2;
+    private static final int[] NO_EDGES = new int[0];
+
+    private long version;
+    private int size;
+    private long[] taskIds = new long[INITIAL_NODES];
+    private final NodeIndex index = new NodeIndex();
+    private int[][] successors = new int[INITIAL_NODES][];
+    private int[] successorCount = new int[INITIAL_NODES];
+    private int[][] predecessors = new int[INITIAL_NODES][];
+    private int[] predecessorCount = new int[INITIAL_NODES];
+    // order[node] is its position in the topological order, nodeAt[position] the node there
+    private int[] order = new int[INITIAL_NODES];
+    private int[] nodeAt = new int[INITIAL_NODES];
+
+    // Search state of the current insert; marks equal to stamp count as visited
+    private int[] marks = new int[INITIAL_NODES];
+    private int stamp;
+
+    private Schedule schedule;
+
+    TaskDependencyGraph(long version) {
+        this.version = version;
+    }
+
+    /**
+     * Builds a graph from stored edges in one pass, ordering it once at the end. A cycle
+     * that slipped into the stored edges leaves its nodes after all others.
+     */
+    static TaskDependencyGraph load(long version, EdgeSource edges) {
+        TaskDependencyGraph graph = new TaskDependencyGraph(version);
+        edges.forEach((dependsOnId, taskId) -> graph.link(graph.node(dependsOnId), graph.node(taskId)));
+        graph.orderFromScratch();
+        return graph;
+    }
+
+    synchronized long version() {
+        return version;
+    }
+
+    synchronized void setVersion(long version) {
+        this.version = version;
+    }
+
+    synchronized int nodeCount() {
+        return size;
+    }
+
+    /**
+     * What {@link #add} would do with the edge, leaving the graph as it is.
+     */
+    synchronized Insert check(long dependsOnId, long taskId) {
+        if (dependsOnId == taskId) {
+            return Insert.CYCLE;
+        }
+        int from = index.get(dependsOnId);
+        int to = index.get(taskId);
+        if (from < 0 || to < 0) {
+            // A task without edges closes no cycle
+            return Insert.ADDED;
+        }
+        if (indexOf(successors[from], successorCount[from], to) >= 0) {
+            return Insert.EXISTS;
+        }
+        int upper = order[from];
+        return order[to] < upper && reachForward(to, upper, from) == null ? Insert.CYCLE : Insert.ADDED;
+    }
+
+    /**
+     * Records that taskId cannot start before dependsOnId is done, unless that closes a
+     * cycle, in which case the graph is left as it was.
+     */
+    synchronized Insert add(long dependsOnId, long taskId) {
+        if (dependsOnId == taskId) {
+            return Insert.CYCLE;
+        }
+        int from = node(dependsOnId);
+        int to = node(taskId);
+        if (indexOf(successors[from], successorCount[from], to) >= 0) {
+            return Insert.EXISTS;
+        }
+        int lower = order[to];
+        int upper = order[from];
+        if (lower < upper) {
+            int[] forward = reachForward(to, upper, from);
+            if (forward == null) {
+                return Insert.CYCLE;
+            }
+            int[] backward = reachBackward(from, lower);
+            reorder(backward, forward);
+        }
+        link(from, to);
+        schedule = null;
+        return Insert.ADDED;
+    }
+
+    synchronized boolean remove(long dependsOnId, long taskId) {
+        int from = index.get(dependsOnId);
+        int to = index.get(taskId);
+        if (from < 0 || to < 0) {
+            return false;
+        }
+        int at = indexOf(successors[from], successorCount[from], to);
+        if (at < 0) {
+            return false;
+        }
+        // Dropping an edge never invalidates the topological order
+        successors[from][at] = successors[from][--successorCount[from]];
+        int back = indexOf(predecessors[to], predecessorCount[to], from);
+        predecessors[to][back] = predecessors[to][--predecessorCount[to]];
+        schedule = null;
+        return true;
+    }
+
+    synchronized long[] dependenciesOf(long taskId) {
+        int node = index.get(taskId);
+        return node < 0 ? new long[0] : taskIdsOf(predecessors[node], predecessorCount[node]);
+    }
+
+    synchronized long[] dependentsOf(long taskId) {
+        int node = index.get(taskId);
+        return node < 0 ? new long[0] : taskIdsOf(successors[node], successorCount[node]);
+    }
+
+    synchronized int earliestStart(long taskId) {
+        int node = index.get(taskId);
+        return node < 0 ? 0 : schedule().earliestStart[node];
+    }
+
+    /**
+     * The longest chain of dependent tasks, first task first; empty without dependencies.
+     */
+    synchronized long[] criticalPath() {
+        return schedule().criticalPath.clone();
+    }
+
+    /**
+     * Hands each node's task id and earliest start, in topological order.
+     */
+    synchronized void forEachEarliestStart(EarliestStartConsumer consumer) {
+        Schedule current = schedule();
+        for (int position = 0; position < size; position++) {
+            int node = nodeAt[position];
+            consumer.accept(taskIds[node], current.earliestStart[node]);
+        }
+    }
+
+    private Schedule schedule() {
+        if (schedule == null) {
+            schedule = computeSchedule();
+        }
+        return schedule;
+    }
+
+    /**
+     * Earliest start of every node, counted in tasks that must be done before it, and
+     * the critical path, both from one pass over the topological order.
+     */
+    private Schedule computeSchedule() {
+        int[] earliest = new int[size];
+        int[] via = new int[size];
+        Arrays.fill(via, 0, size, -1);
+        int last = -1;
+        for (int position = 0; position < size; position++) {
+            int node = nodeAt[position];
+            int[] next = successors[node];
+            for (int i = 0; i < successorCount[node]; i++) {
+                int successor = next[i];
+                if (earliest[node] + 1 > earliest[successor]) {
+                    earliest[successor] = earliest[node] + 1;
+                    via[successor] = node;
+                }
+            }
+            if (last < 0 || earliest[node] > earliest[last]) {
+                last = node;
+            }
+        }
+        if (last < 0 || earliest[last] == 0) {
+            // Only nodes whose edges were all removed since
+            return new Schedule(earliest, new long[0]);
+        }
+        long[] path = new long[earliest[last] + 1];
+        for (int node = last, i = path.length - 1; node >= 0; node = via[node], i--) {
+            path[i] = taskIds[node];
+        }
+        return new Schedule(earliest, path);
+    }
+
+    /**
+     * Nodes reachable from start without passing beyond position upper, or null if
+     * target is among them.
+     */
+    private int[] reachForward(int start, int upper, int target) {
+        stamp++;
+        IntStack stack = new IntStack();
+        IntStack reached = new IntStack();
+        stack.push(start);
+        marks[start] = stamp;
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            reached.push(node);
+            for (int i = 0; i < successorCount[node]; i++) {
+                int next = successors[node][i];
+                if (next == target) {
+                    return null;
+                }
+                if (marks[next] != stamp && order[next] < upper) {
+                    marks[next] = stamp;
+                    stack.push(next);
+                }
+            }
+        }
+        return reached.toArray();
+    }
+
+    /**
+     * Nodes that reach start without passing before position lower.
+     */
+    private int[] reachBackward(int start, int lower) {
+        stamp++;
+        IntStack stack = new IntStack();
+        IntStack reached = new IntStack();
+        stack.push(start);
+        marks[start] = stamp;
+        while (!stack.isEmpty()) {
+            int node = stack.pop();
+            reached.push(node);
+            for (int i = 0; i < predecessorCount[node]; i++) {
+                int previous = predecessors[node][i];
+                if (marks[previous] != stamp && order[previous] > lower) {
+                    marks[previous] = stamp;
+                    stack.push(previous);
+                }
+            }
+        }
+        return reached.toArray();
+    }
+
+    /**
+     * Hands the positions held by both sets back out, everything that reaches the new
+     * edge's tail first and everything its head reaches after, each keeping its own
+     * relative order.
+     */
+    private void reorder(int[] backward, int[] forward) {
+        sortByOrder(backward);
+        sortByOrder(forward);
+        int[] positions = new int[backward.length + forward.length];
+        int next = 0;
+        for (int node : backward) {
+            positions[next++] = order[node];
+        }
+        for (int node : forward) {
+            positions[next++] = order[node];
+        }
+        Arrays.sort(positions);
+        next = 0;
+        for (int node : backward) {
+            place(node, positions[next++]);
+        }
+        for (int node : forward) {
+            place(node, positions[next++]);
+        }
+    }
+
+    private void sortByOrder(int[] nodes) {
+        long[] keyed = new long[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            keyed[i] = ((long) order[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keyed);
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = (int) keyed[i];
+        }
+    }
+
+    private void place(int node, int position) {
+        order[node] = position;
+        nodeAt[position] = node;
+    }
+
+    /**
+     * Kahn's algorithm over the whole graph, used after a bulk load.
+     */
+    private void orderFromScratch() {
+        int[] remaining = Arrays.copyOf(predecessorCount, size);
+        int[] queue = new int[size];
+        int head = 0;
+        int tail = 0;
+        for (int node = 0; node < size; node++) {
+            if (remaining[node] == 0) {
+                queue[tail++] = node;
+            }
+        }
+        int position = 0;
+        while (head < tail) {
+            int node = queue[head++];
+            place(node, position++);
+            for (int i = 0; i < successorCount[node]; i++) {
+                int successor = successors[node][i];
+                if (--remaining[successor] == 0) {
+                    queue[tail++] = successor;
+                }
+            }
+        }
+        for (int node = 0; node < size && position < size; node++) {
+            if (remaining[node] > 0) {
+                place(node, position++);
+            }
+        }
+    }
+
+    private int node(long taskId) {
+        int node = index.get(taskId);
+        if (node >= 0) {
+            return node;
+        }
+        if (size == taskIds.length) {
+            grow();
+        }
+        node = size++;
+        taskIds[node] = taskId;
+        successors[node] = NO_EDGES;
+        predecessors[node] = NO_EDGES;
+        // A node without edges can go anywhere; the end keeps every other position valid
+        place(node, node);
+        index.put(taskId, node);
+        return node;
+    }
+
+    private void link(int from, int to) {
+        successors[from] = append(successors[from], successorCount[from]++, to);
+        predecessors[to] = append(predecessors[to], predecessorCount[to]++, from);
+    }
+
+    private void grow() {
+        int capacity = taskIds.length * 2;
+        taskIds = Arrays.copyOf(taskIds, capacity);
+        successors = Arrays.copyOf(successors, capacity);
+        successorCount = Arrays.copyOf(successorCount, capacity);
+        predecessors = Arrays.copyOf(predecessors, capacity);
+        predecessorCount = Arrays.copyOf(predecessorCount, capacity);
+        order = Arrays.copyOf(order, capacity);
+        nodeAt = Arrays.copyOf(nodeAt, capacity);
+        marks = Arrays.copyOf(marks, capacity);
+    }
+
+    private long[] taskIdsOf(int[] nodes, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = taskIds[nodes[i]];
+        }
+        return ids;
+    }
+
+    private static int[] append(int[] edges, int count, int node) {
+        int[] target = count < edges.length ? edges : Arrays.copyOf(edges, Math.max(INITIAL_DEGREE, count * 2));
+        target[count] = node;
+        return target;
+    }
+
+    private static int indexOf(int[] edges, int count, int node) {
+        for (int i = 0; i < count; i++) {
+            if (edges[i] == node) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private record Schedule(int[] earliestStart, long[] criticalPath) {}
+
+    @FunctionalInterface
+    interface EdgeSource {
+        void forEach(EdgeConsumer consumer);
+    }
+
+    @FunctionalInterface
+    interface EdgeConsumer {
+        void accept(long dependsOnId, long taskId);
+    }
+
+    @FunctionalInterface
+    interface EarliestStartConsumer {
+        void accept(long taskId, int earliestStart);
+    }
+
+    /**
+     * Open-addressing map from task id to node. Task ids are positive, so 0 marks a free slot.
+     */
+    private static final class NodeIndex {
+        private long[] keys = new long[INITIAL_NODES * 2];
+        private int[] values = new int[INITIAL_NODES * 2];
+        private int count;
+
+        int get(long key) {
+            int mask = keys.length - 1;
+            for (int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return values[slot];
+                }
+            }
+            return -1;
+        }
+
+        void put(long key, int value) {
+            if ((count + 1) * 2 > keys.length) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == 0) {
+                count++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[capacity];
+            values = new int[capacity];
+            count = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long mixed = key * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32)) & mask;
+        }
+    }
+
+    private static final class IntStack {
+        private int[] items = new int[16];
+        private int size;
+
+        void push(int item) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = item;
+        }
+
+        int pop() {
+            return items[--size];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
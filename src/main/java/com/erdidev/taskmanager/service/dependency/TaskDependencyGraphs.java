@@ -0,0 +1,54 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import com.erdidev.taskmanager.repository.TaskDependencyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * The dependency graphs of recently used projects, loaded on first use. A graph is
+ * served only while its version matches the one stored for its project, so a change
+ * made on another node is picked up on the next read there.
+ */
+@Slf4j
+@Component
+class TaskDependencyGraphs {
+    private final TaskDependencyRepository dependencyRepository;
+    private final Cache<Long, TaskDependencyGraph> graphs;
+
+    TaskDependencyGraphs(TaskDependencyRepository dependencyRepository,
+                         @Value("${taskmanager.dependencies.cached-projects:64}") long cachedProjects,
+                         @Value("${taskmanager.dependencies.idle-ttl:PT30M}") Duration idleTtl) {
+        this.dependencyRepository = dependencyRepository;
+        this.graphs = Caffeine.newBuilder()
+            .maximumSize(cachedProjects)
+            .expireAfterAccess(idleTtl)
+            .build();
+    }
+
+    /**
+     * The project's graph at the given version, loaded from the database unless the
+     * cached one is at that version. Call within the transaction that read the version.
+     */
+    TaskDependencyGraph get(Long projectId, long version) {
+        TaskDependencyGraph cached = graphs.getIfPresent(projectId);
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        long started = System.nanoTime();
+        TaskDependencyGraph graph = TaskDependencyGraph.load(version,
+            consumer -> dependencyRepository.forEachEdge(projectId, consumer::accept));
+        log.debug("Loaded dependency graph of project {} with {} tasks in {} ms", projectId, graph.nodeCount(),
+            (System.nanoTime() - started) / 1_000_000);
+        graphs.put(projectId, graph);
+        return graph;
+    }
+
+    void evict(Long projectId) {
+        graphs.invalidate(projectId);
+    }
+}
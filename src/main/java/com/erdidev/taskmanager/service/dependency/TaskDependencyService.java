@@ -0,0 +1,140 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import com.erdidev.taskmanager.dto.ProjectScheduleDto;
+import com.erdidev.taskmanager.dto.TaskDependenciesDto;
+import com.erdidev.taskmanager.exception.DependencyCycleException;
+import com.erdidev.taskmanager.exception.ProjectNotFoundException;
+import com.erdidev.taskmanager.exception.TaskNotFoundException;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskDependencyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * "Blocked by" relationships between the tasks of a project. Inserts are checked for
+ * cycles against the project's graph in memory, which is updated in place; the graph
+ * also answers the critical path and earliest starts without touching the database
+ * beyond a version probe.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskDependencyService {
+    private final TaskDependencyRepository dependencyRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskDependencyGraphs graphs;
+
+    @Transactional(readOnly = true)
+    public TaskDependenciesDto getDependencies(Long taskId) {
+        Long projectId = dependencyRepository.findProjectId(taskId);
+        if (projectId == null) {
+            throw new TaskNotFoundException(taskId);
+        }
+        return toDto(currentGraph(projectId), taskId);
+    }
+
+    /**
+     * Makes taskId wait for dependsOnId. Adding a dependency that exists is a no-op.
+     */
+    @Transactional
+    public TaskDependenciesDto addDependency(Long taskId, Long dependsOnId) {
+        log.debug("Adding dependency of task {} on task {}", taskId, dependsOnId);
+        if (taskId.equals(dependsOnId)) {
+            throw new IllegalArgumentException("A task cannot depend on itself");
+        }
+        Long projectId = lockTasksOfOneProject(taskId, dependsOnId);
+        long version = dependencyRepository.bumpVersion(projectId);
+        TaskDependencyGraph graph = graphs.get(projectId, version - 1);
+        TaskDependencyGraph.Insert insert = graph.check(dependsOnId, taskId);
+        if (insert == TaskDependencyGraph.Insert.CYCLE) {
+            throw new DependencyCycleException(taskId, dependsOnId);
+        }
+        beginChange(projectId, graph, version);
+        if (insert == TaskDependencyGraph.Insert.ADDED) {
+            dependencyRepository.insert(projectId, taskId, dependsOnId);
+            // Nothing else changes the graph meanwhile: the version row stays locked until commit
+            graph.add(dependsOnId, taskId);
+        }
+        return toDto(graph, taskId);
+    }
+
+    @Transactional
+    public TaskDependenciesDto removeDependency(Long taskId, Long dependsOnId) {
+        log.debug("Removing dependency of task {} on task {}", taskId, dependsOnId);
+        Long projectId = lockTasksOfOneProject(taskId, dependsOnId);
+        long version = dependencyRepository.bumpVersion(projectId);
+        TaskDependencyGraph graph = graphs.get(projectId, version - 1);
+        beginChange(projectId, graph, version);
+        if (dependencyRepository.delete(taskId, dependsOnId)) {
+            graph.remove(dependsOnId, taskId);
+        }
+        return toDto(graph, taskId);
+    }
+
+    @Transactional(readOnly = true)
+    public ProjectScheduleDto getSchedule(Long projectId) {
+        log.debug("Computing schedule of project: {}", projectId);
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        TaskDependencyGraph graph = currentGraph(projectId);
+        Map<Long, Integer> earliestStarts = new HashMap<>();
+        graph.forEachEarliestStart(earliestStarts::put);
+        return new ProjectScheduleDto(projectId, Arrays.stream(graph.criticalPath()).boxed().toList(), earliestStarts);
+    }
+
+    private TaskDependencyGraph currentGraph(Long projectId) {
+        return graphs.get(projectId, dependencyRepository.findVersion(projectId));
+    }
+
+    /**
+     * Locks both tasks against deletion and moves until commit and returns their project.
+     */
+    private Long lockTasksOfOneProject(Long taskId, Long dependsOnId) {
+        Map<Long, Long> projectIds = dependencyRepository.lockTasks(taskId, dependsOnId);
+        for (Long id : List.of(taskId, dependsOnId)) {
+            if (!projectIds.containsKey(id)) {
+                throw new TaskNotFoundException(id);
+            }
+        }
+        Long projectId = projectIds.get(taskId);
+        if (!projectId.equals(projectIds.get(dependsOnId))) {
+            throw new IllegalArgumentException("A task can only depend on tasks of its own project");
+        }
+        return projectId;
+    }
+
+    /**
+     * Readies the cached graph for a change made ahead of the commit. Moving it to the
+     * new version first makes readers of the committed version load their own rather
+     * than see the change early, and should the commit not happen, the next reader
+     * reloads it.
+     */
+    private void beginChange(Long projectId, TaskDependencyGraph graph, long version) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    graphs.evict(projectId);
+                }
+            }
+        });
+        graph.setVersion(version);
+    }
+
+    private static TaskDependenciesDto toDto(TaskDependencyGraph graph, Long taskId) {
+        return new TaskDependenciesDto(taskId,
+            Arrays.stream(graph.dependenciesOf(taskId)).boxed().toList(),
+            Arrays.stream(graph.dependentsOf(taskId)).boxed().toList(),
+            graph.earliestStart(taskId));
+    }
+}
@@ -0,0 +1,56 @@
+package com.erdidev.taskmanager.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header line. Fields holding a comma, quote or line break are
+ * quoted with embedded quotes doubled; null values are written as empty fields.
+ */
+class CsvTaskExportWriter implements TaskExportWriter {
+    static final String HEADER = "id,title,description,status,priority,dueDate,projectId,categoryId,"
+        + "ownerId,assigneeId,creatorId,createdAt,updatedAt";
+
+    private final Writer writer;
+
+    CsvTaskExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(TaskExportRow row) throws IOException {
+        Object[] fields = {row.id(), row.title(), row.description(), row.status(), row.priority(),
+            row.dueDate(), row.projectId(), row.categoryId(), row.ownerId(), row.assigneeId(),
+            row.creatorId(), row.createdAt(), row.updatedAt()};
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (fields[i] != null) {
+                writeField(fields[i].toString());
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
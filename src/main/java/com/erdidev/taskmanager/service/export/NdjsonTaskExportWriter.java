@@ -0,0 +1,33 @@
+package com.erdidev.taskmanager.service.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON object per line, serialized with the application's ObjectMapper so dates
+ * and enums look the same as in the rest of the API.
+ */
+class NdjsonTaskExportWriter implements TaskExportWriter {
+    private final ObjectWriter rowWriter;
+    private final OutputStream out;
+
+    NdjsonTaskExportWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.rowWriter = objectMapper.writerFor(TaskExportRow.class);
+        this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+    }
+
+    @Override
+    public void write(TaskExportRow row) throws IOException {
+        out.write(rowWriter.writeValueAsBytes(row));
+        out.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+}
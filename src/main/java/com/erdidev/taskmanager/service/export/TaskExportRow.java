@@ -0,0 +1,36 @@
+package com.erdidev.taskmanager.service.export;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One exported task. Project and category are taken as ids from their lazy
+ * references, so exporting a task never loads either of them.
+ */
+record TaskExportRow(
+    Long id,
+    String title,
+    String description,
+    TaskStatus status,
+    Priority priority,
+    LocalDateTime dueDate,
+    Long projectId,
+    Long categoryId,
+    Long ownerId,
+    Long assigneeId,
+    Long creatorId,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt
+) {
+    static TaskExportRow of(Task task) {
+        return new TaskExportRow(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+            task.getPriority(), task.getDueDate(),
+            task.getProject() != null ? task.getProject().getId() : null,
+            task.getCategory() != null ? task.getCategory().getId() : null,
+            task.getOwnerId(), task.getAssigneeId(), task.getCreatorId(),
+            task.getCreatedAt(), task.getUpdatedAt());
+    }
+}
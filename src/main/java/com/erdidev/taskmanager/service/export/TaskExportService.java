@@ -0,0 +1,61 @@
+package com.erdidev.taskmanager.service.export;
+
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Streams a project's tasks straight from a database cursor to the response. Each
+ * task is detached once written, so the persistence context and the heap stay the
+ * same size whether the project holds a hundred tasks or a million.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${taskmanager.export.flush-every:500}")
+    private int flushEvery;
+
+    /**
+     * Runs on the request's async thread, after the response headers are committed.
+     *
+     * @return the number of tasks written
+     */
+    @Transactional(readOnly = true)
+    public long export(Long projectId, TaskExportFormat format, OutputStream out) throws IOException {
+        TaskExportWriter writer = switch (format) {
+            case CSV -> new CsvTaskExportWriter(out);
+            case NDJSON -> new NdjsonTaskExportWriter(objectMapper, out);
+        };
+        long written = 0;
+        try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                writer.write(TaskExportRow.of(task));
+                entityManager.detach(task);
+                if (++written % flushEvery == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+        log.info("Exported {} tasks of project {} as {}", written, projectId, format);
+        return written;
+    }
+}
@@ -0,0 +1,15 @@
+package com.erdidev.taskmanager.service.export;
+
+import java.io.IOException;
+
+/**
+ * Writes exported rows to a buffered stream. Nothing reaches the client until
+ * {@link #flush()}, which the export calls every few hundred rows and at the end.
+ */
+interface TaskExportWriter {
+    int BUFFER_SIZE = 64 * 1024;
+
+    void write(TaskExportRow row) throws IOException;
+
+    void flush() throws IOException;
+}
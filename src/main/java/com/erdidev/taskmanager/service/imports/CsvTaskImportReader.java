@@ -0,0 +1,120 @@
+package com.erdidev.taskmanager.service.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV whose first line names the columns, in any order and case. Quoted
+ * fields may hold commas, doubled quotes and line breaks; blank lines are skipped.
+ */
+class CsvTaskImportReader implements TaskImportReader {
+    private final Reader reader;
+    private List<String> header;
+    private long line = 1;
+    private int pending = -2;
+
+    CsvTaskImportReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public TaskImportRecord next() throws IOException {
+        if (header == null) {
+            List<String> names = readRecord();
+            if (names == null) {
+                return null;
+            }
+            header = names.stream().map(name -> name.strip().toLowerCase(Locale.ROOT)).toList();
+        }
+        long start = line;
+        List<String> values = readRecord();
+        while (values != null && values.size() == 1 && "".equals(values.get(0))) {
+            start = line;
+            values = readRecord();
+        }
+        if (values == null) {
+            return null;
+        }
+        if (values.size() == 1 && values.get(0) == null) {
+            return TaskImportRecord.invalid(start, "Unterminated quoted field");
+        }
+        if (values.size() != header.size()) {
+            return TaskImportRecord.invalid(start,
+                "Expected " + header.size() + " fields but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            fields.put(header.get(i), values.get(i));
+        }
+        return TaskImportRecord.of(start, fields);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @return the fields of the next record, a single null field if the input ends inside
+     *         quotes, or null at the end of the input
+     */
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    return Collections.singletonList(null);
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pending = next;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    field.append((char) c);
+                }
+            } else if (c == -1 || c == '\n') {
+                if (c == '\n') {
+                    line++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,37 @@
+package com.erdidev.taskmanager.service.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Accepted import formats, chosen by the request's Content-Type.
+ */
+public enum TaskImportFormat {
+    CSV(MediaType.parseMediaType(TaskImportFormat.CSV_VALUE)),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    TaskImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static TaskImportFormat of(MediaType contentType) {
+        return Arrays.stream(values())
+            .filter(format -> format.mediaType.equalsTypeAndSubtype(contentType))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("Unsupported import content type: " + contentType));
+    }
+
+    TaskImportReader open(Reader reader, ObjectMapper objectMapper) {
+        return switch (this) {
+            case CSV -> new CsvTaskImportReader(reader);
+            case NDJSON -> new NdjsonTaskImportReader(reader, objectMapper);
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.erdidev.taskmanager.service.imports;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an upload one record at a time, so a file of any size is parsed in constant memory.
+ * A record that cannot be parsed is returned as invalid and reading goes on with the next.
+ */
+interface TaskImportReader extends Closeable {
+
+    /**
+     * @return the next record, or null at the end of the input
+     */
+    TaskImportRecord next() throws IOException;
+}
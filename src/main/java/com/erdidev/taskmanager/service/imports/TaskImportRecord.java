@@ -0,0 +1,24 @@
+package com.erdidev.taskmanager.service.imports;
+
+import java.util.Map;
+
+/**
+ * One input record by lower-cased field name, or the reason it could not be read.
+ *
+ * @param line the line the record starts on, counting from 1
+ */
+record TaskImportRecord(long line, Map<String, String> fields, String error) {
+
+    static TaskImportRecord of(long line, Map<String, String> fields) {
+        return new TaskImportRecord(line, fields, null);
+    }
+
+    static TaskImportRecord invalid(long line, String error) {
+        return new TaskImportRecord(line, Map.of(), error);
+    }
+
+    String field(String name) {
+        String value = fields.get(name);
+        return value == null || value.isBlank() ? null : value.strip();
+    }
+}
@@ -0,0 +1,95 @@
+package com.erdidev.taskmanager.service.imports;
+
+import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.repository.TaskImportRepository;
+import com.erdidev.taskmanager.service.CategoryService;
+import com.erdidev.taskmanager.service.ProjectService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves project and category names to ids for one import job. Only the names the
+ * records refer to are read: project names one chunk at a time, and a project's
+ * categories when a record first names one of them. A name that does not exist yet is
+ * created through the regular services on first use. Every resolved name is
+ * remembered, so later records reuse it.
+ */
+class TaskImportReferences {
+    private final TaskImportRepository importRepository;
+    private final ProjectService projectService;
+    private final CategoryService categoryService;
+    private final Validator validator;
+    private final Map<String, Long> projects = new HashMap<>();
+    private final Map<Long, Map<String, Long>> categories = new HashMap<>();
+
+    TaskImportReferences(TaskImportRepository importRepository, ProjectService projectService,
+                         CategoryService categoryService, Validator validator) {
+        this.importRepository = importRepository;
+        this.projectService = projectService;
+        this.categoryService = categoryService;
+        this.validator = validator;
+    }
+
+    /**
+     * Looks up, in one query, the projects named that were not resolved before.
+     */
+    void loadProjects(Collection<String> names) {
+        Set<String> keys = names.stream()
+            .map(TaskImportRepository::nameKey)
+            .filter(key -> !projects.containsKey(key))
+            .collect(Collectors.toSet());
+        projects.putAll(importRepository.findProjectIdsByName(keys));
+    }
+
+    /**
+     * @throws IllegalArgumentException if the project does not exist and the name is not valid for a new one
+     */
+    Long projectId(String name) {
+        String key = TaskImportRepository.nameKey(name);
+        Long id = projects.get(key);
+        if (id == null) {
+            ProjectDto project = new ProjectDto();
+            project.setName(name.strip());
+            requireValid(project);
+            id = projectService.createProject(project).getId();
+            projects.put(key, id);
+            categories.put(id, new HashMap<>());
+        }
+        return id;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the category does not exist and the name is not valid for a new one
+     */
+    Long categoryId(Long projectId, String name) {
+        String key = TaskImportRepository.nameKey(name);
+        Map<String, Long> projectCategories =
+            categories.computeIfAbsent(projectId, importRepository::findCategoryIdsByName);
+        Long id = projectCategories.get(key);
+        if (id == null) {
+            CategoryDto category = new CategoryDto();
+            category.setName(name.strip());
+            requireValid(category);
+            id = categoryService.createCategory(projectId, category).getId();
+            projectCategories.put(key, id);
+        }
+        return id;
+    }
+
+    private <T> void requireValid(T dto) {
+        String violations = validator.validate(dto).stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations);
+        }
+    }
+}
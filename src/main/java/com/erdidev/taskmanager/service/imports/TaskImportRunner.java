@@ -0,0 +1,243 @@
+package com.erdidev.taskmanager.service.imports;
+
+import com.erdidev.taskmanager.dto.TaskBatchItemResult;
+import com.erdidev.taskmanager.dto.TaskBatchResult;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.dto.TaskImportErrorDto;
+import com.erdidev.taskmanager.exception.ProjectNotFoundException;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskImportStatus;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.TaskImportRepository;
+import com.erdidev.taskmanager.service.CategoryService;
+import com.erdidev.taskmanager.service.ProjectService;
+import com.erdidev.taskmanager.service.TaskBatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Runs one import job over its spooled upload. Records are read one at a time and
+ * written through the batch API in chunks, each chunk in its own transaction, so an
+ * import of any size holds one chunk in memory. Progress is stored after every chunk,
+ * which is also where a cancel request is noticed; chunks written before it stay.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class TaskImportRunner {
+    private final TaskImportRepository importRepository;
+    private final TaskBatchService batchService;
+    private final ProjectService projectService;
+    private final CategoryService categoryService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @Value("${taskmanager.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${taskmanager.import.max-errors:1000}")
+    private int maxErrors;
+
+    void run(long jobId, Path upload, TaskImportFormat format) {
+        if (!importRepository.startJob(jobId)) {
+            importRepository.finishJob(jobId, TaskImportStatus.CANCELLED, null);
+            return;
+        }
+        log.info("Starting task import job {}", jobId);
+        Progress progress = new Progress(jobId);
+        try (TaskImportReader reader = format.open(Files.newBufferedReader(upload, StandardCharsets.UTF_8), objectMapper)) {
+            TaskImportReferences references =
+                new TaskImportReferences(importRepository, projectService, categoryService, validator);
+            Chunk chunk = new Chunk();
+            TaskImportRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    if (!write(chunk, references, progress)) {
+                        return;
+                    }
+                    chunk = new Chunk();
+                }
+            }
+            if (chunk.size() > 0 && !write(chunk, references, progress)) {
+                return;
+            }
+            importRepository.finishJob(jobId, TaskImportStatus.COMPLETED, progress.droppedErrors > 0
+                ? "Only the first " + maxErrors + " errors were kept; " + progress.droppedErrors + " more were dropped"
+                : null);
+            log.info("Finished task import job {}", jobId);
+        } catch (IOException | RuntimeException ex) {
+            log.error("Task import job {} failed", jobId, ex);
+            importRepository.finishJob(jobId, TaskImportStatus.FAILED, ex.getMessage());
+        }
+    }
+
+    /**
+     * @return false if the job was cancelled or interrupted and must stop
+     */
+    private boolean write(Chunk chunk, TaskImportReferences references, Progress progress) {
+        chunk.resolve(references);
+        long imported = 0;
+        if (!chunk.tasks.isEmpty()) {
+            TaskBatchResult result = batchService.createTasks(chunk.tasks);
+            imported = result.succeeded();
+            for (TaskBatchItemResult item : result.items()) {
+                if (!item.outcome().succeeded()) {
+                    chunk.errors.add(new TaskImportErrorDto(chunk.lines.get(item.index()), item.error()));
+                }
+            }
+        }
+        TaskImportStatus status = importRepository.recordProgress(
+            progress.jobId, chunk.records, imported, progress.keep(chunk.errors));
+        if (status == TaskImportStatus.CANCELLING) {
+            log.info("Task import job {} cancelled", progress.jobId);
+            importRepository.finishJob(progress.jobId, TaskImportStatus.CANCELLED, null);
+            return false;
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            importRepository.finishJob(progress.jobId, TaskImportStatus.FAILED, "Interrupted by shutdown");
+            return false;
+        }
+        return true;
+    }
+
+    private static TaskDto toTask(TaskImportRecord record, TaskImportReferences references) {
+        TaskDto task = new TaskDto();
+        task.setTitle(record.field("title"));
+        task.setDescription(record.field("description"));
+        String status = record.field("status");
+        if (status != null) {
+            task.setStatus(parseEnum(TaskStatus.class, "status", status));
+        }
+        String priority = record.field("priority");
+        if (priority != null) {
+            task.setPriority(parseEnum(Priority.class, "priority", priority));
+        }
+        String dueDate = record.field("duedate");
+        if (dueDate != null) {
+            task.setDueDate(parseDateTime(dueDate));
+        }
+        String assigneeId = record.field("assigneeid");
+        if (assigneeId != null) {
+            task.setAssigneeId(parseId("assigneeId", assigneeId));
+        }
+
+        String projectId = record.field("projectid");
+        String project = record.field("project");
+        if (projectId != null) {
+            task.setProjectId(parseId("projectId", projectId));
+        } else if (project != null) {
+            task.setProjectId(references.projectId(project));
+        }
+        String categoryId = record.field("categoryid");
+        String category = record.field("category");
+        if (categoryId != null) {
+            task.setCategoryId(parseId("categoryId", categoryId));
+        } else if (category != null && task.getProjectId() != null) {
+            task.setCategoryId(references.categoryId(task.getProjectId(), category));
+        }
+        return task;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String field, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        try {
+            return value.length() == 10 ? LocalDate.parse(value).atStartOfDay() : LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid dueDate: " + value);
+        }
+    }
+
+    private static Long parseId(String field, String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    /**
+     * Records read since the last write, and once resolved, the tasks to create, the line
+     * each starts on, and the records rejected so far.
+     */
+    private static class Chunk {
+        final List<TaskImportRecord> readable = new ArrayList<>();
+        final List<TaskDto> tasks = new ArrayList<>();
+        final List<Long> lines = new ArrayList<>();
+        final List<TaskImportErrorDto> errors = new ArrayList<>();
+        long records;
+
+        void add(TaskImportRecord record) {
+            records++;
+            if (record.error() != null) {
+                errors.add(new TaskImportErrorDto(record.line(), record.error()));
+            } else {
+                readable.add(record);
+            }
+        }
+
+        void resolve(TaskImportReferences references) {
+            // Project names given without an id, looked up together
+            references.loadProjects(readable.stream()
+                .filter(record -> record.field("projectid") == null)
+                .map(record -> record.field("project"))
+                .filter(Objects::nonNull)
+                .toList());
+            for (TaskImportRecord record : readable) {
+                try {
+                    tasks.add(toTask(record, references));
+                    lines.add(record.line());
+                } catch (IllegalArgumentException | ProjectNotFoundException ex) {
+                    errors.add(new TaskImportErrorDto(record.line(), ex.getMessage()));
+                }
+            }
+        }
+
+        long size() {
+            return records;
+        }
+    }
+
+    /**
+     * Caps the errors stored per job so a file of broken records cannot flood the table.
+     */
+    private class Progress {
+        final long jobId;
+        long storedErrors;
+        long droppedErrors;
+
+        Progress(long jobId) {
+            this.jobId = jobId;
+        }
+
+        List<TaskImportErrorDto> keep(List<TaskImportErrorDto> errors) {
+            int room = (int) Math.max(0, Math.min(errors.size(), maxErrors - storedErrors));
+            storedErrors += room;
+            droppedErrors += errors.size() - room;
+            return errors.subList(0, room);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.erdidev.taskmanager.service.imports;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.taskmanager.dto.TaskImportErrorDto;
+import com.erdidev.taskmanager.dto.TaskImportJobDto;
+import com.erdidev.taskmanager.exception.TaskImportJobNotFoundException;
+import com.erdidev.taskmanager.model.TaskImportStatus;
+import com.erdidev.taskmanager.repository.TaskImportRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Accepts task imports and runs them in the background. The upload is spooled to a
+ * temporary file before the request returns; a bounded pool then works through the
+ * queued jobs as the user who submitted them. Job state lives in the database, so
+ * progress, errors and cancellation work from any node.
+ */
+@Slf4j
+@Service
+public class TaskImportService {
+    private static final int MAX_ERROR_PAGE = 1000;
+
+    private final TaskImportRepository importRepository;
+    private final TaskImportRunner runner;
+    private final Set<Long> localJobs = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+
+    @Value("${taskmanager.import.concurrency:2}")
+    private int concurrency;
+
+    @Value("${taskmanager.import.max-size:100MB}")
+    private DataSize maxSize;
+
+    @Value("${taskmanager.import.retention:P7D}")
+    private Duration retention;
+
+    public TaskImportService(TaskImportRepository importRepository, TaskImportRunner runner) {
+        this.importRepository = importRepository;
+        this.runner = runner;
+    }
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newFixedThreadPool(concurrency,
+            Thread.ofPlatform().name("task-import-", 0).daemon().factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+        // Jobs still queued here would otherwise stay QUEUED forever
+        localJobs.forEach(jobId ->
+            importRepository.finishJob(jobId, TaskImportStatus.FAILED, "Interrupted by shutdown"));
+    }
+
+    public TaskImportJobDto submit(TaskImportFormat format, InputStream body) throws IOException {
+        Long ownerId = SecurityUtils.getCurrentUserId();
+        Path upload = Files.createTempFile("task-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            spool(body, upload);
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(upload);
+            throw ex;
+        }
+        long jobId = importRepository.createJob(ownerId, format.name());
+        localJobs.add(jobId);
+        executor.execute(new DelegatingSecurityContextRunnable(() -> {
+            try {
+                runner.run(jobId, upload, format);
+            } finally {
+                localJobs.remove(jobId);
+                deleteQuietly(upload);
+            }
+        }));
+        log.info("Queued task import job {} ({})", jobId, format);
+        return getJob(jobId);
+    }
+
+    public TaskImportJobDto getJob(Long jobId) {
+        return importRepository.findJob(jobId, SecurityUtils.getCurrentUserId())
+            .orElseThrow(() -> new TaskImportJobNotFoundException(jobId));
+    }
+
+    /**
+     * Asks the job to stop after its current chunk. A job that already finished is returned as is.
+     */
+    public TaskImportJobDto cancel(Long jobId) {
+        importRepository.requestCancel(jobId, SecurityUtils.getCurrentUserId());
+        return getJob(jobId);
+    }
+
+    public List<TaskImportErrorDto> getErrors(Long jobId, long afterLine, int limit) {
+        getJob(jobId);
+        return importRepository.findErrors(jobId, afterLine, Math.max(1, Math.min(limit, MAX_ERROR_PAGE)));
+    }
+
+    @Scheduled(cron = "${taskmanager.import.purge-cron:0 15 4 * * *}")
+    @LeaderOnly("task-import-purge")
+    public void purgeFinishedJobs() {
+        int purged = importRepository.deleteFinishedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} finished task import jobs", purged);
+        }
+    }
+
+    private void spool(InputStream body, Path upload) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long total = 0;
+        try (OutputStream out = Files.newOutputStream(upload)) {
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                total += read;
+                if (total > maxSize.toBytes()) {
+                    throw new IllegalArgumentException("Import exceeds the maximum size of " + maxSize);
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException ex) {
+            log.warn("Could not delete import upload {}", upload, ex);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.erdidev.taskmanager.service.overdue;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.taskmanager.event.TaskOverdueEvent;
+import com.erdidev.taskmanager.repository.OverdueTask;
+import com.erdidev.taskmanager.repository.OverdueTaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Flags open tasks as they pass their due date, which is the set the overdue listing
+ * reads, and publishes one {@link TaskOverdueEvent} per newly flagged task. Each batch
+ * is flagged by a single statement that commits on its own, so a task is announced at
+ * most once per time it falls overdue.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OverdueTaskDetector {
+    private final OverdueTaskRepository overdueTaskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${taskmanager.overdue.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${taskmanager.overdue.detect-interval:60000}")
+    @LeaderOnly("overdue-detector")
+    public void detect() {
+        LocalDateTime now = LocalDateTime.now();
+        int cleared = overdueTaskRepository.clearResolved(now);
+        int flagged = 0;
+        List<OverdueTask> batch;
+        do {
+            batch = overdueTaskRepository.flagNewlyOverdue(now, batchSize);
+            for (OverdueTask task : batch) {
+                eventPublisher.publishEvent(new TaskOverdueEvent(task.id(), task.title(), task.dueDate(),
+                    task.ownerId(), task.assigneeId()));
+            }
+            flagged += batch.size();
+        } while (batch.size() == batchSize);
+        if (flagged > 0 || cleared > 0) {
+            log.info("Flagged {} newly overdue tasks, unflagged {} resolved ones", flagged, cleared);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.erdidev.taskmanager.service.search;
+
+import java.time.LocalDateTime;
+
+/**
+ * The searchable text of one task, read with a single projection query.
+ */
+public record TaskSearchDocument(
+    Long taskId,
+    String title,
+    String description,
+    String projectName,
+    String categoryName,
+    LocalDateTime updatedAt
+) {
+}
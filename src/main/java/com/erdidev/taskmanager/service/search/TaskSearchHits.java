@@ -0,0 +1,9 @@
+package com.erdidev.taskmanager.service.search;
+
+import java.util.List;
+
+/**
+ * One page of search results, best match first.
+ */
+public record TaskSearchHits(long totalHits, List<Long> taskIds) {
+}
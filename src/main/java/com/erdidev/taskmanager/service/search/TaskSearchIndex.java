@@ -0,0 +1,247 @@
+package com.erdidev.taskmanager.service.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inverted index over task title, description, project name and category name. Every
+ * query term must match in at least one field, either exactly or as a prefix. Title
+ * matches rank highest. The index is node-local and disposable: it is rebuilt from the
+ * database on every start, so writes are never committed to disk one by one.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex {
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String DESCRIPTION = "description";
+    static final String PROJECT = "project";
+    static final String CATEGORY = "category";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+        TITLE, 4f,
+        PROJECT, 2f,
+        CATEGORY, 2f,
+        DESCRIPTION, 1f);
+    // A prefix match ("plan" for "planning") counts for less than the whole word
+    private static final float PREFIX_WEIGHT = 0.5f;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private Path indexPath;
+    private boolean temporaryPath;
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    @Value("${taskmanager.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${taskmanager.search.index-dir:}")
+    private String indexDir;
+
+    @Value("${taskmanager.search.ram-buffer-mb:64}")
+    private double ramBufferMb;
+
+    @PostConstruct
+    public void open() throws IOException {
+        if (!enabled) {
+            log.info("Task search index disabled, searches run against the database");
+            return;
+        }
+        temporaryPath = !StringUtils.hasText(indexDir);
+        indexPath = temporaryPath ? Files.createTempDirectory("taskmanager-search") : Path.of(indexDir);
+        directory = FSDirectory.open(indexPath);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+            .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+            .setRAMBufferSizeMB(ramBufferMb));
+        searcherManager = new SearcherManager(writer, null);
+        log.info("Task search index opened at {}", indexPath);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ready = false;
+        if (!enabled) {
+            return;
+        }
+        IOUtils.close(searcherManager, writer, directory, analyzer);
+        if (temporaryPath) {
+            IOUtils.rm(indexPath);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Whether the index holds every task and may answer searches.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    void markReady() {
+        ready = true;
+    }
+
+    public void index(Collection<TaskSearchDocument> documents) {
+        try {
+            for (TaskSearchDocument document : documents) {
+                writer.updateDocument(idTerm(document.taskId()), toLuceneDocument(document));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index tasks", e);
+        }
+    }
+
+    public void delete(Collection<Long> taskIds) {
+        try {
+            writer.deleteDocuments(taskIds.stream().map(TaskSearchIndex::idTerm).toArray(Term[]::new));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to remove tasks from the search index", e);
+        }
+    }
+
+    /**
+     * Flushes buffered changes so they survive a crash of the writer; searches see
+     * changes without it.
+     */
+    void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit the search index", e);
+        }
+    }
+
+    public TaskSearchHits search(String text, Pageable pageable) {
+        Query query = buildQuery(text);
+        if (query == null || pageable.getOffset() >= Integer.MAX_VALUE - pageable.getPageSize()) {
+            return new TaskSearchHits(0, List.of());
+        }
+        int offset = (int) pageable.getOffset();
+        int limit = pageable.getPageSize();
+        try {
+            // Reopens only when something was written since the last search
+            searcherManager.maybeRefresh();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query,
+                    new TopScoreDocCollectorManager(offset + limit, null, Integer.MAX_VALUE));
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> taskIds = new ArrayList<>(limit);
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    taskIds.add(Long.valueOf(storedFields.document(scoreDocs[i].doc).get(ID)));
+                }
+                return new TaskSearchHits(topDocs.totalHits.value, taskIds);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search tasks", e);
+        }
+    }
+
+    Query buildQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                anyField.add(new BoostQuery(new TermQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+                if (term.length() >= MIN_PREFIX_LENGTH) {
+                    anyField.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost * PREFIX_WEIGHT),
+                        BooleanClause.Occur.SHOULD);
+                }
+            });
+            query.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (!StringUtils.hasText(text)) {
+            return terms;
+        }
+        try (TokenStream tokens = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken() && terms.size() < MAX_QUERY_TERMS) {
+                terms.add(term.toString());
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search query", e);
+        }
+        return terms;
+    }
+
+    private static Document toLuceneDocument(TaskSearchDocument task) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(task.taskId()), Field.Store.YES));
+        addText(document, TITLE, task.title());
+        addText(document, DESCRIPTION, task.description());
+        addText(document, PROJECT, task.projectName());
+        addText(document, CATEGORY, task.categoryName());
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null) {
+            document.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private static Term idTerm(Long taskId) {
+        return new Term(ID, String.valueOf(taskId));
+    }
+}
@@ -0,0 +1,211 @@
+package com.erdidev.taskmanager.service.search;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * Keeps {@link TaskSearchIndex} in step with the tasks table. The index is filled in the
+ * background after startup; until then searches fall back to the database. Task writes
+ * on this node are applied as soon as they commit, and so is a project or category
+ * rename, by reindexing that project's or category's tasks in batches. Writes on other
+ * nodes are picked up by a periodic scan of recently updated tasks, projects and
+ * categories. Tasks deleted on other nodes stay in
+ * this index until restart, but search results are loaded from the database, so they
+ * never surface.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskSearchIndexer {
+    private final TaskSearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final CategoryRepository categoryRepository;
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile LocalDateTime catchUpWatermark;
+
+    @Value("${taskmanager.search.batch-size:2000}")
+    private int batchSize;
+
+    // Reaches back over transactions that committed after later-stamped ones
+    @Value("${taskmanager.search.catch-up-overlap:PT2M}")
+    private Duration catchUpOverlap;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRebuild() {
+        if (searchIndex.isEnabled()) {
+            Thread.ofVirtual().name("task-search-rebuild").start(this::rebuild);
+        }
+    }
+
+    void rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        rebuilding = true;
+        long indexed = 0;
+        try {
+            long lastId = 0;
+            List<TaskSearchDocument> batch;
+            do {
+                batch = taskRepository.findSearchDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+                searchIndex.index(batch);
+                indexed += batch.size();
+                if (!batch.isEmpty()) {
+                    lastId = batch.getLast().taskId();
+                }
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Failed to build the task search index after {} tasks, searches stay on the database", indexed, e);
+            return;
+        } finally {
+            rebuilding = false;
+        }
+
+        // A batch read before a concurrent write may have overwritten the newer document
+        Set<Long> changed = new HashSet<>(changedDuringRebuild);
+        changedDuringRebuild.removeAll(changed);
+        reindex(changed);
+
+        searchIndex.commit();
+        catchUpWatermark = startedAt;
+        searchIndex.markReady();
+        log.info("Indexed {} tasks for search in {} ms", indexed, Duration.ofNanos(System.nanoTime() - started).toMillis());
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!searchIndex.isEnabled()) {
+            return;
+        }
+        try {
+            if (rebuilding) {
+                changedDuringRebuild.add(event.taskId());
+            }
+            reindex(List.of(event.taskId()));
+        } catch (Exception e) {
+            log.warn("Failed to update task {} in the search index", event.taskId(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        // Deleting a project deletes its tasks, each of which publishes its own event
+        if (searchIndex.isEnabled() && event.changeType() == ChangeType.UPDATED) {
+            try {
+                reindexProject(event.projectId());
+            } catch (Exception e) {
+                log.warn("Failed to reindex the tasks of project {}", event.projectId(), e);
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        // A category can only be deleted once no task refers to it
+        if (searchIndex.isEnabled() && event.changeType() == ChangeType.UPDATED) {
+            try {
+                reindexCategory(event.categoryId());
+            } catch (Exception e) {
+                log.warn("Failed to reindex the tasks of category {}", event.categoryId(), e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${taskmanager.search.catch-up-interval:30000}")
+    public void catchUp() {
+        LocalDateTime watermark = catchUpWatermark;
+        if (!searchIndex.isReady() || watermark == null) {
+            return;
+        }
+        LocalDateTime windowStart = watermark.minus(catchUpOverlap);
+        LocalDateTime since = windowStart;
+        long afterId = 0;
+        List<TaskSearchDocument> batch;
+        do {
+            batch = taskRepository.findSearchDocumentsUpdatedSince(since, afterId, PageRequest.of(0, batchSize));
+            searchIndex.index(batch);
+            if (!batch.isEmpty()) {
+                TaskSearchDocument last = batch.getLast();
+                since = last.updatedAt();
+                afterId = last.taskId();
+                if (since.isAfter(watermark)) {
+                    watermark = since;
+                }
+            }
+        } while (batch.size() == batchSize);
+
+        // A rename leaves the tasks' own timestamps alone; the task pages above moved since
+        projectRepository.findIdsUpdatedSince(windowStart).forEach(this::reindexProject);
+        categoryRepository.findIdsUpdatedSince(windowStart).forEach(this::reindexCategory);
+        catchUpWatermark = watermark;
+    }
+
+    private void reindexProject(Long projectId) {
+        reindexBatches((afterId, page) -> taskRepository.findSearchDocumentsByProjectIdAfter(projectId, afterId, page));
+    }
+
+    private void reindexCategory(Long categoryId) {
+        reindexBatches((afterId, page) -> taskRepository.findSearchDocumentsByCategoryIdAfter(categoryId, afterId, page));
+    }
+
+    private void reindexBatches(BiFunction<Long, Pageable, List<TaskSearchDocument>> batchAfter) {
+        long lastId = 0;
+        List<TaskSearchDocument> batch;
+        do {
+            batch = batchAfter.apply(lastId, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return;
+            }
+            if (rebuilding) {
+                batch.forEach(document -> changedDuringRebuild.add(document.taskId()));
+            }
+            searchIndex.index(batch);
+            lastId = batch.getLast().taskId();
+        } while (batch.size() == batchSize);
+    }
+
+    private void reindex(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<TaskSearchDocument> documents = taskRepository.findSearchDocumentsByIdIn(taskIds);
+        searchIndex.index(documents);
+
+        List<Long> removed = new ArrayList<>(taskIds);
+        documents.forEach(document -> removed.remove(document.taskId()));
+        if (!removed.isEmpty()) {
+            searchIndex.delete(removed);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.erdidev.taskmanager.service.stats;
+
+import com.erdidev.common.cluster.LeaderOnly;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recounts every project's tasks now and then and corrects counters that drifted, for
+ * instance through rows changed by hand in the database. Each project is recounted in
+ * its own short transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectStatsReconciler {
+    private final ProjectTaskCountRepository countRepository;
+
+    @Scheduled(cron = "${taskmanager.project-stats.reconcile-cron:0 30 3 * * *}")
+    @LeaderOnly("project-stats-reconcile")
+    public void reconcile() {
+        List<Long> projectIds = countRepository.findProjectIds();
+        int corrected = 0;
+        int failed = 0;
+        for (Long projectId : projectIds) {
+            try {
+                int drifted = countRepository.reconcile(projectId);
+                if (drifted > 0) {
+                    log.warn("Corrected {} task counters of project {}", drifted, projectId);
+                    corrected += drifted;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to reconcile task counters of project {}", projectId, e);
+            }
+        }
+        log.info("Reconciled task counters of {} projects: {} counters corrected, {} projects failed",
+            projectIds.size(), corrected, failed);
+    }
+}
@@ -0,0 +1,76 @@
+package com.erdidev.taskmanager.service.stats;
+
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the per-project task counters in step with task writes. Changes are summed
+ * per counter for the whole transaction and applied as atomic increments just before
+ * it commits, so a batch of a thousand tasks costs one upsert per counter it touches,
+ * and the counter rows stay locked only for the commit itself.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectTaskCounters {
+    private final ProjectTaskCountRepository countRepository;
+
+    public void added(Task task) {
+        adjust(TaskCountKey.of(task), 1);
+    }
+
+    public void removed(TaskCountKey key) {
+        adjust(key, -1);
+    }
+
+    public void moved(TaskCountKey before, TaskCountKey after) {
+        if (!before.equals(after)) {
+            adjust(before, -1);
+            adjust(after, 1);
+        }
+    }
+
+    public void adjust(TaskCountKey key, long delta) {
+        if (key.projectId() == null || key.status() == null) {
+            // Such a task fails the NOT NULL constraints on insert; there is nothing to count
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            countRepository.applyDeltas(Map.of(key, delta));
+            return;
+        }
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.deltas.merge(key, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private final class PendingDeltas implements TransactionSynchronization {
+        private final Map<TaskCountKey, Long> deltas = new HashMap<>();
+
+        @Override
+        public int getOrder() {
+            // Ahead of the change log, which takes its commit-order lock last
+            return 0;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            countRepository.applyDeltas(deltas);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ProjectTaskCounters.this);
+        }
+    }
+}
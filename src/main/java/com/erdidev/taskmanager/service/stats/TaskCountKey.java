@@ -0,0 +1,24 @@
+package com.erdidev.taskmanager.service.stats;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+
+import java.util.Comparator;
+
+/**
+ * One cell of a project's task counters. Priority is null for tasks without one.
+ */
+public record TaskCountKey(Long projectId, TaskStatus status, Priority priority) {
+
+    // Counter rows are always locked in this order, so concurrent commits cannot deadlock
+    public static final Comparator<TaskCountKey> LOCK_ORDER = Comparator
+        .comparing(TaskCountKey::projectId)
+        .thenComparing(TaskCountKey::status)
+        .thenComparing(TaskCountKey::priority, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    public static TaskCountKey of(Task task) {
+        Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+        return new TaskCountKey(projectId, task.getStatus(), task.getPriority());
+    }
+}
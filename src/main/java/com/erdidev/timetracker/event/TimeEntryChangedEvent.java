@@ -0,0 +1,6 @@
+package com.erdidev.timetracker.event;
+
+import com.erdidev.common.event.ChangeType;
+
+public record TimeEntryChangedEvent(Long timeEntryId, ChangeType changeType, Long userId) {
+}
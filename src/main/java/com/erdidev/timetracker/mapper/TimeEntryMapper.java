@@ -2,6 +2,7 @@ package com.erdidev.timetracker.mapper;
 
 import com.erdidev.timetracker.dto.TimeEntryDto;
 import com.erdidev.timetracker.model.TimeEntry;
+import com.erdidev.timetracker.repository.TimeEntryRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,6 +16,8 @@ public interface TimeEntryMapper {
     @Mapping(source = "task.id", target = "taskId")
     @Mapping(source = "task.title", target = "taskTitle")
     TimeEntryDto toDto(TimeEntry entity);
+
+    TimeEntryDto toDto(TimeEntryRow row);
     
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "task", ignore = true)
@@ -14,13 +14,23 @@ import java.util.Optional;
 
 @Repository
 public interface TimeEntryRepository extends JpaRepository<TimeEntry, Long> {
+    String SELECT_ROWS = "SELECT new com.erdidev.timetracker.repository.TimeEntryRow(e.id, t.id, t.title, " +
+           "e.startTime, e.endTime, e.durationSeconds, e.description, e.userId, e.billable, e.status, " +
+           "e.createdAt, e.updatedAt) FROM TimeEntry e JOIN e.task t";
+    String COUNT_ROWS = "SELECT count(e) FROM TimeEntry e";
     
-    Page<TimeEntry> findByUserId(Long userId, Pageable pageable);
+    @Query(value = SELECT_ROWS + " WHERE e.userId = :userId", countQuery = COUNT_ROWS + " WHERE e.userId = :userId")
+    Page<TimeEntryRow> findRowsByUserId(@Param("userId") Long userId, Pageable pageable);
     
-    Page<TimeEntry> findByTaskId(Long taskId, Pageable pageable);
+    @Query(value = SELECT_ROWS + " WHERE e.task.id = :taskId", countQuery = COUNT_ROWS + " WHERE e.task.id = :taskId")
+    Page<TimeEntryRow> findRowsByTaskId(@Param("taskId") Long taskId, Pageable pageable);
     
-    Page<TimeEntry> findByUserIdAndStartTimeBetween(
-            Long userId, LocalDateTime start, LocalDateTime end, Pageable pageable);
+    @Query(value = SELECT_ROWS + " WHERE e.userId = :userId AND e.startTime BETWEEN :start AND :end",
+           countQuery = COUNT_ROWS + " WHERE e.userId = :userId AND e.startTime BETWEEN :start AND :end")
+    Page<TimeEntryRow> findRowsByUserIdAndStartTimeBetween(@Param("userId") Long userId,
+                                                           @Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end,
+                                                           Pageable pageable);
     
     Page<TimeEntry> findByTaskIdAndStartTimeBetween(
             Long taskId, LocalDateTime start, LocalDateTime end, Pageable pageable);
@@ -0,0 +1,14 @@
+package com.erdidev.timetracker.repository;
+
+import com.erdidev.timetracker.model.TimeEntryStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The time entry columns a listing shows, with the task title joined in the same
+ * select instead of loading each entry's task lazily.
+ */
+public record TimeEntryRow(Long id, Long taskId, String taskTitle, LocalDateTime startTime, LocalDateTime endTime,
+                           Long durationSeconds, String description, Long userId, Boolean billable,
+                           TimeEntryStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
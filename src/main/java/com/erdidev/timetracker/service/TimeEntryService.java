@@ -1,11 +1,13 @@
 package com.erdidev.timetracker.service;
 
+import com.erdidev.common.event.ChangeType;
 import com.erdidev.common.util.SecurityUtils;
 import com.erdidev.taskmanager.exception.TaskNotFoundException;
 import com.erdidev.taskmanager.model.Task;
 import com.erdidev.taskmanager.repository.TaskRepository;
 import com.erdidev.timetracker.dto.StopTimeEntryRequest;
 import com.erdidev.timetracker.dto.TimeEntryDto;
+import com.erdidev.timetracker.event.TimeEntryChangedEvent;
 import com.erdidev.timetracker.exception.TimeEntryNotFoundException;
 import com.erdidev.timetracker.exception.TimeTrackingException;
 import com.erdidev.timetracker.mapper.TimeEntryMapper;
@@ -14,6 +16,7 @@ import com.erdidev.timetracker.model.TimeEntryStatus;
 import com.erdidev.timetracker.repository.TimeEntryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -32,16 +35,17 @@ public class TimeEntryService {
     private final TimeEntryRepository timeEntryRepository;
     private final TaskRepository taskRepository;
     private final TimeEntryMapper timeEntryMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional(readOnly = true)
     public Page<TimeEntryDto> getTimeEntriesByUser(Long userId, Pageable pageable) {
-        return timeEntryRepository.findByUserId(userId, pageable)
+        return timeEntryRepository.findRowsByUserId(userId, pageable)
                 .map(timeEntryMapper::toDto);
     }
     
     @Transactional(readOnly = true)
     public Page<TimeEntryDto> getTimeEntriesByTask(Long taskId, Pageable pageable) {
-        return timeEntryRepository.findByTaskId(taskId, pageable)
+        return timeEntryRepository.findRowsByTaskId(taskId, pageable)
                 .map(timeEntryMapper::toDto);
     }
     
@@ -52,7 +56,7 @@ public class TimeEntryService {
         LocalDateTime start = startDate.atStartOfDay();
         LocalDateTime end = endDate.atTime(LocalTime.MAX);
         
-        return timeEntryRepository.findByUserIdAndStartTimeBetween(userId, start, end, pageable)
+        return timeEntryRepository.findRowsByUserIdAndStartTimeBetween(userId, start, end, pageable)
                 .map(timeEntryMapper::toDto);
     }
     
@@ -91,6 +95,7 @@ public class TimeEntryService {
         }
         
         TimeEntry savedEntry = timeEntryRepository.save(timeEntry);
+        publishTimeEntryChanged(savedEntry, ChangeType.CREATED);
         log.debug("Started time tracking for task: {}", timeEntryDto.getTaskId());
         
         return timeEntryMapper.toDto(savedEntry);
@@ -120,6 +125,7 @@ public class TimeEntryService {
         timeEntry.setStatus(TimeEntryStatus.COMPLETED);
         
         TimeEntry updatedEntry = timeEntryRepository.save(timeEntry);
+        publishTimeEntryChanged(updatedEntry, ChangeType.UPDATED);
         log.debug("Stopped time tracking for entry: {}", timeEntryId);
         
         return timeEntryMapper.toDto(updatedEntry);
@@ -148,6 +154,7 @@ public class TimeEntryService {
         }
         
         TimeEntry updatedEntry = timeEntryRepository.save(existingEntry);
+        publishTimeEntryChanged(updatedEntry, ChangeType.UPDATED);
         log.debug("Updated time entry: {}", id);
         
         return timeEntryMapper.toDto(updatedEntry);
@@ -164,6 +171,7 @@ public class TimeEntryService {
         }
         
         timeEntryRepository.delete(timeEntry);
+        publishTimeEntryChanged(timeEntry, ChangeType.DELETED);
         log.debug("Deleted time entry: {}", id);
     }
     
@@ -191,4 +199,8 @@ public class TimeEntryService {
                 .map(timeEntryMapper::toDto)
                 .orElse(null);
     }
-} 
\ No newline at end of file
+
+    private void publishTimeEntryChanged(TimeEntry timeEntry, ChangeType changeType) {
+        eventPublisher.publishEvent(new TimeEntryChangedEvent(timeEntry.getId(), changeType, timeEntry.getUserId()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.erdidev.worker;
+
+import com.erdidev.Application;
+import com.erdidev.common.config.WebLayerExcludeFilter;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.util.Map;
+
+/**
+ * Headless entry point that runs only schedule, reminder, agenda and calendar processing.
+ * It starts no servlet container and registers no controllers. Notifications go out
+ * over the Redis bus to the web nodes, which hold the client connections. Web nodes
+ * started from {@link Application} with taskmanager.jobs.enabled=false then leave all
+ * leader-only jobs to the workers. Kept outside the com.erdidev root so tests only
+ * find {@link Application} when they look up the boot configuration.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(basePackages = {
+    "com.erdidev.taskmanager",
+    "com.erdidev.common",
+    "com.erdidev.scheduler",
+    "com.erdidev.authmanager",
+    "com.erdidev.timetracker"
+}, excludeFilters = {
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+    @ComponentScan.Filter(type = FilterType.CUSTOM, classes = WebLayerExcludeFilter.class)
+})
+@EntityScan(basePackages = {
+    "com.erdidev.taskmanager.model",
+    "com.erdidev.scheduler.model",
+    "com.erdidev.authmanager.model",
+    "com.erdidev.timetracker.model"
+})
+@EnableJpaRepositories(basePackages = {
+    "com.erdidev.taskmanager.repository",
+    "com.erdidev.scheduler.repository",
+    "com.erdidev.authmanager.repository",
+    "com.erdidev.timetracker.repository"
+})
+@EnableScheduling
+public class SchedulerWorkerApplication {
+
+    // Defaults only; environment and command-line properties still win
+    static final Map<String, Object> WORKER_DEFAULTS = Map.of(
+        "taskmanager.jobs.enabled", "true",
+        "taskmanager.notifications.bus", "redis",
+        "taskmanager.notifications.redis.subscribe", "false",
+        "taskmanager.search.enabled", "false");
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(SchedulerWorkerApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(WORKER_DEFAULTS)
+            .run(args);
+    }
+}
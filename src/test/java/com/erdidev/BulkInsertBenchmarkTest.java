@@ -0,0 +1,141 @@
+package com.erdidev;
+
+import com.erdidev.common.config.JdbcBatchingConfig;
+import com.erdidev.taskmanager.model.AttachmentType;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskAttachment;
+import com.erdidev.timetracker.model.TimeEntry;
+import com.erdidev.timetracker.model.TimeEntryStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Persists 10k tasks, attachments and time entries once with a JDBC batch size of one,
+ * which is the single round trip per row that identity columns forced, and once with
+ * the configured batching. Only runs with -Dtaskmanager.benchmarks=true.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JdbcBatchingConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "taskmanager.benchmarks", matches = "true")
+class BulkInsertBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_EVERY = 1_000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void batchedAgainstRowByRow() {
+        Long userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Warm up connections, sequences and statement caches
+        insert(userId, 1, 200);
+        insert(userId, 50, 200);
+
+        statistics.clear();
+        long rowByRowMillis = insert(userId, 1, ROWS);
+        long rowByRowStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long batchedMillis = insert(userId, 50, ROWS);
+        long batchedStatements = statistics.getPrepareStatementCount();
+
+        log.info("{} tasks, attachments and time entries: one row per round trip {} ms ({} statements), "
+                + "batched {} ms ({} statements)",
+            ROWS, rowByRowMillis, rowByRowStatements, batchedMillis, batchedStatements);
+        assertEquals(2L * ROWS + 400, jdbcTemplate.queryForObject("SELECT count(*) FROM time_entries", Long.class));
+        assertTrue(batchedStatements < rowByRowStatements);
+    }
+
+    private long insert(Long userId, int batchSize, int rows) {
+        long started = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            Project project = new Project();
+            project.setName("Bulk " + batchSize + " " + rows);
+            project.setOwnerId(userId);
+            entityManager.persist(project);
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < rows; i++) {
+                Task task = new Task();
+                task.setTitle("Task " + i);
+                task.setProject(project);
+                task.setOwnerId(userId);
+                task.setCreatorId(userId);
+                entityManager.persist(task);
+
+                TaskAttachment attachment = new TaskAttachment();
+                attachment.setName("Attachment " + i);
+                attachment.setType(AttachmentType.LINK);
+                attachment.setTask(task);
+                attachment.setOwnerId(userId);
+                entityManager.persist(attachment);
+
+                TimeEntry entry = new TimeEntry();
+                entry.setTask(task);
+                entry.setUserId(userId);
+                entry.setStartTime(now.minusHours(1));
+                entry.setEndTime(now);
+                entry.setDurationSeconds(3600L);
+                entry.setStatus(TimeEntryStatus.COMPLETED);
+                entityManager.persist(entry);
+
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    project = entityManager.getReference(Project.class, project.getId());
+                }
+            }
+        });
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
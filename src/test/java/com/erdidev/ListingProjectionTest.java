@@ -0,0 +1,191 @@
+package com.erdidev;
+
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.mapper.TaskMapper;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.timetracker.dto.TimeEntryDto;
+import com.erdidev.timetracker.mapper.TimeEntryMapper;
+import com.erdidev.timetracker.repository.TimeEntryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads a 200-row listing page through the entities and through the row projections,
+ * each inside a read-only transaction as the services do, and logs the median latency
+ * and the bytes allocated per page. The statement and entity counts are asserted.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class ListingProjectionTest {
+
+    private static final int TASKS = 20_000;
+    private static final int ROUNDS = 50;
+    private static final Pageable PAGE = PageRequest.of(0, 200, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TimeEntryRepository timeEntryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final TimeEntryMapper timeEntryMapper = Mappers.getMapper(TimeEntryMapper.class);
+    private TransactionTemplate readOnly;
+    private Long userId;
+
+    @BeforeEach
+    void seed() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        jdbcTemplate.update("DELETE FROM time_entries");
+        jdbcTemplate.update("DELETE FROM tasks");
+        userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        Long projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, owner_id, created_at) VALUES ('project', ?, now()) RETURNING id",
+            Long.class, userId);
+        jdbcTemplate.update("""
+            INSERT INTO tasks (title, description, status, priority, due_date, project_id, owner_id, creator_id,
+                               created_at, updated_at)
+            SELECT 'task ' || n, 'description of task ' || n, 'TODO', 'MEDIUM', now() + (n || ' minutes')::interval,
+                   ?, ?, ?, now() - (n || ' seconds')::interval, now()
+            FROM generate_series(1, ?) AS n
+            """, projectId, userId, userId, TASKS);
+        jdbcTemplate.update("""
+            INSERT INTO time_entries (task_id, user_id, start_time, end_time, duration_seconds, description,
+                                      is_billable, status, created_at)
+            SELECT id, owner_id, created_at, created_at + interval '1 hour', 3600, 'work', true, 'COMPLETED',
+                   created_at
+            FROM tasks
+            """);
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void taskPage() {
+        Statistics statistics = statistics();
+        Page<TaskDto> entities = readOnly.execute(status -> taskRepository.findAll(PAGE).map(taskMapper::toDto));
+        long entityLoads = statistics.getEntityLoadCount();
+
+        statistics.clear();
+        Page<TaskDto> rows = readOnly.execute(status -> taskRepository.findRows(PAGE).map(taskMapper::toDto));
+
+        assertEquals(200, rows.getNumberOfElements());
+        assertThat(rows.getContent()).usingRecursiveFieldByFieldElementComparator().isEqualTo(entities.getContent());
+        assertEquals(200, entityLoads);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(2, statistics.getPrepareStatementCount(), "page and count");
+
+        compare("Task page",
+            () -> readOnly.execute(status -> taskRepository.findAll(PAGE).map(taskMapper::toDto)),
+            () -> readOnly.execute(status -> taskRepository.findRows(PAGE).map(taskMapper::toDto)));
+    }
+
+    @Test
+    void timeEntryPage() {
+        Statistics statistics = statistics();
+        Page<TimeEntryDto> entities = readOnly.execute(status ->
+            timeEntryRepository.findAll(PAGE).map(timeEntryMapper::toDto));
+        long entityStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        Page<TimeEntryDto> rows = readOnly.execute(status ->
+            timeEntryRepository.findRowsByUserId(userId, PAGE).map(timeEntryMapper::toDto));
+
+        assertEquals(200, rows.getNumberOfElements());
+        assertThat(rows.getContent()).usingRecursiveFieldByFieldElementComparator().isEqualTo(entities.getContent());
+        // The entity path loads each entry's task to read its title
+        assertEquals(202, entityStatements);
+        assertEquals(2, statistics.getPrepareStatementCount(), "page and count");
+
+        compare("Time entry page",
+            () -> readOnly.execute(status -> timeEntryRepository.findAll(PAGE).map(timeEntryMapper::toDto)),
+            () -> readOnly.execute(status ->
+                timeEntryRepository.findRowsByUserId(userId, PAGE).map(timeEntryMapper::toDto)));
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static void compare(String listing, Supplier<?> entities, Supplier<?> rows) {
+        Measurement entity = measure(entities);
+        Measurement row = measure(rows);
+        log.info("{} of 200: entities {} ms and {} KB, rows {} ms and {} KB", listing,
+            entity.medianMillis(), entity.medianBytes() / 1024, row.medianMillis(), row.medianBytes() / 1024);
+    }
+
+    private static Measurement measure(Supplier<?> listing) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < ROUNDS / 5; i++) {
+            listing.get();
+        }
+        long[] nanos = new long[ROUNDS];
+        long[] bytes = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long started = System.nanoTime();
+            listing.get();
+            nanos[i] = System.nanoTime() - started;
+            bytes[i] = threads.getCurrentThreadAllocatedBytes() - allocated;
+        }
+        Arrays.sort(nanos);
+        Arrays.sort(bytes);
+        return new Measurement(nanos[ROUNDS / 2] / 1_000_000.0, bytes[ROUNDS / 2]);
+    }
+
+    private record Measurement(double medianMillis, long medianBytes) {}
+}
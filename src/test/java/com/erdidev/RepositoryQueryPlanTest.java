@@ -0,0 +1,398 @@
+package com.erdidev;
+
+import com.erdidev.scheduler.enums.ReminderStatus;
+import com.erdidev.scheduler.enums.ScheduleStatus;
+import com.erdidev.scheduler.repository.ReminderRepository;
+import com.erdidev.scheduler.repository.ScheduleRepository;
+import com.erdidev.taskmanager.model.AttachmentType;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.TaskAttachmentRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every repository finder against a seeded dataset, captures the SQL it sends with
+ * its bound values, and fails when EXPLAIN shows a sequential scan over one of the large
+ * tables. Selective arguments are used throughout, so a sequential scan means an index
+ * is missing rather than that the planner preferred reading everything.
+ *
+ * Not covered: the unanchored LIKE searches (the search index answers those), the
+ * owners and assignees of all open tasks (a whole-table aggregate by design), and the
+ * total count of the unfiltered listing, which cursor pagination exists to avoid.
+ *
+ * The dataset is seeded once for the class and committed; each test only reads it.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(RepositoryQueryPlanTest.CaptureConfiguration.class)
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class RepositoryQueryPlanTest {
+
+    private static final int USERS = 200;
+    private static final int PROJECTS = 100;
+    private static final int CATEGORIES = 5_000;
+    private static final int TASKS = 50_000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TaskAttachmentRepository attachmentRepository;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private ReminderRepository reminderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Long userId;
+    private Long projectId;
+    private Long categoryId;
+    private Long taskId;
+    private Long scheduleId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("""
+            INSERT INTO users (username, password, email, created_at)
+            SELECT 'plan-user-' || n, 'x', 'plan-user-' || n || '@example.com', now()
+            FROM generate_series(1, ?) AS n
+            """, USERS);
+        userId = jdbcTemplate.queryForObject(
+            "SELECT min(id) FROM users WHERE username LIKE 'plan-user-%'", Long.class);
+
+        jdbcTemplate.update("""
+            INSERT INTO projects (name, owner_id, created_at)
+            SELECT 'project ' || n, ? + n % ?, now() FROM generate_series(1, ?) AS n
+            """, userId, USERS, PROJECTS);
+        projectId = jdbcTemplate.queryForObject("SELECT min(id) FROM projects", Long.class);
+
+        jdbcTemplate.update("""
+            INSERT INTO categories (name, project_id, owner_id, created_at)
+            SELECT 'category ' || n, ? + n % ?, ? + n % ?, now() FROM generate_series(1, ?) AS n
+            """, projectId, PROJECTS, userId, USERS, CATEGORIES);
+        categoryId = jdbcTemplate.queryForObject("SELECT min(id) FROM categories", Long.class);
+
+        // Mostly finished, low-priority work due in the future; the values queried below are rare
+        jdbcTemplate.update("""
+            INSERT INTO tasks (title, status, priority, due_date, project_id, category_id,
+                               owner_id, creator_id, assignee_id, created_at, updated_at)
+            SELECT 'task ' || n,
+                   CASE n % 50 WHEN 0 THEN 'TODO' WHEN 1 THEN 'IN_PROGRESS' WHEN 2 THEN 'BLOCKED' ELSE 'DONE' END,
+                   CASE WHEN n % 100 = 0 THEN 'URGENT' WHEN n % 2 = 0 THEN 'MEDIUM' ELSE 'LOW' END,
+                   CASE WHEN n % 10 = 5 THEN NULL
+                        WHEN n % 100 = 3 THEN now() - (n % 30 + 1) * interval '1 day'
+                        ELSE now() + (n % 365 + 1) * interval '1 day' END,
+                   ? + n % ?, ? + n % ?, ? + n % ?, ? + n % ?,
+                   CASE WHEN n % 3 = 0 THEN NULL ELSE ? + (n * 7) % ? END,
+                   now() - n * interval '1 second', now() - n * interval '1 minute'
+            FROM generate_series(1, ?) AS n
+            """, projectId, PROJECTS, categoryId, CATEGORIES, userId, USERS, userId, USERS,
+            userId, USERS, TASKS);
+        taskId = jdbcTemplate.queryForObject("SELECT min(id) FROM tasks", Long.class);
+
+        jdbcTemplate.update("""
+            INSERT INTO task_attachments (task_id, name, type, owner_id, created_at)
+            SELECT ? + n % ?, 'attachment ' || n, (ARRAY['FILE', 'CODE_SNIPPET', 'LINK'])[1 + n % 3], ?, now()
+            FROM generate_series(1, ?) AS n
+            """, taskId, TASKS, userId, TASKS / 2);
+
+        jdbcTemplate.update("""
+            INSERT INTO schedule (task_id, scheduled_time, status, start_time, end_time, created_at)
+            SELECT ? + n % ?, now() + n * interval '1 minute',
+                   CASE WHEN n % 100 = 0 THEN 'PENDING' ELSE 'COMPLETED' END,
+                   now() + n * interval '1 minute', now() + n * interval '1 minute' + interval '1 hour', now()
+            FROM generate_series(1, ?) AS n
+            """, taskId, TASKS, TASKS);
+        scheduleId = jdbcTemplate.queryForObject("SELECT min(id) FROM schedule", Long.class);
+
+        jdbcTemplate.update("""
+            INSERT INTO reminder (task_id, schedule_id, type, reminder_time, message, status,
+                                  notification_channels, created_at)
+            SELECT ? + n % ?, ? + n % ?, 'WEBSOCKET', now() + n * interval '1 minute', 'reminder ' || n,
+                   CASE WHEN n % 100 = 0 THEN 'PENDING' ELSE 'SENT' END, 1, now()
+            FROM generate_series(1, ?) AS n
+            """, taskId, TASKS, scheduleId, TASKS, TASKS);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void taskListingsUseIndexes() {
+        for (String property : List.of("createdAt", "title", "dueDate")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                assertIndexed(withoutCounts(capture(() -> taskRepository.findRows(
+                    PageRequest.of(0, 20, Sort.by(direction, property))))), "tasks");
+            }
+        }
+        PageRequest newestFirst = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        assertIndexed(capture(() -> taskRepository.findRowsByProjectId(projectId, newestFirst)), "tasks");
+        assertIndexed(capture(() -> taskRepository.findRowsByCategoryId(categoryId, newestFirst)), "tasks");
+        assertIndexed(capture(() -> taskRepository.findRowsByStatus(TaskStatus.TODO, newestFirst)), "tasks");
+        assertIndexed(capture(() -> taskRepository.findRowsByPriority(Priority.URGENT, newestFirst)), "tasks");
+        assertIndexed(capture(() -> taskRepository.findOverdueRows(LocalDateTime.now(), newestFirst)), "tasks");
+    }
+
+    @Test
+    void taskLookupsUseIndexes() {
+        assertIndexed(capture(() -> taskRepository.findOpenTasksDueBefore(
+            userId + 17, TaskStatus.DONE, LocalDateTime.now().plusDays(7))), "tasks");
+        assertIndexed(capture(() -> taskRepository.findSearchDocumentsAfter(
+            taskId + TASKS / 2, PageRequest.of(0, 2000))), "tasks");
+        assertIndexed(capture(() -> taskRepository.findSearchDocumentsByIdIn(
+            List.of(taskId, taskId + 10, taskId + 20))), "tasks");
+        assertIndexed(capture(() -> taskRepository.findSearchDocumentsUpdatedSince(
+            LocalDateTime.now().minusMinutes(30), 0L, PageRequest.of(0, 2000))), "tasks");
+    }
+
+    @Test
+    void categoryFindersUseIndexes() {
+        assertIndexed(capture(() -> categoryRepository.existsByName("category 17")), "categories");
+        assertIndexed(capture(() -> categoryRepository.findByProjectId(projectId)), "categories");
+        assertIndexed(capture(() -> categoryRepository.findByProjectId(projectId, PageRequest.of(0, 20))),
+            "categories");
+    }
+
+    @Test
+    void attachmentFindersUseIndexes() {
+        assertIndexed(capture(() -> attachmentRepository.findByTaskId(taskId + 1)), "task_attachments");
+        assertIndexed(capture(() -> attachmentRepository.findByTaskIdAndType(taskId + 1, AttachmentType.FILE)),
+            "task_attachments");
+        assertIndexed(capture(() -> attachmentRepository.deleteByTaskId(taskId + 1)), "task_attachments");
+    }
+
+    @Test
+    void schedulerFindersUseIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        assertIndexed(capture(() -> scheduleRepository.findRowsByTaskId(taskId + 1)), "schedule");
+        assertIndexed(capture(() -> scheduleRepository.findByStatusAndScheduledTimeBefore(
+            ScheduleStatus.PENDING, now.plusDays(1))), "schedule");
+        assertIndexed(capture(() -> scheduleRepository.findRowsByStatusAndScheduledTimeBefore(
+            ScheduleStatus.PENDING, now.plusDays(1))), "schedule");
+        assertIndexed(capture(() -> scheduleRepository.findByStatusAndScheduledTimeBetween(
+            ScheduleStatus.PENDING, now, now.plusDays(1))), "schedule");
+        assertIndexed(capture(() -> scheduleRepository.findForAgenda(userId + 17,
+            Set.of(ScheduleStatus.PENDING, ScheduleStatus.IN_PROGRESS), now, now.plusDays(7))),
+            "schedule", "tasks");
+
+        assertIndexed(capture(() -> reminderRepository.findByScheduleId(scheduleId + 1)), "reminder");
+        assertIndexed(capture(() -> reminderRepository.findByStatusAndReminderTimeBefore(
+            ReminderStatus.PENDING, now.plusDays(1))), "reminder");
+        assertIndexed(capture(() -> reminderRepository.findByStatusAndReminderTimeBetween(
+            ReminderStatus.PENDING, now, now.plusDays(1))), "reminder");
+        assertIndexed(capture(() -> reminderRepository.findForAgenda(userId + 17,
+            ReminderStatus.PENDING, now, now.plusDays(7))), "reminder", "tasks");
+    }
+
+    private List<CapturedStatement> capture(Runnable finder) {
+        StatementCapture.start();
+        try {
+            finder.run();
+        } finally {
+            StatementCapture.stop();
+        }
+        List<CapturedStatement> selects = StatementCapture.statements().stream()
+            .filter(statement -> statement.sql().stripLeading().regionMatches(true, 0, "select", 0, 6))
+            .toList();
+        assertFalse(selects.isEmpty(), "The finder ran no query");
+        return selects;
+    }
+
+    private static List<CapturedStatement> withoutCounts(List<CapturedStatement> statements) {
+        return statements.stream()
+            .filter(statement -> !statement.sql().toLowerCase().startsWith("select count"))
+            .toList();
+    }
+
+    private void assertIndexed(List<CapturedStatement> statements, String... tables) {
+        for (CapturedStatement statement : statements) {
+            String plan = explain(statement);
+            List<String> scanned = sequentialScans(plan);
+            for (String table : tables) {
+                assertFalse(scanned.contains(table),
+                    () -> "Sequential scan on " + table + " for\n" + statement.sql() + "\n" + plan);
+            }
+        }
+    }
+
+    private String explain(CapturedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+                for (Bind bind : statement.binds()) {
+                    bind.applyTo(explain);
+                }
+                try (ResultSet result = explain.executeQuery()) {
+                    result.next();
+                    return result.getString(1);
+                }
+            }
+        });
+    }
+
+    private List<String> sequentialScans(String plan) {
+        List<String> tables = new ArrayList<>();
+        try {
+            collectSequentialScans(objectMapper.readTree(plan).get(0).get("Plan"), tables);
+        } catch (Exception e) {
+            fail("Unreadable plan: " + plan, e);
+        }
+        return tables;
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> tables) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            tables.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, tables);
+        }
+    }
+
+    record CapturedStatement(String sql, List<Bind> binds) {
+    }
+
+    record Bind(Method setter, Object[] args) {
+        void applyTo(PreparedStatement statement) {
+            try {
+                setter.invoke(statement, args);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Could not rebind " + setter.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Records each prepared statement executed while capturing, with the values bound to
+     * it, so the exact query a finder sent can be explained afterwards.
+     */
+    static final class StatementCapture {
+        private static final List<CapturedStatement> statements = new CopyOnWriteArrayList<>();
+        private static volatile boolean capturing;
+
+        static void start() {
+            statements.clear();
+            capturing = true;
+        }
+
+        static void stop() {
+            capturing = false;
+        }
+
+        static List<CapturedStatement> statements() {
+            return List.copyOf(statements);
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, result, args) ->
+                result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, connection, (method, result, args) ->
+                result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")
+                    ? wrap(statement, (String) args[0])
+                    : result);
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            Map<Object, Bind> binds = new LinkedHashMap<>();
+            return proxy(PreparedStatement.class, statement, (method, result, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                    binds.put(index, new Bind(method, args));
+                } else if (name.equals("clearParameters")) {
+                    binds.clear();
+                } else if (name.startsWith("execute") && capturing) {
+                    statements.add(new CapturedStatement(sql, List.copyOf(binds.values())));
+                }
+                return result;
+            });
+        }
+
+        private interface ResultMapper {
+            Object map(Method method, Object result, Object[] args);
+        }
+
+        private static <T> T proxy(Class<T> type, T target, ResultMapper mapper) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return mapper.map(method, method.invoke(target, args), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfiguration {
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? StatementCapture.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
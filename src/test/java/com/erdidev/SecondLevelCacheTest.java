@@ -0,0 +1,149 @@
+package com.erdidev;
+
+import com.erdidev.authmanager.model.RoleType;
+import com.erdidev.authmanager.model.User;
+import com.erdidev.authmanager.repository.RoleRepository;
+import com.erdidev.authmanager.repository.UserRepository;
+import com.erdidev.common.cache.SecondLevelCacheMonitor;
+import com.erdidev.common.cache.SecondLevelCacheStats;
+import com.erdidev.common.config.SecondLevelCacheConfig;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Loads projects, categories, roles and a user's roles in separate transactions and
+ * counts the statements Hibernate sends: repeats must be answered from the
+ * second-level cache, and committed updates must be visible on the next read.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheMonitor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class SecondLevelCacheTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecondLevelCacheMonitor cacheMonitor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long projectId;
+
+    @BeforeEach
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Long userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, owner_id, created_at) VALUES ('project', ?, now()) RETURNING id",
+            Long.class, userId);
+        jdbcTemplate.update("""
+            INSERT INTO categories (name, project_id, owner_id, created_at)
+            SELECT 'category ' || n, ?, ?, now() FROM generate_series(1, 5) AS n
+            """, projectId, userId);
+    }
+
+    @Test
+    void repeatedLookupsSkipTheDatabase() {
+        Long categoryId = categoryRepository.findByProjectId(projectId).get(0).getId();
+
+        inTransaction(() -> projectRepository.findById(projectId).orElseThrow());
+        inTransaction(() -> categoryRepository.findById(categoryId).orElseThrow());
+        inTransaction(() -> roleRepository.findByName(RoleType.ROLE_ADMIN).orElseThrow());
+
+        assertEquals(0, statementsFor(() -> projectRepository.findById(projectId).orElseThrow()));
+        assertEquals(0, statementsFor(() -> categoryRepository.findById(categoryId).orElseThrow()));
+        assertEquals(0, statementsFor(() -> categoryRepository.findByProjectId(projectId)));
+        assertEquals(0, statementsFor(() -> roleRepository.findByName(RoleType.ROLE_ADMIN).orElseThrow()));
+    }
+
+    @Test
+    void userRolesComeFromTheCacheOnLogin() {
+        inTransaction(() -> userRepository.findByUsername("admin").orElseThrow());
+
+        // The user row itself is not cached; its roles are
+        assertEquals(1, statementsFor(() -> {
+            User admin = userRepository.findByUsername("admin").orElseThrow();
+            assertEquals(1, admin.getRoles().size());
+            return admin;
+        }));
+    }
+
+    @Test
+    void committedUpdateIsVisibleOnNextRead() {
+        inTransaction(() -> projectRepository.findById(projectId).orElseThrow());
+
+        inTransaction(() -> {
+            projectRepository.findById(projectId).orElseThrow().setName("renamed");
+            return null;
+        });
+
+        assertEquals("renamed", inTransaction(() -> projectRepository.findById(projectId).orElseThrow().getName()));
+        SecondLevelCacheStats projects = cacheMonitor.getStats().stream()
+            .filter(stats -> stats.region().equals(SecondLevelCacheConfig.PROJECTS))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(projects.hits() > 0);
+    }
+
+    private long statementsFor(Supplier<?> work) {
+        long before = statistics.getPrepareStatementCount();
+        inTransaction(work);
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
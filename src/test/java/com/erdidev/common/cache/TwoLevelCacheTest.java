@@ -0,0 +1,262 @@
+package com.erdidev.common.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+
+    private static final TwoLevelCacheSettings SETTINGS =
+        new TwoLevelCacheSettings(true, 1_000, Duration.ofMinutes(5), Duration.ofMinutes(30));
+
+    record Row(long id, long version) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private InMemoryRemoteStore remote;
+
+    @BeforeEach
+    void setUp() {
+        remote = new InMemoryRemoteStore();
+    }
+
+    @Test
+    void get_SecondRead_IsServedFromMemory() {
+        TwoLevelCache<Row> cache = cache(remote, id -> { });
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> new Row(1, loads.incrementAndGet()));
+        Row second = cache.get(1L, () -> new Row(1, loads.incrementAndGet()));
+
+        assertEquals(1, second.version());
+        assertEquals(1, loads.get());
+        TwoLevelCacheStats stats = cache.getStats();
+        assertEquals(1, stats.localHits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void get_OtherNode_IsServedFromRedis() {
+        TwoLevelCache<Row> first = cache(remote, id -> { });
+        TwoLevelCache<Row> second = cache(remote, id -> { });
+        first.get(1L, () -> new Row(1, 1));
+
+        Row row = second.get(1L, () -> fail("Should not reach the database"));
+
+        assertEquals(new Row(1, 1), row);
+        assertEquals(1, second.getStats().remoteHits());
+    }
+
+    @Test
+    void invalidate_DropsEveryTierAndBroadcasts() {
+        List<Long> broadcast = new ArrayList<>();
+        TwoLevelCache<Row> cache = cache(remote, broadcast::add);
+        cache.get(1L, () -> new Row(1, 1));
+
+        cache.invalidate(1L);
+        Row row = cache.get(1L, () -> new Row(1, 2));
+
+        assertEquals(2, row.version());
+        assertEquals(List.of(1L), broadcast);
+    }
+
+    @Test
+    void get_RedisDown_FallsBackToLoader() {
+        remote.failing = true;
+        TwoLevelCache<Row> cache = cache(remote, id -> { });
+
+        assertEquals(new Row(1, 1), cache.get(1L, () -> new Row(1, 1)));
+        assertEquals(new Row(1, 1), cache.get(1L, () -> new Row(1, 2)));
+        assertTrue(cache.getStats().remoteFailures() > 0);
+    }
+
+    @Test
+    void get_LoaderThrows_CachesNothing() {
+        TwoLevelCache<Row> cache = cache(remote, id -> { });
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, () -> {
+            throw new IllegalStateException("not found");
+        }));
+        assertEquals(new Row(1, 1), cache.get(1L, () -> new Row(1, 1)));
+    }
+
+    @Test
+    void get_LoadRacingWithInvalidation_DoesNotCacheOldRow() throws Exception {
+        TwoLevelCache<Row> cache = cache(remote, id -> { });
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+
+        Thread reader = Thread.ofVirtual().start(() -> cache.get(1L, () -> {
+            loaded.countDown();
+            await(invalidated);
+            return new Row(1, 1);
+        }));
+        loaded.await();
+        cache.invalidate(1L);
+        invalidated.countDown();
+        reader.join();
+
+        assertEquals(2, cache.get(1L, () -> new Row(1, 2)).version());
+    }
+
+    @Test
+    void onRemoteInvalidation_DropsNodeLocalStateThenMemory() {
+        List<Long> dropped = new ArrayList<>();
+        TwoLevelCache<Row> cache = new TwoLevelCache<>("row", Row.class, SETTINGS, remote, mapper, id -> { },
+            dropped::add);
+        cache.get(1L, () -> new Row(1, 1));
+        remote.invalidate("taskmanager:cache:row:{1}", Duration.ofMinutes(1));
+
+        cache.onRemoteInvalidation(1L);
+
+        assertEquals(List.of(1L), dropped);
+        assertEquals(2, cache.get(1L, () -> new Row(1, 2)).version());
+    }
+
+    /**
+     * Two nodes read one row while writers keep updating it. A read that starts after a
+     * write has been invalidated must never return an older version.
+     */
+    @Test
+    void concurrentWrites_NeverServeRowsOlderThanLastInvalidation() throws Exception {
+        AtomicReference<TwoLevelCache<Row>> nodeA = new AtomicReference<>();
+        AtomicReference<TwoLevelCache<Row>> nodeB = new AtomicReference<>();
+        nodeA.set(cache(remote, id -> nodeB.get().onRemoteInvalidation(id)));
+        nodeB.set(cache(remote, id -> nodeA.get().onRemoteInvalidation(id)));
+        List<TwoLevelCache<Row>> nodes = List.of(nodeA.get(), nodeB.get());
+
+        AtomicLong database = new AtomicLong();
+        AtomicLong invalidatedVersion = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<String> violations = new ConcurrentLinkedQueue<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < 2; w++) {
+            TwoLevelCache<Row> node = nodes.get(w);
+            workers.add(executor.submit(() -> {
+                for (int i = 0; i < 500; i++) {
+                    // Commit first, invalidate after, as the event listener does
+                    long version;
+                    synchronized (database) {
+                        version = database.incrementAndGet();
+                    }
+                    node.invalidate(1L);
+                    invalidatedVersion.accumulateAndGet(version, Math::max);
+                    pause();
+                }
+            }));
+        }
+        for (int r = 0; r < 6; r++) {
+            TwoLevelCache<Row> node = nodes.get(r % 2);
+            executor.submit(() -> {
+                while (running.get()) {
+                    long floor = invalidatedVersion.get();
+                    Row row = node.get(1L, () -> {
+                        Row loaded = new Row(1, database.get());
+                        pause();
+                        return loaded;
+                    });
+                    if (row.version() < floor) {
+                        violations.add("read version " + row.version() + " after " + floor + " was invalidated");
+                    }
+                }
+            });
+        }
+        for (Future<?> writer : workers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(violations.isEmpty(), () -> violations.size() + " stale reads, first: " + violations.peek());
+        for (TwoLevelCache<Row> node : nodes) {
+            assertEquals(database.get(), node.get(1L, () -> new Row(1, database.get())).version());
+        }
+    }
+
+    private TwoLevelCache<Row> cache(RemoteCacheStore store, LongConsumer publisher) {
+        return new TwoLevelCache<>("row", Row.class, SETTINGS, store, mapper, publisher, id -> { });
+    }
+
+    private static void pause() {
+        if (ThreadLocalRandom.current().nextBoolean()) {
+            Thread.yield();
+        } else {
+            try {
+                Thread.sleep(0, ThreadLocalRandom.current().nextInt(50_000));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Same contract as the Redis scripts, with one lock standing in for their atomicity.
+     */
+    private static final class InMemoryRemoteStore implements RemoteCacheStore {
+        private final Map<String, String> values = new HashMap<>();
+        private final Map<String, Long> generations = new HashMap<>();
+        private volatile boolean failing;
+
+        @Override
+        public synchronized Entry read(String key) {
+            check();
+            return new Entry(values.get(key), String.valueOf(generations.getOrDefault(key, 0L)));
+        }
+
+        @Override
+        public synchronized boolean writeIfGeneration(String key, String value, String generation, Duration ttl) {
+            check();
+            if (!String.valueOf(generations.getOrDefault(key, 0L)).equals(generation)) {
+                return false;
+            }
+            values.put(key, value);
+            return true;
+        }
+
+        @Override
+        public synchronized void invalidate(String key, Duration generationTtl) {
+            check();
+            values.remove(key);
+            generations.merge(key, 1L, Long::sum);
+        }
+
+        private void check() {
+            if (failing) {
+                throw new RedisConnectionFailureException("Redis is down");
+            }
+        }
+    }
+}
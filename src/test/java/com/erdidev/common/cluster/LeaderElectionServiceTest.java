@@ -0,0 +1,166 @@
+package com.erdidev.common.cluster;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderElectionServiceTest {
+
+    private static final String JOB = "schedule-processor";
+
+    @Mock
+    private LockRegistry lockRegistry;
+
+    @InjectMocks
+    private LeaderElectionService leaderElectionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaderElectionService, "jobsEnabled", true);
+        ReflectionTestUtils.setField(leaderElectionService, "enabled", true);
+        ReflectionTestUtils.setField(leaderElectionService, "leaseTtl", 5000L);
+        ReflectionTestUtils.setField(leaderElectionService, "renewInterval", 1500L);
+    }
+
+    @Test
+    void isLeader_AcquiresLeaseOnFirstCall() {
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class))).thenReturn(Optional.of(lease(7)));
+
+        assertTrue(leaderElectionService.isLeader(JOB));
+        assertEquals(7, leaderElectionService.getLease(JOB).orElseThrow().fencingToken());
+    }
+
+    @Test
+    void isLeader_LockHeldElsewhere_ReturnsFalse() {
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class))).thenReturn(Optional.empty());
+
+        assertFalse(leaderElectionService.isLeader(JOB));
+        assertTrue(leaderElectionService.getLease(JOB).isEmpty());
+    }
+
+    @Test
+    void isLeader_JobsDisabled_NeverStandsForLeadership() {
+        ReflectionTestUtils.setField(leaderElectionService, "jobsEnabled", false);
+        ReflectionTestUtils.setField(leaderElectionService, "enabled", false);
+
+        assertFalse(leaderElectionService.isLeader(JOB));
+        verifyNoInteractions(lockRegistry);
+    }
+
+    @Test
+    void maintainLeadership_RenewRejected_StepsDown() {
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class)))
+            .thenReturn(Optional.of(lease(1)))
+            .thenReturn(Optional.empty());
+        when(lockRegistry.renew(any(Lease.class), any(Duration.class))).thenReturn(false);
+        leaderElectionService.isLeader(JOB);
+
+        leaderElectionService.maintainLeadership();
+
+        assertFalse(leaderElectionService.isLeader(JOB));
+    }
+
+    @Test
+    void maintainLeadership_RedisUnavailable_KeepsLeaseUntilLocalExpiry() {
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class))).thenReturn(Optional.of(lease(1)));
+        when(lockRegistry.renew(any(Lease.class), any(Duration.class))).thenThrow(new IllegalStateException("down"));
+        leaderElectionService.isLeader(JOB);
+
+        leaderElectionService.maintainLeadership();
+
+        assertTrue(leaderElectionService.isLeader(JOB));
+    }
+
+    @Test
+    void maintainLeadership_ExpiredLease_IsNotTrusted() {
+        Lease expired = new Lease(JOB, "owner", 1, System.nanoTime() - 1);
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class)))
+            .thenReturn(Optional.of(expired))
+            .thenReturn(Optional.empty());
+        when(lockRegistry.renew(any(Lease.class), any(Duration.class))).thenThrow(new IllegalStateException("down"));
+
+        assertFalse(leaderElectionService.isLeader(JOB));
+        leaderElectionService.maintainLeadership();
+        assertTrue(leaderElectionService.getLease(JOB).isEmpty());
+    }
+
+    @Test
+    void disabled_EveryNodeIsLeader() {
+        ReflectionTestUtils.setField(leaderElectionService, "enabled", false);
+
+        assertTrue(leaderElectionService.isLeader(JOB));
+        verifyNoInteractions(lockRegistry);
+    }
+
+    @Test
+    void stop_ReleasesHeldLeases() {
+        Lease lease = lease(3);
+        when(lockRegistry.tryAcquire(eq(JOB), any(Duration.class))).thenReturn(Optional.of(lease));
+        leaderElectionService.isLeader(JOB);
+
+        leaderElectionService.stop();
+
+        verify(lockRegistry).release(lease);
+        assertTrue(leaderElectionService.getLease(JOB).isEmpty());
+    }
+
+    @Test
+    void leaderOnlyMethod_RunsOnlyOnLeaderWithLeaseBound() {
+        when(lockRegistry.tryAcquire(eq("Job.run"), any(Duration.class)))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(new Lease("Job.run", "owner", 9, validFor(5000))));
+        Job job = new Job();
+        Job proxy = proxy(job);
+
+        proxy.run();
+        assertEquals(0, job.runs.get());
+
+        leaderElectionService.maintainLeadership();
+        proxy.run();
+        assertEquals(1, job.runs.get());
+        assertEquals(9, job.observedToken);
+        assertTrue(LeaderContext.current().isEmpty());
+    }
+
+    private Job proxy(Job target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new LeaderOnlyAspect(leaderElectionService));
+        return factory.getProxy();
+    }
+
+    private static Lease lease(long fencingToken) {
+        return new Lease(JOB, "owner", fencingToken, validFor(5000));
+    }
+
+    private static long validFor(long millis) {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    static class Job {
+        final AtomicInteger runs = new AtomicInteger();
+        long observedToken;
+
+        @LeaderOnly
+        public void run() {
+            runs.incrementAndGet();
+            observedToken = LeaderContext.current().map(Lease::fencingToken).orElse(-1L);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.erdidev.common.config;
+
+import com.erdidev.scheduler.controller.AgendaController;
+import com.erdidev.scheduler.service.ReminderService;
+import com.erdidev.scheduler.service.ScheduleService;
+import com.erdidev.scheduler.service.notification.WebSocketNotificationStrategy;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WebLayerExcludeFilterTest {
+
+    @Test
+    void workerScan_KeepsServicesAndDropsWebLayer() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(true);
+        scanner.addExcludeFilter(new WebLayerExcludeFilter());
+
+        Set<String> candidates = scanner.findCandidateComponents("com.erdidev").stream()
+            .map(BeanDefinition::getBeanClassName)
+            .collect(Collectors.toSet());
+
+        assertTrue(candidates.contains(ScheduleService.class.getName()));
+        assertTrue(candidates.contains(ReminderService.class.getName()));
+        assertTrue(candidates.contains(WebSocketNotificationStrategy.class.getName()));
+        assertFalse(candidates.contains(AgendaController.class.getName()));
+        assertFalse(candidates.contains(com.erdidev.scheduler.exception.GlobalExceptionHandler.class.getName()));
+        assertTrue(candidates.stream().noneMatch(name -> name.contains(".controller.")),
+            "No controller should be registered in the worker");
+    }
+}
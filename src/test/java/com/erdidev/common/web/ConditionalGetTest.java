@@ -0,0 +1,132 @@
+package com.erdidev.common.web;
+
+import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.model.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionalGetTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789);
+
+    @Mock
+    private EntityVersionProbe versionProbe;
+
+    @InjectMocks
+    private ConditionalGet conditionalGet;
+
+    private MockHttpServletRequest servletRequest;
+    private ProjectDto project;
+
+    @BeforeEach
+    void setUp() {
+        servletRequest = new MockHttpServletRequest("GET", "/api/v1/projects/1");
+        project = new ProjectDto();
+        project.setId(1L);
+        project.setName("Project");
+        project.setUpdatedAt(UPDATED_AT);
+    }
+
+    @Test
+    void entity_MatchingETag_AnswersWithoutLoading() {
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGet.entityTag(1L, UPDATED_AT));
+        when(versionProbe.lastModified(Project.class, 1L)).thenReturn(Optional.of(UPDATED_AT));
+
+        ResponseEntity<ProjectDto> response = conditionalGet.entity(request(), Project.class, 1L,
+            () -> fail("Should not load the project"));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(ConditionalGet.entityTag(1L, UPDATED_AT), response.getHeaders().getETag());
+    }
+
+    @Test
+    void entity_StaleETag_ReturnsBodyTaggedFromIt() {
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGet.entityTag(1L, UPDATED_AT.minusDays(1)));
+        when(versionProbe.lastModified(Project.class, 1L)).thenReturn(Optional.of(UPDATED_AT));
+
+        ResponseEntity<ProjectDto> response = conditionalGet.entity(request(), Project.class, 1L, () -> project);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(project, response.getBody());
+        assertEquals(ConditionalGet.entityTag(1L, UPDATED_AT), response.getHeaders().getETag());
+    }
+
+    @Test
+    void entity_NoIfNoneMatch_SkipsTheProbe() {
+        ResponseEntity<ProjectDto> response = conditionalGet.entity(request(), Project.class, 1L, () -> project);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getHeaders().getETag());
+        verifyNoInteractions(versionProbe);
+    }
+
+    @Test
+    void entityTag_IgnoresPrecisionTheDatabaseDoesNotKeep() {
+        assertEquals(ConditionalGet.entityTag(1L, UPDATED_AT), ConditionalGet.entityTag(1L, UPDATED_AT.withNano(123_456_000)));
+        assertNotEquals(ConditionalGet.entityTag(1L, UPDATED_AT), ConditionalGet.entityTag(1L, UPDATED_AT.withNano(123_457_000)));
+    }
+
+    @Test
+    void collection_MatchingETag_AnswersWithoutLoading() {
+        Pageable pageable = PageRequest.of(0, 20);
+        EntityVersionProbe.CollectionVersion version = new EntityVersionProbe.CollectionVersion(3, UPDATED_AT);
+        when(versionProbe.collectionVersion(eq(Project.class), isNull())).thenReturn(version);
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, ConditionalGet.collectionTag(Project.class, version, pageable));
+
+        ResponseEntity<List<ProjectDto>> response = conditionalGet.collection(request(), Project.class, null, pageable,
+            () -> fail("Should not load the projects"));
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+    }
+
+    @Test
+    void collectionTag_ChangesWithCountLatestUpdateAndPage() {
+        Pageable first = PageRequest.of(0, 20);
+        String tag = ConditionalGet.collectionTag(Project.class,
+            new EntityVersionProbe.CollectionVersion(3, UPDATED_AT), first);
+
+        assertNotEquals(tag, ConditionalGet.collectionTag(Project.class,
+            new EntityVersionProbe.CollectionVersion(2, UPDATED_AT), first));
+        assertNotEquals(tag, ConditionalGet.collectionTag(Project.class,
+            new EntityVersionProbe.CollectionVersion(3, UPDATED_AT.plusSeconds(1)), first));
+        assertNotEquals(tag, ConditionalGet.collectionTag(Project.class,
+            new EntityVersionProbe.CollectionVersion(3, UPDATED_AT), PageRequest.of(1, 20)));
+        assertNotNull(ConditionalGet.collectionTag(Project.class,
+            new EntityVersionProbe.CollectionVersion(0, null), first));
+    }
+
+    @Test
+    void matches_UsesWeakComparisonAcrossAList() {
+        String tag = ConditionalGet.entityTag(1L, UPDATED_AT);
+
+        assertTrue(ConditionalGet.matches("\"other\", " + tag.substring(2), tag));
+        assertTrue(ConditionalGet.matches("*", tag));
+        assertFalse(ConditionalGet.matches("W/\"other\"", tag));
+    }
+
+    private ServletWebRequest request() {
+        return new ServletWebRequest(servletRequest);
+    }
+}
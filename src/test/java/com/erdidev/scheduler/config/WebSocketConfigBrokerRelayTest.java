@@ -0,0 +1,167 @@
+package com.erdidev.scheduler.config;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.TestSocketUtils;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs two message broker contexts ("nodes") against one embedded Artemis broker and
+ * checks that a notification sent on node A reaches a client subscribed on node B.
+ */
+@Slf4j
+class WebSocketConfigBrokerRelayTest {
+
+    private static final String DESTINATION = "/topic/notifications";
+    private static final String SESSION_ID = "node-b-session";
+
+    private EmbeddedActiveMQ broker;
+    private AnnotationConfigApplicationContext nodeA;
+    private AnnotationConfigApplicationContext nodeB;
+    private final BlockingQueue<Message<?>> nodeBOutbound = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        int port = TestSocketUtils.findAvailableTcpPort();
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+            .setPersistenceEnabled(false)
+            .setSecurityEnabled(false)
+            .addAcceptorConfiguration("stomp",
+                "tcp://127.0.0.1:" + port + "?protocols=STOMP&multicastPrefix=/topic/"));
+        broker.start();
+
+        nodeA = startNode(port);
+        nodeB = startNode(port);
+        ((SubscribableChannel) nodeB.getBean("clientOutboundChannel")).subscribe(nodeBOutbound::add);
+
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @Test
+    void notificationSentOnOneNode_IsDeliveredToClientOnOtherNode() throws Exception {
+        subscribeClientOnNodeB();
+
+        nodeA.getBean(SimpMessagingTemplate.class)
+            .convertAndSend(DESTINATION, new NotificationMessage("cross-node"));
+
+        Message<?> message = awaitFrame(StompCommand.MESSAGE);
+        assertNotNull(message, "Node B client did not receive the notification sent on node A");
+        assertTrue(new String((byte[]) message.getPayload()).contains("cross-node"));
+    }
+
+    @Test
+    void crossNodeThroughput() throws Exception {
+        subscribeClientOnNodeB();
+        int count = 2000;
+        CountDownLatch received = new CountDownLatch(count);
+        ((SubscribableChannel) nodeB.getBean("clientOutboundChannel")).subscribe(message -> {
+            if (StompHeaderAccessor.wrap(message).getCommand() == StompCommand.MESSAGE) {
+                received.countDown();
+            }
+        });
+        SimpMessagingTemplate template = nodeA.getBean(SimpMessagingTemplate.class);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            template.convertAndSend(DESTINATION, new NotificationMessage("message " + i));
+        }
+        assertTrue(received.await(30, TimeUnit.SECONDS), "Not all messages crossed nodes");
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        log.info("Relayed {} notifications node A -> broker -> node B in {} ms ({} msg/s)",
+            count, elapsedMillis, count * 1000L / Math.max(elapsedMillis, 1));
+    }
+
+    private AnnotationConfigApplicationContext startNode(int brokerPort) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("relay", Map.of(
+            "taskmanager.websocket.relay.enabled", "true",
+            "taskmanager.websocket.relay.host", "127.0.0.1",
+            "taskmanager.websocket.relay.port", String.valueOf(brokerPort),
+            "taskmanager.websocket.relay.system-heartbeat-send-interval", "2000",
+            "taskmanager.websocket.relay.system-heartbeat-receive-interval", "2000",
+            "taskmanager.websocket.relay.pool.max-connections", "16")));
+        context.register(WebSocketConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private void awaitBrokerAvailable(AnnotationConfigApplicationContext node) throws InterruptedException {
+        StompBrokerRelayMessageHandler relay =
+            node.getBean("stompBrokerRelayMessageHandler", StompBrokerRelayMessageHandler.class);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!relay.isBrokerAvailable() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relay.isBrokerAvailable(), "Relay did not connect to the broker");
+    }
+
+    private void subscribeClientOnNodeB() throws InterruptedException {
+        MessageChannel inbound = nodeB.getBean("clientInboundChannel", MessageChannel.class);
+
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(SESSION_ID);
+        connect.setAcceptVersion("1.2");
+        connect.setHeartbeat(0, 0);
+        inbound.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+        assertNotNull(awaitFrame(StompCommand.CONNECTED), "Client session was not connected");
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(SESSION_ID);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination(DESTINATION);
+        subscribe.setReceipt("subscribed");
+        inbound.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders()));
+        assertNotNull(awaitFrame(StompCommand.RECEIPT), "Subscription was not acknowledged");
+    }
+
+    private Message<?> awaitFrame(StompCommand command) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            Message<?> message = nodeBOutbound.poll(100, TimeUnit.MILLISECONDS);
+            if (message != null && SimpMessageHeaderAccessor.getSessionId(message.getHeaders()) != null
+                    && StompHeaderAccessor.wrap(message).getCommand() == command) {
+                return message;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,45 @@
+package com.erdidev.scheduler.model.converter;
+
+import com.erdidev.scheduler.enums.NotificationChannel;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnumSetBitmaskConverterTest {
+
+    private final DayOfWeekSetConverter dayConverter = new DayOfWeekSetConverter();
+    private final NotificationChannelSetConverter channelConverter = new NotificationChannelSetConverter();
+
+    @Test
+    void convertToDatabaseColumn_SetsOneBitPerOrdinal() {
+        assertEquals(0b1000001, dayConverter.convertToDatabaseColumn(Set.of(DayOfWeek.MONDAY, DayOfWeek.SUNDAY)));
+        assertEquals(0, dayConverter.convertToDatabaseColumn(Set.of()));
+        assertEquals(1, channelConverter.convertToDatabaseColumn(Set.of(NotificationChannel.WEBSOCKET)));
+    }
+
+    @Test
+    void roundTrip_PreservesEverySubsetOfDays() {
+        for (int mask = 0; mask < 1 << 7; mask++) {
+            Set<DayOfWeek> days = dayConverter.convertToEntityAttribute(mask);
+            assertEquals(mask, dayConverter.convertToDatabaseColumn(days));
+        }
+    }
+
+    @Test
+    void convertToEntityAttribute_ReturnsEnumSet() {
+        Set<DayOfWeek> days = dayConverter.convertToEntityAttribute(0b0010100);
+
+        assertInstanceOf(EnumSet.class, days);
+        assertEquals(EnumSet.of(DayOfWeek.WEDNESDAY, DayOfWeek.FRIDAY), days);
+    }
+
+    @Test
+    void nullIsPreserved() {
+        assertNull(dayConverter.convertToDatabaseColumn(null));
+        assertNull(dayConverter.convertToEntityAttribute(null));
+    }
+}
@@ -0,0 +1,100 @@
+package com.erdidev.scheduler.repository;
+
+import com.erdidev.scheduler.dto.ReminderDto;
+import com.erdidev.scheduler.enums.NotificationChannel;
+import com.erdidev.scheduler.enums.ReminderStatus;
+import com.erdidev.scheduler.mapper.ReminderMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements needed to load and map the due reminders. With channels in a
+ * bitmask column this is one select regardless of how many reminders are due.
+ */
+@Slf4j
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class ReminderRepositoryQueryCountTest {
+
+    private static final int REMINDER_COUNT = 10_000;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private ReminderRepository reminderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ReminderMapper reminderMapper = Mappers.getMapper(ReminderMapper.class);
+
+    @BeforeEach
+    void seed() {
+        Long userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        Long projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, owner_id, created_at) VALUES ('project', ?, now()) RETURNING id",
+            Long.class, userId);
+        Long taskId = jdbcTemplate.queryForObject("""
+            INSERT INTO tasks (title, status, project_id, owner_id, creator_id, created_at)
+            VALUES ('task', 'TODO', ?, ?, ?, now()) RETURNING id
+            """, Long.class, projectId, userId, userId);
+        Long scheduleId = jdbcTemplate.queryForObject("""
+            INSERT INTO schedule (task_id, scheduled_time, status, start_time, end_time, created_at)
+            VALUES (?, now(), 'PENDING', now(), now() + interval '1 hour', now()) RETURNING id
+            """, Long.class, taskId);
+        jdbcTemplate.update("""
+            INSERT INTO reminder (task_id, schedule_id, type, reminder_time, message, status,
+                                  notification_channels, created_at)
+            SELECT ?, ?, 'WEBSOCKET', now() + (n || ' seconds')::interval, 'reminder ' || n, 'PENDING', 1, now()
+            FROM generate_series(1, ?) AS n
+            """, taskId, scheduleId, REMINDER_COUNT);
+    }
+
+    @Test
+    void dueRemindersLoadInOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ReminderDto> due = reminderRepository.findByStatusAndReminderTimeBetween(
+                ReminderStatus.PENDING, LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1))
+            .stream()
+            .map(reminderMapper::toDto)
+            .toList();
+
+        log.info("Loaded {} due reminders with {} statements", due.size(), statistics.getPrepareStatementCount());
+        assertEquals(REMINDER_COUNT, due.size());
+        assertTrue(due.stream().allMatch(dto -> dto.getNotificationChannels().contains(NotificationChannel.WEBSOCKET)));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -7,7 +7,6 @@ import com.erdidev.scheduler.exception.NotificationDeliveryException;
 import com.erdidev.scheduler.exception.ReminderNotFoundException;
 import com.erdidev.scheduler.mapper.ReminderMapper;
 import com.erdidev.scheduler.model.Reminder;
-import com.erdidev.scheduler.model.ReminderNotificationChannel;
 import com.erdidev.scheduler.model.Schedule;
 import com.erdidev.scheduler.repository.ReminderRepository;
 import com.erdidev.scheduler.repository.ScheduleRepository;
@@ -22,12 +21,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.HashSet;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -56,6 +56,9 @@ class ReminderServiceTest {
     @Mock
     private NotificationStrategy notificationStrategy;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReminderService reminderService;
 
@@ -89,11 +92,7 @@ class ReminderServiceTest {
         reminder.setStatus(ReminderStatus.PENDING);
         reminder.setTask(task);
         
-        Set<ReminderNotificationChannel> notificationChannels = new HashSet<>();
-        ReminderNotificationChannel channel = new ReminderNotificationChannel();
-        channel.setChannelType(NotificationChannel.WEBSOCKET);
-        notificationChannels.add(channel);
-        reminder.setNotificationChannels(notificationChannels);
+        reminder.setNotificationChannels(EnumSet.of(NotificationChannel.WEBSOCKET));
         
         reminderDto = new ReminderDto();
         reminderDto.setId(1L);
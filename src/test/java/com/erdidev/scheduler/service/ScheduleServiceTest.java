@@ -1,5 +1,7 @@
 package com.erdidev.scheduler.service;
 
+import com.erdidev.common.cluster.FencingTokenGuard;
+import com.erdidev.common.exception.StaleLeaderException;
 import com.erdidev.scheduler.dto.RecurrencePatternDto;
 import com.erdidev.scheduler.dto.ReminderDto;
 import com.erdidev.scheduler.dto.ScheduleDto;
@@ -8,16 +10,19 @@ import com.erdidev.scheduler.exception.ScheduleNotFoundException;
 import com.erdidev.scheduler.mapper.ScheduleMapper;
 import com.erdidev.scheduler.model.Schedule;
 import com.erdidev.scheduler.repository.ScheduleRepository;
+import com.erdidev.scheduler.repository.ScheduleRow;
 import com.erdidev.taskmanager.model.Task;
 import com.erdidev.taskmanager.model.TaskStatus;
 import com.erdidev.taskmanager.repository.TaskRepository;
 import com.erdidev.taskmanager.service.TaskService;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -50,10 +55,20 @@ class ScheduleServiceTest {
     @Mock
     private TaskService taskService;
 
+    @Mock
+    private FencingTokenGuard fencingTokenGuard;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ScheduleService scheduleService;
 
     private Schedule schedule;
+    private ScheduleRow scheduleRow;
     private ScheduleDto scheduleDto;
     private Task task;
     private LocalDateTime now;
@@ -77,6 +92,9 @@ class ScheduleServiceTest {
         schedule.setTitle("Test Schedule");
         schedule.setDescription("Test Description");
         schedule.setTimeZone("Europe/Istanbul");
+
+        scheduleRow = new ScheduleRow(1L, 1L, now.plusHours(2), now.plusHours(2), now.plusHours(3),
+                ScheduleStatus.PENDING, "Europe/Istanbul", "Test Schedule", "Test Description", now, now);
         
         scheduleDto = new ScheduleDto();
         scheduleDto.setId(1L);
@@ -162,9 +180,9 @@ class ScheduleServiceTest {
     @Test
     void getSchedules_Success() {
         Pageable pageable = mock(Pageable.class);
-        Page<Schedule> schedulePage = new PageImpl<>(List.of(schedule));
-        when(scheduleRepository.findAll(pageable)).thenReturn(schedulePage);
-        when(scheduleMapper.toDto(schedule)).thenReturn(scheduleDto);
+        Page<ScheduleRow> schedulePage = new PageImpl<>(List.of(scheduleRow));
+        when(scheduleRepository.findRows(pageable)).thenReturn(schedulePage);
+        when(scheduleMapper.toDto(scheduleRow)).thenReturn(scheduleDto);
         
         Page<ScheduleDto> result = scheduleService.getSchedules(pageable);
         
@@ -175,8 +193,8 @@ class ScheduleServiceTest {
 
     @Test
     void getSchedulesByTaskId_Success() {
-        when(scheduleRepository.findByTaskId(1L)).thenReturn(List.of(schedule));
-        when(scheduleMapper.toDto(schedule)).thenReturn(scheduleDto);
+        when(scheduleRepository.findRowsByTaskId(1L)).thenReturn(List.of(scheduleRow));
+        when(scheduleMapper.toDto(scheduleRow)).thenReturn(scheduleDto);
         
         List<ScheduleDto> result = scheduleService.getSchedulesByTaskId(1L);
         
@@ -187,10 +205,10 @@ class ScheduleServiceTest {
 
     @Test
     void getPendingSchedules_Success() {
-        when(scheduleRepository.findByStatusAndScheduledTimeBefore(
+        when(scheduleRepository.findRowsByStatusAndScheduledTimeBefore(
                 eq(ScheduleStatus.PENDING), any(LocalDateTime.class)))
-            .thenReturn(List.of(schedule));
-        when(scheduleMapper.toDto(schedule)).thenReturn(scheduleDto);
+            .thenReturn(List.of(scheduleRow));
+        when(scheduleMapper.toDto(scheduleRow)).thenReturn(scheduleDto);
         
         List<ScheduleDto> result = scheduleService.getPendingSchedules();
         
@@ -338,4 +356,13 @@ class ScheduleServiceTest {
         assertEquals(TaskStatus.IN_PROGRESS, task.getStatus());
         assertEquals(ScheduleStatus.COMPLETED, schedule.getStatus());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void processSchedules_StaleLeader_ProcessesNothing() {
+        doThrow(new StaleLeaderException("schedule-processor", 1L)).when(fencingTokenGuard).verify();
+
+        assertThrows(StaleLeaderException.class, () -> scheduleService.processSchedules());
+
+        verifyNoInteractions(scheduleRepository, taskRepository);
+    }
+}
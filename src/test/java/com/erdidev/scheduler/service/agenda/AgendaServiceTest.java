@@ -0,0 +1,149 @@
+package com.erdidev.scheduler.service.agenda;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.scheduler.dto.AgendaDto;
+import com.erdidev.scheduler.dto.AgendaTimer;
+import com.erdidev.scheduler.event.ScheduleChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.timetracker.event.TimeEntryChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgendaServiceTest {
+
+    @Mock
+    private AgendaBuilder agendaBuilder;
+
+    @Mock
+    private AgendaSnapshotStore snapshotStore;
+
+    @InjectMocks
+    private AgendaService agendaService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void getAgenda_SnapshotPresent_ServedWithoutQueries() {
+        AgendaDto snapshot = emptyAgenda();
+        when(snapshotStore.find(1L, today)).thenReturn(Optional.of(snapshot));
+
+        assertSame(snapshot, agendaService.getAgenda(1L));
+        verifyNoInteractions(agendaBuilder);
+    }
+
+    @Test
+    void getAgenda_NoSnapshot_BuildsAndStores() {
+        AgendaDto built = emptyAgenda();
+        when(snapshotStore.find(1L, today)).thenReturn(Optional.empty());
+        when(agendaBuilder.build(1L, today)).thenReturn(built);
+
+        assertSame(built, agendaService.getAgenda(1L));
+        verify(snapshotStore).save(1L, built);
+    }
+
+    @Test
+    void onTaskChanged_RefreshesTaskSectionsForOwnerAndAssignee() {
+        when(snapshotStore.exists(anyLong(), eq(today))).thenReturn(true);
+        when(agendaBuilder.buildSections(anyLong(), eq(today), any())).thenReturn(Map.of());
+
+        agendaService.onTaskChanged(new TaskChangedEvent(5L, ChangeType.UPDATED, 1L, 2L));
+
+        EnumSet<AgendaSection> expected =
+            EnumSet.of(AgendaSection.SCHEDULES, AgendaSection.DUE_TASKS, AgendaSection.REMINDERS);
+        verify(agendaBuilder).buildSections(1L, today, expected);
+        verify(agendaBuilder).buildSections(2L, today, expected);
+        verify(snapshotStore, times(2)).saveSections(anyLong(), eq(today), any());
+    }
+
+    @Test
+    void onTaskChanged_Reassigned_AlsoRefreshesPreviousAssignee() {
+        when(snapshotStore.exists(anyLong(), eq(today))).thenReturn(true);
+        when(agendaBuilder.buildSections(anyLong(), eq(today), any())).thenReturn(Map.of());
+
+        agendaService.onTaskChanged(new TaskChangedEvent(5L, ChangeType.UPDATED, 1L, 3L, 1L, 2L));
+
+        verify(agendaBuilder).buildSections(eq(1L), eq(today), any());
+        verify(agendaBuilder).buildSections(eq(2L), eq(today), any());
+        verify(agendaBuilder).buildSections(eq(3L), eq(today), any());
+        verify(snapshotStore, times(3)).saveSections(anyLong(), eq(today), any());
+    }
+
+    @Test
+    void onScheduleChanged_RefreshesSchedulesForOwnerAndAssignee() {
+        when(snapshotStore.exists(anyLong(), eq(today))).thenReturn(true);
+        when(agendaBuilder.buildSections(anyLong(), eq(today), any())).thenReturn(Map.of());
+
+        agendaService.onScheduleChanged(new ScheduleChangedEvent(4L, ChangeType.UPDATED, 1L, 2L));
+
+        verify(agendaBuilder).buildSections(1L, today, EnumSet.of(AgendaSection.SCHEDULES));
+        verify(agendaBuilder).buildSections(2L, today, EnumSet.of(AgendaSection.SCHEDULES));
+    }
+
+    @Test
+    void onTimeEntryChanged_RefreshesOnlyTimer() {
+        Map<AgendaSection, Object> timer = Map.of(AgendaSection.RUNNING_TIMER,
+            new AgendaTimer(3L, 5L, LocalDateTime.now()));
+        when(snapshotStore.exists(1L, today)).thenReturn(true);
+        when(agendaBuilder.buildSections(1L, today, EnumSet.of(AgendaSection.RUNNING_TIMER))).thenReturn(timer);
+
+        agendaService.onTimeEntryChanged(new TimeEntryChangedEvent(3L, ChangeType.CREATED, 1L));
+
+        verify(snapshotStore).saveSections(1L, today, timer);
+    }
+
+    @Test
+    void onScheduleChanged_NoSnapshot_DoesNothing() {
+        when(snapshotStore.exists(1L, today)).thenReturn(false);
+
+        agendaService.onScheduleChanged(new ScheduleChangedEvent(4L, ChangeType.CREATED, 1L, null));
+
+        verifyNoInteractions(agendaBuilder);
+        verify(snapshotStore, never()).saveSections(anyLong(), any(), any());
+    }
+
+    @Test
+    void refreshFailure_DropsSnapshot() {
+        when(snapshotStore.exists(1L, today)).thenReturn(true);
+        when(agendaBuilder.buildSections(eq(1L), eq(today), any())).thenThrow(new IllegalStateException("db down"));
+
+        agendaService.onScheduleChanged(new ScheduleChangedEvent(4L, ChangeType.UPDATED, 1L, null));
+
+        verify(snapshotStore).evict(1L, today);
+    }
+
+    @Test
+    void rebuildAgendas_StoresSnapshotPerUserAndContinuesAfterFailure() {
+        AgendaDto agenda = emptyAgenda();
+        when(agendaBuilder.findAgendaUserIds()).thenReturn(List.of(1L, 2L, 3L));
+        when(agendaBuilder.build(1L, today)).thenReturn(agenda);
+        when(agendaBuilder.build(2L, today)).thenThrow(new IllegalStateException("boom"));
+        when(agendaBuilder.build(3L, today)).thenReturn(agenda);
+
+        agendaService.rebuildAgendas();
+
+        verify(snapshotStore).save(1L, agenda);
+        verify(snapshotStore).save(3L, agenda);
+        verify(snapshotStore, never()).save(eq(2L), any());
+    }
+
+    private AgendaDto emptyAgenda() {
+        return new AgendaDto(today, List.of(), List.of(), List.of(), null);
+    }
+}
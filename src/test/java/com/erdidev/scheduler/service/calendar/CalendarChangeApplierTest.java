@@ -0,0 +1,126 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.scheduler.dto.CalendarSyncResult;
+import com.erdidev.scheduler.event.ScheduleChangedEvent;
+import com.erdidev.scheduler.model.CalendarSource;
+import com.erdidev.scheduler.repository.CalendarScheduleWriter;
+import com.erdidev.scheduler.repository.CalendarSourceRepository;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CalendarChangeApplierTest {
+
+    @Mock
+    private CalendarSourceRepository sourceRepository;
+
+    @Mock
+    private CalendarScheduleWriter scheduleWriter;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CalendarChangeApplier changeApplier;
+
+    private CalendarSource source;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(changeApplier, "batchSize", 500);
+        ReflectionTestUtils.setField(changeApplier, "minInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(changeApplier, "maxInterval", Duration.ofHours(1));
+
+        source = new CalendarSource();
+        source.setId(1L);
+        source.setTaskId(10L);
+        source.setOwnerId(7L);
+        source.setIdleSyncs(3);
+        when(sourceRepository.findById(1L)).thenReturn(Optional.of(source));
+        Task task = new Task();
+        task.setId(10L);
+        task.setOwnerId(7L);
+        task.setAssigneeId(8L);
+        when(taskRepository.findById(10L)).thenReturn(Optional.of(task));
+        when(scheduleWriter.upsert(anyLong(), anyLong(), anyList(), anyInt()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(2).size());
+        when(scheduleWriter.delete(anyLong(), anyList(), anyInt()))
+            .thenAnswer(invocation -> invocation.<List<?>>getArgument(1).size());
+    }
+
+    @Test
+    void apply_WritesOnlyChangedEvents() {
+        when(scheduleWriter.findVersions(1L)).thenReturn(Map.of("a", "v1", "b", "v1", "gone", "v1"));
+        CalendarChangeSet changes = new CalendarChangeSet(
+            List.of(event("a", "v1"), event("b", "v2"), event("c", "v1")), List.of(), true, null, "\"e2\"");
+
+        CalendarSyncResult result = changeApplier.apply(1L, changes);
+
+        verify(scheduleWriter).upsert(eq(1L), eq(10L), argThat(events -> events.size() == 2), eq(500));
+        verify(scheduleWriter).delete(1L, List.of("gone"), 500);
+        assertEquals(2, result.upserted());
+        assertEquals(1, result.deleted());
+        assertEquals("\"e2\"", source.getEtag());
+        assertEquals(0, source.getIdleSyncs());
+        verify(eventPublisher).publishEvent(new ScheduleChangedEvent(null, com.erdidev.common.event.ChangeType.UPDATED, 7L, 8L));
+    }
+
+    @Test
+    void apply_NotModified_SkipsVersionReadAndBacksOff() {
+        CalendarSyncResult result = changeApplier.apply(1L, CalendarChangeSet.notModified(null, "\"e1\""));
+
+        assertTrue(result.notModified());
+        verify(scheduleWriter, never()).findVersions(any());
+        assertEquals(4, source.getIdleSyncs());
+        assertTrue(source.getNextSyncAt().isAfter(LocalDateTime.now().plusMinutes(15)));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void recordFailure_KeepsSyncPositionAndBacksOff() {
+        source.setEtag("\"e1\"");
+
+        changeApplier.recordFailure(1L, "HTTP 500");
+
+        assertEquals("HTTP 500", source.getLastError());
+        assertEquals("\"e1\"", source.getEtag());
+        assertEquals(4, source.getIdleSyncs());
+    }
+
+    @Test
+    void pollInterval_DoublesUpToMaximum() {
+        assertEquals(Duration.ofMinutes(1), changeApplier.pollInterval(0));
+        assertEquals(Duration.ofMinutes(8), changeApplier.pollInterval(3));
+        assertEquals(Duration.ofHours(1), changeApplier.pollInterval(6));
+        assertEquals(Duration.ofHours(1), changeApplier.pollInterval(1000));
+    }
+
+    private static CalendarEvent event(String id, String version) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 9, 0);
+        return new CalendarEvent(id, version, id, null, start, start.plusHours(1), null);
+    }
+}
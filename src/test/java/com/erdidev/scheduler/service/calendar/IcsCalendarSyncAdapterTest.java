@@ -0,0 +1,146 @@
+package com.erdidev.scheduler.service.calendar;
+
+import com.erdidev.scheduler.enums.CalendarProvider;
+import com.erdidev.scheduler.model.CalendarSource;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Serves a generated 20k-event ICS feed from a local HTTP server standing in for a
+ * calendar host.
+ */
+class IcsCalendarSyncAdapterTest {
+
+    private static final int EVENT_COUNT = 20_000;
+
+    private HttpServer server;
+    private final AtomicInteger fullResponses = new AtomicInteger();
+    private final Map<String, String> summaries = new LinkedHashMap<>();
+    private volatile String etag;
+    private IcsCalendarSyncAdapter adapter;
+    private CalendarSource source;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            summaries.put("event-" + i + "@example.com", "Event " + i);
+        }
+        publishFeed();
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/calendar.ics", exchange -> {
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = renderFeed().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/calendar");
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            fullResponses.incrementAndGet();
+        });
+        server.start();
+
+        adapter = new IcsCalendarSyncAdapter(Duration.ofSeconds(5), Duration.ofSeconds(30));
+        source = new CalendarSource();
+        source.setProvider(CalendarProvider.ICAL);
+        source.setUrl("http://127.0.0.1:" + server.getAddress().getPort() + "/calendar.ics");
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void firstSync_ImportsEveryEvent() {
+        CalendarChangeSet changes = adapter.fetchChanges(source);
+
+        assertTrue(changes.snapshot());
+        assertEquals(EVENT_COUNT, changes.events().size());
+        assertEquals(etag, changes.etag());
+
+        CalendarSyncPlan plan = CalendarSyncPlan.of(Map.of(), changes);
+        assertEquals(EVENT_COUNT, plan.upserts().size());
+        assertTrue(plan.deletes().isEmpty());
+    }
+
+    @Test
+    void resyncWithFiveChanges_PlansFiveWrites() {
+        Map<String, String> stored = versionsOf(adapter.fetchChanges(source));
+
+        summaries.put("event-10@example.com", "Moved meeting");
+        summaries.put("event-500@example.com", "Renamed");
+        summaries.put("event-19999@example.com", "Renamed too");
+        summaries.remove("event-7@example.com");
+        summaries.put("event-new@example.com", "Brand new");
+        publishFeed();
+
+        CalendarSyncPlan plan = CalendarSyncPlan.of(stored, adapter.fetchChanges(source));
+
+        assertEquals(Set.of("event-10@example.com", "event-500@example.com",
+                "event-19999@example.com", "event-new@example.com"),
+            plan.upserts().stream().map(CalendarEvent::externalId).collect(Collectors.toSet()));
+        assertEquals(List.of("event-7@example.com"), plan.deletes());
+        assertEquals(5, plan.upserts().size() + plan.deletes().size());
+    }
+
+    @Test
+    void unchangedFeed_IsNotDownloadedAgain() {
+        CalendarChangeSet first = adapter.fetchChanges(source);
+        source.setEtag(first.etag());
+
+        CalendarChangeSet second = adapter.fetchChanges(source);
+
+        assertFalse(second.snapshot());
+        assertTrue(second.events().isEmpty());
+        assertEquals(first.etag(), second.etag());
+        assertEquals(1, fullResponses.get());
+        assertTrue(CalendarSyncPlan.of(versionsOf(first), second).isEmpty());
+    }
+
+    private static Map<String, String> versionsOf(CalendarChangeSet changes) {
+        return changes.events().stream()
+            .collect(Collectors.toMap(CalendarEvent::externalId, CalendarEvent::version, (a, b) -> a));
+    }
+
+    private void publishFeed() {
+        etag = "\"" + Integer.toHexString(summaries.hashCode()) + "\"";
+    }
+
+    private String renderFeed() {
+        StringBuilder ics = new StringBuilder("BEGIN:VCALENDAR\r\nVERSION:2.0\r\nPRODID:-//test//EN\r\n");
+        for (Map.Entry<String, String> event : summaries.entrySet()) {
+            // Dates derive from the UID so removing one event does not shift the others
+            int day = Math.floorMod(event.getKey().hashCode(), 336);
+            String date = String.format("2030%02d%02d", 1 + (day / 28) % 12, 1 + day % 28);
+            ics.append("BEGIN:VEVENT\r\n")
+                .append("UID:").append(event.getKey()).append("\r\n")
+                .append("DTSTART:").append(date).append("T090000Z\r\n")
+                .append("DTEND:").append(date).append("T100000Z\r\n")
+                .append("SUMMARY:").append(event.getValue()).append("\r\n")
+                .append("END:VEVENT\r\n");
+        }
+        return ics.append("END:VCALENDAR\r\n").toString();
+    }
+}
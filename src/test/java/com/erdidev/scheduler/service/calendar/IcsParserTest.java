@@ -0,0 +1,97 @@
+package com.erdidev.scheduler.service.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IcsParserTest {
+
+    private final IcsParser parser = new IcsParser(ZoneId.of("Europe/Istanbul"));
+    private final List<CalendarEvent> events = new ArrayList<>();
+    private final List<String> cancelled = new ArrayList<>();
+
+    @Test
+    void parsesFoldedLinesEscapesAndTimeZones() throws IOException {
+        parse("""
+            BEGIN:VCALENDAR
+            BEGIN:VEVENT
+            UID:a
+            DTSTART;TZID=Europe/Berlin:20300102T090000
+            DTEND;TZID=Europe/Berlin:20300102T103000
+            SUMMARY:Planning\\, part
+              two
+            DESCRIPTION:line one\\nline two
+            END:VEVENT
+            BEGIN:VEVENT
+            UID:b
+            DTSTART:20300102T090000Z
+            SUMMARY:UTC
+            END:VEVENT
+            BEGIN:VEVENT
+            UID:c
+            DTSTART;VALUE=DATE:20300105
+            SUMMARY:All day
+            END:VEVENT
+            END:VCALENDAR
+            """);
+
+        assertEquals(3, events.size());
+        CalendarEvent berlin = events.get(0);
+        assertEquals("Planning, part two", berlin.title());
+        assertEquals("line one\nline two", berlin.description());
+        assertEquals(LocalDateTime.of(2030, 1, 2, 11, 0), berlin.start());
+        assertEquals(LocalDateTime.of(2030, 1, 2, 12, 30), berlin.end());
+        assertEquals("Europe/Berlin", berlin.timeZone());
+
+        CalendarEvent utc = events.get(1);
+        assertEquals(LocalDateTime.of(2030, 1, 2, 12, 0), utc.start());
+        assertEquals(utc.start().plusHours(1), utc.end());
+
+        CalendarEvent allDay = events.get(2);
+        assertEquals(LocalDateTime.of(2030, 1, 5, 0, 0), allDay.start());
+        assertEquals(LocalDateTime.of(2030, 1, 6, 0, 0), allDay.end());
+    }
+
+    @Test
+    void cancelledEventsAreReportedSeparately() throws IOException {
+        parse("""
+            BEGIN:VEVENT
+            UID:gone
+            DTSTART:20300102T090000Z
+            STATUS:CANCELLED
+            END:VEVENT
+            """);
+
+        assertTrue(events.isEmpty());
+        assertEquals(List.of("gone"), cancelled);
+    }
+
+    @Test
+    void versionChangesOnlyWhenEventChanges() throws IOException {
+        String event = """
+            BEGIN:VEVENT
+            UID:a
+            DTSTART:20300102T090000Z
+            SUMMARY:%s
+            END:VEVENT
+            """;
+        parse(event.formatted("Same"));
+        parse(event.formatted("Same"));
+        parse(event.formatted("Different"));
+
+        assertEquals(events.get(0).version(), events.get(1).version());
+        assertNotEquals(events.get(0).version(), events.get(2).version());
+    }
+
+    private void parse(String ics) throws IOException {
+        parser.parse(new BufferedReader(new StringReader(ics)), events::add, cancelled::add);
+    }
+}
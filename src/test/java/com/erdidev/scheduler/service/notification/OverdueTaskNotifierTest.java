@@ -0,0 +1,45 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import com.erdidev.taskmanager.event.TaskOverdueEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskNotifierTest {
+
+    private static final TaskOverdueEvent EVENT =
+        new TaskOverdueEvent(1L, "Write docs", LocalDateTime.of(2026, 3, 1, 9, 0), 7L, null);
+
+    @Mock
+    private NotificationBus notificationBus;
+
+    @InjectMocks
+    private OverdueTaskNotifier notifier;
+
+    @Test
+    void onTaskOverdue_PublishesAnOverdueNotification() {
+        notifier.onTaskOverdue(EVENT);
+
+        verify(notificationBus).publish(argThat(notification ->
+            notification.getType().equals(NotificationMessage.OVERDUE)
+                && notification.getContent().contains("Write docs")
+                && notification.getContent().contains("2026-03-01 09:00")));
+    }
+
+    @Test
+    void onTaskOverdue_BusFails_DoesNotThrow() {
+        doThrow(new RuntimeException("bus down")).when(notificationBus).publish(any(NotificationMessage.class));
+
+        assertDoesNotThrow(() -> notifier.onTaskOverdue(EVENT));
+    }
+}
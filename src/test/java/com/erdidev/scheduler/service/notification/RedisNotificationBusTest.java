@@ -0,0 +1,133 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationBusStats;
+import com.erdidev.scheduler.dto.NotificationMessage;
+import com.erdidev.scheduler.exception.NotificationDeliveryException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisNotificationBusTest {
+
+    private static final String CHANNEL = "test:notifications";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private LocalNotificationDelivery localDelivery;
+
+    private RedisNotificationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RedisNotificationBus(redisTemplate, listenerContainer, localDelivery, CHANNEL, 2, true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publish_SendsCompactPayloadOnceThroughSequenceScript() {
+        bus.publish(new NotificationMessage("hello"));
+
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<byte[]> channel = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), any(RedisSerializer.class),
+            any(RedisSerializer.class), keys.capture(), channel.capture(), payload.capture());
+        assertEquals(List.of(CHANNEL + ":seq"), keys.getValue());
+        assertArrayEquals(CHANNEL.getBytes(StandardCharsets.UTF_8), channel.getValue());
+        String json = new String(payload.getValue(), StandardCharsets.UTF_8);
+        assertTrue(json.startsWith("{\"content\":\"hello\""));
+        assertFalse(json.contains("\"id\""));
+        assertFalse(json.contains("@class"));
+        verifyNoInteractions(localDelivery);
+        assertEquals(1, bus.getStats().published());
+    }
+
+    @Test
+    void start_PublishOnly_DoesNotSubscribe() {
+        RedisNotificationBus publishOnly =
+            new RedisNotificationBus(redisTemplate, listenerContainer, localDelivery, CHANNEL, 2, false);
+
+        publishOnly.start();
+
+        verifyNoInteractions(listenerContainer);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publish_RedisFails_ThrowsDeliveryException() {
+        when(redisTemplate.execute(any(RedisScript.class), any(RedisSerializer.class), any(RedisSerializer.class),
+            anyList(), any(), any())).thenThrow(new RuntimeException("down"));
+
+        assertThrows(NotificationDeliveryException.class,
+            () -> bus.publish(new NotificationMessage("hello")));
+    }
+
+    @Test
+    void onMessage_DeliversToLocalClientsKeepingIdAndTimestamp() throws Exception {
+        LocalDateTime sentAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        byte[] body = ("{\"id\":7,\"content\":\"from node A\",\"timestamp\":[2025,1,1,10,0],\"type\":\"REMINDER\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+        bus.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+        assertTrue(bus.deliverNext());
+
+        ArgumentCaptor<NotificationMessage> delivered = ArgumentCaptor.forClass(NotificationMessage.class);
+        verify(localDelivery).deliver(delivered.capture());
+        assertEquals(7L, delivered.getValue().getId());
+        assertEquals("from node A", delivered.getValue().getContent());
+        assertEquals(sentAt, delivered.getValue().getTimestamp());
+    }
+
+    @Test
+    void onMessage_UnreadablePayload_IsIgnored() {
+        bus.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "not json".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertEquals(0, bus.getStats().received());
+        assertEquals(0, bus.getStats().pendingDeliveries());
+    }
+
+    @Test
+    void enqueue_BufferFull_DropsOldest() throws Exception {
+        bus.enqueue(new NotificationMessage("first"));
+        bus.enqueue(new NotificationMessage("second"));
+        bus.enqueue(new NotificationMessage("third"));
+
+        NotificationBusStats stats = bus.getStats();
+        assertEquals(1, stats.dropped());
+        assertEquals(2, stats.pendingDeliveries());
+
+        bus.deliverNext();
+        bus.deliverNext();
+        ArgumentCaptor<NotificationMessage> delivered = ArgumentCaptor.forClass(NotificationMessage.class);
+        verify(localDelivery, times(2)).deliver(delivered.capture());
+        assertEquals("second", delivered.getAllValues().get(0).getContent());
+        assertEquals("third", delivered.getAllValues().get(1).getContent());
+    }
+}
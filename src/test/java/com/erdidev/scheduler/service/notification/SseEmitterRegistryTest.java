@@ -0,0 +1,136 @@
+package com.erdidev.scheduler.service.notification;
+
+import com.erdidev.scheduler.dto.NotificationMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SseEmitterRegistryTest {
+
+    private CapturingRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new CapturingRegistry();
+        ReflectionTestUtils.setField(registry, "emitterTimeout", 60000L);
+        ReflectionTestUtils.setField(registry, "replayBufferSize", 3);
+        ReflectionTestUtils.setField(registry, "maxQueuedEvents", 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void broadcast_SendsBusAssignedIds() throws InterruptedException {
+        registry.subscribe(null);
+
+        registry.broadcast(new NotificationMessage("first").withId(1));
+        registry.broadcast(new NotificationMessage("second").withId(2));
+
+        assertEquals(new Received(1, "first"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertEquals(new Received(2, "second"), registry.sent.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void subscribe_WithoutLastEventId_ReplaysNothing() throws InterruptedException {
+        registry.broadcast(new NotificationMessage("first").withId(1));
+
+        registry.subscribe(null);
+
+        assertNull(registry.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribe_RegistersEmitter() {
+        SseEmitter emitter = registry.subscribe(null);
+
+        assertNotNull(emitter);
+        assertEquals(60000L, emitter.getTimeout());
+        assertEquals(1, registry.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ReplaysOnlyNewerEvents() throws InterruptedException {
+        registry.broadcast(new NotificationMessage("first").withId(1));
+        registry.broadcast(new NotificationMessage("second").withId(2));
+
+        registry.subscribe(1L);
+
+        assertEquals(new Received(2, "second"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertNull(registry.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void subscribe_WithEvictedLastEventId_ReplaysWhatIsStillBuffered() throws InterruptedException {
+        for (int i = 1; i <= 5; i++) {
+            registry.broadcast(new NotificationMessage("message " + i).withId(i));
+        }
+
+        registry.subscribe(1L);
+
+        assertEquals(new Received(3, "message 3"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertEquals(new Received(4, "message 4"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertEquals(new Received(5, "message 5"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertNull(registry.sent.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(1, registry.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_WithLastEventIdFromAnotherNode_ReplaysNewerEvents() throws InterruptedException {
+        // Ids come from the bus, so a node that started later buffers the same ids
+        registry.broadcast(new NotificationMessage("seen on the old node").withId(41));
+        registry.broadcast(new NotificationMessage("missed").withId(42));
+
+        registry.subscribe(41L);
+
+        assertEquals(new Received(42, "missed"), registry.sent.poll(5, TimeUnit.SECONDS));
+        assertNull(registry.sent.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private record Received(long id, String content) {
+    }
+
+    /**
+     * Records what each emitter is asked to send instead of writing to a response.
+     */
+    private static class CapturingRegistry extends SseEmitterRegistry {
+        private static final Pattern EVENT_ID = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE);
+
+        private final BlockingQueue<Received> sent = new LinkedBlockingQueue<>();
+
+        @Override
+        SseEmitter createEmitter() {
+            return new SseEmitter(60000L) {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    StringBuilder text = new StringBuilder();
+                    String content = null;
+                    for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                        if (part.getData() instanceof NotificationMessage message) {
+                            content = message.getContent();
+                        } else {
+                            text.append(part.getData());
+                        }
+                    }
+                    Matcher id = EVENT_ID.matcher(text);
+                    if (id.find()) {
+                        sent.add(new Received(Long.parseLong(id.group(1)), content));
+                    }
+                }
+            };
+        }
+    }
+}
@@ -7,18 +7,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class WebSocketNotificationStrategyTest {
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationBus notificationBus;
 
     @InjectMocks
     private WebSocketNotificationStrategy notificationStrategy;
@@ -26,23 +24,24 @@ class WebSocketNotificationStrategyTest {
     @Test
     void sendNotification_Success() {
         String message = "Test notification message";
-        doNothing().when(messagingTemplate).convertAndSend(eq("/topic/notifications"), any(NotificationMessage.class));
+        doNothing().when(notificationBus).publish(any(NotificationMessage.class));
         
         assertDoesNotThrow(() -> {
             notificationStrategy.sendNotification(message);
         });
         
-        verify(messagingTemplate).convertAndSend(eq("/topic/notifications"), any(NotificationMessage.class));
+        verify(notificationBus).publish(argThat(notification ->
+            notification.getContent().contains(message)));
     }
 
     @Test
-    void sendNotification_MessagingTemplateFails_ThrowsException() {
+    void sendNotification_BusFails_ThrowsException() {
         String message = "Test notification message";
         doThrow(new RuntimeException("Failed to send message"))
-            .when(messagingTemplate).convertAndSend(eq("/topic/notifications"), any(NotificationMessage.class));
+            .when(notificationBus).publish(any(NotificationMessage.class));
         
         assertThrows(NotificationDeliveryException.class, () -> {
             notificationStrategy.sendNotification(message);
         });
     }
-} 
\ No newline at end of file
+} 
@@ -1,12 +1,16 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
 import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
 import com.erdidev.taskmanager.exception.CategoryNotFoundException;
 import com.erdidev.taskmanager.exception.ProjectNotFoundException;
 import com.erdidev.taskmanager.mapper.CategoryMapper;
 import com.erdidev.taskmanager.model.Category;
 import com.erdidev.taskmanager.model.Project;
 import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.CategoryRow;
 import com.erdidev.taskmanager.repository.ProjectRepository;
 import com.erdidev.common.util.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,12 +22,14 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,10 +48,17 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper categoryMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TwoLevelCache<CategoryDto> categoryCache;
+
     @InjectMocks
     private CategoryService categoryService;
 
     private Category category;
+    private CategoryRow categoryRow;
     private CategoryDto categoryDto;
     private Project project;
     private final Long testUserId = 1L;
@@ -63,21 +76,27 @@ class CategoryServiceTest {
         category.setDescription("Test Description");
         category.setProject(project);
         category.setOwnerId(testUserId);
+
+        categoryRow = new CategoryRow(1L, "Test Category", "Test Description", 1L, null, null);
         
         categoryDto = new CategoryDto();
         categoryDto.setId(1L);
         categoryDto.setName("Test Category");
         categoryDto.setDescription("Test Description");
         categoryDto.setProjectId(1L);
+
+        // Read through to the repository, as an empty cache would
+        when(categoryCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<CategoryDto>>getArgument(1).get());
     }
 
     @Test
     void getCategories_ReturnsPageOfCategories() {
         Pageable pageable = mock(Pageable.class);
-        Page<Category> categoryPage = new PageImpl<>(List.of(category));
+        Page<CategoryRow> categoryPage = new PageImpl<>(List.of(categoryRow));
         
-        when(categoryRepository.findAll(pageable)).thenReturn(categoryPage);
-        when(categoryMapper.toDto(category)).thenReturn(categoryDto);
+        when(categoryRepository.findRows(pageable)).thenReturn(categoryPage);
+        when(categoryMapper.toDto(categoryRow)).thenReturn(categoryDto);
 
         Page<CategoryDto> result = categoryService.getCategories(pageable);
 
@@ -85,7 +104,7 @@ class CategoryServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(categoryDto.getId(), result.getContent().getFirst().getId());
         assertEquals(categoryDto.getName(), result.getContent().getFirst().getName());
-        verify(categoryRepository).findAll(pageable);
+        verify(categoryRepository).findRows(pageable);
     }
 
     @Test
@@ -135,36 +154,37 @@ class CategoryServiceTest {
 
     @Test
     void getAllCategories_ReturnsAllCategories() {
-        when(categoryRepository.findAll()).thenReturn(List.of(category));
-        when(categoryMapper.toDto(category)).thenReturn(categoryDto);
+        when(categoryRepository.findAllRows()).thenReturn(List.of(categoryRow));
+        when(categoryMapper.toDto(categoryRow)).thenReturn(categoryDto);
 
         List<CategoryDto> results = categoryService.getAllCategories();
 
         assertNotNull(results);
         assertEquals(1, results.size());
         assertEquals(categoryDto.getId(), results.getFirst().getId());
-        verify(categoryRepository).findAll();
+        verify(categoryRepository).findAllRows();
     }
 
     @Test
     void getCategory_ExistingId_ReturnsCategory() {
-        when(categoryRepository.findById(1L)).thenReturn(Optional.of(category));
-        when(categoryMapper.toDto(category)).thenReturn(categoryDto);
+        when(categoryRepository.findRowById(1L)).thenReturn(Optional.of(categoryRow));
+        when(categoryMapper.toDto(categoryRow)).thenReturn(categoryDto);
 
         CategoryDto result = categoryService.getCategory(1L);
 
         assertNotNull(result);
         assertEquals(categoryDto.getId(), result.getId());
         assertEquals(categoryDto.getName(), result.getName());
-        verify(categoryRepository).findById(1L);
+        verify(categoryRepository).findRowById(1L);
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
     void getCategory_NonExistingId_ThrowsException() {
-        when(categoryRepository.findById(999L)).thenReturn(Optional.empty());
+        when(categoryRepository.findRowById(999L)).thenReturn(Optional.empty());
 
         assertThrows(CategoryNotFoundException.class, () -> categoryService.getCategory(999L));
-        verify(categoryRepository).findById(999L);
+        verify(categoryRepository).findRowById(999L);
     }
 
     @Test
@@ -214,6 +234,7 @@ class CategoryServiceTest {
         assertEquals(category.getId(), result.getId());
         verify(categoryRepository).findById(1L);
         verify(categoryRepository).save(any(Category.class));
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L, ChangeType.UPDATED));
     }
 
     @Test
@@ -238,6 +259,7 @@ class CategoryServiceTest {
 
         verify(categoryRepository).existsById(1L);
         verify(categoryRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(1L, ChangeType.DELETED));
     }
 
     @Test
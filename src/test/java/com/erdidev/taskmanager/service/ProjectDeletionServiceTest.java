@@ -0,0 +1,145 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.ProjectDeletionStatus;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.ChangedTask;
+import com.erdidev.taskmanager.repository.ProjectCascadeRepository;
+import com.erdidev.taskmanager.repository.ProjectDeletionJobRepository;
+import com.erdidev.taskmanager.repository.TaskCascadeRepository;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProjectDeletionServiceTest {
+
+    private static final long JOB_ID = 9L;
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock
+    private ProjectDeletionJobRepository jobRepository;
+
+    @Mock
+    private ProjectCascadeRepository projectCascadeRepository;
+
+    @Mock
+    private TaskCascadeRepository taskCascadeRepository;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskAttachmentService attachmentService;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Cache cache;
+
+    private ProjectDeletionService deletionService;
+
+    @BeforeEach
+    void setUp() {
+        ProjectDeletionChunkWriter chunkWriter = new ProjectDeletionChunkWriter(projectCascadeRepository,
+            taskCascadeRepository, projectTaskCounters, eventPublisher);
+        deletionService = new ProjectDeletionService(jobRepository, chunkWriter, attachmentService, entityManagerFactory);
+        ReflectionTestUtils.setField(deletionService, "chunkSize", 2);
+
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(projectCascadeRepository.lockProject(PROJECT_ID)).thenReturn(true);
+        when(projectCascadeRepository.deleteProject(PROJECT_ID)).thenReturn(List.of(7L));
+        when(taskCascadeRepository.findStoredFiles(anyCollection())).thenReturn(List.of());
+        when(taskCascadeRepository.deleteTasks(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).stream()
+                .map(id -> new ChangedTask(id, 3L, null, PROJECT_ID, TaskStatus.TODO, Priority.HIGH))
+                .toList());
+    }
+
+    @Test
+    void run_DeletesTasksInChunksThenTheProject() {
+        when(projectCascadeRepository.findTaskIds(PROJECT_ID, 2))
+            .thenReturn(List.of(10L, 11L), List.of(12L), List.of(), List.of(13L), List.of());
+        when(taskCascadeRepository.findStoredFiles(List.of(10L, 11L))).thenReturn(List.of("a.pdf"));
+        when(projectCascadeRepository.detachCategories(PROJECT_ID))
+            .thenReturn(List.of(new ChangedTask(50L, 4L, 5L, 2L, TaskStatus.TODO, null)));
+
+        deletionService.run(JOB_ID, PROJECT_ID);
+
+        verify(jobRepository).startJob(JOB_ID);
+        verify(jobRepository).recordProgress(JOB_ID, 2);
+        verify(jobRepository, times(2)).recordProgress(JOB_ID, 1);
+        verify(attachmentService).deleteStoredFiles(List.of("a.pdf"));
+        // Tasks swept in the final step are not subtracted: the counters go with the project
+        verify(projectTaskCounters, times(3)).removed(new TaskCountKey(PROJECT_ID, TaskStatus.TODO, Priority.HIGH));
+        verify(eventPublisher, times(5)).publishEvent(any(TaskChangedEvent.class));
+        // A task of another project loses the deleted category
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(50L, ChangeType.UPDATED, 4L, 5L));
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(7L, ChangeType.DELETED));
+        verify(eventPublisher).publishEvent(new ProjectChangedEvent(PROJECT_ID, ChangeType.DELETED));
+        verify(cache).evictEntityData(Project.class, PROJECT_ID);
+        verify(cache).evictEntityData(Category.class, 7L);
+        verify(cache).evictDefaultQueryRegion();
+        verify(jobRepository).finishJob(JOB_ID, ProjectDeletionStatus.COMPLETED, null);
+    }
+
+    @Test
+    void run_ProjectAlreadyGone_CompletesWithoutDeletingIt() {
+        when(projectCascadeRepository.findTaskIds(PROJECT_ID, 2)).thenReturn(List.of());
+        when(projectCascadeRepository.lockProject(PROJECT_ID)).thenReturn(false);
+
+        deletionService.run(JOB_ID, PROJECT_ID);
+
+        verify(projectCascadeRepository, never()).deleteProject(any());
+        verify(jobRepository, never()).recordProgress(anyLong(), anyLong());
+        verify(jobRepository).finishJob(JOB_ID, ProjectDeletionStatus.COMPLETED, null);
+    }
+
+    @Test
+    void run_ChunkFails_MarksTheJobFailed() {
+        when(projectCascadeRepository.findTaskIds(PROJECT_ID, 2))
+            .thenThrow(new DataAccessResourceFailureException("connection lost"));
+
+        deletionService.run(JOB_ID, PROJECT_ID);
+
+        verify(jobRepository).finishJob(JOB_ID, ProjectDeletionStatus.FAILED, "connection lost");
+        verify(projectCascadeRepository, never()).deleteProject(any());
+        verify(cache, never()).evictEntityData(eq(Project.class), any());
+    }
+}
@@ -1,10 +1,21 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.ProjectDeletionJobDto;
 import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.ProjectStatsDto;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
 import com.erdidev.taskmanager.exception.ProjectNotFoundException;
 import com.erdidev.taskmanager.mapper.ProjectMapper;
+import com.erdidev.taskmanager.model.Priority;
 import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.ProjectDeletionStatus;
+import com.erdidev.taskmanager.model.TaskStatus;
 import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.ProjectRow;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
 import com.erdidev.common.util.SecurityUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,12 +26,15 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,9 +47,21 @@ class ProjectServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private ProjectTaskCountRepository taskCountRepository;
+
     @Mock
     private ProjectMapper projectMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TwoLevelCache<ProjectDto> projectCache;
+
+    @Mock
+    private ProjectDeletionService projectDeletionService;
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -56,15 +82,20 @@ class ProjectServiceTest {
         projectDto.setName("Test Project");
         projectDto.setDescription("Test Description");
         // The DTO might not have ownerId setter as it's typically not exposed
+
+        // Read through to the repository, as an empty cache would
+        when(projectCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<ProjectDto>>getArgument(1).get());
     }
 
     @Test
     void getProjects_ReturnsPageOfProjects() {
         Pageable pageable = mock(Pageable.class);
-        Page<Project> projectPage = new PageImpl<>(List.of(project));
+        ProjectRow row = new ProjectRow(1L, "Test Project", "Test Description", null, null);
+        Page<ProjectRow> projectPage = new PageImpl<>(List.of(row));
         
-        when(projectRepository.findAll(pageable)).thenReturn(projectPage);
-        when(projectMapper.toDto(project)).thenReturn(projectDto);
+        when(projectRepository.findRows(pageable)).thenReturn(projectPage);
+        when(projectMapper.toDto(row)).thenReturn(projectDto);
 
         Page<ProjectDto> result = projectService.getProjects(pageable);
 
@@ -72,28 +103,30 @@ class ProjectServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(projectDto.getId(), result.getContent().getFirst().getId());
         assertEquals(projectDto.getName(), result.getContent().getFirst().getName());
-        verify(projectRepository).findAll(pageable);
+        verify(projectRepository).findRows(pageable);
     }
 
     @Test
     void getProject_ExistingId_ReturnsProject() {
-        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
-        when(projectMapper.toDto(project)).thenReturn(projectDto);
+        ProjectRow row = new ProjectRow(1L, "Test Project", "Test Description", null, null);
+        when(projectRepository.findRowById(1L)).thenReturn(Optional.of(row));
+        when(projectMapper.toDto(row)).thenReturn(projectDto);
 
         ProjectDto result = projectService.getProject(1L);
 
         assertNotNull(result);
         assertEquals(projectDto.getId(), result.getId());
         assertEquals(projectDto.getName(), result.getName());
-        verify(projectRepository).findById(1L);
+        verify(projectRepository).findRowById(1L);
+        verify(projectRepository, never()).findById(any());
     }
 
     @Test
     void getProject_NonExistingId_ThrowsException() {
-        when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+        when(projectRepository.findRowById(999L)).thenReturn(Optional.empty());
 
         assertThrows(ProjectNotFoundException.class, () -> projectService.getProject(999L));
-        verify(projectRepository).findById(999L);
+        verify(projectRepository).findRowById(999L);
     }
 
     @Test
@@ -132,6 +165,7 @@ class ProjectServiceTest {
         assertEquals(projectDto.getName(), result.getName());
         verify(projectRepository).findById(1L);
         verify(projectRepository).save(project);
+        verify(eventPublisher).publishEvent(new ProjectChangedEvent(1L, ChangeType.UPDATED));
     }
 
     @Test
@@ -147,14 +181,16 @@ class ProjectServiceTest {
     }
 
     @Test
-    void deleteProject_ExistingId_DeletesProject() {
+    void deleteProject_ExistingId_QueuesDeletion() {
+        ProjectDeletionJobDto job = new ProjectDeletionJobDto(5L, 1L, ProjectDeletionStatus.QUEUED, 0, null,
+            null, null, null);
         when(projectRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(projectRepository).deleteById(1L);
+        when(projectDeletionService.submit(1L)).thenReturn(job);
 
-        assertDoesNotThrow(() -> projectService.deleteProject(1L));
+        assertSame(job, projectService.deleteProject(1L));
 
         verify(projectRepository).existsById(1L);
-        verify(projectRepository).deleteById(1L);
+        verify(projectRepository, never()).deleteById(any());
     }
 
     @Test
@@ -163,7 +199,7 @@ class ProjectServiceTest {
 
         assertThrows(ProjectNotFoundException.class, () -> projectService.deleteProject(999L));
         verify(projectRepository).existsById(999L);
-        verify(projectRepository, never()).deleteById(any());
+        verifyNoInteractions(projectDeletionService);
     }
 
     @Test
@@ -180,4 +216,31 @@ class ProjectServiceTest {
         assertEquals(projectDto.getName(), results.getFirst().getName());
         verify(projectRepository).findByNameContainingIgnoreCase(searchQuery);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getProjectStats_SumsCountersByStatusAndPriority() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(taskCountRepository.findByProjectId(1L)).thenReturn(Map.of(
+                new TaskCountKey(1L, TaskStatus.TODO, Priority.HIGH), 3L,
+                new TaskCountKey(1L, TaskStatus.TODO, null), 2L,
+                new TaskCountKey(1L, TaskStatus.DONE, Priority.HIGH), 5L));
+
+        ProjectStatsDto stats = projectService.getProjectStats(1L);
+
+        assertEquals(10, stats.totalTasks());
+        assertEquals(5L, stats.byStatus().get(TaskStatus.TODO));
+        assertEquals(5L, stats.byStatus().get(TaskStatus.DONE));
+        assertEquals(0L, stats.byStatus().get(TaskStatus.BLOCKED));
+        assertEquals(8L, stats.byPriority().get(Priority.HIGH));
+        assertEquals(0L, stats.byPriority().get(Priority.LOW));
+        assertEquals(2, stats.withoutPriority());
+    }
+
+    @Test
+    void getProjectStats_NonExistingProject_ThrowsException() {
+        when(projectRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(ProjectNotFoundException.class, () -> projectService.getProjectStats(999L));
+        verify(taskCountRepository, never()).findByProjectId(any());
+    }
+}
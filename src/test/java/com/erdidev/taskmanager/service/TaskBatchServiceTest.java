@@ -0,0 +1,234 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.common.util.SecurityUtils;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult.Outcome;
+import com.erdidev.taskmanager.dto.TaskBatchResult;
+import com.erdidev.taskmanager.dto.TaskBatchUpdateItem;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.mapper.TaskMapperImpl;
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ChangedTask;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskCascadeRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskBatchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private TaskCascadeRepository cascadeRepository;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskBatchService batchService;
+    private Project project;
+    private Category category;
+    private final AtomicLong sequence = new AtomicLong(100);
+    private static MockedStatic<SecurityUtils> securityUtilsMock;
+
+    @BeforeAll
+    static void setUpAll() {
+        securityUtilsMock = mockStatic(SecurityUtils.class);
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        securityUtilsMock.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        TaskBatchChunkWriter chunkWriter = new TaskBatchChunkWriter(taskRepository, projectRepository,
+            categoryRepository, cascadeRepository, projectTaskCounters, new TaskMapperImpl(), eventPublisher);
+        batchService = new TaskBatchService(chunkWriter,
+            Validation.buildDefaultValidatorFactory().getValidator());
+        ReflectionTestUtils.setField(batchService, "chunkSize", 2);
+        ReflectionTestUtils.setField(batchService, "maxItems", 10);
+
+        project = new Project();
+        project.setId(1L);
+        category = new Category();
+        category.setId(2L);
+        category.setProject(project);
+
+        securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(7L);
+        when(projectRepository.findAllById(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).contains(1L) ? List.of(project) : List.of());
+        when(categoryRepository.findAllById(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).contains(2L) ? List.of(category) : List.of());
+        when(taskRepository.saveAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(sequence.incrementAndGet()));
+            return new ArrayList<>(tasks);
+        });
+    }
+
+    @Test
+    void createTasks_ResolvesReferencesOncePerChunk() {
+        List<TaskDto> tasks = IntStream.range(0, 5).mapToObj(i -> taskDto("Task " + i, 1L, 2L)).toList();
+
+        TaskBatchResult result = batchService.createTasks(tasks);
+
+        assertEquals(5, result.succeeded());
+        assertEquals(0, result.failed());
+        assertEquals(List.of(0, 1, 2, 3, 4), result.items().stream().map(TaskBatchItemResult::index).toList());
+        result.items().forEach(item -> {
+            assertEquals(Outcome.CREATED, item.outcome());
+            assertEquals(7L, item.task().getOwnerId());
+            assertEquals(TaskStatus.TODO, item.task().getStatus());
+            assertEquals(Priority.MEDIUM, item.task().getPriority());
+            assertEquals(1L, item.task().getProjectId());
+        });
+        // Chunks of two: three IN queries per reference type, one flush per chunk
+        verify(projectRepository, times(3)).findAllById(anyCollection());
+        verify(categoryRepository, times(3)).findAllById(anyCollection());
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, times(3)).flush();
+        verify(eventPublisher, times(5)).publishEvent(any(TaskChangedEvent.class));
+        verify(projectTaskCounters, times(5)).added(any(Task.class));
+    }
+
+    @Test
+    void createTasks_InvalidAndMissingReferences_FailOnlyThoseEntries() {
+        List<TaskDto> tasks = List.of(
+            taskDto("Valid", 1L, null),
+            taskDto("", 1L, null),
+            taskDto("No project", null, null),
+            taskDto("Unknown project", 999L, null),
+            taskDto("Unknown category", 1L, 999L));
+
+        TaskBatchResult result = batchService.createTasks(tasks);
+
+        assertEquals(List.of(Outcome.CREATED, Outcome.INVALID, Outcome.INVALID, Outcome.NOT_FOUND, Outcome.NOT_FOUND),
+            result.items().stream().map(TaskBatchItemResult::outcome).toList());
+        assertEquals(1, result.succeeded());
+        assertEquals(4, result.failed());
+        assertEquals("Project is required", result.items().get(2).error());
+        assertEquals("Project not found with id: 999", result.items().get(3).error());
+        assertEquals("Category not found with id: 999", result.items().get(4).error());
+    }
+
+    @Test
+    void createTasks_ChunkFailsToWrite_ReportsOnlyThatChunkAsFailed() {
+        doNothing().doThrow(new DataIntegrityViolationException("constraint")).when(taskRepository).flush();
+        List<TaskDto> tasks = IntStream.range(0, 4).mapToObj(i -> taskDto("Task " + i, 1L, null)).toList();
+
+        TaskBatchResult result = batchService.createTasks(tasks);
+
+        assertEquals(List.of(Outcome.CREATED, Outcome.CREATED, Outcome.FAILED, Outcome.FAILED),
+            result.items().stream().map(TaskBatchItemResult::outcome).toList());
+        assertEquals(2, result.succeeded());
+    }
+
+    @Test
+    void createTasks_OverLimit_ThrowsException() {
+        List<TaskDto> tasks = Collections.nCopies(11, taskDto("Task", 1L, null));
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.createTasks(tasks));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void updateTasks_UpdatesFoundTasksAndReportsMissingOnes() {
+        Task existing = new Task();
+        existing.setId(10L);
+        existing.setTitle("Old");
+        existing.setProject(project);
+        existing.setOwnerId(7L);
+        when(taskRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+        TaskDto changes = taskDto("New", 1L, 2L);
+        changes.setOwnerId(7L);
+
+        TaskBatchResult result = batchService.updateTasks(List.of(
+            new TaskBatchUpdateItem(10L, changes),
+            new TaskBatchUpdateItem(11L, taskDto("Missing", 1L, null)),
+            new TaskBatchUpdateItem(null, changes)));
+
+        assertEquals(List.of(Outcome.UPDATED, Outcome.NOT_FOUND, Outcome.INVALID),
+            result.items().stream().map(TaskBatchItemResult::outcome).toList());
+        assertEquals(10L, existing.getId());
+        assertEquals("New", existing.getTitle());
+        assertSame(category, existing.getCategory());
+        assertEquals("Task not found with id: 11", result.items().get(1).error());
+        verify(taskRepository, times(1)).findAllById(anyCollection());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(10L, ChangeType.UPDATED, 7L, null));
+    }
+
+    @Test
+    void deleteTasks_DeletesSetBasedAndReportsMissingIds() {
+        when(cascadeRepository.deleteTasks(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).stream()
+                .filter(id -> id < 100)
+                .map(id -> new ChangedTask(id, 7L, null, 1L, TaskStatus.TODO, Priority.MEDIUM))
+                .toList());
+
+        TaskBatchResult result = batchService.deleteTasks(List.of(1L, 2L, 100L));
+
+        assertEquals(List.of(Outcome.DELETED, Outcome.DELETED, Outcome.NOT_FOUND),
+            result.items().stream().map(TaskBatchItemResult::outcome).toList());
+        ArgumentCaptor<TaskChangedEvent> events = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertTrue(events.getAllValues().stream().allMatch(event -> event.changeType() == ChangeType.DELETED));
+        verify(cascadeRepository, times(2)).deleteTasks(anyCollection());
+        verify(projectTaskCounters, times(2)).removed(new TaskCountKey(1L, TaskStatus.TODO, Priority.MEDIUM));
+    }
+
+    private static TaskDto taskDto(String title, Long projectId, Long categoryId) {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setTitle(title);
+        taskDto.setProjectId(projectId);
+        taskDto.setCategoryId(categoryId);
+        return taskDto;
+    }
+}
@@ -0,0 +1,84 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.taskmanager.repository.TaskSpecifications;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Walks every sort order slice by slice and checks the result against one ordered
+ * query, including ties and null due dates and priorities.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class TaskKeysetRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        Long userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        Long projectId = jdbcTemplate.queryForObject(
+            "INSERT INTO projects (name, owner_id, created_at) VALUES ('project', ?, now()) RETURNING id",
+            Long.class, userId);
+        jdbcTemplate.update("""
+            INSERT INTO tasks (title, status, priority, due_date, project_id, owner_id, creator_id, created_at)
+            SELECT 'task ' || n % 9,
+                   (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + n % 3],
+                   CASE WHEN n % 5 = 0 THEN NULL ELSE (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + n % 3] END,
+                   CASE WHEN n % 4 = 0 THEN NULL ELSE timestamp '2024-01-01' + (n % 6 || ' days')::interval END,
+                   ?, ?, ?, timestamp '2024-01-01' + (n % 11 || ' hours')::interval
+            FROM generate_series(1, 60) AS n
+            """, projectId, userId, userId);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"createdAt,desc", "title,asc", "status,desc", "priority,asc", "priority,desc",
+                            "dueDate,asc", "dueDate,desc"})
+    void slicesMatchSingleOrderedQuery(String sort) {
+        TaskKeyset keyset = TaskKeyset.parse(sort);
+        List<Long> expected = taskRepository.findAll(keyset.sort()).stream().map(Task::getId).toList();
+
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            List<Task> slice = taskRepository.findBy(TaskSpecifications.all().and(keyset.after(cursor)),
+                    query -> query.sortBy(keyset.sort()).limit(7).all());
+            slice.forEach(task -> walked.add(task.getId()));
+            cursor = slice.size() == 7 ? keyset.encode(slice.getLast()) : null;
+        }
+
+        assertEquals(expected, walked);
+    }
+}
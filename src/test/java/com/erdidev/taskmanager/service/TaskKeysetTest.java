@@ -0,0 +1,76 @@
+package com.erdidev.taskmanager.service;
+
+import com.erdidev.taskmanager.exception.InvalidCursorException;
+import com.erdidev.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskKeysetTest {
+
+    @Test
+    void sort_AddsIdTiebreakerInSameDirection() {
+        Sort sort = TaskKeyset.parse("title,asc").sort();
+
+        assertEquals(Sort.by(Sort.Direction.ASC, "title").and(Sort.by(Sort.Direction.ASC, "id")), sort);
+    }
+
+    @Test
+    void parse_NoDirection_DefaultsToDescending() {
+        assertEquals(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")),
+                TaskKeyset.parse("createdAt").sort());
+    }
+
+    @Test
+    void parse_UnsupportedProperty_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> TaskKeyset.parse("description,asc"));
+    }
+
+    @Test
+    void after_CursorFromSameSort_IsAccepted() {
+        TaskKeyset keyset = TaskKeyset.parse("dueDate,asc");
+        Task withDueDate = task(7L);
+        withDueDate.setDueDate(LocalDateTime.of(2024, 5, 1, 9, 30));
+
+        assertNotNull(keyset.after(keyset.encode(withDueDate)));
+        assertNotNull(keyset.after(keyset.encode(task(8L))));
+    }
+
+    @Test
+    void after_CursorFromOtherSort_ThrowsException() {
+        Task last = task(7L);
+        last.setTitle("Plan | release");
+        String cursor = TaskKeyset.parse("title,asc").encode(last);
+
+        assertThrows(InvalidCursorException.class, () -> TaskKeyset.parse("title,desc").after(cursor));
+        assertThrows(InvalidCursorException.class, () -> TaskKeyset.parse("createdAt,asc").after(cursor));
+    }
+
+    @Test
+    void after_MalformedCursor_ThrowsException() {
+        TaskKeyset keyset = TaskKeyset.parse("createdAt,desc");
+
+        assertThrows(InvalidCursorException.class, () -> keyset.after("not base64!"));
+        assertThrows(InvalidCursorException.class, () -> keyset.after(encode("createdAt|DESC")));
+        assertThrows(InvalidCursorException.class, () -> keyset.after(encode("createdAt|DESC|x|2024-05-01T09:30")));
+        assertThrows(InvalidCursorException.class, () -> keyset.after(encode("createdAt|DESC|7|yesterday")));
+        // createdAt is never null, so a cursor without a value was not issued by us
+        assertThrows(InvalidCursorException.class, () -> keyset.after(encode("createdAt|DESC|7")));
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setCreatedAt(LocalDateTime.now());
+        return task;
+    }
+
+    private static String encode(String cursor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,15 +1,31 @@
 package com.erdidev.taskmanager.service;
 
+import com.erdidev.common.cache.TwoLevelCache;
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.CursorPage;
+import com.erdidev.taskmanager.dto.CursorRequest;
+import com.erdidev.taskmanager.dto.TaskBulkPatchRequest;
+import com.erdidev.taskmanager.dto.TaskBulkPatchResult;
 import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
 import com.erdidev.taskmanager.exception.*;
 import com.erdidev.taskmanager.mapper.TaskMapper;
 import com.erdidev.taskmanager.model.*;
 import com.erdidev.taskmanager.model.Priority;
 import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ChangedTask;
 import com.erdidev.taskmanager.repository.ProjectRepository;
 import com.erdidev.taskmanager.repository.TaskAttachmentRepository;
+import com.erdidev.taskmanager.repository.TaskPatchRepository;
 import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.taskmanager.repository.TaskRow;
+import com.erdidev.taskmanager.service.search.TaskSearchHits;
+import com.erdidev.taskmanager.service.search.TaskSearchIndex;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
 import com.erdidev.common.util.SecurityUtils;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,14 +37,19 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,13 +72,29 @@ class TaskServiceTest {
     @Mock
     private TaskAttachmentRepository attachmentRepository;
 
+    @Mock
+    private TaskPatchRepository taskPatchRepository;
+
     @Mock
     private TaskMapper taskMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TaskSearchIndex taskSearchIndex;
+
+    @Mock
+    private ProjectTaskCounters projectTaskCounters;
+
+    @Mock
+    private TwoLevelCache<TaskDto> taskCache;
+
     @InjectMocks
     private TaskService taskService;
 
     private Task task;
+    private TaskRow taskRow;
     private TaskDto taskDto;
     private Project project;
     private Category category;
@@ -100,6 +137,9 @@ class TaskServiceTest {
         task.setCreatedAt(LocalDateTime.now());
         task.setUpdatedAt(LocalDateTime.now());
         task.setOwnerId(testUserId);
+
+        taskRow = new TaskRow(1L, "Test Task", "Test Description", TaskStatus.TODO, Priority.MEDIUM,
+                task.getDueDate(), 1L, 1L, testUserId, null, task.getCreatedAt(), task.getUpdatedAt());
         
         taskDto = new TaskDto();
         taskDto.setId(1L);
@@ -115,24 +155,27 @@ class TaskServiceTest {
         securityUtilsMock.when(SecurityUtils::getCurrentUserId).thenReturn(testUserId);
         
         // Setup default empty responses for repositories to avoid NPEs
-        Page<Task> emptyPage = new PageImpl<>(Collections.emptyList());
-        when(taskRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findByProjectId(anyLong(), any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findByCategoryId(anyLong(), any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findByStatus(any(TaskStatus.class), any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findByPriority(any(Priority.class), any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findOverdueTasks(any(LocalDateTime.class), any(Pageable.class))).thenReturn(emptyPage);
-        when(taskRepository.findByTitleContainingIgnoreCase(anyString())).thenReturn(Collections.emptyList());
+        Page<TaskRow> emptyPage = new PageImpl<>(Collections.emptyList());
+        when(taskRepository.findRows(any(Pageable.class))).thenReturn(emptyPage);
+        when(taskRepository.findRowsByProjectId(anyLong(), any(Pageable.class))).thenReturn(emptyPage);
+        when(taskRepository.findRowsByCategoryId(anyLong(), any(Pageable.class))).thenReturn(emptyPage);
+        when(taskRepository.findRowsByStatus(any(TaskStatus.class), any(Pageable.class))).thenReturn(emptyPage);
+        when(taskRepository.findRowsByPriority(any(Priority.class), any(Pageable.class))).thenReturn(emptyPage);
+        when(taskRepository.findOverdueRows(any(LocalDateTime.class), any(Pageable.class))).thenReturn(emptyPage);
         doNothing().when(attachmentRepository).deleteByTaskId(anyLong());
+
+        // Read through to the repository, as an empty cache would
+        when(taskCache.get(anyLong(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<TaskDto>>getArgument(1).get());
     }
 
     @Test
     void getTasks_ReturnsPageOfTasks() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findAll(pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskRepository.findRows(pageable)).thenReturn(taskPage);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getTasks(pageable);
 
@@ -140,16 +183,24 @@ class TaskServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
         assertEquals(taskDto.getTitle(), result.getContent().getFirst().getTitle());
-        verify(taskRepository).findAll(pageable);
+        verify(taskRepository).findRows(pageable);
+    }
+
+    @Test
+    void getTasks_UnindexedSortProperty_ThrowsException() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("description"));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(pageable));
+        verify(taskRepository, never()).findRows(any(Pageable.class));
     }
 
     @Test
     void getTasksByProject_ExistingProjectId_ReturnsTasksForProject() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findByProjectId(1L, pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskRepository.findRowsByProjectId(1L, pageable)).thenReturn(taskPage);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getTasksByProject(1L, pageable);
 
@@ -157,15 +208,15 @@ class TaskServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
         assertEquals(taskDto.getProjectId(), result.getContent().getFirst().getProjectId());
-        verify(taskRepository).findByProjectId(1L, pageable);
+        verify(taskRepository).findRowsByProjectId(1L, pageable);
     }
 
     @Test
     void getTasksByProject_NonExistingProjectId_ThrowsNotFoundException() {
-        Pageable pageable = mock(Pageable.class);
+        Pageable pageable = PageRequest.of(0, 20);
         
         // Mock the implementation to throw the right exception
-        when(taskRepository.findByProjectId(eq(999L), any(Pageable.class)))
+        when(taskRepository.findRowsByProjectId(eq(999L), any(Pageable.class)))
             .thenThrow(new ProjectNotFoundException(999L));
 
         assertThrows(ProjectNotFoundException.class,
@@ -174,11 +225,11 @@ class TaskServiceTest {
 
     @Test
     void getTasksByCategory_ExistingCategoryId_ReturnsTasksForCategory() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findByCategoryId(1L, pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskRepository.findRowsByCategoryId(1L, pageable)).thenReturn(taskPage);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getTasksByCategory(1L, pageable);
 
@@ -186,15 +237,15 @@ class TaskServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
         assertEquals(taskDto.getCategoryId(), result.getContent().getFirst().getCategoryId());
-        verify(taskRepository).findByCategoryId(1L, pageable);
+        verify(taskRepository).findRowsByCategoryId(1L, pageable);
     }
 
     @Test
     void getTasksByCategory_NonExistingCategoryId_ThrowsNotFoundException() {
-        Pageable pageable = mock(Pageable.class);
+        Pageable pageable = PageRequest.of(0, 20);
         
         // Mock the implementation to throw the right exception
-        when(taskRepository.findByCategoryId(eq(999L), any(Pageable.class)))
+        when(taskRepository.findRowsByCategoryId(eq(999L), any(Pageable.class)))
             .thenThrow(new CategoryNotFoundException(999L));
 
         assertThrows(CategoryNotFoundException.class,
@@ -203,11 +254,11 @@ class TaskServiceTest {
 
     @Test
     void getTasksByStatus_ReturnsTasksWithRequestedStatus() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findByStatus(TaskStatus.TODO, pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskRepository.findRowsByStatus(TaskStatus.TODO, pageable)).thenReturn(taskPage);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getTasksByStatus(TaskStatus.TODO, pageable);
 
@@ -215,16 +266,16 @@ class TaskServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
         assertEquals(TaskStatus.TODO, result.getContent().getFirst().getStatus());
-        verify(taskRepository).findByStatus(TaskStatus.TODO, pageable);
+        verify(taskRepository).findRowsByStatus(TaskStatus.TODO, pageable);
     }
 
     @Test
     void getTasksByPriority_ReturnsTasksWithRequestedPriority() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findByPriority(Priority.MEDIUM, pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskRepository.findRowsByPriority(Priority.MEDIUM, pageable)).thenReturn(taskPage);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getTasksByPriority(Priority.MEDIUM, pageable);
 
@@ -232,40 +283,57 @@ class TaskServiceTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
         assertEquals(Priority.MEDIUM, result.getContent().getFirst().getPriority());
-        verify(taskRepository).findByPriority(Priority.MEDIUM, pageable);
+        verify(taskRepository).findRowsByPriority(Priority.MEDIUM, pageable);
     }
 
     @Test
     void getOverdueTasks_ReturnsOverdueTasks() {
-        Pageable pageable = mock(Pageable.class);
-        Page<Task> taskPage = new PageImpl<>(List.of(task));
+        Pageable pageable = PageRequest.of(0, 20);
+        Page<TaskRow> taskPage = new PageImpl<>(List.of(taskRow));
         
-        when(taskRepository.findOverdueTasks(any(LocalDateTime.class), eq(pageable)))
+        when(taskRepository.findOverdueRows(any(LocalDateTime.class), eq(pageable)))
             .thenReturn(taskPage);
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
 
         Page<TaskDto> result = taskService.getOverdueTasks(pageable);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDto.getId(), result.getContent().getFirst().getId());
-        verify(taskRepository).findOverdueTasks(any(LocalDateTime.class), eq(pageable));
+        verify(taskRepository).findOverdueRows(any(LocalDateTime.class), eq(pageable));
     }
 
     @Test
-    void searchTasks_ReturnsMatchingTasks() {
-        String searchQuery = "test";
-        when(taskRepository.findByTitleContainingIgnoreCase(searchQuery))
-            .thenReturn(List.of(task));
-        when(taskMapper.toDto(task)).thenReturn(taskDto);
+    void searchTasks_IndexReady_ReturnsTasksInRankOrder() {
+        Pageable pageable = PageRequest.of(0, 10);
+        TaskRow other = new TaskRow(2L, "Other Task", null, TaskStatus.TODO, Priority.LOW, null, null, 1L,
+                testUserId, null, null, null);
+        TaskDto otherDto = new TaskDto();
+        otherDto.setId(2L);
+        when(taskSearchIndex.isReady()).thenReturn(true);
+        when(taskSearchIndex.search("test", pageable)).thenReturn(new TaskSearchHits(3, List.of(2L, 99L, 1L)));
+        when(taskRepository.findRowsByIdIn(List.of(2L, 99L, 1L))).thenReturn(List.of(taskRow, other));
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
+        when(taskMapper.toDto(other)).thenReturn(otherDto);
+
+        Page<TaskDto> results = taskService.searchTasks("test", pageable);
+
+        assertEquals(List.of(2L, 1L), results.getContent().stream().map(TaskDto::getId).toList());
+        verify(taskRepository, never()).searchRows(anyString(), any(Pageable.class));
+    }
 
-        List<TaskDto> results = taskService.searchTasks(searchQuery);
+    @Test
+    void searchTasks_IndexNotReady_SearchesDatabase() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(taskSearchIndex.isReady()).thenReturn(false);
+        when(taskRepository.searchRows("test", pageable)).thenReturn(new PageImpl<>(List.of(taskRow)));
+        when(taskMapper.toDto(taskRow)).thenReturn(taskDto);
+
+        Page<TaskDto> results = taskService.searchTasks("test", pageable);
 
-        assertNotNull(results);
-        assertEquals(1, results.size());
-        assertEquals(taskDto.getId(), results.getFirst().getId());
-        assertEquals(taskDto.getTitle(), results.getFirst().getTitle());
-        verify(taskRepository).findByTitleContainingIgnoreCase(searchQuery);
+        assertEquals(1, results.getTotalElements());
+        assertEquals(taskDto.getTitle(), results.getContent().getFirst().getTitle());
+        verify(taskSearchIndex, never()).search(anyString(), any(Pageable.class));
     }
 
     @Test
@@ -305,6 +373,7 @@ class TaskServiceTest {
         verify(projectRepository).findById(1L);
         verify(categoryRepository).findById(1L);
         verify(taskRepository).save(any(Task.class));
+        verify(projectTaskCounters).added(task);
     }
 
     @Test
@@ -383,6 +452,24 @@ class TaskServiceTest {
         verify(taskRepository, never()).save(any(Task.class));
     }
 
+    @Test
+    void updateTask_Reassigned_PublishesPreviousAssignee() {
+        task.setAssigneeId(5L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        doAnswer(invocation -> {
+            invocation.<Task>getArgument(1).setAssigneeId(6L);
+            return null;
+        }).when(taskMapper).updateEntity(any(TaskDto.class), any(Task.class));
+
+        TaskDto updateDto = new TaskDto();
+        updateDto.setAssigneeId(6L);
+        taskService.updateTask(1L, updateDto);
+
+        verify(eventPublisher).publishEvent(
+                new TaskChangedEvent(1L, ChangeType.UPDATED, task.getOwnerId(), 6L, task.getOwnerId(), 5L));
+    }
+
     @Test
     void updateTask_StatusChange_ReturnsUpdatedTask() {
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
@@ -415,23 +502,112 @@ class TaskServiceTest {
 
     @Test
     void deleteTask_ExistingId_DeletesTask() {
-        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
         doNothing().when(taskRepository).deleteById(1L);
 
         assertDoesNotThrow(() -> taskService.deleteTask(1L));
 
-        verify(taskRepository).existsById(1L);
+        verify(taskRepository).findById(1L);
         verify(attachmentRepository).deleteByTaskId(1L);
         verify(taskRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
     void deleteTask_NonExistingId_ThrowsException() {
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThrows(TaskNotFoundException.class, () -> taskService.deleteTask(999L));
-        verify(taskRepository).existsById(999L);
+        verify(taskRepository).findById(999L);
         verify(taskRepository, never()).deleteById(any());
         verify(attachmentRepository, never()).deleteByTaskId(any());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void scrollTasks_MoreRowsThanLimit_ReturnsCursorWithoutCounting() {
+        Task second = new Task();
+        second.setId(2L);
+        second.setCreatedAt(task.getCreatedAt().minusMinutes(1));
+        Task third = new Task();
+        third.setId(3L);
+        third.setCreatedAt(task.getCreatedAt().minusMinutes(2));
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(task, second, third));
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDto);
+
+        CursorPage<TaskDto> result = taskService.scrollTasks(new CursorRequest("", 2, "createdAt,desc", false));
+
+        assertEquals(2, result.content().size());
+        assertNotNull(result.nextCursor());
+        assertNull(result.totalElements());
+        verify(taskRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void scrollTasksByProject_LastSliceWithCount_ReturnsTotalAndNoCursor() {
+        when(taskRepository.findBy(any(Specification.class), any())).thenReturn(List.of(task));
+        when(taskRepository.count(any(Specification.class))).thenReturn(1L);
+        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDto);
+
+        CursorPage<TaskDto> result = taskService.scrollTasksByProject(1L,
+                new CursorRequest("", 20, "createdAt,desc", true));
+
+        assertEquals(1, result.content().size());
+        assertNull(result.nextCursor());
+        assertEquals(1L, result.totalElements());
+    }
+
+    @Test
+    void cursorRequest_LimitOutOfRange_FailsValidation() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+        assertEquals(1, validator.validate(new CursorRequest("", 0, "createdAt,desc", false)).size());
+        assertEquals(1, validator.validate(new CursorRequest("", 101, "createdAt,desc", false)).size());
+        assertTrue(validator.validate(new CursorRequest("", null, null, null)).isEmpty());
+    }
+
+    @Test
+    void patchTasks_PublishesEventsOnlyForChangedRows() {
+        TaskBulkPatchRequest.Filter filter = new TaskBulkPatchRequest.Filter(null, 1L, null, TaskStatus.IN_PROGRESS);
+        TaskBulkPatchRequest.Patch patch = new TaskBulkPatchRequest.Patch(TaskStatus.DONE, null);
+        when(taskPatchRepository.patch(filter, patch)).thenReturn(List.of(
+                new ChangedTask(1L, testUserId, null, 1L, TaskStatus.IN_PROGRESS, Priority.HIGH),
+                new ChangedTask(2L, testUserId, 5L, 1L, TaskStatus.IN_PROGRESS, null)));
+
+        TaskBulkPatchResult result = taskService.patchTasks(new TaskBulkPatchRequest(filter, patch));
+
+        assertEquals(2, result.updated());
+        assertEquals(List.of(1L, 2L), result.taskIds());
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(1L, ChangeType.UPDATED, testUserId, null));
+        verify(eventPublisher).publishEvent(new TaskChangedEvent(2L, ChangeType.UPDATED, testUserId, 5L));
+        verify(taskRepository, never()).save(any(Task.class));
+        verify(projectTaskCounters).moved(new TaskCountKey(1L, TaskStatus.IN_PROGRESS, Priority.HIGH),
+                new TaskCountKey(1L, TaskStatus.DONE, Priority.HIGH));
+        verify(projectTaskCounters).moved(new TaskCountKey(1L, TaskStatus.IN_PROGRESS, null),
+                new TaskCountKey(1L, TaskStatus.DONE, null));
+    }
+
+    @Test
+    void patchTasks_NothingMatches_PublishesNothing() {
+        when(taskPatchRepository.patch(any(), any())).thenReturn(List.of());
+
+        TaskBulkPatchResult result = taskService.patchTasks(new TaskBulkPatchRequest(
+                new TaskBulkPatchRequest.Filter(List.of(1L), null, null, null),
+                new TaskBulkPatchRequest.Patch(null, Priority.HIGH)));
+
+        assertEquals(0, result.updated());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void patchTasks_MissingFilterOrPatch_ThrowsException() {
+        TaskBulkPatchRequest.Patch patch = new TaskBulkPatchRequest.Patch(TaskStatus.DONE, null);
+        TaskBulkPatchRequest.Filter filter = new TaskBulkPatchRequest.Filter(null, 1L, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTasks(
+                new TaskBulkPatchRequest(new TaskBulkPatchRequest.Filter(null, null, null, null), patch)));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTasks(
+                new TaskBulkPatchRequest(filter, new TaskBulkPatchRequest.Patch(null, null))));
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTasks(new TaskBulkPatchRequest(null, patch)));
+        verify(taskPatchRepository, never()).patch(any(), any());
+    }
+}
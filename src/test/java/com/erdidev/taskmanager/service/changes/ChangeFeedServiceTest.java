@@ -0,0 +1,147 @@
+package com.erdidev.taskmanager.service.changes;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.dto.ChangeDto;
+import com.erdidev.taskmanager.dto.ChangeFeedDto;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.exception.ChangeCursorExpiredException;
+import com.erdidev.taskmanager.exception.InvalidCursorException;
+import com.erdidev.taskmanager.mapper.CategoryMapper;
+import com.erdidev.taskmanager.mapper.ProjectMapper;
+import com.erdidev.taskmanager.mapper.TaskMapper;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ChangeLogEntry;
+import com.erdidev.taskmanager.repository.ChangeLogRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.erdidev.taskmanager.repository.TaskRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ChangeFeedServiceTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private ChangeFeedService feedService;
+
+    @BeforeEach
+    void setUp() {
+        feedService = new ChangeFeedService(changeLogRepository, taskRepository, projectRepository, categoryRepository,
+            Mappers.getMapper(TaskMapper.class), Mappers.getMapper(ProjectMapper.class),
+            Mappers.getMapper(CategoryMapper.class));
+        when(changeLogRepository.head()).thenReturn(40L);
+        when(changeLogRepository.purgedThrough()).thenReturn(10L);
+    }
+
+    @Test
+    void getChanges_WithoutCursor_ReturnsTheHead() {
+        ChangeFeedDto feed = feedService.getChanges(null, 500);
+
+        assertEquals("40", feed.cursor());
+        assertTrue(feed.changes().isEmpty());
+        verify(changeLogRepository, never()).findAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void getChanges_UpToDate_ReturnsNothingAndKeepsTheCursor() {
+        when(changeLogRepository.findAfter(40L, 501)).thenReturn(List.of());
+
+        ChangeFeedDto feed = feedService.getChanges("40", 500);
+
+        assertEquals("40", feed.cursor());
+        assertTrue(feed.changes().isEmpty());
+        assertFalse(feed.hasMore());
+        verifyNoInteractions(taskRepository, projectRepository, categoryRepository);
+    }
+
+    @Test
+    void getChanges_KeepsTheLatestChangePerEntityWithItsCurrentState() {
+        when(changeLogRepository.findAfter(20L, 501)).thenReturn(List.of(
+            entry(21, ChangeEntityType.TASK, 1L, ChangeType.CREATED),
+            entry(22, ChangeEntityType.PROJECT, 2L, ChangeType.UPDATED),
+            entry(23, ChangeEntityType.TASK, 1L, ChangeType.UPDATED),
+            entry(24, ChangeEntityType.TASK, 3L, ChangeType.DELETED),
+            entry(25, ChangeEntityType.CATEGORY, 4L, ChangeType.UPDATED)));
+        when(taskRepository.findRowsByIdIn(List.of(1L))).thenReturn(List.of(
+            new TaskRow(1L, "Write docs", null, null, null, null, null, 2L, 7L, null, null, null)));
+        Project project = new Project();
+        project.setId(2L);
+        project.setName("Docs");
+        when(projectRepository.findAllById(List.of(2L))).thenReturn(List.of(project));
+        when(categoryRepository.findAllById(List.of(4L))).thenReturn(List.of());
+
+        ChangeFeedDto feed = feedService.getChanges("20", 500);
+
+        assertEquals("25", feed.cursor());
+        assertEquals(List.of(22L, 23L, 24L, 25L), feed.changes().stream().map(ChangeDto::sequence).toList());
+        ChangeDto task = feed.changes().get(1);
+        assertEquals(ChangeType.UPDATED, task.change());
+        assertEquals("Write docs", ((TaskDto) task.entity()).getTitle());
+        assertEquals(ChangeType.DELETED, feed.changes().get(2).change());
+        assertNull(feed.changes().get(2).entity());
+        // Gone since it was updated: served as a tombstone
+        assertEquals(ChangeType.DELETED, feed.changes().get(3).change());
+        assertNull(feed.changes().get(3).entity());
+    }
+
+    @Test
+    void getChanges_MoreThanTheLimit_CutsTheSliceShort() {
+        when(changeLogRepository.findAfter(20L, 3)).thenReturn(List.of(
+            entry(21, ChangeEntityType.TASK, 1L, ChangeType.DELETED),
+            entry(22, ChangeEntityType.TASK, 2L, ChangeType.DELETED),
+            entry(23, ChangeEntityType.TASK, 3L, ChangeType.DELETED)));
+
+        ChangeFeedDto feed = feedService.getChanges("20", 2);
+
+        assertEquals("22", feed.cursor());
+        assertEquals(2, feed.changes().size());
+        assertTrue(feed.hasMore());
+    }
+
+    @Test
+    void getChanges_CursorBehindThePurge_IsGone() {
+        when(changeLogRepository.findAfter(5L, 501)).thenReturn(List.of(
+            entry(11, ChangeEntityType.TASK, 1L, ChangeType.DELETED)));
+
+        assertThrows(ChangeCursorExpiredException.class, () -> feedService.getChanges("5", 500));
+    }
+
+    @Test
+    void getChanges_UnknownOrMalformedCursor_IsRejected() {
+        when(changeLogRepository.findAfter(99L, 501)).thenReturn(List.of());
+
+        assertThrows(InvalidCursorException.class, () -> feedService.getChanges("99", 500));
+        assertThrows(InvalidCursorException.class, () -> feedService.getChanges("abc", 500));
+        assertThrows(InvalidCursorException.class, () -> feedService.getChanges("-1", 500));
+    }
+
+    private static ChangeLogEntry entry(long sequence, ChangeEntityType type, Long id, ChangeType change) {
+        return new ChangeLogEntry(sequence, type, id, change);
+    }
+}
@@ -0,0 +1,118 @@
+package com.erdidev.taskmanager.service.changes;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.model.ChangeEntityType;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.ChangeLogEntry;
+import com.erdidev.taskmanager.repository.ChangeLogRepository;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import com.erdidev.taskmanager.service.stats.ProjectTaskCounters;
+import com.erdidev.taskmanager.service.stats.TaskCountKey;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeLogWriterTest {
+
+    @Mock
+    private ChangeLogRepository changeLogRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private ChangeLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(writer);
+    }
+
+    @Test
+    void record_AppendsOnceBeforeCommitAfterFlushing() {
+        writer.onTaskChanged(new TaskChangedEvent(1L, ChangeType.CREATED, 3L, null));
+        writer.onCategoryChanged(new CategoryChangedEvent(2L, ChangeType.UPDATED));
+        writer.onTaskChanged(new TaskChangedEvent(1L, ChangeType.UPDATED, 3L, null));
+        verifyNoInteractions(changeLogRepository);
+
+        commit();
+
+        InOrder inOrder = inOrder(entityManager, changeLogRepository);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(changeLogRepository).append(List.of(
+            ChangeLogEntry.of(ChangeEntityType.TASK, 1L, ChangeType.CREATED),
+            ChangeLogEntry.of(ChangeEntityType.CATEGORY, 2L, ChangeType.UPDATED),
+            ChangeLogEntry.of(ChangeEntityType.TASK, 1L, ChangeType.UPDATED)));
+    }
+
+    @Test
+    void record_RolledBack_AppendsNothing() {
+        writer.onProjectChanged(new ProjectChangedEvent(5L, ChangeType.DELETED));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(changeLogRepository, never()).append(any());
+        assertNull(TransactionSynchronizationManager.getResource(writer));
+    }
+
+    @Test
+    void record_RunsAfterTheTaskCounters() {
+        ProjectTaskCountRepository countRepository = mock(ProjectTaskCountRepository.class);
+        ProjectTaskCounters counters = new ProjectTaskCounters(countRepository);
+        try {
+            writer.onTaskChanged(new TaskChangedEvent(1L, ChangeType.CREATED, 3L, null));
+            counters.adjust(new TaskCountKey(1L, TaskStatus.TODO, Priority.LOW), 1);
+
+            commit();
+
+            InOrder inOrder = inOrder(countRepository, changeLogRepository);
+            inOrder.verify(countRepository).applyDeltas(anyMap());
+            inOrder.verify(changeLogRepository).append(any());
+        } finally {
+            TransactionSynchronizationManager.unbindResourceIfPossible(counters);
+        }
+    }
+
+    @Test
+    void record_WithoutTransaction_AppendsRightAway() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        writer.onProjectChanged(new ProjectChangedEvent(5L, ChangeType.CREATED));
+
+        verify(changeLogRepository).append(List.of(ChangeLogEntry.of(ChangeEntityType.PROJECT, 5L, ChangeType.CREATED)));
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.beforeCommit(false));
+    }
+}
@@ -0,0 +1,163 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import com.erdidev.taskmanager.service.dependency.TaskDependencyGraph.Insert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDependencyGraphTest {
+
+    @Test
+    void add_RejectsEdgesThatCloseACycle() {
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        assertEquals(Insert.ADDED, graph.add(1, 2));
+        assertEquals(Insert.ADDED, graph.add(2, 3));
+        assertEquals(Insert.EXISTS, graph.add(2, 3));
+
+        assertEquals(Insert.CYCLE, graph.add(3, 1));
+        assertEquals(Insert.CYCLE, graph.add(4, 4));
+        assertArrayEquals(new long[0], graph.dependenciesOf(1));
+    }
+
+    @Test
+    void check_AnswersLikeAddWithoutChangingTheGraph() {
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        graph.add(1, 2);
+        graph.add(2, 3);
+
+        assertEquals(Insert.CYCLE, graph.check(3, 1));
+        assertEquals(Insert.EXISTS, graph.check(1, 2));
+        assertEquals(Insert.ADDED, graph.check(3, 4));
+        assertEquals(Insert.ADDED, graph.check(1, 3));
+
+        assertEquals(3, graph.nodeCount());
+        assertArrayEquals(new long[] {2}, graph.dependentsOf(1));
+        assertArrayEquals(new long[] {1, 2, 3}, graph.criticalPath());
+    }
+
+    @Test
+    void add_AgainstTheOrder_ReordersOnlyWhatItMust() {
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        graph.add(1, 2);
+        graph.add(3, 4);
+
+        // 4 was placed after 1, so this edge runs against the current order
+        assertEquals(Insert.ADDED, graph.add(4, 1));
+
+        assertArrayEquals(new long[] {3, 4, 1, 2}, graph.criticalPath());
+        assertEquals(3, graph.earliestStart(2));
+        assertEquals(Insert.CYCLE, graph.add(2, 3));
+    }
+
+    @Test
+    void criticalPath_FollowsTheLongestChain() {
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        graph.add(1, 5);
+        graph.add(2, 3);
+        graph.add(3, 4);
+        graph.add(4, 5);
+
+        assertArrayEquals(new long[] {2, 3, 4, 5}, graph.criticalPath());
+        assertEquals(0, graph.earliestStart(1));
+        assertEquals(3, graph.earliestStart(5));
+        assertEquals(0, graph.earliestStart(99));
+    }
+
+    @Test
+    void remove_DropsTheEdgeAndRecomputes() {
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        graph.add(1, 2);
+        graph.add(2, 3);
+
+        assertTrue(graph.remove(2, 3));
+        assertFalse(graph.remove(2, 3));
+
+        assertArrayEquals(new long[] {1, 2}, graph.criticalPath());
+        assertEquals(0, graph.earliestStart(3));
+        assertEquals(Insert.ADDED, graph.add(3, 1));
+        assertTrue(graph.remove(3, 1));
+        assertTrue(graph.remove(1, 2));
+        assertArrayEquals(new long[0], graph.criticalPath());
+    }
+
+    @Test
+    void load_OrdersStoredEdges() {
+        long[][] edges = {{5, 6}, {4, 5}, {1, 4}, {2, 4}};
+        TaskDependencyGraph graph = TaskDependencyGraph.load(7, consumer -> {
+            for (long[] edge : edges) {
+                consumer.accept(edge[0], edge[1]);
+            }
+        });
+
+        assertEquals(7, graph.version());
+        assertEquals(5, graph.nodeCount());
+        assertArrayEquals(new long[] {1, 4, 5, 6}, graph.criticalPath());
+        assertEquals(Insert.CYCLE, graph.add(6, 1));
+        assertEquals(Insert.ADDED, graph.add(6, 3));
+        assertEquals(4, graph.earliestStart(3));
+    }
+
+    @Test
+    void add_RandomEdges_AgreesWithAFullSearchAndKeepsATopologicalOrder() {
+        Random random = new Random(42);
+        int tasks = 300;
+        TaskDependencyGraph graph = new TaskDependencyGraph(0);
+        Map<Long, Set<Long>> successors = new HashMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            long from = 1 + random.nextInt(tasks);
+            long to = 1 + random.nextInt(tasks);
+            if (from == to) {
+                continue;
+            }
+            boolean exists = successors.getOrDefault(from, Set.of()).contains(to);
+            boolean cycle = reaches(successors, to, from);
+
+            Insert result = graph.add(from, to);
+
+            assertEquals(exists ? Insert.EXISTS : cycle ? Insert.CYCLE : Insert.ADDED, result);
+            if (result == Insert.ADDED) {
+                successors.computeIfAbsent(from, id -> new HashSet<>()).add(to);
+            }
+        }
+        Map<Long, Integer> earliest = new HashMap<>();
+        graph.forEachEarliestStart(earliest::put);
+        List<Long> order = new ArrayList<>();
+        graph.forEachEarliestStart((taskId, start) -> order.add(taskId));
+        successors.forEach((from, next) -> next.forEach(to -> {
+            assertTrue(order.indexOf(from) < order.indexOf(to), from + " must come before " + to);
+            assertTrue(earliest.get(from) < earliest.get(to));
+        }));
+        long[] path = graph.criticalPath();
+        for (int i = 1; i < path.length; i++) {
+            assertTrue(successors.get(path[i - 1]).contains(path[i]));
+        }
+        assertEquals(path.length - 1, earliest.values().stream().mapToInt(Integer::intValue).max().orElseThrow());
+    }
+
+    private static boolean reaches(Map<Long, Set<Long>> successors, long start, long target) {
+        Deque<Long> stack = new ArrayDeque<>(List.of(start));
+        Set<Long> seen = new HashSet<>(stack);
+        while (!stack.isEmpty()) {
+            long node = stack.pop();
+            if (node == target) {
+                return true;
+            }
+            for (long next : successors.getOrDefault(node, Set.of())) {
+                if (seen.add(next)) {
+                    stack.push(next);
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,186 @@
+package com.erdidev.taskmanager.service.dependency;
+
+import com.erdidev.taskmanager.dto.ProjectScheduleDto;
+import com.erdidev.taskmanager.dto.TaskDependenciesDto;
+import com.erdidev.taskmanager.exception.DependencyCycleException;
+import com.erdidev.taskmanager.exception.TaskNotFoundException;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskDependencyRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskDependencyServiceTest {
+
+    private static final Long PROJECT_ID = 1L;
+
+    @Mock
+    private TaskDependencyRepository dependencyRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private TaskDependencyService dependencyService;
+    private long version;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+        TaskDependencyGraphs graphs = new TaskDependencyGraphs(dependencyRepository, 8, Duration.ofMinutes(5));
+        dependencyService = new TaskDependencyService(dependencyRepository, projectRepository, graphs);
+
+        when(dependencyRepository.lockTasks(any(Long[].class))).thenAnswer(invocation -> {
+            Map<Long, Long> projects = new HashMap<>();
+            for (Object id : invocation.getArguments()) {
+                if ((Long) id < 100) {
+                    projects.put((Long) id, PROJECT_ID);
+                }
+            }
+            return projects;
+        });
+        when(dependencyRepository.bumpVersion(PROJECT_ID)).thenAnswer(invocation -> ++version);
+        when(dependencyRepository.findVersion(PROJECT_ID)).thenAnswer(invocation -> version);
+        when(dependencyRepository.findProjectId(any())).thenReturn(PROJECT_ID);
+        when(projectRepository.existsById(PROJECT_ID)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void addDependency_StoresTheEdgeAndReusesTheGraph() {
+        dependencyService.addDependency(2L, 1L);
+        TaskDependenciesDto dependencies = dependencyService.addDependency(3L, 2L);
+
+        verify(dependencyRepository).insert(PROJECT_ID, 2L, 1L);
+        verify(dependencyRepository).insert(PROJECT_ID, 3L, 2L);
+        // Loaded once, then kept in step with each insert
+        verify(dependencyRepository, times(1)).forEachEdge(eq(PROJECT_ID), any());
+        assertEquals(List.of(2L), dependencies.dependsOn());
+        assertEquals(2, dependencies.earliestStart());
+
+        ProjectScheduleDto schedule = dependencyService.getSchedule(PROJECT_ID);
+        assertEquals(List.of(1L, 2L, 3L), schedule.criticalPath());
+        assertEquals(Map.of(1L, 0, 2L, 1, 3L, 2), schedule.earliestStarts());
+        verify(dependencyRepository, times(1)).forEachEdge(eq(PROJECT_ID), any());
+    }
+
+    @Test
+    void addDependency_ClosingACycle_IsRejected() {
+        dependencyService.addDependency(2L, 1L);
+        dependencyService.addDependency(3L, 2L);
+
+        assertThrows(DependencyCycleException.class, () -> dependencyService.addDependency(1L, 3L));
+        verify(dependencyRepository, never()).insert(PROJECT_ID, 1L, 3L);
+    }
+
+    @Test
+    void addDependency_InvalidTasks_AreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> dependencyService.addDependency(2L, 2L));
+        assertThrows(TaskNotFoundException.class, () -> dependencyService.addDependency(2L, 100L));
+        when(dependencyRepository.lockTasks(2L, 5L)).thenReturn(Map.of(2L, PROJECT_ID, 5L, 9L));
+        assertThrows(IllegalArgumentException.class, () -> dependencyService.addDependency(2L, 5L));
+        verify(dependencyRepository, never()).insert(any(), any(), any());
+    }
+
+    @Test
+    void addDependency_StoredVersionMoved_ReloadsTheGraph() {
+        dependencyService.addDependency(2L, 1L);
+        // Another node added 1 -> 3 meanwhile
+        version++;
+        doAnswer(invocation -> {
+            TaskDependencyRepository.EdgeConsumer consumer = invocation.getArgument(1);
+            consumer.accept(1L, 2L);
+            consumer.accept(2L, 3L);
+            return null;
+        }).when(dependencyRepository).forEachEdge(eq(PROJECT_ID), any());
+
+        assertThrows(DependencyCycleException.class, () -> dependencyService.addDependency(1L, 3L));
+        verify(dependencyRepository, times(2)).forEachEdge(eq(PROJECT_ID), any());
+    }
+
+    @Test
+    void addDependency_RolledBack_DropsTheGraph() {
+        dependencyService.addDependency(2L, 1L);
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        version--;
+
+        dependencyService.getDependencies(1L);
+
+        verify(dependencyRepository, times(2)).forEachEdge(eq(PROJECT_ID), any());
+    }
+
+    @Test
+    void addDependency_InsertFails_DropsTheGraphOnRollback() {
+        dependencyService.addDependency(2L, 1L);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        doThrow(new QueryTimeoutException("statement timeout")).when(dependencyRepository).insert(PROJECT_ID, 3L, 2L);
+
+        assertThrows(QueryTimeoutException.class, () -> dependencyService.addDependency(3L, 2L));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        version--;
+
+        assertEquals(List.of(), dependencyService.getDependencies(3L).dependsOn());
+        verify(dependencyRepository, times(2)).forEachEdge(eq(PROJECT_ID), any());
+    }
+
+    @Test
+    void addDependency_ReaderBeforeCommit_SeesOnlyCommittedEdges() {
+        List<TaskDependenciesDto> seen = new ArrayList<>();
+        doAnswer(invocation -> {
+            // The version row is bumped but not committed yet
+            version--;
+            seen.add(dependencyService.getDependencies(2L));
+            version++;
+            return null;
+        }).when(dependencyRepository).insert(PROJECT_ID, 2L, 1L);
+
+        TaskDependenciesDto written = dependencyService.addDependency(2L, 1L);
+
+        assertEquals(List.of(), seen.getFirst().dependsOn());
+        assertEquals(List.of(1L), written.dependsOn());
+    }
+
+    @Test
+    void removeDependency_DeleteFails_DropsTheGraphOnRollback() {
+        dependencyService.addDependency(2L, 1L);
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+        when(dependencyRepository.delete(2L, 1L)).thenThrow(new QueryTimeoutException("statement timeout"));
+
+        assertThrows(QueryTimeoutException.class, () -> dependencyService.removeDependency(2L, 1L));
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+        version--;
+        dependencyService.getDependencies(2L);
+
+        verify(dependencyRepository, times(2)).forEachEdge(eq(PROJECT_ID), any());
+    }
+
+    private static void completeTransaction(int status) {
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+}
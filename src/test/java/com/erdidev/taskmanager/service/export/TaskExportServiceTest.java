@@ -0,0 +1,120 @@
+package com.erdidev.taskmanager.service.export;
+
+import com.erdidev.taskmanager.model.Category;
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.Project;
+import com.erdidev.taskmanager.model.Task;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaskExportServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .findAndRegisterModules()
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TaskExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new TaskExportService(taskRepository, entityManager, objectMapper);
+        ReflectionTestUtils.setField(exportService, "flushEvery", 2);
+    }
+
+    @Test
+    void export_Csv_QuotesFieldsThatNeedItAndLeavesNullsEmpty() throws Exception {
+        Task plain = task(1L, "Plain", null);
+        Task tricky = task(2L, "Say \"hi\", then\nleave", "notes");
+        tricky.setPriority(null);
+        when(taskRepository.streamByProjectId(5L)).thenReturn(Stream.of(plain, tricky));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = exportService.export(5L, TaskExportFormat.CSV, out);
+
+        assertEquals(2, written);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(CsvTaskExportWriter.HEADER, lines[0]);
+        assertEquals("1,Plain,,TODO,MEDIUM,2026-01-02T03:04,5,9,7,,7,,", lines[1]);
+        assertEquals("2,\"Say \"\"hi\"\", then\nleave\",notes,TODO,,2026-01-02T03:04,5,9,7,,7,,", lines[2]);
+    }
+
+    @Test
+    void export_Ndjson_WritesOneObjectPerLine() throws Exception {
+        when(taskRepository.streamByProjectId(5L)).thenReturn(Stream.of(task(1L, "First", null), task(2L, "Second", null)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.export(5L, TaskExportFormat.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1L, first.get("id").asLong());
+        assertEquals("First", first.get("title").asText());
+        assertEquals(5L, first.get("projectId").asLong());
+        assertEquals("2026-01-02T03:04:00", first.get("dueDate").asText());
+        assertEquals("Second", objectMapper.readTree(lines[1]).get("title").asText());
+    }
+
+    @Test
+    void export_DetachesEveryTaskAndFlushesAsItGoes() throws Exception {
+        when(taskRepository.streamByProjectId(5L)).thenReturn(
+            IntStream.rangeClosed(1, 5).mapToObj(i -> task((long) i, "Task " + i, null)));
+        ByteArrayOutputStream out = spy(new ByteArrayOutputStream());
+
+        exportService.export(5L, TaskExportFormat.NDJSON, out);
+
+        verify(entityManager, times(5)).detach(any(Task.class));
+        // Every second row plus the final flush
+        verify(out, times(3)).flush();
+    }
+
+    @Test
+    void parse_AcceptsAnyCaseAndRejectsUnknownFormats() {
+        assertEquals(TaskExportFormat.NDJSON, TaskExportFormat.parse("NdJson"));
+        assertThrows(IllegalArgumentException.class, () -> TaskExportFormat.parse("xml"));
+    }
+
+    private static Task task(Long id, String title, String description) {
+        Project project = new Project();
+        project.setId(5L);
+        Category category = new Category();
+        category.setId(9L);
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setDueDate(LocalDateTime.of(2026, 1, 2, 3, 4));
+        task.setProject(project);
+        task.setCategory(category);
+        task.setOwnerId(7L);
+        task.setCreatorId(7L);
+        return task;
+    }
+}
@@ -0,0 +1,201 @@
+package com.erdidev.taskmanager.service.imports;
+
+import com.erdidev.taskmanager.dto.BaseDto;
+import com.erdidev.taskmanager.dto.CategoryDto;
+import com.erdidev.taskmanager.dto.ProjectDto;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult;
+import com.erdidev.taskmanager.dto.TaskBatchItemResult.Outcome;
+import com.erdidev.taskmanager.dto.TaskBatchResult;
+import com.erdidev.taskmanager.dto.TaskDto;
+import com.erdidev.taskmanager.dto.TaskImportErrorDto;
+import com.erdidev.taskmanager.model.TaskImportStatus;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.TaskImportRepository;
+import com.erdidev.taskmanager.service.CategoryService;
+import com.erdidev.taskmanager.service.ProjectService;
+import com.erdidev.taskmanager.service.TaskBatchService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskImportRunnerTest {
+
+    private static final long JOB_ID = 3L;
+
+    @Mock
+    private TaskImportRepository importRepository;
+
+    @Mock
+    private TaskBatchService batchService;
+
+    @Mock
+    private ProjectService projectService;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @TempDir
+    Path tempDir;
+
+    private TaskImportRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new TaskImportRunner(importRepository, batchService, projectService, categoryService,
+            Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper());
+        ReflectionTestUtils.setField(runner, "chunkSize", 10);
+        ReflectionTestUtils.setField(runner, "maxErrors", 100);
+
+        when(importRepository.startJob(JOB_ID)).thenReturn(true);
+        when(importRepository.findProjectIdsByName(anyCollection())).thenAnswer(invocation -> {
+            Map<String, Long> found = new HashMap<>();
+            if (invocation.<Collection<String>>getArgument(0).contains("alpha")) {
+                found.put("alpha", 1L);
+            }
+            return found;
+        });
+        when(importRepository.findCategoryIdsByName(anyLong())).thenAnswer(invocation -> new HashMap<>());
+        when(importRepository.recordProgress(eq(JOB_ID), anyLong(), anyLong(), anyList()))
+            .thenReturn(TaskImportStatus.RUNNING);
+        when(projectService.createProject(any())).thenReturn(withId(new ProjectDto(), 2L));
+        when(categoryService.createCategory(anyLong(), any())).thenReturn(withId(new CategoryDto(), 20L));
+        when(batchService.createTasks(anyList())).thenAnswer(invocation -> {
+            List<TaskDto> tasks = invocation.getArgument(0);
+            return TaskBatchResult.of(IntStream.range(0, tasks.size())
+                .mapToObj(i -> TaskBatchItemResult.succeeded(i, Outcome.CREATED, tasks.get(i)))
+                .toList());
+        });
+    }
+
+    @Test
+    void run_Csv_ResolvesNamesOnceAndReportsRejectedLines() throws IOException {
+        Path upload = upload("""
+            Title,Project,Category,Status,dueDate
+            Write docs,Alpha,Docs,in_progress,2026-03-01
+            "Multi
+            line, ""quoted"" title",ALPHA,docs,,
+            Bad status,Alpha,,nope,
+            New project task,Beta,,,
+            """);
+
+        runner.run(JOB_ID, upload, TaskImportFormat.CSV);
+
+        verify(importRepository).findProjectIdsByName(Set.of("alpha", "beta"));
+        verify(importRepository).findCategoryIdsByName(1L);
+        verify(importRepository, never()).findCategoryIdsByName(2L);
+        verify(projectService, times(1)).createProject(argThat(project -> project.getName().equals("Beta")));
+        verify(categoryService, times(1)).createCategory(eq(1L), argThat(category -> category.getName().equals("Docs")));
+        ArgumentCaptor<List<TaskDto>> tasks = ArgumentCaptor.captor();
+        verify(batchService).createTasks(tasks.capture());
+        List<TaskDto> created = tasks.getValue();
+        assertEquals(3, created.size());
+        assertEquals(TaskStatus.IN_PROGRESS, created.get(0).getStatus());
+        assertEquals(LocalDateTime.of(2026, 3, 1, 0, 0), created.get(0).getDueDate());
+        assertEquals(20L, created.get(0).getCategoryId());
+        assertEquals("Multi\nline, \"quoted\" title", created.get(1).getTitle());
+        assertEquals(1L, created.get(1).getProjectId());
+        assertEquals(20L, created.get(1).getCategoryId());
+        assertEquals(2L, created.get(2).getProjectId());
+        verify(importRepository).recordProgress(JOB_ID, 4, 3, List.of(new TaskImportErrorDto(5, "Invalid status: nope")));
+        verify(importRepository).finishJob(JOB_ID, TaskImportStatus.COMPLETED, null);
+    }
+
+    @Test
+    void run_Ndjson_MapsBatchFailuresAndMalformedLinesToTheirLines() throws IOException {
+        when(batchService.createTasks(anyList())).thenReturn(TaskBatchResult.of(List.of(
+            TaskBatchItemResult.succeeded(0, Outcome.CREATED, new TaskDto()),
+            TaskBatchItemResult.failed(1, null, Outcome.INVALID, "Title is required"))));
+        Path upload = upload("""
+            {"title": "First", "projectId": 1}
+            {"title": "", "projectId": 1}
+
+            {"title": broken
+            """);
+
+        runner.run(JOB_ID, upload, TaskImportFormat.NDJSON);
+
+        ArgumentCaptor<List<TaskImportErrorDto>> errors = ArgumentCaptor.captor();
+        verify(importRepository).recordProgress(eq(JOB_ID), eq(3L), eq(1L), errors.capture());
+        assertEquals(List.of(4L, 2L), errors.getValue().stream().map(TaskImportErrorDto::line).toList());
+        assertEquals("Title is required", errors.getValue().get(1).message());
+        verify(importRepository).finishJob(JOB_ID, TaskImportStatus.COMPLETED, null);
+    }
+
+    @Test
+    void run_CancelRequested_StopsAfterTheCurrentChunk() throws IOException {
+        ReflectionTestUtils.setField(runner, "chunkSize", 2);
+        when(importRepository.recordProgress(eq(JOB_ID), anyLong(), anyLong(), anyList()))
+            .thenReturn(TaskImportStatus.RUNNING, TaskImportStatus.CANCELLING);
+        Path upload = upload(IntStream.range(0, 6)
+            .mapToObj(i -> "{\"title\": \"Task " + i + "\", \"project\": \"Alpha\"}\n")
+            .reduce("", String::concat));
+
+        runner.run(JOB_ID, upload, TaskImportFormat.NDJSON);
+
+        verify(batchService, times(2)).createTasks(anyList());
+        verify(importRepository).finishJob(JOB_ID, TaskImportStatus.CANCELLED, null);
+        verify(importRepository, never()).finishJob(eq(JOB_ID), eq(TaskImportStatus.COMPLETED), any());
+    }
+
+    @Test
+    void run_TooManyErrors_KeepsOnlyTheFirstOnes() throws IOException {
+        ReflectionTestUtils.setField(runner, "maxErrors", 1);
+        Path upload = upload("""
+            title,status
+            One,unknown
+            Two,unknown
+            Three,unknown
+            """);
+
+        runner.run(JOB_ID, upload, TaskImportFormat.CSV);
+
+        verify(importRepository).recordProgress(JOB_ID, 3, 0, List.of(new TaskImportErrorDto(2, "Invalid status: unknown")));
+        verify(importRepository).finishJob(JOB_ID, TaskImportStatus.COMPLETED,
+            "Only the first 1 errors were kept; 2 more were dropped");
+    }
+
+    @Test
+    void run_CancelledWhileQueued_NeverReadsTheUpload() throws IOException {
+        when(importRepository.startJob(JOB_ID)).thenReturn(false);
+
+        runner.run(JOB_ID, upload("title\nTask\n"), TaskImportFormat.CSV);
+
+        verify(importRepository).finishJob(JOB_ID, TaskImportStatus.CANCELLED, null);
+        verifyNoInteractions(batchService);
+    }
+
+    private Path upload(String content) throws IOException {
+        return Files.writeString(tempDir.resolve("upload"), content);
+    }
+
+    private static <T extends BaseDto> T withId(T dto, Long id) {
+        dto.setId(id);
+        return dto;
+    }
+}
@@ -0,0 +1,69 @@
+package com.erdidev.taskmanager.service.overdue;
+
+import com.erdidev.taskmanager.event.TaskOverdueEvent;
+import com.erdidev.taskmanager.repository.OverdueTask;
+import com.erdidev.taskmanager.repository.OverdueTaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTaskDetectorTest {
+
+    private static final LocalDateTime DUE = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+    @Mock
+    private OverdueTaskRepository overdueTaskRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OverdueTaskDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(detector, "batchSize", 2);
+    }
+
+    @Test
+    void detect_FlagsInBatchesAndPublishesOncePerTask() {
+        when(overdueTaskRepository.flagNewlyOverdue(any(), eq(2))).thenReturn(
+            List.of(task(1L), task(2L)),
+            List.of(task(3L)));
+
+        detector.detect();
+
+        verify(overdueTaskRepository).clearResolved(any());
+        verify(overdueTaskRepository, times(2)).flagNewlyOverdue(any(), eq(2));
+        verify(eventPublisher).publishEvent(new TaskOverdueEvent(1L, "Task 1", DUE, 7L, null));
+        verify(eventPublisher).publishEvent(new TaskOverdueEvent(2L, "Task 2", DUE, 7L, null));
+        verify(eventPublisher).publishEvent(new TaskOverdueEvent(3L, "Task 3", DUE, 7L, null));
+    }
+
+    @Test
+    void detect_NothingNewlyOverdue_PublishesNothing() {
+        when(overdueTaskRepository.flagNewlyOverdue(any(), eq(2))).thenReturn(List.of());
+
+        detector.detect();
+
+        verify(overdueTaskRepository, times(1)).flagNewlyOverdue(any(), eq(2));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static OverdueTask task(Long id) {
+        return new OverdueTask(id, "Task " + id, DUE, 7L, null);
+    }
+}
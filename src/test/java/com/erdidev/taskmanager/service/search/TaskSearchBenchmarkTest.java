@@ -0,0 +1,140 @@
+package com.erdidev.taskmanager.service.search;
+
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the LIKE query with the search index on one million tasks. Seeding takes a
+ * while, so it only runs with -Dtaskmanager.benchmarks=true.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfSystemProperty(named = "taskmanager.benchmarks", matches = "true")
+class TaskSearchBenchmarkTest {
+
+    private static final int TASK_COUNT = 1_000_000;
+    private static final int ROUNDS = 20;
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TaskSearchIndex searchIndex;
+
+    @BeforeEach
+    void seed() throws IOException {
+        Long userId = jdbcTemplate.queryForObject("SELECT min(id) FROM users", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO projects (name, owner_id, created_at)
+            SELECT 'Project ' || n, ?, now() FROM generate_series(1, 100) AS n
+            """, userId);
+        Long firstProjectId = jdbcTemplate.queryForObject("SELECT min(id) FROM projects", Long.class);
+        jdbcTemplate.update("""
+            INSERT INTO tasks (title, description, status, project_id, owner_id, creator_id, created_at, updated_at)
+            SELECT words[1 + n % 40] || ' ' || words[1 + (n / 40) % 40] || ' ' || n,
+                   'Details for ' || words[1 + (n / 7) % 40] || ' work item ' || n,
+                   'TODO', ? + n % 100, ?, ?, now(), now()
+            FROM generate_series(1, ?) AS n,
+                 (SELECT ARRAY['release', 'invoice', 'planning', 'deploy', 'review', 'migrate', 'report',
+                               'budget', 'backup', 'refactor', 'onboard', 'audit', 'design', 'support',
+                               'upgrade', 'interview', 'roadmap', 'retro', 'benchmark', 'security',
+                               'payroll', 'vendor', 'contract', 'newsletter', 'analytics', 'testing',
+                               'hotfix', 'docs', 'training', 'hiring', 'pricing', 'campaign', 'webinar',
+                               'license', 'survey', 'forecast', 'dashboard', 'sprint', 'kickoff',
+                               'handover'] AS words) AS vocabulary
+            """, firstProjectId, userId, userId, TASK_COUNT);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        searchIndex = new TaskSearchIndex();
+        ReflectionTestUtils.setField(searchIndex, "enabled", true);
+        ReflectionTestUtils.setField(searchIndex, "indexDir", "");
+        ReflectionTestUtils.setField(searchIndex, "ramBufferMb", 64.0);
+        searchIndex.open();
+        TaskSearchIndexer indexer = new TaskSearchIndexer(searchIndex, taskRepository, projectRepository, categoryRepository);
+        ReflectionTestUtils.setField(indexer, "batchSize", 5000);
+        long started = System.nanoTime();
+        indexer.rebuild();
+        log.info("Indexed {} tasks in {} ms", TASK_COUNT, (System.nanoTime() - started) / 1_000_000);
+        assertTrue(searchIndex.isReady());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    @Test
+    void indexAgainstLikeQuery() {
+        Pageable firstPage = PageRequest.of(0, 20);
+
+        long likeTotal = taskRepository.searchRows("benchmark", firstPage).getTotalElements();
+        long indexTotal = searchIndex.search("benchmark", firstPage).totalHits();
+        assertEquals(likeTotal, indexTotal, "Both should find every task mentioning the word");
+
+        double likeMillis = medianMillis(() -> taskRepository.searchRows("benchmark", firstPage));
+        double indexMillis = medianMillis(() -> searchIndex.search("benchmark", firstPage));
+        double twoTermMillis = medianMillis(() -> searchIndex.search("benchmark sprint", firstPage));
+
+        log.info("{} tasks, first page of \"benchmark\" ({} hits): LIKE {} ms, index {} ms; two terms {} ms",
+            TASK_COUNT, indexTotal, likeMillis, indexMillis, twoTermMillis);
+    }
+
+    private static double medianMillis(Supplier<?> query) {
+        query.get();
+        long[] nanos = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long started = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return nanos[ROUNDS / 2] / 1_000_000.0;
+    }
+}
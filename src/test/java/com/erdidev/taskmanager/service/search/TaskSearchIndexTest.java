@@ -0,0 +1,91 @@
+package com.erdidev.taskmanager.service.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new TaskSearchIndex();
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "indexDir", "");
+        ReflectionTestUtils.setField(index, "ramBufferMb", 16.0);
+        index.open();
+        index.index(List.of(
+            document(1L, "Write release notes", "Summarise the sprint", "Website", "Docs"),
+            document(2L, "Fix login bug", "Release blocker for the planning service", "Backend", "Bugs"),
+            document(3L, "Sprint planning", "Prepare the release board", "Backend", null),
+            document(4L, "Order office chairs", null, "Office", "Admin")));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_RanksTitleMatchesFirst() {
+        TaskSearchHits hits = index.search("release", PageRequest.of(0, 10));
+
+        assertEquals(3, hits.totalHits());
+        assertEquals(1L, hits.taskIds().getFirst());
+        assertTrue(hits.taskIds().containsAll(List.of(2L, 3L)));
+    }
+
+    @Test
+    void search_MatchesPrefixesCaseInsensitively() {
+        assertEquals(List.of(3L, 2L), index.search("PLAN", PageRequest.of(0, 10)).taskIds());
+    }
+
+    @Test
+    void search_RequiresEveryTermAcrossFields() {
+        assertEquals(List.of(2L), index.search("bug backend", PageRequest.of(0, 10)).taskIds());
+        assertEquals(List.of(4L), index.search("chairs admin", PageRequest.of(0, 10)).taskIds());
+        assertTrue(index.search("chairs backend", PageRequest.of(0, 10)).taskIds().isEmpty());
+    }
+
+    @Test
+    void search_PagesThroughRankedHits() {
+        List<Long> all = index.search("release", PageRequest.of(0, 10)).taskIds();
+
+        TaskSearchHits second = index.search("release", PageRequest.of(1, 2));
+
+        assertEquals(3, second.totalHits());
+        assertEquals(all.subList(2, 3), second.taskIds());
+    }
+
+    @Test
+    void index_ReplacesAndDeletesDocuments() {
+        index.index(List.of(document(4L, "Order standing desks", null, "Office", "Admin")));
+        index.delete(List.of(1L));
+
+        assertTrue(index.search("chairs", PageRequest.of(0, 10)).taskIds().isEmpty());
+        assertEquals(List.of(4L), index.search("desks", PageRequest.of(0, 10)).taskIds());
+        assertFalse(index.search("notes", PageRequest.of(0, 10)).taskIds().contains(1L));
+    }
+
+    @Test
+    void search_BlankQuery_ReturnsNothing() {
+        TaskSearchHits hits = index.search("  ", PageRequest.of(0, 10));
+
+        assertEquals(0, hits.totalHits());
+        assertTrue(hits.taskIds().isEmpty());
+    }
+
+    private static TaskSearchDocument document(Long id, String title, String description,
+                                               String project, String category) {
+        return new TaskSearchDocument(id, title, description, project, category, LocalDateTime.now());
+    }
+}
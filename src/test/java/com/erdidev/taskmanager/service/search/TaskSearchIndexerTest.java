@@ -0,0 +1,187 @@
+package com.erdidev.taskmanager.service.search;
+
+import com.erdidev.common.event.ChangeType;
+import com.erdidev.taskmanager.event.CategoryChangedEvent;
+import com.erdidev.taskmanager.event.ProjectChangedEvent;
+import com.erdidev.taskmanager.event.TaskChangedEvent;
+import com.erdidev.taskmanager.repository.CategoryRepository;
+import com.erdidev.taskmanager.repository.ProjectRepository;
+import com.erdidev.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TaskSearchIndexerTest {
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private TaskSearchIndexer indexer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(indexer, "batchSize", 2);
+        ReflectionTestUtils.setField(indexer, "catchUpOverlap", Duration.ofMinutes(2));
+        when(searchIndex.isEnabled()).thenReturn(true);
+    }
+
+    @Test
+    void rebuild_IndexesAllTasksInBatchesThenOpensForSearch() {
+        when(taskRepository.findSearchDocumentsAfter(0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(document(1L), document(2L)));
+        when(taskRepository.findSearchDocumentsAfter(2L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(document(5L)));
+
+        indexer.rebuild();
+
+        verify(searchIndex, times(2)).index(anyList());
+        verify(searchIndex).commit();
+        verify(searchIndex).markReady();
+    }
+
+    @Test
+    void rebuild_Failure_KeepsSearchOnDatabase() {
+        when(taskRepository.findSearchDocumentsAfter(anyLong(), any())).thenThrow(new IllegalStateException("down"));
+
+        indexer.rebuild();
+
+        verify(searchIndex, never()).markReady();
+    }
+
+    @Test
+    void onTaskChanged_UpdatesExistingTask() {
+        when(taskRepository.findSearchDocumentsByIdIn(List.of(1L))).thenReturn(List.of(document(1L)));
+
+        indexer.onTaskChanged(new TaskChangedEvent(1L, ChangeType.UPDATED, 1L, null));
+
+        verify(searchIndex).index(List.of(document(1L)));
+        verify(searchIndex, never()).delete(anyCollection());
+    }
+
+    @Test
+    void onTaskChanged_TaskGone_RemovesItFromIndex() {
+        when(taskRepository.findSearchDocumentsByIdIn(List.of(1L))).thenReturn(List.of());
+
+        indexer.onTaskChanged(new TaskChangedEvent(1L, ChangeType.DELETED, 1L, null));
+
+        verify(searchIndex).delete(List.of(1L));
+    }
+
+    @Test
+    void catchUp_ReadsFromWatermarkMinusOverlap() {
+        LocalDateTime watermark = LocalDateTime.of(2030, 1, 1, 12, 0);
+        ReflectionTestUtils.setField(indexer, "catchUpWatermark", watermark);
+        when(searchIndex.isReady()).thenReturn(true);
+        TaskSearchDocument changed = new TaskSearchDocument(7L, "t", null, "p", null, watermark.plusSeconds(5));
+        when(taskRepository.findSearchDocumentsUpdatedSince(eq(watermark.minusMinutes(2)), eq(0L), any()))
+            .thenReturn(List.of(changed));
+
+        indexer.catchUp();
+
+        verify(searchIndex).index(List.of(changed));
+        assertEquals(watermark.plusSeconds(5), ReflectionTestUtils.getField(indexer, "catchUpWatermark"));
+    }
+
+    @Test
+    void onProjectChanged_Renamed_ReindexesItsTasksInBatches() {
+        when(taskRepository.findSearchDocumentsByProjectIdAfter(3L, 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(document(1L), document(2L)));
+        when(taskRepository.findSearchDocumentsByProjectIdAfter(3L, 2L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(document(5L)));
+
+        indexer.onProjectChanged(new ProjectChangedEvent(3L, ChangeType.UPDATED));
+
+        verify(searchIndex).index(List.of(document(1L), document(2L)));
+        verify(searchIndex).index(List.of(document(5L)));
+    }
+
+    @Test
+    void onProjectChanged_Created_LeavesIndexAlone() {
+        indexer.onProjectChanged(new ProjectChangedEvent(3L, ChangeType.CREATED));
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void onCategoryChanged_Renamed_ReindexesItsTasks() {
+        when(taskRepository.findSearchDocumentsByCategoryIdAfter(4L, 0L, PageRequest.of(0, 2)))
+            .thenReturn(List.of(document(7L)));
+
+        indexer.onCategoryChanged(new CategoryChangedEvent(4L, ChangeType.UPDATED));
+
+        verify(searchIndex).index(List.of(document(7L)));
+    }
+
+    @Test
+    void catchUp_ReindexesTasksOfProjectsRenamedOnOtherNodes() {
+        LocalDateTime watermark = LocalDateTime.of(2030, 1, 1, 12, 0);
+        ReflectionTestUtils.setField(indexer, "catchUpWatermark", watermark);
+        when(searchIndex.isReady()).thenReturn(true);
+        when(taskRepository.findSearchDocumentsUpdatedSince(any(), anyLong(), any())).thenReturn(List.of());
+        when(projectRepository.findIdsUpdatedSince(watermark.minusMinutes(2))).thenReturn(List.of(3L));
+        when(taskRepository.findSearchDocumentsByProjectIdAfter(eq(3L), eq(0L), any()))
+            .thenReturn(List.of(document(1L)));
+
+        indexer.catchUp();
+
+        verify(searchIndex).index(List.of(document(1L)));
+    }
+
+    @Test
+    void catchUp_RenameOlderThanLaterTaskUpdate_StillReindexed() {
+        LocalDateTime watermark = LocalDateTime.of(2030, 1, 1, 12, 0);
+        LocalDateTime windowStart = watermark.minusMinutes(2);
+        ReflectionTestUtils.setField(indexer, "catchUpWatermark", watermark);
+        when(searchIndex.isReady()).thenReturn(true);
+        // The task page ends after the rename, which happened one minute into the window
+        TaskSearchDocument changed = new TaskSearchDocument(7L, "t", null, "p", null, watermark.plusSeconds(5));
+        when(taskRepository.findSearchDocumentsUpdatedSince(eq(windowStart), eq(0L), any()))
+            .thenReturn(List.of(changed));
+        when(projectRepository.findIdsUpdatedSince(any())).thenAnswer(invocation ->
+            invocation.<LocalDateTime>getArgument(0).isAfter(windowStart.plusMinutes(1)) ? List.of() : List.of(3L));
+        when(categoryRepository.findIdsUpdatedSince(any())).thenAnswer(invocation ->
+            invocation.<LocalDateTime>getArgument(0).isAfter(windowStart.plusMinutes(1)) ? List.of() : List.of(4L));
+        when(taskRepository.findSearchDocumentsByProjectIdAfter(eq(3L), eq(0L), any()))
+            .thenReturn(List.of(document(1L)));
+        when(taskRepository.findSearchDocumentsByCategoryIdAfter(eq(4L), eq(0L), any()))
+            .thenReturn(List.of(document(2L)));
+
+        indexer.catchUp();
+
+        verify(projectRepository).findIdsUpdatedSince(windowStart);
+        verify(categoryRepository).findIdsUpdatedSince(windowStart);
+        verify(searchIndex).index(List.of(document(1L)));
+        verify(searchIndex).index(List.of(document(2L)));
+    }
+
+    private static TaskSearchDocument document(Long id) {
+        return new TaskSearchDocument(id, "Task " + id, null, "Project", null, LocalDateTime.of(2030, 1, 1, 0, 0));
+    }
+}
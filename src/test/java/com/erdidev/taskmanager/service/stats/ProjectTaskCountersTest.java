@@ -0,0 +1,98 @@
+package com.erdidev.taskmanager.service.stats;
+
+import com.erdidev.taskmanager.model.Priority;
+import com.erdidev.taskmanager.model.TaskStatus;
+import com.erdidev.taskmanager.repository.ProjectTaskCountRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectTaskCountersTest {
+
+    private static final TaskCountKey TODO = new TaskCountKey(1L, TaskStatus.TODO, Priority.MEDIUM);
+    private static final TaskCountKey DONE = new TaskCountKey(1L, TaskStatus.DONE, Priority.MEDIUM);
+    private static final TaskCountKey BLOCKED = new TaskCountKey(1L, TaskStatus.BLOCKED, Priority.MEDIUM);
+
+    @Mock
+    private ProjectTaskCountRepository countRepository;
+
+    @InjectMocks
+    private ProjectTaskCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(counters);
+    }
+
+    @Test
+    void adjust_SumsDeltasUntilCommit() {
+        counters.adjust(TODO, 1);
+        counters.adjust(TODO, 1);
+        counters.moved(TODO, DONE);
+        counters.moved(BLOCKED, DONE);
+        counters.moved(DONE, DONE);
+        verifyNoInteractions(countRepository);
+
+        commit();
+
+        verify(countRepository).applyDeltas(Map.of(TODO, 1L, DONE, 2L, BLOCKED, -1L));
+    }
+
+    @Test
+    void adjust_DeltasCancellingOut_WriteNothing() {
+        counters.adjust(TODO, 1);
+        counters.removed(TODO);
+
+        commit();
+
+        verify(countRepository).applyDeltas(Map.of());
+    }
+
+    @Test
+    void adjust_RolledBack_WritesNothing() {
+        counters.adjust(TODO, 1);
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(countRepository, never()).applyDeltas(any());
+        assertNull(TransactionSynchronizationManager.getResource(counters));
+    }
+
+    @Test
+    void adjust_WithoutTransaction_WritesImmediately() {
+        TransactionSynchronizationManager.clearSynchronization();
+
+        counters.adjust(TODO, 1);
+
+        verify(countRepository).applyDeltas(Map.of(TODO, 1L));
+    }
+
+    private static void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.beforeCommit(false);
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+    }
+}